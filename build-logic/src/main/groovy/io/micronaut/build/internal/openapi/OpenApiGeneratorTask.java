@@ -80,6 +80,10 @@ public abstract class OpenApiGeneratorTask extends DefaultTask {
     @Optional
     public abstract Property<Boolean> getAuth();
 
+    @Input
+    @Optional
+    public abstract Property<Boolean> getJsonStreaming();
+
     @OutputDirectory
     public abstract DirectoryProperty getOutputDirectory();
 
@@ -159,6 +163,7 @@ public abstract class OpenApiGeneratorTask extends DefaultTask {
             args.add(getModelNamePrefix().getOrElse(""));
             args.add(getModelNameSuffix().getOrElse(""));
             args.add(Boolean.toString(getAuth().getOrElse(false)));
+            args.add(Boolean.toString(getJsonStreaming().getOrElse(false)));
             javaexec.args(args);
         });
     }
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.benchmark;
+
+import io.micronaut.openapi.visitor.OpenApiConfigProperty;
+import io.micronaut.openapi.visitor.Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Annotation processing of the synthetic corpus: {@code OpenApiApplicationVisitor},
+ * {@code OpenApiControllerVisitor} and schema resolution by {@code SchemaDefinitionUtils.resolveSchema}
+ * running inside javac, like in {@code compileJava}.
+ * <p>
+ * Compare {@code openapi=true} with {@code openapi=false} to get the cost of the OpenAPI generation
+ * on top of the other Micronaut processors. The {@code dtos} corpus has one DTO for every endpoint,
+ * so it's dominated by the schema resolution.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class AnnotationProcessingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    int endpoints;
+
+    @Param({"controllers", "dtos"})
+    String corpus;
+
+    @Param({"true", "false"})
+    boolean openapi;
+
+    private List<JavaFileObject> sources;
+    private Path outputDir;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        sources = new ArrayList<>();
+        for (Map.Entry<String, String> entry : SyntheticCorpus.sources(endpoints, "dtos".equals(corpus)).entrySet()) {
+            sources.add(new SourceFile(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration() throws IOException {
+        Utils.clean();
+        outputDir = Files.createTempDirectory("openapi-benchmark");
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownIteration() throws IOException {
+        Utils.clean();
+        deleteRecursively(outputDir);
+    }
+
+    @Benchmark
+    public boolean compile() throws IOException {
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        try (var fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            var options = List.of(
+                "-proc:only",
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", outputDir.toString(),
+                "-A" + OpenApiConfigProperty.MICRONAUT_OPENAPI_ENABLED + '=' + openapi,
+                "-A" + OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_ENABLED + "=false"
+            );
+            var success = compiler.getTask(null, fileManager, diagnostics, options, null, sources).call();
+            if (!success) {
+                throw new IllegalStateException("Compilation failed: " + diagnostics.getDiagnostics());
+            }
+            return success;
+        }
+    }
+
+    static void deleteRecursively(Path dir) throws IOException {
+        if (dir == null || !Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (var file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * In-memory source file.
+     */
+    private static final class SourceFile extends SimpleJavaFileObject {
+
+        private final String source;
+
+        private SourceFile(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
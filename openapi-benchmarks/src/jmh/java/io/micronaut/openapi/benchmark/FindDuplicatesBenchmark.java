@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.benchmark;
+
+import io.micronaut.openapi.visitor.Utils;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.tags.Tag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Duplicate removal by pairwise predicate compared with removal by hashed keys.
+ * Lists contain 10% of duplicates. Lists are not modified, so no copies are needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FindDuplicatesBenchmark {
+
+    private static final int DUPLICATE_STEP = 10;
+
+    @Param({"10", "100", "1000", "10000"})
+    int size;
+
+    private List<Tag> tags;
+    private List<Parameter> parameters;
+
+    @Setup
+    public void setup() {
+        tags = new ArrayList<>(size);
+        parameters = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int index = i % DUPLICATE_STEP == 0 && i > 0 ? i - 1 : i;
+            tags.add(new Tag().name("tag" + index));
+            parameters.add(new Parameter().name("param" + index).in(index % 2 == 0 ? "query" : "header"));
+        }
+    }
+
+    @Benchmark
+    public List<Tag> tagsByPredicate() {
+        return Utils.findAndRemoveDuplicates(tags, (el1, el2) -> el1.getName() != null && el1.getName().equals(el2.getName()));
+    }
+
+    @Benchmark
+    public List<Tag> tagsByKey() {
+        return Utils.findAndRemoveDuplicates(tags, Tag::getName);
+    }
+
+    @Benchmark
+    public List<Parameter> parametersByPredicate() {
+        return Utils.findAndRemoveDuplicates(parameters, (el1, el2) -> el1.getName() != null && el1.getName().equals(el2.getName())
+            && el1.getIn() != null && el1.getIn().equals(el2.getIn()));
+    }
+
+    @Benchmark
+    public List<Parameter> parametersByKey() {
+        return Utils.findAndRemoveDuplicates(parameters, param -> List.of(param.getName(), param.getIn()));
+    }
+}
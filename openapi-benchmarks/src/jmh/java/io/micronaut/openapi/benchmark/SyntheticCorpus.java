@@ -0,0 +1,325 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.benchmark;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.tags.Tag;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Synthetic controllers, DTOs and OpenAPI objects of configurable size.
+ * <p>
+ * Every controller has {@link #ENDPOINTS_PER_CONTROLLER} endpoints and there is one DTO for every
+ * {@link #ENDPOINTS_PER_DTO} endpoints. DTOs reference each other, every 5th DTO extends a base class,
+ * so the generated schemas contain references, arrays, maps, enums and allOf blocks.
+ */
+public final class SyntheticCorpus {
+
+    /**
+     * Number of endpoints in one controller.
+     */
+    public static final int ENDPOINTS_PER_CONTROLLER = 10;
+    /**
+     * Number of endpoints per one DTO class.
+     */
+    public static final int ENDPOINTS_PER_DTO = 4;
+
+    private static final String PACKAGE = "bench";
+    private static final int INHERITANCE_STEP = 5;
+    private static final int UNUSED_SCHEMA_STEP = 10;
+
+    private SyntheticCorpus() {
+    }
+
+    /**
+     * Java sources of the corpus.
+     *
+     * @param endpoints number of endpoints
+     * @param dtoHeavy if true, every endpoint uses its own DTO graph, so the schema resolution dominates
+     *
+     * @return sources by fully qualified class name
+     */
+    public static Map<String, String> sources(int endpoints, boolean dtoHeavy) {
+        var sources = new LinkedHashMap<String, String>();
+        sources.put(PACKAGE + ".Application", """
+            package bench;
+
+            import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+            import io.swagger.v3.oas.annotations.info.Info;
+
+            @OpenAPIDefinition(info = @Info(title = "Benchmark", version = "1.0"))
+            public class Application {
+            }
+            """);
+        sources.put(PACKAGE + ".Status", """
+            package bench;
+
+            public enum Status {
+                ACTIVE,
+                DISABLED
+            }
+            """);
+        sources.put(PACKAGE + ".Base", """
+            package bench;
+
+            import java.time.OffsetDateTime;
+
+            public abstract class Base {
+
+                /**
+                 * Creation time.
+                 */
+                public OffsetDateTime created;
+            }
+            """);
+
+        int dtoCount = dtoCount(endpoints, dtoHeavy);
+        for (int i = 0; i < dtoCount; i++) {
+            sources.put(PACKAGE + ".Dto" + i, dtoSource(i));
+        }
+
+        int controllerCount = (endpoints + ENDPOINTS_PER_CONTROLLER - 1) / ENDPOINTS_PER_CONTROLLER;
+        for (int c = 0; c < controllerCount; c++) {
+            var source = new StringBuilder();
+            source.append("""
+                package bench;
+
+                import io.micronaut.http.annotation.Body;
+                import io.micronaut.http.annotation.Controller;
+                import io.micronaut.http.annotation.Get;
+                import io.micronaut.http.annotation.PathVariable;
+                import io.micronaut.http.annotation.Post;
+                import io.micronaut.http.annotation.QueryValue;
+
+                import java.util.List;
+
+                /**
+                 * Controller %1$d.
+                 */
+                @Controller("/c%1$d")
+                public class Controller%1$d {
+                """.formatted(c));
+            for (int m = 0; m < ENDPOINTS_PER_CONTROLLER; m++) {
+                int endpoint = c * ENDPOINTS_PER_CONTROLLER + m;
+                if (endpoint >= endpoints) {
+                    break;
+                }
+                int dto = endpoint % dtoCount;
+                if (endpoint % 2 == 0) {
+                    source.append("""
+
+                            /**
+                             * Get item %1$d.
+                             *
+                             * @param id item id
+                             * @param limit max number of children
+                             *
+                             * @return item
+                             */
+                            @Get("/m%1$d/{id}")
+                            public Dto%2$d get%1$d(@PathVariable String id, @QueryValue(defaultValue = "10") int limit) {
+                                return null;
+                            }
+                        """.formatted(m, dto));
+                } else {
+                    source.append("""
+
+                            /**
+                             * Create items %1$d.
+                             *
+                             * @param body new item
+                             *
+                             * @return created items
+                             */
+                            @Post("/m%1$d")
+                            public List<Dto%2$d> post%1$d(@Body Dto%2$d body) {
+                                return null;
+                            }
+                        """.formatted(m, dto));
+                }
+            }
+            source.append("}\n");
+            sources.put(PACKAGE + ".Controller" + c, source.toString());
+        }
+        return sources;
+    }
+
+    /**
+     * OpenAPI object, which looks like the not processed result of the annotation processing:
+     * paths are not sorted, some tags and parameters are duplicated, some schemas are not used
+     * and some schemas have allOf blocks to normalize.
+     *
+     * @param endpoints number of endpoints
+     *
+     * @return OpenAPI object
+     */
+    public static OpenAPI openApi(int endpoints) {
+        var components = new Components();
+        components.addSchemas("Status", new StringSchema()._enum(List.of("ACTIVE", "DISABLED")));
+        components.addSchemas("Base", new ObjectSchema().addProperty("created", new StringSchema().format("date-time")));
+
+        int dtoCount = dtoCount(endpoints, false);
+        for (int i = 0; i < dtoCount; i++) {
+            var dto = new ObjectSchema()
+                .description("Dto " + i)
+                .addProperty("name", new StringSchema())
+                .addProperty("count", new IntegerSchema())
+                .addProperty("status", new Schema<>().$ref("Status"));
+            if (i > 0) {
+                dto.addProperty("children", new ArraySchema().items(new Schema<>().$ref("Dto" + (i - 1))));
+                dto.addProperty("index", new ObjectSchema().additionalProperties(new Schema<>().$ref("Dto" + (i - 1))));
+            }
+            dto.setRequired(List.of("name", "count", "name"));
+            if (i % INHERITANCE_STEP == 0) {
+                components.addSchemas("Dto" + i, new Schema<>()
+                    .addAllOfItem(new Schema<>().$ref("Base"))
+                    .addAllOfItem(dto));
+            } else {
+                components.addSchemas("Dto" + i, dto);
+            }
+            if (i % UNUSED_SCHEMA_STEP == 0) {
+                components.addSchemas("Unused" + i, new ObjectSchema().addProperty("value", new StringSchema()));
+            }
+        }
+
+        var paths = new Paths();
+        // reversed order, so paths must be sorted
+        for (int endpoint = endpoints - 1; endpoint >= 0; endpoint--) {
+            int controller = endpoint / ENDPOINTS_PER_CONTROLLER;
+            int method = endpoint % ENDPOINTS_PER_CONTROLLER;
+            var tag = "c" + controller;
+            var dtoRef = new Schema<>().$ref("Dto" + (endpoint % dtoCount));
+            var operation = new Operation()
+                .operationId("op" + endpoint)
+                .summary("Operation " + endpoint)
+                .tags(List.of(tag, tag));
+            if (endpoint % 2 == 0) {
+                var idParameter = new Parameter().name("id").in("path").required(true).schema(new StringSchema());
+                operation.addParametersItem(idParameter);
+                operation.addParametersItem(new Parameter().name("limit").in("query").schema(new IntegerSchema()._default(10)));
+                operation.addParametersItem(new Parameter().name("id").in("path").required(true).schema(new StringSchema()));
+                operation.responses(new ApiResponses().addApiResponse("200", new ApiResponse()
+                    .description("item")
+                    .content(jsonContent(dtoRef))));
+                paths.addPathItem("/" + tag + "/m" + method + "/{id}", new PathItem().get(operation));
+            } else {
+                operation.requestBody(new RequestBody().required(true).content(jsonContent(dtoRef)));
+                operation.responses(new ApiResponses().addApiResponse("200", new ApiResponse()
+                    .description("created items")
+                    .content(jsonContent(new ArraySchema().items(new Schema<>().$ref("Dto" + (endpoint % dtoCount)))))));
+                paths.addPathItem("/" + tag + "/m" + method, new PathItem().post(operation));
+            }
+        }
+
+        var openApi = new OpenAPI()
+            .info(new Info().title("Benchmark").version("1.0"))
+            .paths(paths)
+            .components(components);
+        int controllerCount = (endpoints + ENDPOINTS_PER_CONTROLLER - 1) / ENDPOINTS_PER_CONTROLLER;
+        for (int c = 0; c < controllerCount; c++) {
+            openApi.addTagsItem(new Tag().name("c" + c));
+            openApi.addTagsItem(new Tag().name("c" + c).description("duplicate"));
+        }
+        return openApi;
+    }
+
+    private static int dtoCount(int endpoints, boolean dtoHeavy) {
+        return dtoHeavy ? endpoints : Math.max(1, endpoints / ENDPOINTS_PER_DTO);
+    }
+
+    private static String dtoSource(int index) {
+        var parent = index % INHERITANCE_STEP == 0 ? " extends Base" : "";
+        var references = index > 0 ? """
+
+                /**
+                 * Children.
+                 */
+                public List<Dto%1$d> children;
+
+                /**
+                 * Children by name.
+                 */
+                public Map<String, Dto%1$d> index;
+            """.formatted(index - 1) : "";
+        return """
+            package bench;
+
+            import io.micronaut.core.annotation.Nullable;
+            import io.swagger.v3.oas.annotations.media.Schema;
+
+            import java.time.LocalDate;
+            import java.util.List;
+            import java.util.Map;
+            import java.util.Optional;
+
+            /**
+             * Dto %1$d.
+             */
+            @Schema(description = "Dto %1$d")
+            public class Dto%1$d%2$s {
+
+                /**
+                 * Name.
+                 */
+                public String name;
+
+                /**
+                 * Count.
+                 */
+                public int count;
+
+                /**
+                 * Birthday.
+                 */
+                @Nullable
+                public LocalDate date;
+
+                /**
+                 * Status.
+                 */
+                public Status status;
+
+                /**
+                 * Optional comment.
+                 */
+                public Optional<String> comment;
+            %3$s}
+            """.formatted(index, parent, references);
+    }
+
+    private static Content jsonContent(Schema<?> schema) {
+        return new Content().addMediaType("application/json", new MediaType().schema(schema));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import io.micronaut.core.convert.ArgumentConversionContext;
+import io.micronaut.core.type.Argument;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.inject.writer.FileBackedGeneratedFile;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Visitor context for running the visitor post-processing outside of javac. Attributes are kept in memory,
+ * META-INF files are created in the output directory, messages are ignored.
+ */
+final class BenchmarkVisitorContext implements InvocationHandler {
+
+    private final Path outputDir;
+    private final Map<String, String> options;
+    private final Map<String, Object> attributes = new HashMap<>();
+
+    private BenchmarkVisitorContext(Path outputDir, Map<String, String> options) {
+        this.outputDir = outputDir;
+        this.options = options;
+    }
+
+    /**
+     * Create visitor context.
+     *
+     * @param outputDir classes output directory
+     * @param options annotation processor options
+     *
+     * @return visitor context
+     */
+    static VisitorContext create(Path outputDir, Map<String, String> options) {
+        return (VisitorContext) Proxy.newProxyInstance(VisitorContext.class.getClassLoader(),
+            new Class<?>[] {VisitorContext.class}, new BenchmarkVisitorContext(outputDir, options));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "get":
+                if (args.length == 2) {
+                    return get(args[0].toString(), args[1]);
+                }
+                break;
+            case "put":
+                attributes.put(args[0].toString(), args[1]);
+                return proxy;
+            case "remove":
+                attributes.remove(args[0].toString());
+                return proxy;
+            case "contains":
+                return attributes.containsKey(args[0].toString());
+            case "getOptions":
+                return options;
+            case "getProjectDir":
+                return Optional.of(outputDir);
+            case "getLanguage":
+                return VisitorContext.Language.JAVA;
+            case "visitMetaInfFile":
+                return Optional.of(new FileBackedGeneratedFile(outputDir.resolve("META-INF").resolve(args[0].toString()).toFile()));
+            case "getClassElement":
+                return Optional.empty();
+            case "getClassElements":
+                return new ClassElement[0];
+            case "info", "warn", "addGeneratedResource":
+                return null;
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return "BenchmarkVisitorContext";
+            default:
+                break;
+        }
+        if (method.isDefault()) {
+            return InvocationHandler.invokeDefault(proxy, method, args);
+        }
+        throw new UnsupportedOperationException("Not supported in benchmarks: " + method);
+    }
+
+    private Optional<Object> get(String name, Object type) {
+        var value = attributes.get(name);
+        if (value == null) {
+            return Optional.empty();
+        }
+        Class<?> requiredType;
+        if (type instanceof Class<?> cls) {
+            requiredType = cls;
+        } else if (type instanceof Argument<?> argument) {
+            requiredType = argument.getType();
+        } else if (type instanceof ArgumentConversionContext<?> conversionContext) {
+            requiredType = conversionContext.getArgument().getType();
+        } else {
+            requiredType = Object.class;
+        }
+        return requiredType.isInstance(value) ? Optional.of(value) : Optional.empty();
+    }
+}
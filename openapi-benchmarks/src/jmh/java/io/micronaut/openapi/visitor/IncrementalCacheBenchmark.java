@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.openapi.benchmark.SyntheticCorpus;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_ENABLED;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_CACHE_DIR;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_CACHE_ENABLED;
+
+/**
+ * Post-processing of one group with the incremental cache disabled, with a cache miss and with a cache hit.
+ * The cache pays off, when {@code hits * (disabled - hit)} is greater than {@code misses * (miss - disabled)}
+ * for the typical number of hits and misses of the build.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class IncrementalCacheBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    int endpoints;
+
+    @Param({"disabled", "miss", "hit"})
+    String cache;
+
+    private final OpenApiApplicationVisitor visitor = new OpenApiApplicationVisitor();
+    private Path outputDir;
+    private Path cacheDir;
+    private VisitorContext context;
+    private byte[] openApiJson;
+    private OpenAPI openApi;
+
+    @Setup(Level.Trial)
+    public void setupTrial() throws IOException {
+        Utils.clean();
+        outputDir = Files.createTempDirectory("openapi-benchmark");
+        cacheDir = outputDir.resolve("cache");
+        context = BenchmarkVisitorContext.create(outputDir, Map.of(
+            MICRONAUT_OPENAPI_ADOC_ENABLED, "false",
+            MICRONAUT_OPENAPI_INCREMENTAL_CACHE_ENABLED, Boolean.toString(!"disabled".equals(cache)),
+            MICRONAUT_OPENAPI_INCREMENTAL_CACHE_DIR, cacheDir.toString()
+        ));
+        openApiJson = Utils.getJsonMapper().writeValueAsBytes(SyntheticCorpus.openApi(endpoints));
+        if ("hit".equals(cache)) {
+            // write the cache entry
+            visitor.postProcessOpenApi(readOpenApi(), context);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() throws IOException {
+        openApi = readOpenApi();
+        if ("miss".equals(cache)) {
+            deleteDir(cacheDir);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws IOException {
+        Utils.clean();
+        deleteDir(outputDir);
+    }
+
+    @Benchmark
+    public OpenAPI postProcessOpenApi() {
+        return visitor.postProcessOpenApi(openApi, context);
+    }
+
+    private OpenAPI readOpenApi() throws IOException {
+        return Utils.getJsonMapper().readValue(openApiJson, OpenAPI.class);
+    }
+
+    private static void deleteDir(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (var file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
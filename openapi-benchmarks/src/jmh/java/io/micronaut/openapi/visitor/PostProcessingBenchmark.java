@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.openapi.benchmark.SyntheticCorpus;
+import io.micronaut.openapi.visitor.group.OpenApiInfo;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_ENABLED;
+
+/**
+ * Steps of {@link OpenApiApplicationVisitor#finish(VisitorContext)}, measured on their own with
+ * a synthetic OpenAPI object. Every invocation works with a fresh copy of the object, because
+ * post-processing modifies it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class PostProcessingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    int endpoints;
+
+    private final OpenApiApplicationVisitor visitor = new OpenApiApplicationVisitor();
+    private Path outputDir;
+    private VisitorContext context;
+    private byte[] openApiJson;
+    private Map<Pair<String, String>, OpenApiInfo> processedOpenApiInfos;
+    private OpenAPI openApi;
+
+    @Setup(Level.Trial)
+    public void setupTrial() throws IOException {
+        Utils.clean();
+        outputDir = Files.createTempDirectory("openapi-benchmark");
+        context = BenchmarkVisitorContext.create(outputDir, Map.of(MICRONAUT_OPENAPI_ADOC_ENABLED, "false"));
+        openApiJson = Utils.getJsonMapper().writeValueAsBytes(SyntheticCorpus.openApi(endpoints));
+
+        var openApiInfo = new OpenApiInfo(visitor.postProcessOpenApi(readOpenApi(), context));
+        openApiInfo.setFilename("benchmark.yml");
+        processedOpenApiInfos = Map.of(Pair.NULL_STRING_PAIR, openApiInfo);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() throws IOException {
+        openApi = readOpenApi();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws IOException {
+        Utils.clean();
+        try (Stream<Path> files = Files.walk(outputDir)) {
+            for (var file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public OpenAPI postProcessOpenApi() {
+        return visitor.postProcessOpenApi(openApi, context);
+    }
+
+    @Benchmark
+    public OpenAPI removeUnusedSchemas() {
+        OpenApiApplicationVisitor.removeUnusedSchemas(openApi);
+        return openApi;
+    }
+
+    @Benchmark
+    public OpenAPI findAndRemoveDuplicates() {
+        OpenApiNormalizeUtils.findAndRemoveDuplicates(openApi);
+        return openApi;
+    }
+
+    @Benchmark
+    public void writeYamlToFile() {
+        visitor.writeYamlToFile(processedOpenApiInfos, "benchmark", context, true);
+    }
+
+    private OpenAPI readOpenApi() throws IOException {
+        return Utils.getJsonMapper().readValue(openApiJson, OpenAPI.class);
+    }
+}
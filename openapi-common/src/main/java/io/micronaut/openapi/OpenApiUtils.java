@@ -16,10 +16,15 @@
 package io.micronaut.openapi;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import io.micronaut.openapi.swagger.core.util.ObjectMapperFactory;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * Convert utilities methods.
@@ -29,6 +34,12 @@ import io.micronaut.openapi.swagger.core.util.ObjectMapperFactory;
 public final class OpenApiUtils {
 
     public static final String OPENAPI_31_VERSION = "3.1.0";
+    /**
+     * Extension of the spec files in the Smile binary format.
+     *
+     * @since 6.14.0
+     */
+    public static final String EXT_SMILE = ".smile";
 
     /**
      * The JSON mapper.
@@ -60,6 +71,10 @@ public final class OpenApiUtils {
      */
     public static final ObjectMapper YAML_MAPPER_31 = ObjectMapperFactory.createYaml31();
 
+    private static final String SMILE_FACTORY_CLASS = "com.fasterxml.jackson.dataformat.smile.SmileFactory";
+    private static final String OPENAPI_FIELD = "openapi";
+    private static final String OPENAPI_31_VERSION_PREFIX = "3.1";
+
     private OpenApiUtils() {
     }
 
@@ -82,4 +97,115 @@ public final class OpenApiUtils {
     public static ObjectMapper getYamlMapper31() {
         return YAML_MAPPER_31;
     }
+
+    /**
+     * Check that the optional {@code com.fasterxml.jackson.dataformat:jackson-dataformat-smile} dependency is on the classpath.
+     *
+     * @return true, if the Smile format is supported
+     *
+     * @since 6.14.0
+     */
+    public static boolean isSmileAvailable() {
+        try {
+            Class.forName(SMILE_FACTORY_CLASS, false, OpenApiUtils.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * The Smile mapper, it's created on the first call.
+     *
+     * @return Smile mapper
+     *
+     * @throws IllegalStateException if {@code jackson-dataformat-smile} isn't on the classpath
+     * @since 6.14.0
+     */
+    public static ObjectMapper getSmileMapper() {
+        checkSmileAvailable();
+        return SmileMappers.SMILE_MAPPER;
+    }
+
+    /**
+     * The Smile 3.1 mapper, it's created on the first call.
+     *
+     * @return Smile 3.1 mapper
+     *
+     * @throws IllegalStateException if {@code jackson-dataformat-smile} isn't on the classpath
+     * @since 6.14.0
+     */
+    public static ObjectMapper getSmileMapper31() {
+        checkSmileAvailable();
+        return SmileMappers.SMILE_MAPPER_31;
+    }
+
+    /**
+     * Read OpenAPI object from the spec file in the Smile format, for example {@code META-INF/swagger/app-1.0.smile}.
+     * OpenAPI 3.0 and 3.1 documents are read with matching mapper, the version is taken from the {@code openapi} field.
+     *
+     * @param in input stream, it's not closed
+     *
+     * @return OpenAPI object
+     *
+     * @throws IOException if the content can't be read or parsed
+     * @throws IllegalStateException if {@code jackson-dataformat-smile} isn't on the classpath
+     * @since 6.14.0
+     */
+    public static OpenAPI readSmile(InputStream in) throws IOException {
+        return readSmile(in.readAllBytes());
+    }
+
+    /**
+     * Read OpenAPI object from the Smile content.
+     *
+     * @param content spec file content in the Smile format
+     *
+     * @return OpenAPI object
+     *
+     * @throws IOException if the content can't be parsed
+     * @throws IllegalStateException if {@code jackson-dataformat-smile} isn't on the classpath
+     * @since 6.14.0
+     */
+    public static OpenAPI readSmile(byte[] content) throws IOException {
+        var mapper = isOpenApi31(content) ? getSmileMapper31() : getSmileMapper();
+        return mapper.readValue(content, OpenAPI.class);
+    }
+
+    /**
+     * Find the {@code openapi} field at the top level of the document. Nested objects are skipped
+     * without building any objects, so it's much cheaper than reading the document.
+     */
+    private static boolean isOpenApi31(byte[] content) throws IOException {
+        try (var parser = getSmileMapper().getFactory().createParser(content)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                var fieldName = parser.currentName();
+                parser.nextToken();
+                if (OPENAPI_FIELD.equals(fieldName)) {
+                    var version = parser.getValueAsString();
+                    return version != null && version.startsWith(OPENAPI_31_VERSION_PREFIX);
+                }
+                parser.skipChildren();
+            }
+        }
+        return false;
+    }
+
+    private static void checkSmileAvailable() {
+        if (!isSmileAvailable()) {
+            throw new IllegalStateException("Smile format requires com.fasterxml.jackson.dataformat:jackson-dataformat-smile on the classpath");
+        }
+    }
+
+    /**
+     * Smile mappers are kept in a separate class, so OpenApiUtils can be loaded without the optional Smile dependency.
+     */
+    private static final class SmileMappers {
+
+        private static final ObjectMapper SMILE_MAPPER = ObjectMapperFactory.createSmile(false);
+        private static final ObjectMapper SMILE_MAPPER_31 = ObjectMapperFactory.createSmile(true);
+    }
 }
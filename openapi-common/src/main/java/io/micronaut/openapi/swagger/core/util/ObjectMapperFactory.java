@@ -84,6 +84,7 @@ import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactoryBuilder;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator.Feature;
@@ -129,6 +130,21 @@ public class ObjectMapperFactory {
         return createYaml(true);
     }
 
+    /**
+     * Create mapper for the Smile binary format. Smile keeps the JSON data model, so
+     * the mapper has the same serializers, deserializers and mixins as the JSON mapper.
+     * Requires the optional {@code com.fasterxml.jackson.dataformat:jackson-dataformat-smile} dependency.
+     *
+     * @param openapi31 is OpenAPI 3.1 mapper
+     *
+     * @return Smile mapper
+     *
+     * @since 6.14.0
+     */
+    public static ObjectMapper createSmile(boolean openapi31) {
+        return create(SmileFactoryHolder.create(), openapi31);
+    }
+
     @SuppressWarnings("deprecation")
     private static ObjectMapper create(JsonFactory jsonFactory, boolean openapi31) {
         ObjectMapper mapper = jsonFactory == null ? new ObjectMapper() : new ObjectMapper(jsonFactory);
@@ -257,4 +273,13 @@ public class ObjectMapperFactory {
         return mapper;
     }
 
+    /**
+     * Smile classes are only referenced from this class, so the factory can be loaded without the optional Smile dependency.
+     */
+    private static final class SmileFactoryHolder {
+
+        private static JsonFactory create() {
+            return new SmileFactory();
+        }
+    }
 }
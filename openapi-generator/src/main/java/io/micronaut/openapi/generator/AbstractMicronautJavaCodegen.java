@@ -16,6 +16,7 @@
 package io.micronaut.openapi.generator;
 
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.base.CaseFormat;
 import com.google.common.collect.ImmutableMap;
 import com.samskivert.mustache.Mustache;
@@ -77,6 +78,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static io.micronaut.openapi.generator.MnSchemaTypeUtil.FORMAT_INT16;
@@ -127,6 +129,7 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
     public static final String OPT_USE_LOMBOK = "lombok";
     public static final String OPT_USE_PLURAL = "plural";
     public static final String OPT_FLUX_FOR_ARRAYS = "fluxForArrays";
+    public static final String OPT_JSON_STREAMING = "jsonStreaming";
     public static final String OPT_GENERATED_ANNOTATION = "generatedAnnotation";
     public static final String OPT_VISITABLE = "visitable";
     public static final String OPT_DATE_LIBRARY_ZONED_DATETIME = "ZONED_DATETIME";
@@ -153,6 +156,7 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
 
     private static final String MONO_CLASS_NAME = "reactor.core.publisher.Mono";
     private static final String FLUX_CLASS_NAME = "reactor.core.publisher.Flux";
+    private static final Set<String> JSON_STREAM_MEDIA_TYPES = Set.of("application/x-ndjson", "application/stream+json", "application/x-json-stream");
 
     protected SecureRandom random = new SecureRandom();
     protected String title;
@@ -160,6 +164,7 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
     protected boolean visitable;
     protected boolean lombok;
     protected boolean fluxForArrays;
+    protected boolean jsonStreaming;
     protected boolean plural = true;
     protected boolean generatedAnnotation = true;
     protected String testTool;
@@ -176,9 +181,14 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
     protected String serializationLibrary = SerializationLibraryKind.MICRONAUT_SERDE_JACKSON.name();
     protected List<ParameterMapping> parameterMappings = new ArrayList<>();
     protected List<ResponseBodyMapping> responseBodyMappings = new ArrayList<>();
-    protected Map<String, CodegenModel> allModels = new HashMap<>();
+    protected Map<String, CodegenModel> allModels = new ConcurrentHashMap<>();
+    protected boolean openApiFlattened;
 
     private final Logger log = LoggerFactory.getLogger(getClass());
+    private final NameCache modelNameCache = new NameCache();
+    private final NameCache varNameCache = new NameCache();
+    private final NameCache paramNameCache = new NameCache();
+    private final NameCache apiNameCache = new NameCache();
 
     protected AbstractMicronautJavaCodegen() {
 
@@ -262,6 +272,7 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
         cliOptions.add(CliOption.newBoolean(OPT_USE_LOMBOK, "Whether or not to use lombok annotations in generated code", lombok));
         cliOptions.add(CliOption.newBoolean(OPT_USE_PLURAL, "Whether or not to use plural for request body parameter name", plural));
         cliOptions.add(CliOption.newBoolean(OPT_FLUX_FOR_ARRAYS, "Whether or not to use Flux<?> instead Mono<List<?>> for arrays in generated code", fluxForArrays));
+        cliOptions.add(CliOption.newBoolean(OPT_JSON_STREAMING, "Whether or not to stream array elements with Flux<?> for responses with application/x-ndjson or application/stream+json media types (requires reactive)", jsonStreaming));
         cliOptions.add(CliOption.newBoolean(OPT_GENERATED_ANNOTATION, "Generate code with \"@Generated\" annotation", generatedAnnotation));
         cliOptions.add(CliOption.newBoolean(USE_BEANVALIDATION, "Use BeanValidation API annotations", useBeanValidation));
         cliOptions.add(CliOption.newBoolean(USE_OPTIONAL, "Use Optional container for optional parameters", useOptional));
@@ -413,6 +424,10 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
         this.fluxForArrays = fluxForArrays;
     }
 
+    public void setJsonStreaming(boolean jsonStreaming) {
+        this.jsonStreaming = jsonStreaming;
+    }
+
     public void setGeneratedAnnotation(boolean generatedAnnotation) {
         this.generatedAnnotation = generatedAnnotation;
     }
@@ -486,6 +501,11 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
         }
         writePropertyBack(OPT_FLUX_FOR_ARRAYS, fluxForArrays);
 
+        if (additionalProperties.containsKey(OPT_JSON_STREAMING)) {
+            jsonStreaming = convertPropertyToBoolean(OPT_JSON_STREAMING);
+        }
+        writePropertyBack(OPT_JSON_STREAMING, jsonStreaming);
+
         if (additionalProperties.containsKey(OPT_USE_ENUM_CASE_INSENSITIVE)) {
             useEnumCaseInsensitive = convertPropertyToBoolean(OPT_USE_ENUM_CASE_INSENSITIVE);
         }
@@ -672,6 +692,17 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
         this.openapiNormalizer.putAll(openapiNormalizer);
     }
 
+    /**
+     * Marks the OpenAPI definition as already flattened by {@link #flattenOpenApi(OpenAPI)},
+     * so flattening is skipped in {@link #preprocessOpenAPI(OpenAPI)}.
+     *
+     * @param openApiFlattened true if the definition is already flattened
+     * @since 6.14.0
+     */
+    public void setOpenApiFlattened(boolean openApiFlattened) {
+        this.openApiFlattened = openApiFlattened;
+    }
+
     // CHECKSTYLE:OFF
     private void maybeSetSwagger() {
         if (additionalProperties.containsKey(OPT_GENERATE_SWAGGER_ANNOTATIONS)) {
@@ -1178,7 +1209,7 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
 
     @Override
     public String toApiName(String name) {
-        return Utils.toApiName(name, apiNamePrefix, apiNameSuffix);
+        return apiNameCache.get(name, n -> Utils.toApiName(n, apiNamePrefix, apiNameSuffix));
     }
 
     @Override
@@ -1195,6 +1226,24 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
     @Override
     public void preprocessOpenAPI(OpenAPI openApi) {
 
+        // options are processed now, so names, generated with the previous options, are stale
+        clearNameCaches();
+
+        if (!openApiFlattened) {
+            flattenOpenApi(openApi);
+        }
+
+        super.preprocessOpenAPI(openApi);
+    }
+
+    /**
+     * Adds path parameters to the operations, resolves inline models and copies content of the referenced responses.
+     * The result depends only on the inline schema options, so it can be shared by several generators.
+     *
+     * @param openApi OpenAPI definition
+     * @since 6.14.0
+     */
+    public void flattenOpenApi(OpenAPI openApi) {
         if (openApi.getPaths() != null) {
             for (var path : openApi.getPaths().values()) {
                 if (path.getParameters() == null || path.getParameters().isEmpty()) {
@@ -1257,8 +1306,6 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
                 }
             }
         }
-
-        super.preprocessOpenAPI(openApi);
     }
 
     @Override
@@ -1322,6 +1369,12 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
             op.produces = op.produces == null ? null : op.produces.stream()
                 .filter(contentType -> !CONTENT_TYPE_ANY.equals(contentType.get("mediaType")))
                 .toList();
+            // clients accept only streaming media types, so the server sends elements one by one
+            if (!isServer() && op.produces != null && Boolean.TRUE.equals(op.vendorExtensions.get("isJsonStream"))) {
+                op.produces = op.produces.stream()
+                    .filter(AbstractMicronautJavaCodegen::isJsonStreamMediaType)
+                    .toList();
+            }
 
             // is only default "application/json" media type
             if (op.consumes == null
@@ -1646,6 +1699,11 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
         }
 
         processParametersWithAdditionalMappings(op.allParams, op.imports);
+        if (jsonStreaming && reactive && op.isArray && op.returnProperty != null && op.returnProperty.items != null
+            && op.produces != null && op.produces.stream().anyMatch(AbstractMicronautJavaCodegen::isJsonStreamMediaType)) {
+            op.vendorExtensions.put("isJsonStream", true);
+        }
+
         processWithResponseBodyMapping(op);
         processOperationWithResponseWrappers(op);
 
@@ -1747,9 +1805,11 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
 
         String typeName = makeSureImported(wrapperType, op.imports);
 
+        // streamed elements are returned with Flux<?>, so they are not collected to a list
+        boolean isFlux = fluxForArrays || Boolean.TRUE.equals(op.vendorExtensions.get("isJsonStream"));
         String originalReturnType;
-        if ((isListWrapper || fluxForArrays) && op.isArray && op.returnProperty.items != null) {
-            if (fluxForArrays && wrapperType.equals(MONO_CLASS_NAME)) {
+        if ((isListWrapper || isFlux) && op.isArray && op.returnProperty.items != null) {
+            if (isFlux && wrapperType.equals(MONO_CLASS_NAME)) {
                 typeName = makeSureImported(FLUX_CLASS_NAME, op.imports);
                 op.vendorExtensions.put("isReturnFlux", true);
             }
@@ -1777,6 +1837,18 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
         op.isArray = op.returnProperty.isArray;
     }
 
+    private static boolean isJsonStreamMediaType(Map<String, String> contentType) {
+        var mediaType = contentType.get("mediaType");
+        if (mediaType == null) {
+            return false;
+        }
+        int paramsIndex = mediaType.indexOf(';');
+        if (paramsIndex >= 0) {
+            mediaType = mediaType.substring(0, paramsIndex);
+        }
+        return JSON_STREAM_MEDIA_TYPES.contains(mediaType.strip().toLowerCase(Locale.ROOT));
+    }
+
     private void processOperationWithResponseWrappers(CodegenOperation op) {
         boolean hasNon200StatusCodes = op.responses.stream().anyMatch(
             response -> !"200".equals(response.code) && response.code.startsWith("2")
@@ -1815,6 +1887,15 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
 
     @Override
     public String toVarName(String name) {
+        return varNameCache.get(name, this::buildVarName);
+    }
+
+    @Override
+    public String toParamName(String name) {
+        return paramNameCache.get(name, super::toParamName);
+    }
+
+    private String buildVarName(String name) {
         var varName = super.toVarName(name);
 
         if (varName.chars().allMatch(c -> Character.isUpperCase(c) || c == '_')) {
@@ -2352,6 +2433,44 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
         return false;
     }
 
+    @Override
+    public boolean isParallelModelProcessingSupported() {
+        return true;
+    }
+
+    @Override
+    public String toModelName(final String name) {
+        if (name == null || modelNameMapping.containsKey(name)) {
+            return super.toModelName(name);
+        }
+        return modelNameCache.get(name, n -> {
+            // the parent class memoizes model names in a map, which is not thread-safe
+            synchronized (modelNameCache) {
+                return super.toModelName(n);
+            }
+        });
+    }
+
+    @Override
+    public Map<String, CacheStats> getCacheStatistics() {
+        var stats = super.getCacheStatistics();
+        stats.put("toModelName", modelNameCache.stats());
+        stats.put("toVarName", varNameCache.stats());
+        stats.put("toParamName", paramNameCache.stats());
+        stats.put("toApiName", apiNameCache.stats());
+        return stats;
+    }
+
+    /**
+     * Removes generated names from the name caches.
+     */
+    public void clearNameCaches() {
+        modelNameCache.clear();
+        varNameCache.clear();
+        paramNameCache.clear();
+        apiNameCache.clear();
+    }
+
     public void setGenerateSwaggerAnnotations(boolean generateSwaggerAnnotations) {
         this.generateSwaggerAnnotations = Boolean.toString(generateSwaggerAnnotations);
         if (generateSwaggerAnnotations) {
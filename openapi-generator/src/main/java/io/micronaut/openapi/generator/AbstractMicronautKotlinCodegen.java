@@ -16,6 +16,7 @@
 package io.micronaut.openapi.generator;
 
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.base.CaseFormat;
 import com.google.common.collect.ImmutableMap;
 import com.samskivert.mustache.Mustache;
@@ -80,6 +81,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -131,6 +133,7 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
     public static final String OPT_USE_AUTH = "useAuth";
     public static final String OPT_USE_PLURAL = "plural";
     public static final String OPT_FLUX_FOR_ARRAYS = "fluxForArrays";
+    public static final String OPT_JSON_STREAMING = "jsonStreaming";
     public static final String OPT_GENERATED_ANNOTATION = "generatedAnnotation";
     public static final String OPT_VISITABLE = "visitable";
     public static final String OPT_DATE_LIBRARY_ZONED_DATETIME = "ZONED_DATETIME";
@@ -160,6 +163,7 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
 
     private static final String MONO_CLASS_NAME = "reactor.core.publisher.Mono";
     private static final String FLUX_CLASS_NAME = "reactor.core.publisher.Flux";
+    private static final Set<String> JSON_STREAM_MEDIA_TYPES = Set.of("application/x-ndjson", "application/stream+json", "application/x-json-stream");
 
     protected SecureRandom random = new SecureRandom();
     protected String dateLibrary;
@@ -168,6 +172,7 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
     protected boolean visitable;
     protected boolean plural = true;
     protected boolean fluxForArrays;
+    protected boolean jsonStreaming;
     protected boolean generatedAnnotation = true;
     protected String testTool;
     protected boolean requiredPropertiesInConstructor = true;
@@ -186,13 +191,17 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
     protected String serializationLibrary = SerializationLibraryKind.MICRONAUT_SERDE_JACKSON.name();
     protected List<ParameterMapping> parameterMappings = new ArrayList<>();
     protected List<ResponseBodyMapping> responseBodyMappings = new ArrayList<>();
-    protected Map<String, CodegenModel> allModels = new HashMap<>();
+    protected Map<String, CodegenModel> allModels = new ConcurrentHashMap<>();
+    protected boolean openApiFlattened;
     protected List<String> additionalOneOfTypeAnnotations = new LinkedList<>();
     protected List<String> additionalEnumTypeAnnotations = new LinkedList<>();
 
     private final Logger log = LoggerFactory.getLogger(getClass());
 
-    private final Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
+    private final NameCache modelNameCache = new NameCache();
+    private final NameCache varNameCache = new NameCache();
+    private final NameCache paramNameCache = new NameCache();
+    private final NameCache apiNameCache = new NameCache();
 
     protected AbstractMicronautKotlinCodegen() {
 
@@ -307,6 +316,7 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
         cliOptions.add(CliOption.newString(ADDITIONAL_ONE_OF_TYPE_ANNOTATIONS, "Additional annotations for oneOf interfaces (class level annotations). List separated by semicolon(;) or new line (Linux or Windows)"));
         cliOptions.add(CliOption.newBoolean(OPT_USE_PLURAL, "Whether or not to use plural for request body parameter name", plural));
         cliOptions.add(CliOption.newBoolean(OPT_FLUX_FOR_ARRAYS, "Whether or not to use Flux<?> instead Mono<List<?>> for arrays in generated code", fluxForArrays));
+        cliOptions.add(CliOption.newBoolean(OPT_JSON_STREAMING, "Whether or not to stream array elements with Flux<?> for responses with application/x-ndjson or application/stream+json media types (requires reactive)", jsonStreaming));
         cliOptions.add(CliOption.newBoolean(OPT_GENERATED_ANNOTATION, "Generate code with \"@Generated\" annotation", generatedAnnotation));
         cliOptions.add(CliOption.newBoolean(OPT_KSP, "Generate code compatible only with KSP", ksp));
         cliOptions.add(CliOption.newBoolean(USE_BEANVALIDATION, "Use BeanValidation API annotations", useBeanValidation));
@@ -472,6 +482,10 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
         this.fluxForArrays = fluxForArrays;
     }
 
+    public void setJsonStreaming(boolean jsonStreaming) {
+        this.jsonStreaming = jsonStreaming;
+    }
+
     public void setGeneratedAnnotation(boolean generatedAnnotation) {
         this.generatedAnnotation = generatedAnnotation;
     }
@@ -544,6 +558,11 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
         }
         writePropertyBack(OPT_FLUX_FOR_ARRAYS, fluxForArrays);
 
+        if (additionalProperties.containsKey(OPT_JSON_STREAMING)) {
+            jsonStreaming = convertPropertyToBoolean(OPT_JSON_STREAMING);
+        }
+        writePropertyBack(OPT_JSON_STREAMING, jsonStreaming);
+
         if (additionalProperties.containsKey(OPT_USE_ENUM_CASE_INSENSITIVE)) {
             useEnumCaseInsensitive = convertPropertyToBoolean(OPT_USE_ENUM_CASE_INSENSITIVE);
         }
@@ -720,6 +739,17 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
         this.openapiNormalizer.putAll(openapiNormalizer);
     }
 
+    /**
+     * Marks the OpenAPI definition as already flattened by {@link #flattenOpenApi(OpenAPI)},
+     * so flattening is skipped in {@link #preprocessOpenAPI(OpenAPI)}.
+     *
+     * @param openApiFlattened true if the definition is already flattened
+     * @since 6.14.0
+     */
+    public void setOpenApiFlattened(boolean openApiFlattened) {
+        this.openApiFlattened = openApiFlattened;
+    }
+
     // CHECKSTYLE:OFF
     private void maybeSetSwagger() {
         if (additionalProperties.containsKey(OPT_GENERATE_SWAGGER_ANNOTATIONS)) {
@@ -849,7 +879,7 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
 
     @Override
     public String toApiName(String name) {
-        return Utils.toApiName(name, apiNamePrefix, apiNameSuffix);
+        return apiNameCache.get(name, n -> Utils.toApiName(n, apiNamePrefix, apiNameSuffix));
     }
 
     @Override
@@ -866,6 +896,45 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
     @Override
     public void preprocessOpenAPI(OpenAPI openApi) {
 
+        // options are processed now, so names, generated with the previous options, are stale
+        clearNameCaches();
+
+        if (!openApiFlattened) {
+            flattenOpenApi(openApi);
+        }
+
+        super.preprocessOpenAPI(openApi);
+
+        if (openApi.getPaths() != null) {
+            for (Map.Entry<String, PathItem> openAPIGetPathsEntry : openApi.getPaths().entrySet()) {
+                PathItem path = openAPIGetPathsEntry.getValue();
+                var ops = path.readOperations();
+                if (ops == null || ops.isEmpty()) {
+                    continue;
+                }
+                for (Operation operation : ops) {
+                    log.info("Processing operation {}", operation.getOperationId());
+                    if (hasBodyParameter(operation) || hasFormParameter(operation)) {
+                        var defaultContentType = hasFormParameter(operation) ? CONTENT_TYPE_APPLICATION_FORM_URLENCODED : CONTENT_TYPE_APPLICATION_JSON;
+                        var consumes = new ArrayList<>(getConsumesInfo(openApi, operation));
+                        String contentType = consumes.isEmpty() ? defaultContentType : consumes.get(0);
+                        operation.addExtension(VendorExtension.X_CONTENT_TYPE.getName(), contentType);
+                    }
+                    String[] accepts = getAccepts(openApi, operation);
+                    operation.addExtension(VendorExtension.X_ACCEPTS.getName(), accepts);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds path parameters to the operations, resolves inline models and copies content of the referenced responses.
+     * The result depends only on the inline schema options, so it can be shared by several generators.
+     *
+     * @param openApi OpenAPI definition
+     * @since 6.14.0
+     */
+    public void flattenOpenApi(OpenAPI openApi) {
         if (openApi.getPaths() != null) {
             for (var path : openApi.getPaths().values()) {
                 if (path.getParameters() == null || path.getParameters().isEmpty()) {
@@ -928,29 +997,6 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
                 }
             }
         }
-
-        super.preprocessOpenAPI(openApi);
-
-        if (openApi.getPaths() != null) {
-            for (Map.Entry<String, PathItem> openAPIGetPathsEntry : openApi.getPaths().entrySet()) {
-                PathItem path = openAPIGetPathsEntry.getValue();
-                var ops = path.readOperations();
-                if (ops == null || ops.isEmpty()) {
-                    continue;
-                }
-                for (Operation operation : ops) {
-                    log.info("Processing operation {}", operation.getOperationId());
-                    if (hasBodyParameter(operation) || hasFormParameter(operation)) {
-                        var defaultContentType = hasFormParameter(operation) ? CONTENT_TYPE_APPLICATION_FORM_URLENCODED : CONTENT_TYPE_APPLICATION_JSON;
-                        var consumes = new ArrayList<>(getConsumesInfo(openApi, operation));
-                        String contentType = consumes.isEmpty() ? defaultContentType : consumes.get(0);
-                        operation.addExtension(VendorExtension.X_CONTENT_TYPE.getName(), contentType);
-                    }
-                    String[] accepts = getAccepts(openApi, operation);
-                    operation.addExtension(VendorExtension.X_ACCEPTS.getName(), accepts);
-                }
-            }
-        }
     }
 
     private String[] getAccepts(OpenAPI openAPIArg, Operation operation) {
@@ -1020,6 +1066,12 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
             op.produces = op.produces == null ? null : op.produces.stream()
                 .filter(contentType -> !CONTENT_TYPE_ANY.equals(contentType.get("mediaType")))
                 .toList();
+            // clients accept only streaming media types, so the server sends elements one by one
+            if (!isServer() && op.produces != null && Boolean.TRUE.equals(op.vendorExtensions.get("isJsonStream"))) {
+                op.produces = op.produces.stream()
+                    .filter(AbstractMicronautKotlinCodegen::isJsonStreamMediaType)
+                    .toList();
+            }
 
             // is only default "application/json" media type
             if (op.consumes == null
@@ -1360,11 +1412,30 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
         if (modelNameMapping.containsKey(name)) {
             return modelNameMapping.get(name);
         }
-        // memoization
-        if (schemaKeyToModelNameCache.containsKey(name)) {
-            return schemaKeyToModelNameCache.get(name);
-        }
+        return modelNameCache.get(name, this::buildModelName);
+    }
+
+    @Override
+    public Map<String, CacheStats> getCacheStatistics() {
+        var stats = super.getCacheStatistics();
+        stats.put("toModelName", modelNameCache.stats());
+        stats.put("toVarName", varNameCache.stats());
+        stats.put("toParamName", paramNameCache.stats());
+        stats.put("toApiName", apiNameCache.stats());
+        return stats;
+    }
+
+    /**
+     * Removes generated names from the name caches.
+     */
+    public void clearNameCaches() {
+        modelNameCache.clear();
+        varNameCache.clear();
+        paramNameCache.clear();
+        apiNameCache.clear();
+    }
 
+    private String buildModelName(String name) {
         // If schemaMapping contains name, assume this is a legitimate model name.
         if (schemaMapping.containsKey(name)) {
             return schemaMapping.get(name);
@@ -1412,8 +1483,7 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
             return modelName;
         }
 
-        schemaKeyToModelNameCache.put(name, firstTitleCase(modifiedName));
-        return schemaKeyToModelNameCache.get(name);
+        return firstTitleCase(modifiedName);
     }
 
     @Override
@@ -1556,6 +1626,11 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
         }
 
         processParametersWithAdditionalMappings(op.allParams, op.imports);
+        if (jsonStreaming && reactive && op.isArray && op.returnProperty != null && op.returnProperty.items != null
+            && op.produces != null && op.produces.stream().anyMatch(AbstractMicronautKotlinCodegen::isJsonStreamMediaType)) {
+            op.vendorExtensions.put("isJsonStream", true);
+        }
+
         processWithResponseBodyMapping(op);
         processOperationWithResponseWrappers(op);
 
@@ -1697,9 +1772,11 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
 
         String typeName = makeSureImported(wrapperType, op.imports);
 
+        // streamed elements are returned with Flux<?>, so they are not collected to a list
+        boolean isFlux = fluxForArrays || Boolean.TRUE.equals(op.vendorExtensions.get("isJsonStream"));
         String originalReturnType;
-        if ((isListWrapper || fluxForArrays) && op.isArray && op.returnProperty.items != null) {
-            if (fluxForArrays && wrapperType.equals(MONO_CLASS_NAME)) {
+        if ((isListWrapper || isFlux) && op.isArray && op.returnProperty.items != null) {
+            if (isFlux && wrapperType.equals(MONO_CLASS_NAME)) {
                 typeName = makeSureImported(FLUX_CLASS_NAME, op.imports);
                 op.vendorExtensions.put("isReturnFlux", true);
             }
@@ -1723,6 +1800,18 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
         op.isArray = op.returnProperty.isArray;
     }
 
+    private static boolean isJsonStreamMediaType(Map<String, String> contentType) {
+        var mediaType = contentType.get("mediaType");
+        if (mediaType == null) {
+            return false;
+        }
+        int paramsIndex = mediaType.indexOf(';');
+        if (paramsIndex >= 0) {
+            mediaType = mediaType.substring(0, paramsIndex);
+        }
+        return JSON_STREAM_MEDIA_TYPES.contains(mediaType.strip().toLowerCase(Locale.ROOT));
+    }
+
     private void processOperationWithResponseWrappers(CodegenOperation op) {
         boolean hasNon200StatusCodes = op.responses.stream().anyMatch(
             response -> !"200".equals(response.code) && response.code.startsWith("2")
@@ -1761,6 +1850,15 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
 
     @Override
     public String toVarName(String name) {
+        return varNameCache.get(name, this::buildVarName);
+    }
+
+    @Override
+    public String toParamName(String name) {
+        return paramNameCache.get(name, super::toParamName);
+    }
+
+    private String buildVarName(String name) {
         var varName = super.toVarName(name);
 
         if (varName.chars().allMatch(c -> Character.isUpperCase(c) || c == '_')) {
@@ -2533,6 +2631,11 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
         return false;
     }
 
+    @Override
+    public boolean isParallelModelProcessingSupported() {
+        return true;
+    }
+
     public void setGenerateSwaggerAnnotations(boolean generateSwaggerAnnotations) {
         this.generateSwaggerAnnotations = Boolean.toString(generateSwaggerAnnotations);
         if (generateSwaggerAnnotations) {
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.generator;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Content hashes of the generated files.
+ * <p>
+ * The manifest is stored in the output directory and is used to skip writing files, which content
+ * is the same as in the previous generation. Unchanged files keep their timestamps, so build tools
+ * don't recompile them. The manifest uses the {@code sha256sum} format: one line per file with
+ * the SHA-256 hash and the path relative to the output directory.
+ *
+ * @since 6.14.0
+ */
+public final class GeneratedFilesManifest {
+
+    /**
+     * Manifest file name.
+     */
+    public static final String FILE_NAME = "FILES.sha256";
+
+    private static final String SEPARATOR = "  ";
+
+    private final Path outputDir;
+    private final Path manifestFile;
+    private final Map<String, String> previousHashes;
+    private final Map<String, String> currentHashes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates manifest and reads hashes of the previous generation.
+     *
+     * @param outputDir output directory
+     * @param manifestFile manifest file
+     */
+    public GeneratedFilesManifest(Path outputDir, Path manifestFile) {
+        this.outputDir = outputDir.toAbsolutePath().normalize();
+        this.manifestFile = manifestFile;
+        previousHashes = read(manifestFile);
+    }
+
+    /**
+     * Registers generated file content and checks that the file doesn't need to be written.
+     *
+     * @param target target file
+     * @param content generated content
+     *
+     * @return true if the file exists and has the same content as in the previous generation and on disk
+     */
+    public boolean isUpToDate(File target, byte[] content) {
+        var path = relativePath(target);
+        var hash = DigestUtils.sha256Hex(content);
+        currentHashes.put(path, hash);
+        if (!hash.equals(previousHashes.get(path))) {
+            return false;
+        }
+        // the file on disk is hashed too, so files modified after generation are overwritten
+        var targetPath = target.toPath();
+        if (!Files.isRegularFile(targetPath)) {
+            return false;
+        }
+        try (var in = Files.newInputStream(targetPath)) {
+            return hash.equals(DigestUtils.sha256Hex(in));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes hashes of the current generation to the manifest file.
+     *
+     * @return changes between the previous and the current generation
+     *
+     * @throws IOException if the manifest can't be written
+     */
+    public Changes save() throws IOException {
+        var sortedHashes = new TreeMap<>(currentHashes);
+        var added = new ArrayList<String>();
+        var changed = new ArrayList<String>();
+        var unchanged = 0;
+        var content = new StringBuilder();
+        for (var entry : sortedHashes.entrySet()) {
+            var previousHash = previousHashes.get(entry.getKey());
+            if (previousHash == null) {
+                added.add(entry.getKey());
+            } else if (previousHash.equals(entry.getValue())) {
+                unchanged++;
+            } else {
+                changed.add(entry.getKey());
+            }
+            content.append(entry.getValue()).append(SEPARATOR).append(entry.getKey()).append('\n');
+        }
+        var removed = new ArrayList<String>();
+        for (var path : new TreeMap<>(previousHashes).keySet()) {
+            if (!currentHashes.containsKey(path)) {
+                removed.add(path);
+            }
+        }
+
+        Files.createDirectories(manifestFile.getParent());
+        Files.writeString(manifestFile, content, StandardCharsets.UTF_8);
+
+        return new Changes(added, changed, removed, unchanged);
+    }
+
+    private String relativePath(File target) {
+        var path = target.toPath().toAbsolutePath().normalize();
+        if (path.startsWith(outputDir)) {
+            path = outputDir.relativize(path);
+        }
+        return path.toString().replace(File.separatorChar, '/');
+    }
+
+    private static Map<String, String> read(Path manifestFile) {
+        if (!Files.isRegularFile(manifestFile)) {
+            return Collections.emptyMap();
+        }
+        var hashes = new HashMap<String, String>();
+        try {
+            for (var line : Files.readAllLines(manifestFile, StandardCharsets.UTF_8)) {
+                var separatorIndex = line.indexOf(SEPARATOR);
+                if (separatorIndex > 0) {
+                    hashes.put(line.substring(separatorIndex + SEPARATOR.length()), line.substring(0, separatorIndex));
+                }
+            }
+        } catch (IOException e) {
+            // broken manifest, all files will be written
+            return Collections.emptyMap();
+        }
+        return hashes;
+    }
+
+    /**
+     * Changes between two generations. Paths are relative to the output directory.
+     *
+     * @param added files, which were not generated before
+     * @param changed files with changed content
+     * @param removed files, which were generated before, but not generated now
+     * @param unchanged number of files with the same content
+     */
+    public record Changes(
+        List<String> added,
+        List<String> changed,
+        List<String> removed,
+        int unchanged
+    ) {
+    }
+}
@@ -271,6 +271,7 @@ public class JavaMicronautClientCodegen extends AbstractMicronautJavaCodegen<Jav
         private boolean lombok;
         private boolean plural;
         private boolean fluxForArrays;
+        private boolean jsonStreaming;
         private boolean generatedAnnotation = true;
 
         @Override
@@ -321,6 +322,12 @@ public class JavaMicronautClientCodegen extends AbstractMicronautJavaCodegen<Jav
             return this;
         }
 
+        @Override
+        public JavaMicronautClientOptionsBuilder withJsonStreaming(boolean jsonStreaming) {
+            this.jsonStreaming = jsonStreaming;
+            return this;
+        }
+
         @Override
         public JavaMicronautClientOptionsBuilder withGeneratedAnnotation(boolean generatedAnnotation) {
             this.generatedAnnotation = generatedAnnotation;
@@ -344,6 +351,7 @@ public class JavaMicronautClientCodegen extends AbstractMicronautJavaCodegen<Jav
                 lombok,
                 plural,
                 fluxForArrays,
+                jsonStreaming,
                 generatedAnnotation
             );
         }
@@ -359,6 +367,7 @@ public class JavaMicronautClientCodegen extends AbstractMicronautJavaCodegen<Jav
         boolean lombok,
         boolean plural,
         boolean fluxForArrays,
+        boolean jsonStreaming,
         boolean generatedAnnotation
     ) {
     }
@@ -95,6 +95,16 @@ public interface JavaMicronautClientOptionsBuilder extends GeneratorOptionsBuild
      */
     JavaMicronautClientOptionsBuilder withFluxForArrays(boolean fluxForArrays);
 
+    /**
+     * If set to true, operations, which return arrays with application/x-ndjson or application/stream+json
+     * media types, stream the elements with Flux{@literal <}?> instead of collecting them to a list. Requires reactive.
+     *
+     * @param jsonStreaming stream array elements for JSON stream media types or not
+     *
+     * @return this builder
+     */
+    JavaMicronautClientOptionsBuilder withJsonStreaming(boolean jsonStreaming);
+
     /**
      * If set to true, generated code will be with jakarta.annotation.Generated annotation.
      *
@@ -46,6 +46,7 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
     public static final String OPT_GENERATE_HARD_NULLABLE = "generateHardNullable";
     public static final String OPT_GENERATE_STREAMING_FILE_UPLOAD = "generateStreamingFileUpload";
     public static final String OPT_AOT = "aot";
+    public static final String OPT_EXECUTE_ON = "executeOn";
 
     public static final String EXTENSION_ROLES = "x-roles";
     public static final String ANONYMOUS_ROLE_KEY = "isAnonymous()";
@@ -71,6 +72,7 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
     protected boolean generateHardNullable = true;
     protected boolean generateStreamingFileUpload;
     protected boolean aot;
+    protected String executeOn;
 
     JavaMicronautServerCodegen() {
 
@@ -97,6 +99,8 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
         cliOptions.add(CliOption.newBoolean(OPT_GENERATE_HARD_NULLABLE, "Whether to generate and use an inherited nullable annotation", generateHardNullable));
         cliOptions.add(CliOption.newBoolean(OPT_GENERATE_STREAMING_FILE_UPLOAD, "Whether to generate StreamingFileUpload type for file request body", generateStreamingFileUpload));
         cliOptions.add(CliOption.newBoolean(OPT_AOT, "Generate compatible code with micronaut-aot", aot));
+        cliOptions.add(new CliOption(OPT_EXECUTE_ON, "Name of the executor for non-reactive operations, for example, virtual, blocking or io. "
+            + "Operations are annotated with @ExecuteOn. Can be overridden with x-execute-on extension of the tag or the operation."));
 
         setApiNamePrefix(API_PREFIX);
         setApiNameSuffix(API_SUFFIX);
@@ -146,6 +150,10 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
         this.useAuth = useAuth;
     }
 
+    public void setExecuteOn(String executeOn) {
+        this.executeOn = executeOn;
+    }
+
     @Override
     public void processOpts() {
         super.processOpts();
@@ -187,6 +195,10 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
         }
         writePropertyBack(OPT_AOT, aot);
 
+        if (additionalProperties.containsKey(OPT_EXECUTE_ON)) {
+            executeOn = (String) additionalProperties.get(OPT_EXECUTE_ON);
+        }
+
         if (additionalProperties.containsKey(OPT_GENERATE_HARD_NULLABLE)) {
             generateHardNullable = convertPropertyToBoolean(OPT_GENERATE_HARD_NULLABLE);
         }
@@ -282,6 +294,14 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
         objs.put("controllerClassname", controllerClassname);
 
         var allOperations = (List<CodegenOperation>) operations.get("operation");
+        // blocking operations shouldn't run on the event loop
+        if (!reactive) {
+            var useExecuteOn = false;
+            for (CodegenOperation operation : allOperations) {
+                useExecuteOn |= Utils.processExecuteOn(operation, executeOn);
+            }
+            objs.put("useExecuteOn", useExecuteOn);
+        }
         if (useAuth) {
             for (CodegenOperation operation : allOperations) {
                 if (!operation.vendorExtensions.containsKey(EXTENSION_ROLES)) {
@@ -333,8 +353,10 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
         private boolean lombok;
         private boolean plural = true;
         private boolean fluxForArrays;
+        private boolean jsonStreaming;
         private boolean generatedAnnotation = true;
         private boolean aot;
+        private String executeOn;
 
         @Override
         public JavaMicronautServerOptionsBuilder withControllerPackage(String controllerPackage) {
@@ -384,6 +406,12 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
             return this;
         }
 
+        @Override
+        public JavaMicronautServerOptionsBuilder withJsonStreaming(boolean jsonStreaming) {
+            this.jsonStreaming = jsonStreaming;
+            return this;
+        }
+
         @Override
         public JavaMicronautServerOptionsBuilder withGeneratedAnnotation(boolean generatedAnnotation) {
             this.generatedAnnotation = generatedAnnotation;
@@ -396,6 +424,12 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
             return this;
         }
 
+        @Override
+        public JavaMicronautServerOptionsBuilder withExecuteOn(String executeOn) {
+            this.executeOn = executeOn;
+            return this;
+        }
+
         ServerOptions build() {
             return new ServerOptions(
                 controllerPackage,
@@ -406,8 +440,10 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
                 lombok,
                 plural,
                 fluxForArrays,
+                jsonStreaming,
                 generatedAnnotation,
-                aot
+                aot,
+                executeOn
             );
         }
     }
@@ -421,8 +457,10 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
         boolean lombok,
         boolean plural,
         boolean fluxForArrays,
+        boolean jsonStreaming,
         boolean generatedAnnotation,
-        boolean aot
+        boolean aot,
+        String executeOn
     ) {
     }
 }
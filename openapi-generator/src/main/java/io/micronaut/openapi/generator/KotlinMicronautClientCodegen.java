@@ -266,6 +266,7 @@ public class KotlinMicronautClientCodegen extends AbstractMicronautKotlinCodegen
         private boolean plural;
         private boolean useAuth;
         private boolean fluxForArrays;
+        private boolean jsonStreaming;
         private boolean generatedAnnotation = true;
         private boolean ksp;
 
@@ -305,6 +306,12 @@ public class KotlinMicronautClientCodegen extends AbstractMicronautKotlinCodegen
             return this;
         }
 
+        @Override
+        public KotlinMicronautClientOptionsBuilder withJsonStreaming(boolean jsonStreaming) {
+            this.jsonStreaming = jsonStreaming;
+            return this;
+        }
+
         @Override
         public KotlinMicronautClientOptionsBuilder withPlural(boolean plural) {
             this.plural = plural;
@@ -339,6 +346,7 @@ public class KotlinMicronautClientCodegen extends AbstractMicronautKotlinCodegen
                 useAuth,
                 plural,
                 fluxForArrays,
+                jsonStreaming,
                 generatedAnnotation,
                 ksp
             );
@@ -354,6 +362,7 @@ public class KotlinMicronautClientCodegen extends AbstractMicronautKotlinCodegen
         boolean useAuth,
         boolean plural,
         boolean fluxForArrays,
+        boolean jsonStreaming,
         boolean generatedAnnotation,
         boolean ksp
     ) {
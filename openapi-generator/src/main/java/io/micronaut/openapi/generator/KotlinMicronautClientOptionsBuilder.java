@@ -77,6 +77,16 @@ public interface KotlinMicronautClientOptionsBuilder extends GeneratorOptionsBui
      */
     KotlinMicronautClientOptionsBuilder withFluxForArrays(boolean fluxForArrays);
 
+    /**
+     * If set to true, operations, which return arrays with application/x-ndjson or application/stream+json
+     * media types, stream the elements with Flux{@literal <}?> instead of collecting them to a list. Requires reactive.
+     *
+     * @param jsonStreaming stream array elements for JSON stream media types or not
+     *
+     * @return this builder
+     */
+    KotlinMicronautClientOptionsBuilder withJsonStreaming(boolean jsonStreaming);
+
     /**
      * If set to true, the generated code will pluralize parameters and properties for arrays.
      *
@@ -45,6 +45,7 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
     public static final String OPT_GENERATE_OPERATIONS_TO_RETURN_NOT_IMPLEMENTED = "generateOperationsToReturnNotImplemented";
     public static final String OPT_GENERATE_STREAMING_FILE_UPLOAD = "generateStreamingFileUpload";
     public static final String OPT_AOT = "aot";
+    public static final String OPT_EXECUTE_ON = "executeOn";
 
     public static final String EXTENSION_ROLES = "x-roles";
     public static final String ANONYMOUS_ROLE_KEY = "isAnonymous()";
@@ -69,6 +70,7 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
     protected boolean useAuth = true;
     protected boolean generateStreamingFileUpload;
     protected boolean aot;
+    protected String executeOn;
 
     KotlinMicronautServerCodegen() {
 
@@ -94,6 +96,8 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
         cliOptions.add(CliOption.newBoolean(OPT_USE_AUTH, "Whether to import authorization and to annotate controller methods accordingly", useAuth));
         cliOptions.add(CliOption.newBoolean(OPT_GENERATE_STREAMING_FILE_UPLOAD, "Whether to generate StreamingFileUpload type for file request body", generateStreamingFileUpload));
         cliOptions.add(CliOption.newBoolean(OPT_AOT, "Generate compatible code with micronaut-aot", aot));
+        cliOptions.add(new CliOption(OPT_EXECUTE_ON, "Name of the executor for non-reactive operations, for example, virtual, blocking or io. "
+            + "Operations are annotated with @ExecuteOn. Can be overridden with x-execute-on extension of the tag or the operation."));
 
         setApiNamePrefix(API_PREFIX);
         setApiNameSuffix(API_SUFFIX);
@@ -143,6 +147,10 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
         this.useAuth = useAuth;
     }
 
+    public void setExecuteOn(String executeOn) {
+        this.executeOn = executeOn;
+    }
+
     @Override
     public void processOpts() {
         super.processOpts();
@@ -184,6 +192,10 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
         }
         writePropertyBack(OPT_AOT, aot);
 
+        if (additionalProperties.containsKey(OPT_EXECUTE_ON)) {
+            executeOn = (String) additionalProperties.get(OPT_EXECUTE_ON);
+        }
+
         if (additionalProperties.containsKey(OPT_GENERATE_STREAMING_FILE_UPLOAD)) {
             generateStreamingFileUpload = convertPropertyToBoolean(OPT_GENERATE_STREAMING_FILE_UPLOAD);
         }
@@ -267,6 +279,14 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
         objs.put("controllerClassname", controllerClassname);
 
         var allOperations = (List<CodegenOperation>) operations.get("operation");
+        // blocking operations shouldn't run on the event loop
+        if (!reactive) {
+            var useExecuteOn = false;
+            for (CodegenOperation operation : allOperations) {
+                useExecuteOn |= Utils.processExecuteOn(operation, executeOn);
+            }
+            objs.put("useExecuteOn", useExecuteOn);
+        }
         if (useAuth) {
             for (CodegenOperation operation : allOperations) {
                 if (!operation.vendorExtensions.containsKey(EXTENSION_ROLES)) {
@@ -317,9 +337,11 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
         private boolean plural = true;
         private boolean useAuth = true;
         private boolean fluxForArrays;
+        private boolean jsonStreaming;
         private boolean generatedAnnotation = true;
         private boolean aot;
         private boolean ksp;
+        private String executeOn;
 
         @Override
         public KotlinMicronautServerOptionsBuilder withControllerPackage(String controllerPackage) {
@@ -357,6 +379,12 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
             return this;
         }
 
+        @Override
+        public KotlinMicronautServerOptionsBuilder withJsonStreaming(boolean jsonStreaming) {
+            this.jsonStreaming = jsonStreaming;
+            return this;
+        }
+
         @Override
         public KotlinMicronautServerOptionsBuilder withPlural(boolean plural) {
             this.plural = plural;
@@ -381,6 +409,12 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
             return this;
         }
 
+        @Override
+        public KotlinMicronautServerOptionsBuilder withExecuteOn(String executeOn) {
+            this.executeOn = executeOn;
+            return this;
+        }
+
         ServerOptions build() {
             return new ServerOptions(
                 controllerPackage,
@@ -390,9 +424,11 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
                 useAuth,
                 plural,
                 fluxForArrays,
+                jsonStreaming,
                 generatedAnnotation,
                 aot,
-                ksp
+                ksp,
+                executeOn
             );
         }
     }
@@ -405,9 +441,11 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
         boolean useAuth,
         boolean plural,
         boolean fluxForArrays,
+        boolean jsonStreaming,
         boolean generatedAnnotation,
         boolean aot,
-        boolean ksp
+        boolean ksp,
+        String executeOn
     ) {
     }
 }
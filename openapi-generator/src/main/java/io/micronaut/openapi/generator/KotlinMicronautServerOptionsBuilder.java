@@ -75,6 +75,16 @@ public interface KotlinMicronautServerOptionsBuilder extends GeneratorOptionsBui
      */
     KotlinMicronautServerOptionsBuilder withFluxForArrays(boolean fluxForArrays);
 
+    /**
+     * If set to true, operations, which return arrays with application/x-ndjson or application/stream+json
+     * media types, stream the elements with Flux{@literal <}?> instead of collecting them to a list. Requires reactive.
+     *
+     * @param jsonStreaming stream array elements for JSON stream media types or not
+     *
+     * @return this builder
+     */
+    KotlinMicronautServerOptionsBuilder withJsonStreaming(boolean jsonStreaming);
+
     /**
      * If set to true, the generated code will pluralize parameters and properties for arrays.
      *
@@ -110,4 +120,15 @@ public interface KotlinMicronautServerOptionsBuilder extends GeneratorOptionsBui
      * @return this builder
      */
     KotlinMicronautServerOptionsBuilder withKsp(boolean ksp);
+
+    /**
+     * Name of the executor, which runs non-reactive operations: operations are annotated with
+     * {@literal @}ExecuteOn. For example, "virtual" for virtual threads, "blocking" or "io".
+     * It can be overridden with x-execute-on extension of the tag or the operation.
+     *
+     * @param executeOn executor name or null to not annotate operations
+     *
+     * @return this builder
+     */
+    KotlinMicronautServerOptionsBuilder withExecuteOn(String executeOn);
 }
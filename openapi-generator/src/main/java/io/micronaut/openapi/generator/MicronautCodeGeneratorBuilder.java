@@ -15,6 +15,8 @@
  */
 package io.micronaut.openapi.generator;
 
+import io.swagger.v3.oas.models.OpenAPI;
+
 import java.io.File;
 import java.net.URI;
 import java.util.function.Consumer;
@@ -142,6 +144,49 @@ public interface MicronautCodeGeneratorBuilder {
      */
     MicronautCodeGeneratorBuilder withOptions(Consumer<? super MicronautCodeGeneratorOptionsBuilder> optionsConfigurer);
 
+    /**
+     * Sets the number of threads used to render models and operation groups.
+     * By default, files are generated sequentially. The generated files are
+     * the same in sequential and parallel modes.
+     *
+     * @param parallelism the number of threads, values less than 2 disable parallel generation
+     * @return this builder
+     * @since 6.14.0
+     */
+    MicronautCodeGeneratorBuilder withParallelism(int parallelism);
+
+    /**
+     * Configures whether files with the same content as in the previous generation
+     * should be left untouched. Disabled by default. When enabled, content hashes of the generated
+     * files are stored in the {@code .openapi-generator/FILES.sha256} file of the output directory.
+     *
+     * @param skipUnchangedFiles true to skip writing unchanged files
+     * @return this builder
+     * @since 6.14.0
+     */
+    MicronautCodeGeneratorBuilder withSkipUnchangedFiles(boolean skipUnchangedFiles);
+
+    /**
+     * Sets the already parsed OpenAPI definition, which is used instead of
+     * the definition file. The object is modified during generation, so it
+     * must not be shared between generators.
+     *
+     * @param openAPI the parsed definition
+     * @return this builder
+     * @since 6.14.0
+     */
+    MicronautCodeGeneratorBuilder withOpenAPI(OpenAPI openAPI);
+
+    /**
+     * Sets the cache of parsed definitions. The same cache can be used by
+     * several builders, so the definition file is parsed only once.
+     *
+     * @param parseCache the parse cache
+     * @return this builder
+     * @since 6.14.0
+     */
+    MicronautCodeGeneratorBuilder withParseCache(OpenApiParseCache parseCache);
+
     /**
      * Returns a configured code generator.
      *
@@ -16,8 +16,7 @@
 package io.micronaut.openapi.generator;
 
 import io.micronaut.openapi.generator.MicronautCodeGeneratorOptionsBuilder.GeneratorLanguage;
-import io.swagger.parser.OpenAPIParser;
-import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.oas.models.OpenAPI;
 import org.openapitools.codegen.ClientOptInput;
 import org.openapitools.codegen.CodegenConstants;
 import org.openapitools.codegen.DefaultCodegen;
@@ -28,6 +27,8 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -39,6 +40,8 @@ import java.util.function.Consumer;
 public final class MicronautCodeGeneratorEntryPoint {
 
     private final URI definitionFile;
+    private final OpenAPI openAPI;
+    private final OpenApiParseCache parseCache;
     private final File outputDirectory;
     private final DefaultCodegen codeGenerator;
     private final EnumSet<OutputKind> outputs;
@@ -47,8 +50,12 @@ public final class MicronautCodeGeneratorEntryPoint {
     private final JavaMicronautClientCodegen.ClientOptions javaClientOptions;
     private final KotlinMicronautServerCodegen.ServerOptions kotlinServerOptions;
     private final KotlinMicronautClientCodegen.ClientOptions kotlinClientOptions;
+    private final int parallelism;
+    private final boolean skipUnchangedFiles;
 
     private MicronautCodeGeneratorEntryPoint(URI definitionFile,
+                                             OpenAPI openAPI,
+                                             OpenApiParseCache parseCache,
                                              File outputDirectory,
                                              DefaultCodegen codeGenerator,
                                              EnumSet<OutputKind> outputs,
@@ -56,9 +63,13 @@ public final class MicronautCodeGeneratorEntryPoint {
                                              JavaMicronautServerCodegen.ServerOptions javaServerOptions,
                                              JavaMicronautClientCodegen.ClientOptions javaClientOptions,
                                              KotlinMicronautServerCodegen.ServerOptions kotlinServerOptions,
-                                             KotlinMicronautClientCodegen.ClientOptions kotlinClientOptions
+                                             KotlinMicronautClientCodegen.ClientOptions kotlinClientOptions,
+                                             int parallelism,
+                                             boolean skipUnchangedFiles
     ) {
         this.definitionFile = definitionFile;
+        this.openAPI = openAPI;
+        this.parseCache = parseCache;
         this.outputDirectory = outputDirectory;
         this.codeGenerator = codeGenerator;
         this.outputs = outputs;
@@ -67,6 +78,8 @@ public final class MicronautCodeGeneratorEntryPoint {
         this.javaClientOptions = javaClientOptions;
         this.kotlinServerOptions = kotlinServerOptions;
         this.kotlinClientOptions = kotlinClientOptions;
+        this.parallelism = parallelism;
+        this.skipUnchangedFiles = skipUnchangedFiles;
     }
 
     private static void withPath(File file, Consumer<? super String> action) {
@@ -85,12 +98,68 @@ public final class MicronautCodeGeneratorEntryPoint {
      * Performs code generation.
      */
     public void generate() {
-        var opts = new ParseOptions();
-        opts.setResolve(true);
-        var openAPI = new OpenAPIParser()
-            .readLocation(definitionFile.toString(), null, opts).getOpenAPI();
+        var openAPI = readOpenAPI();
+        configureCodegen();
+        generate(openAPI, false);
+    }
+
+    /**
+     * Performs code generation for several targets, for example, a client and a server, in one pass.
+     * Every definition is parsed once, and it's normalized and flattened once for all targets with
+     * the same normalizer rules and inline schema options. Each target then processes models and
+     * operations and renders its templates from its own copy of the prepared definition, because
+     * generation modifies it.
+     *
+     * @param entryPoints configured code generators
+     * @since 6.14.0
+     */
+    public static void generateAll(List<MicronautCodeGeneratorEntryPoint> entryPoints) {
+        var parsed = new HashMap<URI, OpenAPI>();
+        var prepared = new IdentityHashMap<OpenAPI, Map<List<Object>, byte[]>>();
+        for (var entryPoint : entryPoints) {
+            var source = entryPoint.openAPI != null
+                ? entryPoint.openAPI
+                : parsed.computeIfAbsent(entryPoint.definitionFile, k -> entryPoint.readOpenAPI());
+            entryPoint.configureCodegen();
+            if (source == null) {
+                // let the generator report the invalid definition
+                entryPoint.generate(null, false);
+                continue;
+            }
+            var codegen = entryPoint.codeGenerator;
+            boolean micronautCodegen = codegen instanceof AbstractMicronautJavaCodegen<?> || codegen instanceof AbstractMicronautKotlinCodegen<?>;
+            List<Object> preparedKey = List.of(
+                new HashMap<>(codegen.openapiNormalizer()),
+                new HashMap<>(codegen.inlineSchemaNameMapping()),
+                new HashMap<>(codegen.inlineSchemaOption()),
+                codegen.getUseInlineModelResolver(),
+                micronautCodegen
+            );
+            var preparedOpenAPI = prepared.computeIfAbsent(source, k -> new HashMap<>())
+                .computeIfAbsent(preparedKey, k -> {
+                    var openAPI = OpenApiParseCache.deserialize(OpenApiParseCache.serialize(source));
+                    DefaultGenerator.prepareOpenAPI(codegen, openAPI);
+                    if (codegen instanceof AbstractMicronautJavaCodegen<?> javaCodegen) {
+                        javaCodegen.flattenOpenApi(openAPI);
+                    } else if (codegen instanceof AbstractMicronautKotlinCodegen<?> kotlinCodegen) {
+                        kotlinCodegen.flattenOpenApi(openAPI);
+                    }
+                    return OpenApiParseCache.serialize(openAPI);
+                });
+            entryPoint.generate(OpenApiParseCache.deserialize(preparedOpenAPI), true);
+        }
+    }
 
-        // Configure codegen
+    private OpenAPI readOpenAPI() {
+        if (openAPI != null) {
+            return openAPI;
+        } else if (parseCache != null) {
+            return parseCache.parse(definitionFile);
+        }
+        return OpenApiParseCache.parseDefinition(definitionFile);
+    }
+
+    private void configureCodegen() {
         withPath(outputDirectory, codeGenerator::setOutputDir);
 
         // Disable timestamps are it makes builds non preproducible
@@ -101,6 +170,16 @@ public final class MicronautCodeGeneratorEntryPoint {
         }
 
         configureOptions();
+    }
+
+    private void generate(OpenAPI openAPI, boolean prepared) {
+        if (prepared) {
+            if (codeGenerator instanceof AbstractMicronautJavaCodegen<?> javaCodegen) {
+                javaCodegen.setOpenApiFlattened(true);
+            } else if (codeGenerator instanceof AbstractMicronautKotlinCodegen<?> kotlinCodegen) {
+                kotlinCodegen.setOpenApiFlattened(true);
+            }
+        }
 
         // Create input
         var input = new ClientOptInput();
@@ -109,6 +188,9 @@ public final class MicronautCodeGeneratorEntryPoint {
 
         // Generate
         var generator = new DefaultGenerator();
+        generator.setParallelism(parallelism);
+        generator.setSkipUnchangedFiles(skipUnchangedFiles);
+        generator.setOpenAPIPrepared(prepared);
         for (OutputKind outputKind : OutputKind.values()) {
             generator.setGeneratorPropertyDefault(outputKind.generatorProperty, "false");
         }
@@ -334,6 +416,8 @@ public final class MicronautCodeGeneratorEntryPoint {
             javaServerCodegen.setLombok(javaServerOptions.lombok());
             javaServerCodegen.setPlural(javaServerOptions.plural());
             javaServerCodegen.setFluxForArrays(javaServerOptions.fluxForArrays());
+            javaServerCodegen.setJsonStreaming(javaServerOptions.jsonStreaming());
+            javaServerCodegen.setExecuteOn(javaServerOptions.executeOn());
             javaServerCodegen.setGeneratedAnnotation(javaServerOptions.generatedAnnotation());
         }
     }
@@ -357,6 +441,7 @@ public final class MicronautCodeGeneratorEntryPoint {
             javaClientCodegen.setConfigureAuthorization(javaClientOptions.useAuth());
             javaClientCodegen.setPlural(javaClientOptions.plural());
             javaClientCodegen.setFluxForArrays(javaClientOptions.fluxForArrays());
+            javaClientCodegen.setJsonStreaming(javaClientOptions.jsonStreaming());
             javaClientCodegen.setLombok(javaClientOptions.lombok());
         }
     }
@@ -374,6 +459,8 @@ public final class MicronautCodeGeneratorEntryPoint {
             kotlinServerCodegen.setUseAuth(kotlinServerOptions.useAuth());
             kotlinServerCodegen.setPlural(kotlinServerOptions.plural());
             kotlinServerCodegen.setFluxForArrays(kotlinServerOptions.fluxForArrays());
+            kotlinServerCodegen.setJsonStreaming(kotlinServerOptions.jsonStreaming());
+            kotlinServerCodegen.setExecuteOn(kotlinServerOptions.executeOn());
         }
     }
 
@@ -396,6 +483,7 @@ public final class MicronautCodeGeneratorEntryPoint {
             kotlinClientCodegen.setConfigureAuthorization(kotlinClientOptions.useAuth());
             kotlinClientCodegen.setPlural(kotlinClientOptions.plural());
             kotlinClientCodegen.setFluxForArrays(kotlinClientOptions.fluxForArrays());
+            kotlinClientCodegen.setJsonStreaming(kotlinClientOptions.jsonStreaming());
             kotlinClientCodegen.setKsp(kotlinClientOptions.ksp());
         }
     }
@@ -450,12 +538,16 @@ public final class MicronautCodeGeneratorEntryPoint {
         private Options options;
         private DefaultCodegen codeGenerator;
         private URI definitionFile;
+        private OpenAPI openAPI;
+        private OpenApiParseCache parseCache;
         private File outputDirectory;
         private final EnumSet<OutputKind> outputs = EnumSet.noneOf(OutputKind.class);
         private JavaMicronautServerCodegen.ServerOptions javaServerOptions;
         private JavaMicronautClientCodegen.ClientOptions javaClientOptions;
         private KotlinMicronautServerCodegen.ServerOptions kotlinServerOptions;
         private KotlinMicronautClientCodegen.ClientOptions kotlinClientOptions;
+        private int parallelism = 1;
+        private boolean skipUnchangedFiles;
 
         @Override
         public <B extends GeneratorOptionsBuilder, G extends MicronautCodeGenerator<B>> MicronautCodeGeneratorBuilder forCodeGenerator(G generator, Consumer<? super B> configuration) {
@@ -507,6 +599,18 @@ public final class MicronautCodeGeneratorEntryPoint {
             return this;
         }
 
+        @Override
+        public MicronautCodeGeneratorBuilder withOpenAPI(OpenAPI openAPI) {
+            this.openAPI = openAPI;
+            return this;
+        }
+
+        @Override
+        public MicronautCodeGeneratorBuilder withParseCache(OpenApiParseCache parseCache) {
+            this.parseCache = parseCache;
+            return this;
+        }
+
         @Override
         public MicronautCodeGeneratorBuilder withOutputDirectory(File outputDirectory) {
             this.outputDirectory = outputDirectory;
@@ -527,8 +631,22 @@ public final class MicronautCodeGeneratorEntryPoint {
             return this;
         }
 
+        @Override
+        public MicronautCodeGeneratorBuilder withParallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        @Override
+        public MicronautCodeGeneratorBuilder withSkipUnchangedFiles(boolean skipUnchangedFiles) {
+            this.skipUnchangedFiles = skipUnchangedFiles;
+            return this;
+        }
+
         private void validate() {
-            Objects.requireNonNull(definitionFile, "OpenAPI definition file must not be null");
+            if (definitionFile == null && openAPI == null) {
+                throw new NullPointerException("OpenAPI definition file must not be null");
+            }
             Objects.requireNonNull(codeGenerator, "You must select either server or client generation");
             for (OutputKind output : outputs) {
                 output.validationAction.accept(this);
@@ -539,6 +657,8 @@ public final class MicronautCodeGeneratorEntryPoint {
         public MicronautCodeGeneratorEntryPoint build() {
             validate();
             return new MicronautCodeGeneratorEntryPoint(definitionFile,
+                openAPI,
+                parseCache,
                 outputDirectory,
                 codeGenerator,
                 outputs,
@@ -546,7 +666,9 @@ public final class MicronautCodeGeneratorEntryPoint {
                 javaServerOptions,
                 javaClientOptions,
                 kotlinServerOptions,
-                kotlinClientOptions
+                kotlinClientOptions,
+                parallelism,
+                skipUnchangedFiles
             );
         }
 
@@ -36,15 +36,16 @@ import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
@@ -59,6 +60,11 @@ public final class MicronautInlineModelResolver {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MicronautInlineModelResolver.class);
 
+    private static final String PATH_ITEMS_REF = "#/components/pathItems/";
+    private static final String RESPONSES_REF = "#/components/responses/";
+    private static final String REQUEST_BODIES_REF = "#/components/requestBodies/";
+    private static final String PARAMETERS_REF = "#/components/parameters/";
+
     // structure mapper sorts properties alphabetically on write to ensure models are
     // serialized consistently for lookup of existing models
     private static final ObjectMapper STRUCTURE_MAPPER;
@@ -72,6 +78,7 @@ public final class MicronautInlineModelResolver {
 
     private OpenAPI openAPI;
     private Map<String, Schema> addedModels = new HashMap<>();
+    // SHA-256 hashes of the structure of the generated inline models
     private Map<String, String> generatedSignature = new HashMap<>();
     private Map<String, String> inlineSchemaNameMapping = new HashMap<>();
     private Map<String, String> inlineSchemaOptions = new HashMap<>();
@@ -83,6 +90,12 @@ public final class MicronautInlineModelResolver {
     // a set to keep track of names generated for inline schemas
     private Set<String> uniqueNames = new HashSet<>();
 
+    // component objects by their $ref, resolved once before paths are flattened
+    private Map<String, PathItem> pathItemsByRef = Collections.emptyMap();
+    private Map<String, ApiResponse> responsesByRef = Collections.emptyMap();
+    private Map<String, RequestBody> requestBodiesByRef = Collections.emptyMap();
+    private Map<String, Parameter> parametersByRef = Collections.emptyMap();
+
     public MicronautInlineModelResolver(OpenAPI openAPI) {
         this.openAPI = openAPI;
         this.inlineSchemaOptions.put("ARRAY_ITEM_SUFFIX", "_inner");
@@ -135,21 +148,25 @@ public final class MicronautInlineModelResolver {
         if (paths == null) {
             return;
         }
+        indexComponents();
 
         for (Map.Entry<String, PathItem> pathsEntry : paths.entrySet()) {
             PathItem path = pathsEntry.getValue();
-            if (path.get$ref() != null && path.get$ref().startsWith("#/components/pathItems/")) {
-                path = openAPI.getComponents().getPathItems().get(path.get$ref().substring("#/components/pathItems/".length()));
+            if (path.get$ref() != null && path.get$ref().startsWith(PATH_ITEMS_REF)) {
+                path = pathItemsByRef.get(path.get$ref());
+                if (path == null) {
+                    continue;
+                }
             }
-            var operationsMap = new LinkedHashMap<>(path.readOperationsMap());
+            // readOperationsMap() returns a new map, so callback operations can be added to it
+            Map<PathItem.HttpMethod, Operation> operationsMap = path.readOperationsMap();
 
             // use path name (e.g. /foo/bar) and HTTP verb to come up with a name
             // in case operationId is not defined later in other methods
             String pathname = pathsEntry.getKey();
 
             // Include callback operation as well
-            for (Map.Entry<PathItem.HttpMethod, Operation> operationEntry : new LinkedHashMap<>(path.readOperationsMap()).entrySet()) {
-                Operation operation = operationEntry.getValue();
+            for (Operation operation : path.readOperations()) {
                 Map<String, Callback> callbacks = operation.getCallbacks();
                 if (callbacks != null) {
                     for (Map.Entry<String, Callback> callbackEntry : callbacks.entrySet()) {
@@ -173,6 +190,30 @@ public final class MicronautInlineModelResolver {
         }
     }
 
+    /**
+     * Resolve component path items, responses, request bodies and parameters by their $ref once,
+     * so they are not looked up by the name, sliced from the $ref, for every operation.
+     */
+    private void indexComponents() {
+        Components components = openAPI.getComponents();
+        if (components == null) {
+            return;
+        }
+        pathItemsByRef = indexByRef(PATH_ITEMS_REF, components.getPathItems());
+        responsesByRef = indexByRef(RESPONSES_REF, components.getResponses());
+        requestBodiesByRef = indexByRef(REQUEST_BODIES_REF, components.getRequestBodies());
+        parametersByRef = indexByRef(PARAMETERS_REF, components.getParameters());
+    }
+
+    private static <T> Map<String, T> indexByRef(String refPrefix, Map<String, T> components) {
+        if (components == null || components.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        var index = new HashMap<String, T>(components.size() * 2);
+        components.forEach((name, component) -> index.put(refPrefix + name, component));
+        return index;
+    }
+
     private void flattenResponses(String modelName, Operation operation) {
         ApiResponses responses = operation.getResponses();
         if (responses == null) {
@@ -183,8 +224,11 @@ public final class MicronautInlineModelResolver {
             String key = responsesEntry.getKey();
             ApiResponse response = responsesEntry.getValue();
 
-            if (response.get$ref() != null && response.get$ref().startsWith("#/components/responses/")) {
-                response = openAPI.getComponents().getResponses().get(response.get$ref().substring("#/components/responses/".length()));
+            if (response.get$ref() != null && response.get$ref().startsWith(RESPONSES_REF)) {
+                response = responsesByRef.get(response.get$ref());
+                if (response == null) {
+                    continue;
+                }
             }
 
             flattenContent(response.getContent(),
@@ -200,8 +244,8 @@ public final class MicronautInlineModelResolver {
 
         // unalias $ref
         if (requestBody.get$ref() != null) {
-            String ref = ModelUtils.getSimpleRef(requestBody.get$ref());
-            requestBody = openAPI.getComponents().getRequestBodies().get(ref);
+            String ref = requestBody.get$ref();
+            requestBody = requestBodiesByRef.get(ref.startsWith(REQUEST_BODIES_REF) ? ref : REQUEST_BODIES_REF + ModelUtils.getSimpleRef(ref));
 
             if (requestBody == null) {
                 return;
@@ -261,9 +305,10 @@ public final class MicronautInlineModelResolver {
                 continue;
             }
 
-            if (parameter.get$ref() != null && parameter.get$ref().startsWith("#/components/parameters/")) {
-                if (openAPI.getComponents().getParameters() != null) {
-                    parameter = openAPI.getComponents().getParameters().get(parameter.get$ref().substring("#/components/parameters/".length()));
+            if (parameter.get$ref() != null && parameter.get$ref().startsWith(PARAMETERS_REF)) {
+                var referencedParameter = parametersByRef.get(parameter.get$ref());
+                if (referencedParameter != null) {
+                    parameter = referencedParameter;
                 }
             }
             parameterSchema = parameter.getSchema();
@@ -312,9 +357,9 @@ public final class MicronautInlineModelResolver {
             }
 
             Schema parameterSchema = null;
-            if (parameter.get$ref() != null && parameter.get$ref().startsWith("#/components/parameters/")) {
-                if (openAPI.getComponents().getParameters() != null) {
-                    var param = openAPI.getComponents().getParameters().get(parameter.get$ref().substring("#/components/parameters/".length()));
+            if (parameter.get$ref() != null && parameter.get$ref().startsWith(PARAMETERS_REF)) {
+                var param = parametersByRef.get(parameter.get$ref());
+                if (param != null) {
                     parameterSchema = param.getSchema();
                 }
             } else {
@@ -588,7 +633,8 @@ public final class MicronautInlineModelResolver {
      * @return {@link Schema} $ref schema to new or existing schema
      */
     private Schema makeSchemaInComponents(String name, Schema schema) {
-        String existing = matchGenerated(schema);
+        String signature = structureSignature(schema);
+        String existing = matchGenerated(signature);
         Schema refSchema;
         if (existing != null) {
             refSchema = new Schema().$ref(existing);
@@ -596,7 +642,7 @@ public final class MicronautInlineModelResolver {
             if (resolveInlineEnums && schema.getEnum() != null && !schema.getEnum().isEmpty()) {
                 LOGGER.warn("Model {} promoted to its own schema due to resolveInlineEnums=true", name);
             }
-            name = addSchemas(name, schema);
+            name = addSchemas(name, schema, signature);
             refSchema = new Schema().$ref(name);
         }
         copyVendorExtensions(schema, refSchema);
@@ -620,20 +666,35 @@ public final class MicronautInlineModelResolver {
         }
     }
 
-    private String matchGenerated(Schema model) {
-        if (skipSchemaReuse) { // skip reusing schema
+    /**
+     * Return the name of the generated inline model with the same structure.
+     *
+     * @param signature structure signature of the model
+     *
+     * @return name of the generated model or null
+     */
+    private String matchGenerated(String signature) {
+        if (skipSchemaReuse || signature == null) { // skip reusing schema
             return null;
         }
+        return generatedSignature.get(signature);
+    }
+
+    /**
+     * Return the structure signature of the model: the SHA-256 hash of its JSON with sorted properties.
+     * Models are looked up by the hash, so the JSON of all generated models is not kept in memory.
+     *
+     * @param model model
+     *
+     * @return structure signature or null if the model can't be serialized
+     */
+    private String structureSignature(Schema model) {
         try {
-            String json = STRUCTURE_MAPPER.writeValueAsString(model);
-            if (generatedSignature.containsKey(json)) {
-                return generatedSignature.get(json);
-            }
+            return DigestUtils.sha256Hex(STRUCTURE_MAPPER.writeValueAsBytes(model));
         } catch (JsonProcessingException e) {
             LOGGER.warn("Error: {}", e.getMessage());
+            return null;
         }
-
-        return null;
     }
 
     /**
@@ -724,12 +785,27 @@ public final class MicronautInlineModelResolver {
      * @return the actual model name (based on inlineSchemaNameMapping if provided)
      */
     private String addSchemas(String name, Schema schema) {
+        return addSchemas(name, schema, structureSignature(schema));
+    }
+
+    /**
+     * Add the schemas to the components.
+     *
+     * @param name name of the inline schema
+     * @param schema inline schema
+     * @param signature structure signature of the inline schema
+     *
+     * @return the actual model name (based on inlineSchemaNameMapping if provided)
+     */
+    private String addSchemas(String name, Schema schema, String signature) {
         //check inlineSchemaNameMapping
         if (inlineSchemaNameMapping.containsKey(name)) {
             name = inlineSchemaNameMapping.get(name);
         }
 
-        addGenerated(name, schema);
+        if (signature != null) {
+            generatedSignature.put(signature, name);
+        }
         openAPI.getComponents().addSchemas(name, schema);
         if (!name.equals(schema.getTitle()) && !inlineSchemaNameMappingValues.contains(name)) {
             LOGGER.info("Inline schema created as {}. To have complete control of the model name, set the `title` field or use the modelNameMapping option (e.g. --model-name-mappings {}=NewModel,ModelA=NewModelA in CLI) or inlineSchemaNameMapping option (--inline-schema-name-mappings {}=NewModel,ModelA=NewModelA in CLI).", name, name, name);
@@ -740,15 +816,6 @@ public final class MicronautInlineModelResolver {
         return name;
     }
 
-    private void addGenerated(String name, Schema model) {
-        try {
-            String json = STRUCTURE_MAPPER.writeValueAsString(model);
-            generatedSignature.put(json, name);
-        } catch (JsonProcessingException e) {
-            LOGGER.error("Error: {}", e.getMessage());
-        }
-    }
-
     /**
      * Generate a unique name for the input.
      *
@@ -826,9 +893,10 @@ public final class MicronautInlineModelResolver {
                 // Recurse to create $refs for inner models
                 gatherInlineModels(innerModel, innerModelName);
                 if (!skipAllOfInlineSchemas) {
-                    String existing = matchGenerated(innerModel);
+                    String signature = structureSignature(innerModel);
+                    String existing = matchGenerated(signature);
                     if (existing == null) {
-                        innerModelName = addSchemas(innerModelName, innerModel);
+                        innerModelName = addSchemas(innerModelName, innerModel, signature);
                         Schema schema = new Schema().$ref(innerModelName);
                         schema.setRequired(component.getRequired());
                         listIterator.set(schema);
@@ -916,13 +984,14 @@ public final class MicronautInlineModelResolver {
                 Schema op = property;
                 String modelName = resolveModelName(op.getTitle(), path + "_" + key);
                 Schema model = modelFromProperty(openAPI, op, modelName);
-                String existing = matchGenerated(model);
+                String signature = structureSignature(model);
+                String existing = matchGenerated(signature);
                 if (existing != null) {
                     Schema schema = new Schema().$ref(existing);
                     schema.setRequired(op.getRequired());
                     propsToUpdate.put(key, schema);
                 } else {
-                    modelName = addSchemas(modelName, model);
+                    modelName = addSchemas(modelName, model, signature);
                     Schema schema = new Schema().$ref(modelName);
                     schema.setRequired(op.getRequired());
                     propsToUpdate.put(key, schema);
@@ -936,13 +1005,14 @@ public final class MicronautInlineModelResolver {
                         flattenProperties(openAPI, op.getProperties(), path);
                         String modelName = resolveModelName(op.getTitle(), path + "_" + key);
                         Schema innerModel = modelFromProperty(openAPI, op, modelName);
-                        String existing = matchGenerated(innerModel);
+                        String signature = structureSignature(innerModel);
+                        String existing = matchGenerated(signature);
                         if (existing != null) {
                             Schema schema = new Schema().$ref(existing);
                             schema.setRequired(op.getRequired());
                             property.setItems(schema);
                         } else {
-                            modelName = addSchemas(modelName, innerModel);
+                            modelName = addSchemas(modelName, innerModel, signature);
                             Schema schema = new Schema().$ref(modelName);
                             schema.setRequired(op.getRequired());
                             property.setItems(schema);
@@ -966,13 +1036,14 @@ public final class MicronautInlineModelResolver {
                         flattenProperties(openAPI, op.getProperties(), path);
                         String modelName = resolveModelName(op.getTitle(), path + "_" + key);
                         Schema innerModel = modelFromProperty(openAPI, op, modelName);
-                        String existing = matchGenerated(innerModel);
+                        String signature = structureSignature(innerModel);
+                        String existing = matchGenerated(signature);
                         if (existing != null) {
                             Schema schema = new Schema().$ref(existing);
                             schema.setRequired(op.getRequired());
                             property.setAdditionalProperties(schema);
                         } else {
-                            modelName = addSchemas(modelName, innerModel);
+                            modelName = addSchemas(modelName, innerModel, signature);
                             Schema schema = new Schema().$ref(modelName);
                             schema.setRequired(op.getRequired());
                             property.setAdditionalProperties(schema);
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.generator;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe memo of generated names (model, variable, parameter and api names), which records hit statistics.
+ * <p>
+ * Names depend only on the name and the generator options, so the cache is not bounded: it holds one entry
+ * for every distinct name of the definition. The value is computed outside the cache, so the naming function
+ * may use the same cache recursively.
+ *
+ * @since 6.14.0
+ */
+public final class NameCache {
+
+    private final Cache<String, String> cache = Caffeine.newBuilder()
+        .recordStats()
+        .build();
+
+    /**
+     * Returns cached name or computes it and stores in the cache. Null names and results are not cached.
+     *
+     * @param name source name
+     * @param toName naming function
+     *
+     * @return generated name
+     */
+    public String get(String name, UnaryOperator<String> toName) {
+        if (name == null) {
+            return toName.apply(null);
+        }
+        var result = cache.getIfPresent(name);
+        if (result == null) {
+            result = toName.apply(name);
+            if (result != null) {
+                cache.put(name, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes all names, for example, when the generator options are changed.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns the number of cached names.
+     *
+     * @return the number of cached names
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Returns hit and miss statistics of the cache.
+     *
+     * @return cache statistics
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
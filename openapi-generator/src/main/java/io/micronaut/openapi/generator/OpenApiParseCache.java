@@ -0,0 +1,215 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.generator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of parsed and resolved OpenAPI definitions.
+ * <p>
+ * The same cache can be passed to several generator builders (for example, a client and a server generated
+ * from the same definition), so the definition is parsed only once. Entries are keyed by the definition URI
+ * and the SHA-256 hash of its content, and are kept as gzip-compressed JSON in memory and, if a directory is set,
+ * on disk, so the cache is shared between builds too.
+ * <p>
+ * Generation modifies the OpenAPI object, so every call returns a new object, read from the cached JSON.
+ * Only local files are cached. Definitions with external references are always parsed, because
+ * the cache key doesn't cover the content of the referenced files.
+ *
+ * @since 6.14.0
+ */
+public final class OpenApiParseCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OpenApiParseCache.class);
+
+    private static final String FILE_EXTENSION = ".json.gz";
+    private static final String OPENAPI_31_VERSION_PREFIX = "3.1";
+    private static final Pattern EXTERNAL_REF = Pattern.compile("[\"']?\\$ref[\"']?\\s*:\\s*[\"']?[^\\s\"'#]");
+
+    private final Path directory;
+    private final Map<String, byte[]> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    /**
+     * Creates in-memory cache.
+     */
+    public OpenApiParseCache() {
+        this(null);
+    }
+
+    /**
+     * Creates cache, which stores entries in the directory.
+     *
+     * @param directory cache directory, null for in-memory cache
+     */
+    public OpenApiParseCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Parses the definition file with resolving of external references, like the generator does it.
+     *
+     * @param definitionFile definition file
+     *
+     * @return parsed definition
+     */
+    public static OpenAPI parseDefinition(URI definitionFile) {
+        var opts = new ParseOptions();
+        opts.setResolve(true);
+        return new OpenAPIParser()
+            .readLocation(definitionFile.toString(), null, opts).getOpenAPI();
+    }
+
+    /**
+     * Returns parsed definition from the cache or parses it, if it's not cached yet.
+     *
+     * @param definitionFile definition file
+     *
+     * @return new OpenAPI object
+     */
+    public OpenAPI parse(URI definitionFile) {
+        byte[] content = readContent(definitionFile);
+        if (content == null || EXTERNAL_REF.matcher(new String(content, StandardCharsets.UTF_8)).find()) {
+            misses.incrementAndGet();
+            return parseDefinition(definitionFile);
+        }
+        var key = DigestUtils.sha256Hex(definitionFile + "\n" + DigestUtils.sha256Hex(content));
+        var entry = entries.computeIfAbsent(key, this::readEntry);
+        if (entry != null) {
+            hits.incrementAndGet();
+            return deserialize(entry);
+        }
+        misses.incrementAndGet();
+        var openAPI = parseDefinition(definitionFile);
+        if (openAPI == null) {
+            return null;
+        }
+        entry = serialize(openAPI);
+        entries.put(key, entry);
+        writeEntry(key, entry);
+        // return the deserialized copy, so the result doesn't depend on whether the definition was cached
+        return deserialize(entry);
+    }
+
+    /**
+     * Returns the number of calls, which returned cached definition.
+     *
+     * @return number of cache hits
+     */
+    public int getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of calls, which parsed the definition.
+     *
+     * @return number of cache misses
+     */
+    public int getMisses() {
+        return misses.get();
+    }
+
+    private static byte[] readContent(URI definitionFile) {
+        if (!"file".equals(definitionFile.getScheme())) {
+            return null;
+        }
+        try {
+            return Files.readAllBytes(Path.of(definitionFile));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private byte[] readEntry(String key) {
+        if (directory == null) {
+            return null;
+        }
+        var file = directory.resolve(key + FILE_EXTENSION);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return Files.readAllBytes(file);
+        } catch (IOException e) {
+            LOG.warn("Unable to read OpenAPI parse cache entry {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeEntry(String key, byte[] entry) {
+        if (directory == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            var tmpFile = Files.createTempFile(directory, key, ".tmp");
+            Files.write(tmpFile, entry);
+            Files.move(tmpFile, directory.resolve(key + FILE_EXTENSION), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.warn("Unable to write OpenAPI parse cache entry to {}: {}", directory, e.getMessage());
+        }
+    }
+
+    static byte[] serialize(OpenAPI openAPI) {
+        var mapper = isOpenApi31(openAPI.getOpenapi()) ? Json31.mapper() : Json.mapper();
+        var out = new ByteArrayOutputStream();
+        try (var gzipOut = new GZIPOutputStream(out)) {
+            mapper.writeValue(gzipOut, openAPI);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    static OpenAPI deserialize(byte[] entry) {
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(entry))) {
+            JsonNode tree = Json.mapper().readTree(in);
+            var mapper = isOpenApi31(tree.path("openapi").asText()) ? Json31.mapper() : Json.mapper();
+            return mapper.treeToValue(tree, OpenAPI.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isOpenApi31(String version) {
+        return version != null && version.startsWith(OPENAPI_31_VERSION_PREFIX);
+    }
+}
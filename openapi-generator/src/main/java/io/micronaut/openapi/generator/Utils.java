@@ -56,6 +56,14 @@ public final class Utils {
     public static final String EXT_ANNOTATIONS_CLASS = "x-class-extra-annotation";
     public static final String EXT_ANNOTATIONS_FIELD = "x-field-extra-annotation";
     public static final String EXT_ANNOTATIONS_SETTER = "x-setter-extra-annotation";
+    public static final String EXT_EXECUTE_ON = "x-execute-on";
+
+    private static final Map<String, String> TASK_EXECUTORS = Map.of(
+        "io", "TaskExecutors.IO",
+        "blocking", "TaskExecutors.BLOCKING",
+        "virtual", "TaskExecutors.VIRTUAL",
+        "scheduled", "TaskExecutors.SCHEDULED"
+    );
 
     private Utils() {
     }
@@ -441,6 +449,40 @@ public final class Utils {
         return prefix + (annotationStr.startsWith("@") ? annotationStr.substring(1) : annotationStr);
     }
 
+    /**
+     * Set vendor extension "executeOn" with value of {@literal @}ExecuteOn annotation for the operation.
+     * Executor name is taken from the {@value #EXT_EXECUTE_ON} extension of the operation, then from the extension
+     * of the operation tags, then from the generator option. Empty name or {@code false} disables the annotation,
+     * {@code true} means virtual threads.
+     *
+     * @param op operation
+     * @param defaultExecutor executor name from the generator options
+     *
+     * @return true if the operation is annotated
+     */
+    public static boolean processExecuteOn(CodegenOperation op, String defaultExecutor) {
+        Object executor = defaultExecutor;
+        if (op.vendorExtensions.containsKey(EXT_EXECUTE_ON)) {
+            executor = op.vendorExtensions.get(EXT_EXECUTE_ON);
+        } else if (op.tags != null) {
+            for (var tag : op.tags) {
+                if (tag.getExtensions() != null && tag.getExtensions().containsKey(EXT_EXECUTE_ON)) {
+                    executor = tag.getExtensions().get(EXT_EXECUTE_ON);
+                    break;
+                }
+            }
+        }
+        if (executor instanceof Boolean enabled) {
+            executor = enabled ? "virtual" : null;
+        }
+        if (executor == null || StringUtils.isBlank(executor.toString())) {
+            return false;
+        }
+        var executorName = executor.toString().strip();
+        op.vendorExtensions.put("executeOn", TASK_EXECUTORS.getOrDefault(executorName, '"' + executorName + '"'));
+        return true;
+    }
+
     public static boolean isDateType(String type) {
         return DATE_TIME_TYPES.contains(type);
     }
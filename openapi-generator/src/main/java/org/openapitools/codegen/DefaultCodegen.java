@@ -18,10 +18,12 @@ package org.openapitools.codegen;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.base.CaseFormat;
 import com.google.common.collect.ImmutableMap;
 import com.samskivert.mustache.Mustache.Compiler;
 import com.samskivert.mustache.Mustache.Lambda;
+import io.micronaut.openapi.generator.SchemaIndex;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -115,6 +117,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -142,6 +145,8 @@ public class DefaultCodegen implements CodegenConfig {
     // A cache of sanitized words. The sanitizeName() method is invoked many times with the same
     // arguments, this cache is used to optimized performance.
     private static final Cache<SanitizeNameOptions, String> sanitizedNameCache;
+    // sanitizeName() is called with several regexes for every name, so the cache holds a few entries per name
+    private static final int SANITIZED_NAMES_PER_NAME = 4;
     private static final String xSchemaTestExamplesKey = "x-schema-test-examples";
     private static final String xSchemaTestExamplesRefPrefix = "#/components/x-schema-test-examples/";
     protected static Schema falseSchema;
@@ -192,11 +197,13 @@ public class DefaultCodegen implements CodegenConfig {
             .build();
 
         int cacheSize = Integer.parseInt(GlobalSettings.getProperty(NAME_CACHE_SIZE_PROPERTY, "500"));
-        int cacheExpiry = Integer.parseInt(GlobalSettings.getProperty(NAME_CACHE_EXPIRY_PROPERTY, "10"));
+        // names are reused during the whole generation, which takes minutes for large definitions
+        int cacheExpiry = Integer.parseInt(GlobalSettings.getProperty(NAME_CACHE_EXPIRY_PROPERTY, "300"));
         sanitizedNameCache = Caffeine.newBuilder()
             .maximumSize(cacheSize)
             .expireAfterAccess(cacheExpiry, TimeUnit.SECONDS)
             .ticker(Ticker.systemTicker())
+            .recordStats()
             .build();
         falseSchema = new Schema();
         falseSchema.setNot(new Schema());
@@ -353,10 +360,16 @@ public class DefaultCodegen implements CodegenConfig {
     protected OpenAPI openAPI;
 
     // A cache to efficiently look up a Schema instance based on the return value of `toModelName()`.
-    private Map<String, Schema> modelNameToSchemaCache;
+    private volatile Map<String, Schema> modelNameToSchemaCache;
 
     // A cache to efficiently lookup schema `toModelName()` based on the schema Key
-    private final Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
+    private final Map<String, String> schemaKeyToModelNameCache = new ConcurrentHashMap<>();
+
+    // index of the component schemas, built before models are processed
+    private volatile SchemaIndex schemaIndex;
+
+    // models are processed by several threads, so cached properties must not be shared
+    private volatile boolean parallelModelProcessing;
 
     protected boolean loadDeepObjectIntoItems = true;
 
@@ -595,6 +608,74 @@ public class DefaultCodegen implements CodegenConfig {
                 (p.dataType.equals(property.dataType) == false || p.datatypeWithEnum.equals(property.datatypeWithEnum) == false || p.isDiscriminator));
     }
 
+    /**
+     * Set the index of the component schemas. The index is reset, when the OpenAPI is changed.
+     *
+     * @param schemaIndex index of the component schemas
+     */
+    public void setSchemaIndex(SchemaIndex schemaIndex) {
+        this.schemaIndex = schemaIndex;
+    }
+
+    /**
+     * Return the index of the component schemas. The index is built on the first call, if it's not set.
+     *
+     * @return index of the component schemas
+     */
+    public SchemaIndex getSchemaIndex() {
+        var index = schemaIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = schemaIndex;
+                if (index == null) {
+                    index = new SchemaIndex(openAPI);
+                    schemaIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Return hit and miss statistics of the sanitizeName cache, which is shared by all generators.
+     *
+     * @return sanitizeName cache statistics
+     */
+    public static CacheStats getSanitizedNameCacheStats() {
+        return sanitizedNameCache.stats();
+    }
+
+    /**
+     * Return statistics of the name caches, used by the generator, by cache name.
+     *
+     * @return name cache statistics
+     */
+    public Map<String, CacheStats> getCacheStatistics() {
+        var stats = new LinkedHashMap<String, CacheStats>();
+        stats.put("sanitizeName", getSanitizedNameCacheStats());
+        return stats;
+    }
+
+    /**
+     * Whether {@link #fromModel(String, Schema)} and {@link #postProcessModels(ModelsMap)} can be called
+     * for different schemas from several threads at the same time.
+     *
+     * @return true if models can be processed in parallel
+     */
+    public boolean isParallelModelProcessingSupported() {
+        return false;
+    }
+
+    /**
+     * Set while models are processed by several threads. Cached properties are copied then,
+     * because models modify their properties.
+     *
+     * @param parallelModelProcessing true if models are processed in parallel
+     */
+    public void setParallelModelProcessing(boolean parallelModelProcessing) {
+        this.parallelModelProcessing = parallelModelProcessing;
+    }
+
     /**
      * Return a map from model name to Schema for efficient lookup.
      *
@@ -974,6 +1055,8 @@ public class DefaultCodegen implements CodegenConfig {
             LOGGER.warn(UNSUPPORTED_V310_SPEC_MSG);
         }
         this.openAPI = openAPI;
+        this.schemaIndex = null;
+        growSanitizedNameCache(openAPI);
         // Set global settings such that helper functions in ModelUtils can lookup the value
         // of the CLI option.
         ModelUtils.setDisallowAdditionalPropertiesIfNotPresent(getDisallowAdditionalPropertiesIfNotPresent());
@@ -2763,7 +2846,7 @@ public class DefaultCodegen implements CodegenConfig {
         }
     }
 
-    Map<NamedSchema, CodegenProperty> schemaCodegenPropertyCache = new HashMap<>();
+    Map<NamedSchema, CodegenProperty> schemaCodegenPropertyCache = new ConcurrentHashMap<>();
 
     protected void updateModelForComposedSchema(CodegenModel m, Schema schema, Map<String, Schema> allDefinitions) {
         final Schema composed = schema;
@@ -3345,7 +3428,7 @@ public class DefaultCodegen implements CodegenConfig {
             visitedSchemas.add(composedSchemaName);
         }
 
-        Schema refSchema = ModelUtils.getReferencedSchema(openAPI, sc);
+        Schema refSchema = getSchemaIndex().getReferencedSchema(sc);
         if (refSchema.getProperties() != null && refSchema.getProperties().get(discPropName) != null) {
             Schema discSchema = (Schema) refSchema.getProperties().get(discPropName);
             CodegenProperty cp = new CodegenProperty();
@@ -3427,7 +3510,7 @@ public class DefaultCodegen implements CodegenConfig {
      * @param visitedSchemas An array list of visited schemas
      */
     private Discriminator recursiveGetDiscriminator(Schema sc, ArrayList<Schema> visitedSchemas) {
-        Schema refSchema = ModelUtils.getReferencedSchema(openAPI, sc);
+        Schema refSchema = getSchemaIndex().getReferencedSchema(sc);
         Discriminator foundDisc = refSchema.getDiscriminator();
         if (foundDisc != null) {
             return foundDisc;
@@ -3601,39 +3684,21 @@ public class DefaultCodegen implements CodegenConfig {
         ArrayList<String> queue = new ArrayList();
         List<MappedModel> descendentSchemas = new ArrayList();
         Map<String, Schema> schemas = ModelUtils.getSchemas(openAPI);
+        SchemaIndex index = getSchemaIndex();
         String currentSchemaName = thisSchemaName;
-        Set<String> keys = schemas.keySet();
 
         int count = 0;
         // hack: avoid infinite loop on potential self-references in event our checks fail.
         while (100000 > count++) {
-            for (String childName : keys) {
+            // children, which have the current schema in allOf, in the order of the component schemas
+            for (String childName : index.getAllOfChildren(currentSchemaName)) {
                 if (childName.equals(thisSchemaName)) {
                     continue;
                 }
-                Schema child = schemas.get(childName);
-                if (ModelUtils.isComposedSchema(child)) {
-                    List<Schema> parents = child.getAllOf();
-                    if (parents != null) {
-                        for (Schema parent : parents) {
-                            String ref = parent.get$ref();
-                            if (ref == null) {
-                                // for schemas with no ref, it is not possible to build the discriminator map
-                                // because ref is how we get the model name
-                                // we hit this use case when an allOf composed schema contains an inline schema
-                                continue;
-                            }
-                            String parentName = ModelUtils.getSimpleRef(ref);
-                            if (parentName != null && parentName.equals(currentSchemaName)) {
-                                if (queue.contains(childName) || descendentSchemas.stream().anyMatch(i -> childName.equals(i.getMappingName()))) {
-                                    throw new RuntimeException("Stack overflow hit when looking for " + thisSchemaName + " an infinite loop starting and ending at " + childName + " was seen");
-                                }
-                                queue.add(childName);
-                                break;
-                            }
-                        }
-                    }
+                if (queue.contains(childName) || descendentSchemas.stream().anyMatch(i -> childName.equals(i.getMappingName()))) {
+                    throw new RuntimeException("Stack overflow hit when looking for " + thisSchemaName + " an infinite loop starting and ending at " + childName + " was seen");
                 }
+                queue.add(childName);
             }
             if (queue.size() == 0) {
                 break;
@@ -3805,7 +3870,7 @@ public class DefaultCodegen implements CodegenConfig {
         }
 
         if (StringUtils.isNotBlank(schema.get$ref())) {
-            Schema interfaceSchema = ModelUtils.getReferencedSchema(this.openAPI, schema);
+            Schema interfaceSchema = getSchemaIndex().getReferencedSchema(schema);
             addProperties(properties, required, interfaceSchema, visitedSchemas);
             return;
         }
@@ -4001,7 +4066,7 @@ public class DefaultCodegen implements CodegenConfig {
         CodegenProperty cpc = schemaCodegenPropertyCache.get(ns);
         if (cpc != null) {
             LOGGER.debug("Cached fromProperty for {} : {} required={}", name, p.getName(), required);
-            return cpc;
+            return parallelModelProcessing ? cpc.clone() : cpc;
         }
 
         // if it's ref to schema's properties, get the actual schema defined in the properties
@@ -4093,7 +4158,7 @@ public class DefaultCodegen implements CodegenConfig {
         if (p.getExtensions() != null && !p.getExtensions().isEmpty()) {
             property.getVendorExtensions().putAll(p.getExtensions());
         } else if (p.get$ref() != null) {
-            Schema referencedSchema = ModelUtils.getReferencedSchema(this.openAPI, p);
+            Schema referencedSchema = getSchemaIndex().getReferencedSchema(p);
             if (referencedSchema.getExtensions() != null && !referencedSchema.getExtensions().isEmpty()) {
                 property.getVendorExtensions().putAll(referencedSchema.getExtensions());
             }
@@ -4122,7 +4187,7 @@ public class DefaultCodegen implements CodegenConfig {
             }
         }
 
-        Schema referencedSchema = ModelUtils.getReferencedSchema(this.openAPI, p);
+        Schema referencedSchema = getSchemaIndex().getReferencedSchema(p);
 
         //Referenced enum case:
         if (referencedSchema != p && referencedSchema.getEnum() != null && !referencedSchema.getEnum().isEmpty()) {
@@ -4293,7 +4358,7 @@ public class DefaultCodegen implements CodegenConfig {
         property.defaultValueWithParam = toDefaultValueWithParam(name, p);
 
         LOGGER.debug("debugging from property return: {}", property);
-        schemaCodegenPropertyCache.put(ns, property);
+        schemaCodegenPropertyCache.put(ns, parallelModelProcessing ? property.clone() : property);
         return property;
     }
 
@@ -6176,7 +6241,7 @@ public class DefaultCodegen implements CodegenConfig {
             if (isAliasOfSimpleTypes(schema)) {
                 if (schema.getAllOf() != null && schema.getAllOf().size() == 1) { // allOf with a single item
                     Schema unaliasSchema = unaliasSchema(schema);
-                    unaliasSchema = ModelUtils.getReferencedSchema(this.openAPI, unaliasSchema);
+                    unaliasSchema = getSchemaIndex().getReferencedSchema(unaliasSchema);
                     aliases.put(entry.getKey() /* schema name, e.g. Pet */, getPrimitiveType(unaliasSchema));
                 } else {
                     aliases.put(entry.getKey() /* schema name, e.g. Pet */, getPrimitiveType(schema));
@@ -6196,7 +6261,7 @@ public class DefaultCodegen implements CodegenConfig {
         if (schema.getAllOf() != null && schema.getAllOf().size() == 1
             && schema.getAllOf().get(0) instanceof Schema) {
             schema = unaliasSchema((Schema) schema.getAllOf().get(0));
-            schema = ModelUtils.getReferencedSchema(this.openAPI, schema);
+            schema = getSchemaIndex().getReferencedSchema(schema);
         }
 
         return (!ModelUtils.isObjectSchema(schema)
@@ -6563,6 +6628,37 @@ public class DefaultCodegen implements CodegenConfig {
         return new CliOption(CodegenConstants.LIBRARY, sb.toString());
     }
 
+    /**
+     * Grow the sanitizeName cache, so it can hold the names of all schemas, properties and parameters
+     * of the definition. The size is never reduced, and it's not changed, if it's set by the global property.
+     *
+     * @param openAPI OpenAPI document
+     */
+    private static void growSanitizedNameCache(OpenAPI openAPI) {
+        if (openAPI == null || GlobalSettings.getProperty(NAME_CACHE_SIZE_PROPERTY) != null) {
+            return;
+        }
+        long names = 0;
+        for (Schema schema : ModelUtils.getSchemas(openAPI).values()) {
+            names += 1 + (schema.getProperties() != null ? schema.getProperties().size() : 0);
+        }
+        if (openAPI.getPaths() != null) {
+            for (PathItem path : openAPI.getPaths().values()) {
+                for (Operation operation : path.readOperations()) {
+                    names += 1 + (operation.getParameters() != null ? operation.getParameters().size() : 0);
+                }
+            }
+        }
+        long size = names * SANITIZED_NAMES_PER_NAME;
+        sanitizedNameCache.policy().eviction().ifPresent(eviction -> {
+            synchronized (sanitizedNameCache) {
+                if (eviction.getMaximum() < size) {
+                    eviction.setMaximum(size);
+                }
+            }
+        });
+    }
+
     /**
      * Sanitize name (parameter, property, method, etc)
      *
@@ -6796,10 +6892,8 @@ public class DefaultCodegen implements CodegenConfig {
         }
 
         String varDataType = var.mostInnerItems != null ? var.mostInnerItems.dataType : var.dataType;
-        Optional<Schema> referencedSchema = ModelUtils.getSchemas(openAPI).entrySet().stream()
-            .filter(entry -> Objects.equals(varDataType, toModelName(entry.getKey())))
-            .map(Entry::getValue)
-            .findFirst();
+        Optional<Schema> referencedSchema = Optional.ofNullable(varDataType)
+            .map(dataType -> getSchemaIndex().getSchemasByModelName(this::toModelName).get(dataType));
         String dataType = (referencedSchema.isPresent()) ? getTypeDeclaration(referencedSchema.get()) : varDataType;
         List<Map<String, Object>> enumVars = buildEnumVars(values, dataType);
         postProcessEnumVars(enumVars);
@@ -7258,7 +7352,7 @@ public class DefaultCodegen implements CodegenConfig {
         List<CodegenParameter> parameters = new ArrayList<>();
         LOGGER.debug("debugging fromRequestBodyToFormParameters= {}", body);
         Schema schema = ModelUtils.getSchemaFromRequestBody(body);
-        schema = ModelUtils.getReferencedSchema(this.openAPI, schema);
+        schema = getSchemaIndex().getReferencedSchema(schema);
 
         Schema original = null;
         // check if it's allOf (only 1 sub schema) with or without default/nullable/etc set in the top level
@@ -7930,7 +8024,7 @@ public class DefaultCodegen implements CodegenConfig {
         }
 
         Schema unaliasedSchema = unaliasSchema(schema);
-        schema = ModelUtils.getReferencedSchema(this.openAPI, schema);
+        schema = getSchemaIndex().getReferencedSchema(schema);
 
         ModelUtils.syncValidationProperties(unaliasedSchema, codegenParameter);
         codegenParameter.setTypeProperties(unaliasedSchema, openAPI);
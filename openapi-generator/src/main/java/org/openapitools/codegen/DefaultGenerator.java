@@ -15,6 +15,8 @@
  */
 package org.openapitools.codegen;
 
+import io.micronaut.openapi.generator.GeneratedFilesManifest;
+import io.micronaut.openapi.generator.SchemaIndex;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -40,6 +42,7 @@ import org.openapitools.codegen.api.TemplateDefinition;
 import org.openapitools.codegen.api.TemplateFileType;
 import org.openapitools.codegen.api.TemplatePathLocator;
 import org.openapitools.codegen.api.TemplateProcessor;
+import org.openapitools.codegen.api.TemplatingExecutor;
 import org.openapitools.codegen.api.TemplatingEngineAdapter;
 import org.openapitools.codegen.config.GlobalSettings;
 import org.openapitools.codegen.ignore.CodegenIgnoreProcessor;
@@ -88,7 +91,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -116,6 +122,11 @@ public class DefaultGenerator implements Generator {
     private Boolean generateModelTests = null;
     private Boolean generateModelDocumentation = null;
     private Boolean generateMetadata = true;
+    private int parallelism = 1;
+    private boolean skipUnchangedFiles;
+    private boolean openAPIPrepared;
+    private GeneratedFilesManifest manifest;
+    private GeneratedFilesManifest.Changes generatedFilesChanges;
     private String basePath;
     private String basePathWithoutHost;
     private String contextPath;
@@ -200,6 +211,84 @@ public class DefaultGenerator implements Generator {
         this.generateMetadata = generateMetadata;
     }
 
+    /**
+     * Set the number of threads used to render model and api files. When the value is greater than 1,
+     * models and operation groups are rendered on a fork-join pool. Codegen models are built in parallel too,
+     * if the config supports it (see {@link DefaultCodegen#isParallelModelProcessingSupported()}), otherwise
+     * they are processed sequentially. Processed models and generated files are reported in the same order
+     * as in sequential mode. Parallel rendering is not used in dry run mode.
+     *
+     * @param parallelism number of threads
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Enable the content-hash manifest of the generated files. Files, which have the same content
+     * as in the previous generation, are not written, so their timestamps are not changed.
+     * The manifest is stored in the metadata directory of the output folder.
+     *
+     * @param skipUnchangedFiles true: skip writing unchanged files, false: always write files
+     */
+    public void setSkipUnchangedFiles(boolean skipUnchangedFiles) {
+        this.skipUnchangedFiles = skipUnchangedFiles;
+    }
+
+    /**
+     * Mark the OpenAPI input as already prepared by {@link #prepareOpenAPI(CodegenConfig, OpenAPI)},
+     * so normalization and inline model resolution are skipped. Used when several generators share
+     * the same prepared definition.
+     *
+     * @param openAPIPrepared true: the input is already normalized and flattened
+     */
+    public void setOpenAPIPrepared(boolean openAPIPrepared) {
+        this.openAPIPrepared = openAPIPrepared;
+    }
+
+    /**
+     * Normalize the spec and resolve inline models, as it's done before {@link CodegenConfig#preprocessOpenAPI(OpenAPI)}.
+     * The result depends only on the normalizer rules and inline schema options of the config.
+     *
+     * @param config generator config
+     * @param openAPI OpenAPI definition to prepare
+     */
+    public static void prepareOpenAPI(CodegenConfig config, OpenAPI openAPI) {
+        // normalize the spec
+        try {
+            if (config.getUseOpenapiNormalizer()) {
+                SemVer version = new SemVer(openAPI.getOpenapi());
+                if (version.atLeast("3.1.0")) {
+                    config.openapiNormalizer().put("NORMALIZE_31SPEC", "true");
+                }
+                OpenAPINormalizer openapiNormalizer = new OpenAPINormalizer(openAPI, config.openapiNormalizer());
+                openapiNormalizer.normalize();
+            }
+        } catch (Exception e) {
+            LoggerFactory.getLogger(DefaultGenerator.class).error("An exception occurred in OpenAPI Normalizer. Please report the issue via https://github.com/openapitools/openapi-generator/issues/new/: ");
+            e.printStackTrace();
+        }
+
+        // resolve inline models
+        if (config.getUseInlineModelResolver()) {
+            InlineModelResolver inlineModelResolver = new InlineModelResolver();
+            inlineModelResolver.setInlineSchemaNameMapping(config.inlineSchemaNameMapping());
+            inlineModelResolver.setInlineSchemaOptions(config.inlineSchemaOption());
+
+            inlineModelResolver.flatten(openAPI);
+        }
+    }
+
+    /**
+     * Returns changes of the generated files compared with the previous generation.
+     * Available after generation, when skipping unchanged files is enabled.
+     *
+     * @return changes of the generated files or null
+     */
+    public GeneratedFilesManifest.Changes getGeneratedFilesChanges() {
+        return generatedFilesChanges;
+    }
+
     /**
      * Set generator properties otherwise pulled from system properties.
      * Useful for running tests in parallel without relying on System.properties.
@@ -287,28 +376,8 @@ public class DefaultGenerator implements Generator {
             config.importMapping().putAll(opts.getGeneratorSettings().getImportMappings());
         }
 
-        // normalize the spec
-        try {
-            if (config.getUseOpenapiNormalizer()) {
-                SemVer version = new SemVer(openAPI.getOpenapi());
-                if (version.atLeast("3.1.0")) {
-                    config.openapiNormalizer().put("NORMALIZE_31SPEC", "true");
-                }
-                OpenAPINormalizer openapiNormalizer = new OpenAPINormalizer(openAPI, config.openapiNormalizer());
-                openapiNormalizer.normalize();
-            }
-        } catch (Exception e) {
-            LOGGER.error("An exception occurred in OpenAPI Normalizer. Please report the issue via https://github.com/openapitools/openapi-generator/issues/new/: ");
-            e.printStackTrace();
-        }
-
-        // resolve inline models
-        if (config.getUseInlineModelResolver()) {
-            InlineModelResolver inlineModelResolver = new InlineModelResolver();
-            inlineModelResolver.setInlineSchemaNameMapping(config.inlineSchemaNameMapping());
-            inlineModelResolver.setInlineSchemaOptions(config.inlineSchemaOption());
-
-            inlineModelResolver.flatten(openAPI);
+        if (!openAPIPrepared) {
+            prepareOpenAPI(config, openAPI);
         }
 
         config.preprocessOpenAPI(openAPI);
@@ -473,6 +542,10 @@ public class DefaultGenerator implements Generator {
     }
 
     void generateModels(List<File> files, List<ModelMap> allModels, List<String> unusedModels, List<ModelMap> aliasModels) {
+        if (config instanceof DefaultCodegen codegen) {
+            // all schemas are known at this point, so build the index once for all models
+            codegen.setSchemaIndex(new SchemaIndex(openAPI));
+        }
         generateModels(files, allModels, unusedModels, aliasModels, new ArrayList<>(), DefaultGenerator.this::modelKeys);
     }
 
@@ -496,6 +569,7 @@ public class DefaultGenerator implements Generator {
             getGeneratorPropertyDefaultSwitch(CodegenConstants.SKIP_FORM_MODEL, true);
 
         // process models only
+        Map<String, Schema> schemasToProcess = new LinkedHashMap<>();
         for (String name : modelKeys) {
             processedModels.add(name);
             try {
@@ -541,16 +615,17 @@ public class DefaultGenerator implements Generator {
                     }
                 }
 
-                Map<String, Schema> schemaMap = new HashMap<>();
-                schemaMap.put(name, schema);
-                ModelsMap models = processModels(config, schemaMap);
-                models.put("classname", config.toModelName(name));
-                models.putAll(config.additionalProperties());
-                allProcessedModels.put(name, models);
+                schemasToProcess.put(name, schema);
             } catch (Exception e) {
                 throw new RuntimeException("Could not process model '" + name + "'" + ".Please make sure that your schema is correct!", e);
             }
         }
+        // put processed models in the order of the model keys, so the result doesn't depend on parallelism
+        List<String> namesToProcess = new ArrayList<>(schemasToProcess.keySet());
+        List<ModelsMap> processedModelsMaps = processModels(namesToProcess, schemasToProcess);
+        for (int i = 0; i < namesToProcess.size(); i++) {
+            allProcessedModels.put(namesToProcess.get(i), processedModelsMaps.get(i));
+        }
 
         // loop through all models to update children models, isSelfReference, isCircularReference, etc
         allProcessedModels = config.updateAllModels(allProcessedModels);
@@ -577,44 +652,50 @@ public class DefaultGenerator implements Generator {
         }
 
         // generate files based on processed models
+        Map<String, ModelsMap> modelsToRender = new LinkedHashMap<>();
         for (String modelName : allProcessedModels.keySet()) {
             ModelsMap models = allProcessedModels.get(modelName);
             models.put("modelPackage", config.modelPackage());
-            try {
-                //don't generate models that have a schema mapping
-                if (config.schemaMapping().containsKey(modelName)) {
-                    continue;
-                }
+            //don't generate models that have a schema mapping
+            if (config.schemaMapping().containsKey(modelName)) {
+                continue;
+            }
 
-                // TODO revise below as we've already performed unaliasing so that the isAlias check may be removed
-                List<ModelMap> modelList = models.getModels();
-                if (modelList != null && !modelList.isEmpty()) {
-                    ModelMap modelTemplate = modelList.get(0);
-                    if (modelTemplate != null && modelTemplate.getModel() != null) {
-                        CodegenModel m = modelTemplate.getModel();
-                        if (m.isAlias) {
-                            // alias to number, string, enum, etc, which should not be generated as model
-                            // but aliases are still used to dereference models in some languages (such as in html2).
-                            aliasModels.add(modelTemplate);  // Store aliases in the separate list.
-                            continue;  // Don't create user-defined classes for aliases
-                        }
+            // TODO revise below as we've already performed unaliasing so that the isAlias check may be removed
+            List<ModelMap> modelList = models.getModels();
+            if (modelList != null && !modelList.isEmpty()) {
+                ModelMap modelTemplate = modelList.get(0);
+                if (modelTemplate != null && modelTemplate.getModel() != null) {
+                    CodegenModel m = modelTemplate.getModel();
+                    if (m.isAlias) {
+                        // alias to number, string, enum, etc, which should not be generated as model
+                        // but aliases are still used to dereference models in some languages (such as in html2).
+                        aliasModels.add(modelTemplate);  // Store aliases in the separate list.
+                        continue;  // Don't create user-defined classes for aliases
                     }
-                    allModels.add(modelTemplate);
                 }
-
+                allModels.add(modelTemplate);
+            }
+            modelsToRender.put(modelName, models);
+        }
+        renderFiles(files, new ArrayList<>(modelsToRender.keySet()), modelName -> {
+            ModelsMap models = modelsToRender.get(modelName);
+            List<File> modelFiles = new ArrayList<>();
+            try {
                 // to generate model files
-                generateModel(files, models, modelName);
+                generateModel(modelFiles, models, modelName);
 
                 // to generate model test files
-                generateModelTests(files, models, modelName);
+                generateModelTests(modelFiles, models, modelName);
 
                 // to generate model documentation files
-                generateModelDocumentation(files, models, modelName);
+                generateModelDocumentation(modelFiles, models, modelName);
 
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate model '" + modelName + "'", e);
             }
-        }
+            return modelFiles;
+        });
         if (GlobalSettings.getProperty("debugModels") != null) {
             LOGGER.info("############ Model info ############");
             Json.prettyPrint(allModels);
@@ -708,6 +789,7 @@ public class DefaultGenerator implements Generator {
             }
             paths = updatedPaths;
         }
+        Map<String, OperationsMap> apisToRender = new LinkedHashMap<>();
         for (String tag : paths.keySet()) {
             try {
                 List<CodegenOperation> ops = paths.get(tag);
@@ -785,72 +867,172 @@ public class DefaultGenerator implements Generator {
 
                 addAuthenticationSwitches(operation);
 
-                for (String templateName : config.apiTemplateFiles().keySet()) {
-                    File written = null;
-                    if (config.templateOutputDirs().containsKey(templateName)) {
-                        String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
-                        String filename = config.apiFilename(templateName, tag, outputDir);
-                        // do not overwrite apiController file for spring server
-                        if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS, outputDir);
-                        } else {
-                            LOGGER.info("Implementation file {} is not overwritten", filename);
-                        }
-                    } else {
-                        String filename = config.apiFilename(templateName, tag);
-                        if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS);
-                        } else {
-                            LOGGER.info("Implementation file {} is not overwritten", filename);
-                        }
-                    }
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api");
-                        }
-                    }
+                apisToRender.put(tag, operation);
+            } catch (Exception e) {
+                throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
+            }
+        }
+        renderFiles(files, new ArrayList<>(apisToRender.keySet()), tag -> {
+            List<File> apiFiles = new ArrayList<>();
+            try {
+                generateApi(apiFiles, apisToRender.get(tag), tag);
+            } catch (Exception e) {
+                throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
+            }
+            return apiFiles;
+        });
+        if (GlobalSettings.getProperty("debugOperations") != null) {
+            LOGGER.info("############ Operation info ############");
+            Json.prettyPrint(allOperations);
+        }
+
+    }
+
+    private void generateApi(List<File> files, OperationsMap operation, String tag) throws IOException {
+        for (String templateName : config.apiTemplateFiles().keySet()) {
+            File written = null;
+            if (config.templateOutputDirs().containsKey(templateName)) {
+                String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
+                String filename = config.apiFilename(templateName, tag, outputDir);
+                // do not overwrite apiController file for spring server
+                if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
+                    written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS, outputDir);
+                } else {
+                    LOGGER.info("Implementation file {} is not overwritten", filename);
+                }
+            } else {
+                String filename = config.apiFilename(templateName, tag);
+                if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
+                    written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS);
+                } else {
+                    LOGGER.info("Implementation file {} is not overwritten", filename);
+                }
+            }
+            if (written != null) {
+                files.add(written);
+                if (config.isEnablePostProcessFile() && !dryRun) {
+                    config.postProcessFile(written, "api");
                 }
+            }
+        }
 
-                // to generate api test files
-                for (String templateName : config.apiTestTemplateFiles().keySet()) {
-                    String filename = config.apiTestFilename(templateName, tag);
-                    File apiTestFile = new File(filename);
-                    // do not overwrite test file that already exists
-                    if (apiTestFile.exists()) {
-                        this.templateProcessor.skip(apiTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
-                    } else {
-                        File written = processTemplateToFile(operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
-                        if (written != null) {
-                            files.add(written);
-                            if (config.isEnablePostProcessFile() && !dryRun) {
-                                config.postProcessFile(written, "api-test");
-                            }
-                        }
+        // to generate api test files
+        for (String templateName : config.apiTestTemplateFiles().keySet()) {
+            String filename = config.apiTestFilename(templateName, tag);
+            File apiTestFile = new File(filename);
+            // do not overwrite test file that already exists
+            if (apiTestFile.exists()) {
+                this.templateProcessor.skip(apiTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
+            } else {
+                File written = processTemplateToFile(operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
+                if (written != null) {
+                    files.add(written);
+                    if (config.isEnablePostProcessFile() && !dryRun) {
+                        config.postProcessFile(written, "api-test");
                     }
                 }
+            }
+        }
 
-                // to generate api documentation files
-                for (String templateName : config.apiDocTemplateFiles().keySet()) {
-                    String filename = config.apiDocFilename(templateName, tag);
-                    File written = processTemplateToFile(operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS);
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api-doc");
-                        }
-                    }
+        // to generate api documentation files
+        for (String templateName : config.apiDocTemplateFiles().keySet()) {
+            String filename = config.apiDocFilename(templateName, tag);
+            File written = processTemplateToFile(operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS);
+            if (written != null) {
+                files.add(written);
+                if (config.isEnablePostProcessFile() && !dryRun) {
+                    config.postProcessFile(written, "api-doc");
                 }
+            }
+        }
+    }
 
+    /**
+     * Build the models of every schema. When parallelism is enabled and the codegen supports it,
+     * models are built on a fork-join pool, but the result keeps the order of the names,
+     * so it doesn't depend on the thread scheduling.
+     *
+     * @param names schema names
+     * @param schemas schemas by name
+     *
+     * @return models in the order of the names
+     */
+    private List<ModelsMap> processModels(List<String> names, Map<String, Schema> schemas) {
+        Function<String, ModelsMap> processor = name -> {
+            try {
+                Map<String, Schema> schemaMap = new HashMap<>();
+                schemaMap.put(name, schemas.get(name));
+                ModelsMap models = processModels(config, schemaMap);
+                models.put("classname", config.toModelName(name));
+                models.putAll(config.additionalProperties());
+                return models;
             } catch (Exception e) {
-                throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
+                throw new RuntimeException("Could not process model '" + name + "'" + ".Please make sure that your schema is correct!", e);
             }
+        };
+        boolean parallelSupported = config instanceof DefaultCodegen defaultCodegen && defaultCodegen.isParallelModelProcessingSupported();
+        if (parallelism <= 1 || !parallelSupported || names.size() <= 1) {
+            List<ModelsMap> result = new ArrayList<>(names.size());
+            for (String name : names) {
+                result.add(processor.apply(name));
+            }
+            return result;
+        }
+        // ModelUtils reads these options from thread-local global settings, so pass them to the worker threads
+        boolean generateAliasAsModel = ModelUtils.isGenerateAliasAsModel();
+        boolean disallowAdditionalPropertiesIfNotPresent = ModelUtils.isDisallowAdditionalPropertiesIfNotPresent();
+        var codegen = (DefaultCodegen) config;
+        codegen.setParallelModelProcessing(true);
+        var pool = new ForkJoinPool(Math.min(parallelism, names.size()));
+        try {
+            List<ForkJoinTask<ModelsMap>> tasks = new ArrayList<>(names.size());
+            for (String name : names) {
+                tasks.add(pool.submit(() -> {
+                    ModelUtils.setGenerateAliasAsModel(generateAliasAsModel);
+                    ModelUtils.setDisallowAdditionalPropertiesIfNotPresent(disallowAdditionalPropertiesIfNotPresent);
+                    return processor.apply(name);
+                }));
+            }
+            List<ModelsMap> result = new ArrayList<>(names.size());
+            for (ForkJoinTask<ModelsMap> task : tasks) {
+                result.add(task.join());
+            }
+            return result;
+        } finally {
+            pool.shutdown();
+            codegen.setParallelModelProcessing(false);
         }
-        if (GlobalSettings.getProperty("debugOperations") != null) {
-            LOGGER.info("############ Operation info ############");
-            Json.prettyPrint(allOperations);
-        }
+    }
 
+    /**
+     * Render files of every item and add them to the list of generated files. When parallelism is enabled,
+     * items are rendered on a fork-join pool, but the files are added in the order of the items,
+     * so the result doesn't depend on the thread scheduling.
+     *
+     * @param files generated files
+     * @param items items to render, for example, model names or api tags
+     * @param renderer function which renders all files of one item
+     * @param <T> item type
+     */
+    private <T> void renderFiles(List<File> files, List<T> items, Function<T, List<File>> renderer) {
+        if (parallelism <= 1 || dryRun || items.size() <= 1) {
+            for (T item : items) {
+                files.addAll(renderer.apply(item));
+            }
+            return;
+        }
+        var pool = new ForkJoinPool(Math.min(parallelism, items.size()));
+        try {
+            List<ForkJoinTask<List<File>>> tasks = new ArrayList<>(items.size());
+            for (T item : items) {
+                tasks.add(pool.submit(() -> renderer.apply(item)));
+            }
+            for (ForkJoinTask<List<File>> task : tasks) {
+                files.addAll(task.join());
+            }
+        } finally {
+            pool.shutdown();
+        }
     }
 
     void generateWebhooks(List<File> files, List<WebhooksMap> allWebhooks, List<ModelMap> allModels) {
@@ -1314,6 +1496,11 @@ public class DefaultGenerator implements Generator {
 
         processUserDefinedTemplates();
 
+        if (skipUnchangedFiles && !dryRun) {
+            manifest = new GeneratedFilesManifest(java.nio.file.Paths.get(config.getOutputDir()),
+                java.nio.file.Paths.get(config.outputFolder(), METADATA_DIR, GeneratedFilesManifest.FILE_NAME));
+        }
+
         // generate .openapi-generator-ignore if the option openapiGeneratorIgnoreFile is enabled
         generateOpenapiGeneratorIgnoreFile();
 
@@ -1333,6 +1520,12 @@ public class DefaultGenerator implements Generator {
         Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels, aliasModels, allWebhooks);
         generateSupportingFiles(files, bundle);
 
+        if (config instanceof DefaultCodegen codegen && LOGGER.isDebugEnabled()) {
+            codegen.getCacheStatistics().forEach((name, stats) ->
+                LOGGER.debug("Name cache '{}': hit rate {}, hits {}, misses {}, evictions {}",
+                    name, String.format(Locale.ROOT, "%.2f", stats.hitRate()), stats.hitCount(), stats.missCount(), stats.evictionCount()));
+        }
+
         if (dryRun) {
             boolean verbose = Boolean.parseBoolean(GlobalSettings.getProperty("verbose"));
             StringBuilder sb = new StringBuilder();
@@ -1375,6 +1568,9 @@ public class DefaultGenerator implements Generator {
             if (generateSupportingFiles) {
                 generateFilesMetadata(files);
             }
+            if (manifest != null) {
+                saveManifest();
+            }
         }
 
         // post-process
@@ -1463,7 +1659,10 @@ public class DefaultGenerator implements Generator {
         return processTemplateToFile(templateData, templateName, outputFilename, shouldGenerate, skippedByOption, this.config.getOutputDir());
     }
 
-    private final Set<String> seenFiles = new HashSet<>();
+    /**
+     * Lower-cased paths of the written files. Used to detect paths which differ only in case.
+     */
+    private final Set<String> seenFiles = ConcurrentHashMap.newKeySet();
 
     private File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename, boolean shouldGenerate, String skippedByOption, String intendedOutputDir) throws IOException {
         String adjustedOutputFilename = outputFilename.replaceAll("//", "/").replace('/', File.separatorChar);
@@ -1476,10 +1675,12 @@ public class DefaultGenerator implements Generator {
                     throw new RuntimeException(String.format(Locale.ROOT, "Target files must be generated within the output directory; absoluteTarget=%s outDir=%s", absoluteTarget, outDir));
                 }
 
-                if (seenFiles.stream().anyMatch(f -> f.toLowerCase(Locale.ROOT).equals(absoluteTarget.toString().toLowerCase(Locale.ROOT)))) {
+                if (!seenFiles.add(absoluteTarget.toString().toLowerCase(Locale.ROOT))) {
                     LOGGER.warn("Duplicate file path detected. Not all operating systems can handle case sensitive file paths. path={}", absoluteTarget.toString());
                 }
-                seenFiles.add(absoluteTarget.toString());
+                if (manifest != null && templateProcessor instanceof TemplatingExecutor executor && config.getTemplatingEngine().handlesFile(templateName)) {
+                    return writeIfChanged(executor, templateData, templateName, target);
+                }
                 return this.templateProcessor.write(templateData, templateName, target);
             } else {
                 this.templateProcessor.skip(target.toPath(), String.format(Locale.ROOT, "Skipped by %s options supplied by user.", skippedByOption));
@@ -1491,6 +1692,27 @@ public class DefaultGenerator implements Generator {
         }
     }
 
+    private File writeIfChanged(TemplatingExecutor executor, Map<String, Object> templateData, String templateName, File target) throws IOException {
+        byte[] content = config.getTemplatingEngine().compileTemplate(executor, templateData, templateName).getBytes(StandardCharsets.UTF_8);
+        if (manifest.isUpToDate(target, content)) {
+            this.templateProcessor.skip(target.toPath(), "Content is not changed since the previous generation.");
+            return target;
+        }
+        return this.templateProcessor.writeToFile(target.getPath(), content);
+    }
+
+    private void saveManifest() {
+        try {
+            generatedFilesChanges = manifest.save();
+            LOGGER.info("Generated files: {} added, {} changed, {} removed, {} unchanged",
+                generatedFilesChanges.added().size(), generatedFilesChanges.changed().size(),
+                generatedFilesChanges.removed().size(), generatedFilesChanges.unchanged());
+            generatedFilesChanges.removed().forEach(path -> LOGGER.info("File {} is not generated anymore", path));
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write manifest of generated files: {}", e.getMessage());
+        }
+    }
+
     public Map<String, List<CodegenOperation>> processPaths(Paths paths) {
         Map<String, List<CodegenOperation>> ops = new TreeMap<>();
         // when input file is not valid and doesn't contain any paths
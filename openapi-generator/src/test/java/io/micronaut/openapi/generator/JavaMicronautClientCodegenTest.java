@@ -582,6 +582,21 @@ class JavaMicronautClientCodegenTest extends AbstractMicronautCodegenTest {
         assertFileContains(path + "api/FilesApi.java", "@Produces(\"application/octet-stream\")");
     }
 
+    @Test
+    void testJsonStream() {
+
+        var codegen = new JavaMicronautClientCodegen();
+        codegen.additionalProperties().put(JavaMicronautClientCodegen.OPT_REACTIVE, "true");
+        codegen.additionalProperties().put(JavaMicronautClientCodegen.OPT_JSON_STREAMING, "true");
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/json-stream.yml", CodegenConstants.APIS, CodegenConstants.MODELS);
+        String path = outputPath + "src/main/java/org/openapitools/";
+
+        assertFileContains(path + "api/DefaultApi.java", "@Consumes(\"application/x-ndjson\")");
+        assertFileContainsRegex(path + "api/DefaultApi.java",
+            "Flux<[^>]*Pet> streamPets\\(",
+            "Mono<[^;]*List<[^>]*Pet>> listPets\\(");
+    }
+
     @Test
     void testLombok() {
 
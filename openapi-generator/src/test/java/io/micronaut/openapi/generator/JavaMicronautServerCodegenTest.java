@@ -240,6 +240,46 @@ class JavaMicronautServerCodegenTest extends AbstractMicronautCodegenTest {
         assertFileNotContains(apiPath + "PetApi.java", "HttpResponse");
     }
 
+    @Test
+    void doGenerateFluxForJsonStream() {
+        var codegen = new JavaMicronautServerCodegen();
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_REACTIVE, "true");
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_JSON_STREAMING, "true");
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/json-stream.yml", CodegenConstants.MODELS, CodegenConstants.APIS);
+
+        String apiPath = outputPath + "src/main/java/org/openapitools/api/";
+        assertFileContainsRegex(apiPath + "DefaultApi.java",
+            "Flux<[^>]*Pet> streamPets\\(",
+            "Mono<[^;]*List<[^>]*Pet>> listPets\\(");
+        assertFileContains(apiPath + "DefaultApi.java", "\"application/x-ndjson\"");
+    }
+
+    @Test
+    void doGenerateExecuteOn() {
+        var codegen = new JavaMicronautServerCodegen();
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_REACTIVE, "false");
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_EXECUTE_ON, "virtual");
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/execute-on.yml", CodegenConstants.APIS);
+
+        String apiPath = outputPath + "src/main/java/org/openapitools/api/";
+        assertFileContains(apiPath + "PetsApi.java", "import io.micronaut.scheduling.annotation.ExecuteOn;");
+        assertFileContainsRegex(apiPath + "PetsApi.java", "@ExecuteOn\\(TaskExecutors.VIRTUAL\\)\\s+\\S+ listPets\\(");
+        assertFileNotContainsRegex(apiPath + "PetsApi.java", "@ExecuteOn\\([^)]+\\)\\s+\\S+ ping\\(");
+        assertFileContainsRegex(apiPath + "FilesApi.java", "@ExecuteOn\\(TaskExecutors.IO\\)\\s+\\S+ listFiles\\(");
+    }
+
+    @Test
+    void doNotGenerateExecuteOnForReactive() {
+        var codegen = new JavaMicronautServerCodegen();
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_REACTIVE, "true");
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_EXECUTE_ON, "virtual");
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/execute-on.yml", CodegenConstants.APIS);
+
+        String apiPath = outputPath + "src/main/java/org/openapitools/api/";
+        assertFileNotContains(apiPath + "PetsApi.java", "ExecuteOn");
+        assertFileNotContains(apiPath + "FilesApi.java", "ExecuteOn");
+    }
+
     @Test
     void doGenerateWrapHttpResponse() {
         var codegen = new JavaMicronautServerCodegen();
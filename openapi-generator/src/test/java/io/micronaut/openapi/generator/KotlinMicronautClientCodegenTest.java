@@ -637,6 +637,21 @@ class KotlinMicronautClientCodegenTest extends AbstractMicronautCodegenTest {
         assertFileContains(path + "api/FilesApi.kt", "@Produces(\"application/octet-stream\")");
     }
 
+    @Test
+    void testJsonStream() {
+
+        var codegen = new KotlinMicronautClientCodegen();
+        codegen.additionalProperties().put(KotlinMicronautClientCodegen.OPT_REACTIVE, "true");
+        codegen.additionalProperties().put(KotlinMicronautClientCodegen.OPT_JSON_STREAMING, "true");
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/json-stream.yml", CodegenConstants.APIS, CodegenConstants.MODELS);
+        String path = outputPath + "src/main/kotlin/org/openapitools/";
+
+        assertFileContains(path + "api/DefaultApi.kt", "@Consumes(\"application/x-ndjson\")");
+        assertFileContainsRegex(path + "api/DefaultApi.kt",
+            "fun streamPets\\([^)]*\\): Flux<Pet>",
+            "fun listPets\\([^)]*\\): Mono<List<Pet>>");
+    }
+
     @Test
     void testImplicitHeaders() {
 
@@ -253,6 +253,34 @@ class KotlinMicronautServerCodegenTest extends AbstractMicronautCodegenTest {
         assertFileNotContains(apiPath + "PetApi.kt", "HttpResponse");
     }
 
+    @Test
+    void doGenerateFluxForJsonStream() {
+        var codegen = new KotlinMicronautServerCodegen();
+        codegen.additionalProperties().put(KotlinMicronautServerCodegen.OPT_REACTIVE, "true");
+        codegen.additionalProperties().put(KotlinMicronautServerCodegen.OPT_JSON_STREAMING, "true");
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/json-stream.yml", CodegenConstants.MODELS, CodegenConstants.APIS);
+
+        String apiPath = outputPath + "src/main/kotlin/org/openapitools/api/";
+        assertFileContainsRegex(apiPath + "DefaultApi.kt",
+            "fun streamPets\\([^)]*\\): Flux<Pet>",
+            "fun listPets\\([^)]*\\): Mono<List<Pet>>");
+        assertFileContains(apiPath + "DefaultApi.kt", "\"application/x-ndjson\"");
+    }
+
+    @Test
+    void doGenerateExecuteOn() {
+        var codegen = new KotlinMicronautServerCodegen();
+        codegen.additionalProperties().put(KotlinMicronautServerCodegen.OPT_REACTIVE, "false");
+        codegen.additionalProperties().put(KotlinMicronautServerCodegen.OPT_EXECUTE_ON, "virtual");
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/execute-on.yml", CodegenConstants.APIS);
+
+        String apiPath = outputPath + "src/main/kotlin/org/openapitools/api/";
+        assertFileContains(apiPath + "PetsApi.kt", "import io.micronaut.scheduling.annotation.ExecuteOn");
+        assertFileContainsRegex(apiPath + "PetsApi.kt", "@ExecuteOn\\(TaskExecutors.VIRTUAL\\)\\s+fun listPets\\(");
+        assertFileNotContainsRegex(apiPath + "PetsApi.kt", "@ExecuteOn\\([^)]+\\)\\s+fun ping\\(");
+        assertFileContainsRegex(apiPath + "FilesApi.kt", "@ExecuteOn\\(TaskExecutors.IO\\)\\s+fun listFiles\\(");
+    }
+
     @Test
     void doGenerateWrapHttpResponse() {
         var codegen = new KotlinMicronautServerCodegen();
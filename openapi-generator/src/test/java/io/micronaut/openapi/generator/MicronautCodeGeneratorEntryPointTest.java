@@ -1,15 +1,32 @@
 package io.micronaut.openapi.generator;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MicronautCodeGeneratorEntryPointTest {
 
+    private static final File PETSTORE = new File("src/test/resources/petstore.json");
+    private static final File DISCRIMINATOR = new File("src/test/resources/3_0/discirminator2.yml");
+
     @Test
     @DisplayName("Can build with a custom code generator")
     void testCustomGenerator() throws URISyntaxException {
@@ -21,6 +38,183 @@ class MicronautCodeGeneratorEntryPointTest {
         assertEquals("Hello", generator.value);
     }
 
+    @Test
+    @DisplayName("Parallel generation produces the same files as sequential generation")
+    void testParallelGeneration() throws IOException {
+        var sequential = generate(1);
+        var parallel = generate(4);
+
+        assertFalse(sequential.isEmpty());
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    @DisplayName("Parallel generation of allOf models with discriminator produces the same files as sequential generation")
+    void testParallelGenerationWithInheritance() throws IOException {
+        List<Consumer<MicronautCodeGeneratorBuilder>> targets = List.of(
+            MicronautCodeGeneratorBuilder::forJavaClient,
+            MicronautCodeGeneratorBuilder::forKotlinClient,
+            MicronautCodeGeneratorBuilder::forKotlinServer
+        );
+        for (var target : targets) {
+            Consumer<MicronautCodeGeneratorBuilder> configuration = target.andThen(builder -> builder.withDefinitionFile(DISCRIMINATOR.toURI()));
+            var sequential = generate(configuration.andThen(builder -> builder.withParallelism(1)));
+            var parallel = generate(configuration.andThen(builder -> builder.withParallelism(4)));
+
+            assertTrue(sequential.keySet().stream().anyMatch(path -> path.contains("OpAdd.")));
+            assertEquals(sequential, parallel);
+        }
+    }
+
+    @Test
+    @DisplayName("Unchanged files are not rewritten")
+    void testSkipUnchangedFiles() throws IOException {
+        var output = Files.createTempDirectory("test").toFile().getCanonicalFile();
+        output.deleteOnExit();
+        var first = generate(output, builder -> builder.withSkipUnchangedFiles(true));
+        var modelFile = output.toPath().resolve(first.keySet().stream()
+            .filter(path -> path.endsWith("/Pet.java"))
+            .findFirst()
+            .orElseThrow());
+        var changedFile = output.toPath().resolve(first.keySet().stream()
+            .filter(path -> path.endsWith("/Category.java"))
+            .findFirst()
+            .orElseThrow());
+        var oldTime = FileTime.fromMillis(1_000_000_000L);
+        Files.setLastModifiedTime(modelFile, oldTime);
+        Files.setLastModifiedTime(changedFile, oldTime);
+        // the hand edit keeps the file size
+        var changedContent = Files.readString(changedFile);
+        Files.writeString(changedFile, changedContent.replace("Category", "Kategory"));
+
+        var second = generate(output, builder -> builder.withSkipUnchangedFiles(true));
+
+        assertTrue(Files.exists(output.toPath().resolve(".openapi-generator/" + GeneratedFilesManifest.FILE_NAME)));
+        assertEquals(first, second);
+        assertEquals(oldTime, Files.getLastModifiedTime(modelFile));
+        assertNotEquals(oldTime, Files.getLastModifiedTime(changedFile));
+    }
+
+    @Test
+    @DisplayName("Files are always written by default")
+    void testWriteAllFilesByDefault() throws IOException {
+        var output = newOutputDirectory();
+        generate(output, 1);
+
+        assertFalse(Files.exists(output.toPath().resolve(".openapi-generator/" + GeneratedFilesManifest.FILE_NAME)));
+    }
+
+    @Test
+    @DisplayName("Cached definition produces the same files as parsed definition")
+    void testParseCache() throws IOException {
+        var cacheDir = Files.createTempDirectory("cache");
+        cacheDir.toFile().deleteOnExit();
+        var cache = new OpenApiParseCache(cacheDir);
+
+        var parsed = generate(builder -> {
+        });
+        var first = generate(builder -> builder.withParseCache(cache));
+        var second = generate(builder -> builder.withParseCache(cache));
+        var fromDisk = generate(builder -> builder.withParseCache(new OpenApiParseCache(cacheDir)));
+
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+        assertEquals(parsed, first);
+        assertEquals(parsed, second);
+        assertEquals(parsed, fromDisk);
+    }
+
+    @Test
+    @DisplayName("Can generate from already parsed definition")
+    void testParsedDefinition() throws IOException {
+        var parsed = generate(builder -> {
+        });
+        var openAPI = OpenApiParseCache.parseDefinition(PETSTORE.toURI());
+        var result = generate(builder -> builder.withDefinitionFile(null).withOpenAPI(openAPI));
+
+        assertEquals(parsed, result);
+    }
+
+    @Test
+    @DisplayName("Multi-target generation produces the same files as separate generation")
+    void testGenerateAll() throws IOException {
+        List<Consumer<MicronautCodeGeneratorBuilder>> targets = List.of(
+            builder -> builder.forJavaClient(spec -> {
+            }),
+            builder -> builder.forJavaServer(spec -> {
+            }),
+            builder -> builder.forKotlinClient(spec -> {
+            })
+        );
+        var separate = new ArrayList<Map<String, String>>();
+        for (var target : targets) {
+            separate.add(generate(target));
+        }
+
+        var outputs = new ArrayList<File>();
+        var entryPoints = new ArrayList<MicronautCodeGeneratorEntryPoint>();
+        for (var target : targets) {
+            var output = newOutputDirectory();
+            outputs.add(output);
+            entryPoints.add(entryPoint(output, target));
+        }
+        MicronautCodeGeneratorEntryPoint.generateAll(entryPoints);
+
+        for (int i = 0; i < targets.size(); i++) {
+            assertFalse(separate.get(i).isEmpty());
+            assertEquals(separate.get(i), readFiles(outputs.get(i)));
+        }
+    }
+
+    private static Map<String, String> generate(int parallelism) throws IOException {
+        return generate(builder -> builder.withParallelism(parallelism));
+    }
+
+    private static Map<String, String> generate(Consumer<MicronautCodeGeneratorBuilder> configuration) throws IOException {
+        return generate(newOutputDirectory(), configuration);
+    }
+
+    private static Map<String, String> generate(File output, int parallelism) throws IOException {
+        return generate(output, builder -> builder.withParallelism(parallelism));
+    }
+
+    private static Map<String, String> generate(File output, Consumer<MicronautCodeGeneratorBuilder> configuration) throws IOException {
+        entryPoint(output, configuration).generate();
+        return readFiles(output);
+    }
+
+    private static MicronautCodeGeneratorEntryPoint entryPoint(File output, Consumer<MicronautCodeGeneratorBuilder> configuration) {
+        var builder = MicronautCodeGeneratorEntryPoint.builder()
+            .forJavaClient(spec -> {
+            })
+            .withDefinitionFile(PETSTORE.toURI())
+            .withOutputDirectory(output)
+            .withOutputs(
+                MicronautCodeGeneratorEntryPoint.OutputKind.MODELS,
+                MicronautCodeGeneratorEntryPoint.OutputKind.APIS,
+                MicronautCodeGeneratorEntryPoint.OutputKind.SUPPORTING_FILES
+            );
+        configuration.accept(builder);
+        return builder.build();
+    }
+
+    private static File newOutputDirectory() throws IOException {
+        var output = Files.createTempDirectory("test").toFile().getCanonicalFile();
+        output.deleteOnExit();
+        return output;
+    }
+
+    private static Map<String, String> readFiles(File output) throws IOException {
+        var result = new TreeMap<String, String>();
+        var root = output.toPath();
+        try (Stream<Path> files = Files.walk(root)) {
+            for (var file : files.filter(Files::isRegularFile).toList()) {
+                result.put(root.relativize(file).toString(), Files.readString(file));
+            }
+        }
+        return result;
+    }
+
     private static class TestGenerator extends AbstractMicronautJavaCodegen<TestBuilder> {
 
         private String value;
@@ -0,0 +1,61 @@
+package io.micronaut.openapi.generator;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MicronautInlineModelResolverTest {
+
+    @Test
+    @DisplayName("Resolves component references and reuses inline models with the same structure")
+    void testFlattenPaths() {
+        var openAPI = new OpenAPI()
+            .components(new Components()
+                .addRequestBodies("PetBody", new RequestBody().content(json(pet())))
+                .addResponses("PetResponse", new ApiResponse().content(json(new ObjectSchema().addProperty("id", new IntegerSchema())))))
+            .paths(new Paths()
+                .addPathItem("/pets", new PathItem().post(new Operation()
+                    .operationId("createPet")
+                    .requestBody(new RequestBody().$ref("#/components/requestBodies/PetBody"))
+                    .responses(new ApiResponses().addApiResponse("200", new ApiResponse().$ref("#/components/responses/PetResponse")))))
+                .addPathItem("/pets/{id}", new PathItem().put(new Operation()
+                    .operationId("updatePet")
+                    .requestBody(new RequestBody().content(json(pet())))
+                    .responses(new ApiResponses().addApiResponse("204", new ApiResponse())))));
+
+        new MicronautInlineModelResolver(openAPI).flatten();
+
+        var schemas = openAPI.getComponents().getSchemas();
+        assertTrue(schemas.containsKey("createPet_request"));
+        assertTrue(schemas.containsKey("createPet_200_response"));
+        assertFalse(schemas.containsKey("updatePet_request"));
+
+        var updateSchema = openAPI.getPaths().get("/pets/{id}").getPut().getRequestBody().getContent().get("application/json").getSchema();
+        assertEquals("#/components/schemas/createPet_request", updateSchema.get$ref());
+    }
+
+    private static Schema<?> pet() {
+        return new ObjectSchema().addProperty("name", new StringSchema());
+    }
+
+    private static Content json(Schema<?> schema) {
+        return new Content().addMediaType("application/json", new MediaType().schema(schema));
+    }
+}
@@ -0,0 +1,57 @@
+package io.micronaut.openapi.generator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class NameCacheTest {
+
+    @Test
+    @DisplayName("Computes every name once and records hits")
+    void testGet() {
+        var calls = new AtomicInteger();
+        var cache = new NameCache();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("PET", cache.get("pet", name -> {
+                calls.incrementAndGet();
+                return name.toUpperCase();
+            }));
+        }
+
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("Doesn't cache null names and results")
+    void testNulls() {
+        var cache = new NameCache();
+
+        assertEquals("null", cache.get(null, String::valueOf));
+        assertNull(cache.get("pet", name -> null));
+        assertEquals("Pet", cache.get("pet", name -> "Pet"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("Codegen memoizes generated names")
+    void testCodegenNames() {
+        var codegen = new JavaMicronautClientCodegen();
+
+        assertEquals(codegen.toModelName("pet_type"), codegen.toModelName("pet_type"));
+        assertEquals(codegen.toVarName("pet_type"), codegen.toVarName("pet_type"));
+        assertEquals(codegen.toApiName("pet"), codegen.toApiName("pet"));
+
+        var stats = codegen.getCacheStatistics();
+        assertEquals(1, stats.get("toModelName").hitCount());
+        assertEquals(1, stats.get("toVarName").hitCount());
+        assertEquals(1, stats.get("toApiName").hitCount());
+    }
+}
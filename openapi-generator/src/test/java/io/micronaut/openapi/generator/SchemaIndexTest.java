@@ -0,0 +1,64 @@
+package io.micronaut.openapi.generator;
+
+import java.util.List;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SchemaIndexTest {
+
+    @Test
+    @DisplayName("Resolves local references and keeps other schemas")
+    void testGetReferencedSchema() {
+        var pet = new ObjectSchema();
+        var openAPI = new OpenAPI().components(new Components().addSchemas("Pet", pet));
+        var index = new SchemaIndex(openAPI);
+
+        var ref = new Schema<>().$ref("#/components/schemas/Pet");
+        var unknownRef = new Schema<>().$ref("#/components/schemas/Unknown");
+        var inline = new StringSchema();
+
+        assertSame(pet, index.getReferencedSchema(ref));
+        assertSame(unknownRef, index.getReferencedSchema(unknownRef));
+        assertSame(inline, index.getReferencedSchema(inline));
+    }
+
+    @Test
+    @DisplayName("Returns allOf children in the order of the component schemas")
+    void testGetAllOfChildren() {
+        var parentRef = new Schema<>().$ref("#/components/schemas/Parent");
+        var openAPI = new OpenAPI().components(new Components()
+            .addSchemas("Parent", new ObjectSchema())
+            .addSchemas("Dog", new ComposedSchema().allOf(List.of(parentRef, new ObjectSchema())))
+            .addSchemas("Cat", new ComposedSchema().allOf(List.of(parentRef, parentRef)))
+            .addSchemas("Other", new ComposedSchema().allOf(List.of(new ObjectSchema()))));
+        var index = new SchemaIndex(openAPI);
+
+        assertEquals(List.of("Dog", "Cat"), index.getAllOfChildren("Parent"));
+        assertEquals(List.of(), index.getAllOfChildren("Dog"));
+    }
+
+    @Test
+    @DisplayName("Returns the first schema for the model name")
+    void testGetSchemasByModelName() {
+        var first = new ObjectSchema();
+        var openAPI = new OpenAPI().components(new Components()
+            .addSchemas("pet", first)
+            .addSchemas("Pet", new ObjectSchema()));
+        var index = new SchemaIndex(openAPI);
+
+        var schemas = index.getSchemasByModelName(name -> name.toUpperCase());
+
+        assertEquals(1, schemas.size());
+        assertSame(first, schemas.get("PET"));
+    }
+}
@@ -16,6 +16,7 @@
 package io.micronaut.openapi.javadoc;
 
 import com.github.chhorz.javadoc.JavaDoc;
+import com.github.chhorz.javadoc.JavaDocParser;
 import com.github.chhorz.javadoc.JavaDocParserBuilder;
 import com.github.chhorz.javadoc.OutputType;
 import com.github.chhorz.javadoc.tags.DeprecatedTag;
@@ -30,6 +31,8 @@ import java.util.Set;
 /**
  * Very simple javadoc parser that can used to parse out the first paragraph description and parameter / return descriptions.
  * Most other tags are simply stripped and ignored.
+ * <p>
+ * The parser is stateless and can be reused for any number of javadoc texts.
  *
  * @author graemerocher
  * @since 1.0
@@ -38,6 +41,13 @@ public class JavadocParser {
 
     private static final Set<String> IGNORED = CollectionUtils.setOf("see", "since", "author", "version", "throws", "exception", "category");
 
+    private static final String PLAIN_TEXT_PUNCTUATION = " .,;:'\"!?()/-";
+
+    private final JavaDocParser javaDocParser = JavaDocParserBuilder
+        .withAllKnownTags()
+        .withOutputType(OutputType.HTML)
+        .build();
+
     private final FlexmarkHtmlConverter htmlToMarkdownConverter = FlexmarkHtmlConverter.builder()
         .build();
 
@@ -54,16 +64,11 @@ public class JavadocParser {
             return null;
         }
 
-        var javaDocParser = JavaDocParserBuilder
-            .withAllKnownTags()
-            .withOutputType(OutputType.HTML)
-            .build();
-
         JavaDoc javaDoc = javaDocParser.parse(text.strip());
 
         var javadocDescription = new JavadocDescription();
-        javadocDescription.setMethodSummary(htmlToMarkdownConverter.convert(javaDoc.getSummary()).strip());
-        javadocDescription.setMethodDescription(htmlToMarkdownConverter.convert(javaDoc.getDescription()).strip());
+        javadocDescription.setMethodSummary(toMarkdown(javaDoc.getSummary()));
+        javadocDescription.setMethodDescription(toMarkdown(javaDoc.getDescription()));
 
         if (CollectionUtils.isNotEmpty(javaDoc.getTags())) {
             for (var tag : javaDoc.getTags()) {
@@ -71,19 +76,56 @@ public class JavadocParser {
                     continue;
                 }
                 if (tag instanceof ReturnTag returnTag) {
-                    javadocDescription.setReturnDescription(htmlToMarkdownConverter.convert(returnTag.getDescription()).strip());
+                    javadocDescription.setReturnDescription(toMarkdown(returnTag.getDescription()));
                 } else if (tag instanceof ParamTag paramTag) {
-                    String paramDesc = htmlToMarkdownConverter.convert(paramTag.getParamDescription()).strip();
+                    String paramDesc = toMarkdown(paramTag.getParamDescription());
                     javadocDescription.getParameters().put(paramTag.getParamName(), paramDesc);
                 } else if (tag instanceof PropertyTag propertyTag) {
-                    String paramDesc = htmlToMarkdownConverter.convert(propertyTag.getParamDescription()).strip();
+                    String paramDesc = toMarkdown(propertyTag.getParamDescription());
                     javadocDescription.getParameters().put(propertyTag.getPropertyName(), paramDesc);
                 } else if (tag instanceof DeprecatedTag deprecatedTag) {
-                    javadocDescription.setDeprecatedDescription(htmlToMarkdownConverter.convert(deprecatedTag.getDeprecatedText()).strip());
+                    javadocDescription.setDeprecatedDescription(toMarkdown(deprecatedTag.getDeprecatedText()));
                 }
             }
         }
 
         return javadocDescription;
     }
+
+    private String toMarkdown(String html) {
+        if (isPlainText(html)) {
+            return html.strip();
+        }
+        return htmlToMarkdownConverter.convert(html).strip();
+    }
+
+    /**
+     * Checks that the text is a single line without markup, markdown special characters and repeated whitespaces,
+     * so the HTML to markdown conversion would return the same text.
+     *
+     * @param text text
+     *
+     * @return true if the text can be used as is
+     */
+    static boolean isPlainText(String text) {
+        if (text == null) {
+            return false;
+        }
+        var stripped = text.strip();
+        if (stripped.isEmpty() || !Character.isLetter(stripped.charAt(0))) {
+            return false;
+        }
+        char prev = 0;
+        for (int i = 0; i < stripped.length(); i++) {
+            char c = stripped.charAt(i);
+            if (c == ' ' && prev == ' ') {
+                return false;
+            }
+            if (!Character.isLetterOrDigit(c) && PLAIN_TEXT_PUNCTUATION.indexOf(c) < 0) {
+                return false;
+            }
+            prev = c;
+        }
+        return true;
+    }
 }
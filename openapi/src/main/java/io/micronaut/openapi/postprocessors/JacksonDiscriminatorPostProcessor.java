@@ -16,7 +16,7 @@
 package io.micronaut.openapi.postprocessors;
 
 import io.micronaut.core.annotation.NonNull;
-import io.micronaut.core.util.StringUtils;
+import io.micronaut.openapi.visitor.SchemaRefUtils;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.media.StringSchema;
@@ -25,7 +25,6 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static io.micronaut.openapi.visitor.SchemaUtils.setSpecVersion;
-import static io.swagger.v3.oas.models.Components.COMPONENTS_SCHEMAS_REF;
 
 /**
  * Utility class to add missing "discriminator" property when using Jackson {@link com.fasterxml.jackson.annotation.JsonTypeInfo}
@@ -65,6 +64,7 @@ public class JacksonDiscriminatorPostProcessor {
     }
 
     private String extractComponentSchemaName(@NonNull String mapping) {
-        return mapping.replace(COMPONENTS_SCHEMAS_REF, StringUtils.EMPTY_STRING);
+        String schemaName = SchemaRefUtils.schemaNameFromRef(mapping);
+        return schemaName != null ? schemaName : mapping;
     }
 }
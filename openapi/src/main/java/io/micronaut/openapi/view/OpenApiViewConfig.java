@@ -27,7 +27,6 @@ import io.micronaut.openapi.visitor.Pair;
 import io.micronaut.openapi.visitor.group.OpenApiInfo;
 
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -35,8 +34,6 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.nio.file.StandardOpenOption;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -51,6 +48,8 @@ import static io.micronaut.openapi.visitor.ContextUtils.warn;
 import static io.micronaut.openapi.visitor.FileUtils.readFile;
 import static io.micronaut.openapi.visitor.FileUtils.resolve;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_CONTEXT_SERVER_PATH;
+import static io.micronaut.openapi.visitor.StaticResourceUtils.hashedFileName;
+import static io.micronaut.openapi.visitor.StaticResourceUtils.writeGzip;
 import static io.micronaut.openapi.visitor.StringUtil.COMMA;
 import static io.micronaut.openapi.visitor.StringUtil.DOLLAR;
 import static io.micronaut.openapi.visitor.StringUtil.SLASH;
@@ -92,6 +91,8 @@ public final class OpenApiViewConfig {
     private RedocConfig redocConfig;
     private RapidocConfig rapidocConfig;
     private OpenApiExplorerConfig openApiExplorerConfig;
+    private boolean hashedResources;
+    private boolean gzip;
     private final Map<Pair<String, String>, OpenApiInfo> openApiInfos;
 
     /**
@@ -177,6 +178,8 @@ public final class OpenApiViewConfig {
             cfg.swaggerUIConfig.rapiPDFConfig = rapiPDFConfig;
         }
         cfg.mappingPath = openApiMap.getOrDefault("mapping.path", DEFAULT_SPEC_MAPPING_PATH);
+        cfg.hashedResources = ConfigUtils.isViewsHashedResourcesEnabled(context);
+        cfg.gzip = ConfigUtils.isGzipEnabled(context);
         return cfg;
     }
 
@@ -199,44 +202,53 @@ public final class OpenApiViewConfig {
      */
     public void render(Path outputDir, VisitorContext context) throws IOException {
         if (redocConfig != null) {
-            copyResources(outputDir, context, REDOC, TEMPLATES_REDOC, redocConfig, redocConfig.rapiPDFConfig);
+            renderView(outputDir.resolve(REDOC), TEMPLATES_REDOC, redocConfig, redocConfig.rapiPDFConfig, context);
         }
         if (rapidocConfig != null) {
-            copyResources(outputDir, context, RAPIDOC, TEMPLATES_RAPIDOC, rapidocConfig, rapidocConfig.rapiPDFConfig);
+            renderView(outputDir.resolve(RAPIDOC), TEMPLATES_RAPIDOC, rapidocConfig, rapidocConfig.rapiPDFConfig, context);
         }
         if (openApiExplorerConfig != null) {
-            Path openapiExplorerDir = outputDir.resolve(OPENAPI_EXPLORER);
-            render(openApiExplorerConfig, openapiExplorerDir, TEMPLATES + SLASH + TEMPLATES_OPENAPI_EXPLORER + SLASH + TEMPLATE_INDEX_HTML, context);
-            copyResources(openApiExplorerConfig, openapiExplorerDir, TEMPLATES_OPENAPI_EXPLORER, openApiExplorerConfig.getResources(), context);
-            if (openApiExplorerConfig.rapiPDFConfig.enabled) {
-                copyResources(openApiExplorerConfig.rapiPDFConfig, openapiExplorerDir, TEMPLATES_RAPIPDF, openApiExplorerConfig.rapiPDFConfig.getResources(), context);
-            }
+            renderView(outputDir.resolve(OPENAPI_EXPLORER), TEMPLATES_OPENAPI_EXPLORER, openApiExplorerConfig, openApiExplorerConfig.rapiPDFConfig, context);
         }
         if (swaggerUIConfig != null) {
-            Path swaggerUiDir = copyResources(outputDir, context, SWAGGER_UI, TEMPLATES_SWAGGER_UI, swaggerUIConfig, swaggerUIConfig.rapiPDFConfig);
+            Path swaggerUiDir = outputDir.resolve(SWAGGER_UI);
+            Map<String, String> resourceNames = copyResources(swaggerUiDir, TEMPLATES_SWAGGER_UI, swaggerUIConfig, swaggerUIConfig.rapiPDFConfig, context);
+            copySwaggerUiTheme(swaggerUIConfig, swaggerUiDir, TEMPLATES_SWAGGER_UI, resourceNames, context);
+            render(swaggerUIConfig, swaggerUiDir, TEMPLATES + SLASH + TEMPLATES_SWAGGER_UI + SLASH + TEMPLATE_INDEX_HTML, resourceNames, context);
             if (SwaggerUIConfig.hasOauth2Option(swaggerUIConfig.options)) {
-                render(swaggerUIConfig, swaggerUiDir, TEMPLATES + SLASH + TEMPLATES_SWAGGER_UI + SLASH + TEMPLATE_OAUTH_2_REDIRECT_HTML, context);
+                render(swaggerUIConfig, swaggerUiDir, TEMPLATES + SLASH + TEMPLATES_SWAGGER_UI + SLASH + TEMPLATE_OAUTH_2_REDIRECT_HTML, resourceNames, context);
             }
-            copySwaggerUiTheme(swaggerUIConfig, swaggerUiDir, TEMPLATES_SWAGGER_UI, context);
         }
     }
 
-    private Path copyResources(@NonNull Path outputDir,
-                               @NonNull VisitorContext context,
-                               @NonNull String otherDir,
-                               @NonNull String templates,
-                               AbstractViewConfig viewConfig,
-                               AbstractViewConfig rapidPDFConfig) throws IOException {
-        Path dir = outputDir.resolve(otherDir);
-        render(viewConfig, dir, TEMPLATES + SLASH + templates + SLASH + TEMPLATE_INDEX_HTML, context);
-        copyResources(viewConfig, dir, templates, viewConfig.getResources(), context);
-        if (rapidPDFConfig.isEnabled()) {
-            copyResources(rapidPDFConfig, dir, TEMPLATES_RAPIPDF, rapidPDFConfig.getResources(), context);
-        }
-        return dir;
+    private void renderView(@NonNull Path dir,
+                            @NonNull String templates,
+                            AbstractViewConfig viewConfig,
+                            AbstractViewConfig rapiPDFConfig,
+                            @Nullable VisitorContext context) throws IOException {
+        Map<String, String> resourceNames = copyResources(dir, templates, viewConfig, rapiPDFConfig, context);
+        render(viewConfig, dir, TEMPLATES + SLASH + templates + SLASH + TEMPLATE_INDEX_HTML, resourceNames, context);
+    }
+
+    /**
+     * Copy resources of the view and RapiPDF resources.
+     *
+     * @return hashed file names by original file names, empty if resources are copied with original names
+     */
+    private Map<String, String> copyResources(@NonNull Path dir,
+                                              @NonNull String templates,
+                                              AbstractViewConfig viewConfig,
+                                              AbstractViewConfig rapiPDFConfig,
+                                              @Nullable VisitorContext context) throws IOException {
+        var resourceNames = new HashMap<String, String>();
+        copyResources(viewConfig, dir, templates, viewConfig.getResources(), resourceNames, context);
+        if (rapiPDFConfig.isEnabled()) {
+            copyResources(rapiPDFConfig, dir, TEMPLATES_RAPIPDF, rapiPDFConfig.getResources(), resourceNames, context);
+        }
+        return resourceNames;
     }
 
-    private void copySwaggerUiTheme(SwaggerUIConfig cfg, Path outputDir, String templatesDir, VisitorContext context) throws IOException {
+    private void copySwaggerUiTheme(SwaggerUIConfig cfg, Path outputDir, String templatesDir, Map<String, String> resourceNames, VisitorContext context) throws IOException {
 
         if (!cfg.copyTheme) {
             return;
@@ -252,23 +264,20 @@ public final class OpenApiViewConfig {
         ClassLoader classLoader = getClass().getClassLoader();
         try (var is = classLoader.getResourceAsStream(TEMPLATES + SLASH + templatesDir + SLASH + THEMES_DIR + SLASH + themeFileName)) {
 
-            Files.copy(is, Paths.get(resDir.toString(), themeFileName), StandardCopyOption.REPLACE_EXISTING);
-            Path file = resDir.resolve(themeFileName);
-            if (context != null) {
-                info("Writing OpenAPI View Resources to destination: " + file, context);
-                var classesOutputPath = ContextUtils.getClassesOutputPath(context);
-                if (classesOutputPath != null) {
-                    // add relative path for the file, so that the micronaut-graal visitor knows about it
-                    addGeneratedResource(classesOutputPath.relativize(file).toString(), context);
-                }
+            byte[] content = is.readAllBytes();
+            String fileName = themeFileName;
+            if (hashedResources && cfg.isDefaultThemeUrl) {
+                fileName = hashedFileName(themeFileName, content);
+                resourceNames.put(themeFileName, fileName);
             }
+            writeResource(resDir.resolve(fileName), content, "Writing OpenAPI View Resources to destination: ", context);
         } catch (Exception e) {
             warn("Can't copy resource: " + themeFileName, context);
             throw new RuntimeException(e);
         }
     }
 
-    private void copyResources(AbstractViewConfig cfg, Path outputDir, String templateDir, List<String> resources, VisitorContext context) throws IOException {
+    private void copyResources(AbstractViewConfig cfg, Path outputDir, String templateDir, List<String> resources, Map<String, String> resourceNames, VisitorContext context) throws IOException {
         if (!cfg.copyResources) {
             return;
         }
@@ -280,21 +289,20 @@ public final class OpenApiViewConfig {
             Files.createDirectories(outputResDir);
         }
 
+        // with custom js url, views don't reference the copied resources, so there is nothing to rewrite
+        boolean hashNames = hashedResources && cfg.isDefaultJsUrl;
+
         if (CollectionUtils.isNotEmpty(resources)) {
             for (String resource : resources) {
                 try (var is = classLoader.getResourceAsStream(TEMPLATES + SLASH + templateDir + SLASH + resource)) {
 
-                    Files.copy(is, Paths.get(outputDir.toString(), resource), StandardCopyOption.REPLACE_EXISTING);
-                    Path file = outputResDir.resolve(resource);
-
-                    if (context != null) {
-                        info("Writing OpenAPI View Resources to destination: " + file, context);
-                        var classesOutputPath = ContextUtils.getClassesOutputPath(context);
-                        if (classesOutputPath != null) {
-                            // add relative path for the file, so that the micronaut-graal visitor knows about it
-                            addGeneratedResource(classesOutputPath.relativize(file).toString(), context);
-                        }
+                    byte[] content = is.readAllBytes();
+                    String targetResource = resource;
+                    if (hashNames) {
+                        targetResource = hashedFileName(resource, content);
+                        resourceNames.put(fileName(resource), fileName(targetResource));
                     }
+                    writeResource(outputDir.resolve(targetResource), content, "Writing OpenAPI View Resources to destination: ", context);
                 } catch (Exception e) {
                     warn("Can't copy resource: " + resource, context);
                     throw new RuntimeException(e);
@@ -303,6 +311,38 @@ public final class OpenApiViewConfig {
         }
     }
 
+    private void writeResource(Path file, byte[] content, String message, @Nullable VisitorContext context) throws IOException {
+        Files.write(file, content);
+        Path gzipFile = gzip ? writeGzip(file) : null;
+        if (context != null) {
+            info(message + file, context);
+            var classesOutputPath = ContextUtils.getClassesOutputPath(context);
+            if (classesOutputPath != null) {
+                // add relative path for the file, so that the micronaut-graal visitor knows about it
+                addGeneratedResource(classesOutputPath.relativize(file).toString(), context);
+                if (gzipFile != null) {
+                    addGeneratedResource(classesOutputPath.relativize(gzipFile).toString(), context);
+                }
+            }
+        }
+    }
+
+    private static String fileName(String resource) {
+        return resource.substring(resource.lastIndexOf(SLASH) + 1);
+    }
+
+    /**
+     * Replace resource URLs in the rendered template by URLs with hashed file names. Only URLs ending with
+     * the file name and a quote are replaced, so the file names are not replaced in other places.
+     */
+    private static String replaceResourceNames(String template, Map<String, String> resourceNames) {
+        for (var entry : resourceNames.entrySet()) {
+            template = template.replace(SLASH + entry.getKey() + '"', SLASH + entry.getValue() + '"')
+                .replace(SLASH + entry.getKey() + '\'', SLASH + entry.getValue() + '\'');
+        }
+        return template;
+    }
+
     private String readTemplateFromClasspath(String templateName) throws IOException {
         ClassLoader classLoader = getClass().getClassLoader();
         try (var in = classLoader.getResourceAsStream(templateName);
@@ -358,7 +398,7 @@ public final class OpenApiViewConfig {
         }
     }
 
-    private void render(AbstractViewConfig cfg, Path outputDir, String templateName, @Nullable VisitorContext context) throws IOException {
+    private void render(AbstractViewConfig cfg, Path outputDir, String templateName, Map<String, String> resourceNames, @Nullable VisitorContext context) throws IOException {
 
         String template;
         if (StringUtils.isEmpty(cfg.templatePath)) {
@@ -370,22 +410,14 @@ public final class OpenApiViewConfig {
         template = cfg.render(template, context);
         template = replacePlaceHolder(template, "specURL", getSpecURL(cfg, context), StringUtils.EMPTY_STRING);
         template = replacePlaceHolder(template, "title", title, StringUtils.EMPTY_STRING);
+        if (!resourceNames.isEmpty()) {
+            template = replaceResourceNames(template, resourceNames);
+        }
         if (!Files.exists(outputDir)) {
             Files.createDirectories(outputDir);
         }
         String fileName = templateName.substring(templateName.lastIndexOf(SLASH) + 1);
-        Path file = outputDir.resolve(fileName);
-        info("Writing OpenAPI View to destination: " + file, context);
-        var classesOutputPath = ContextUtils.getClassesOutputPath(context);
-        if (classesOutputPath != null) {
-            // add relative path for the file, so that the micronaut-graal visitor knows about it
-            addGeneratedResource(classesOutputPath.relativize(file).toString(), context);
-        }
-        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
-            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
-        ) {
-            writer.write(template);
-        }
+        writeResource(outputDir.resolve(fileName), template.getBytes(StandardCharsets.UTF_8), "Writing OpenAPI View to destination: ", context);
     }
 
     /**
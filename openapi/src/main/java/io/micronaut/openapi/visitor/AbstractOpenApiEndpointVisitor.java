@@ -207,6 +207,12 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
      * @param context The visitor context
      */
     public void visitClass(ClassElement element, VisitorContext context) {
+        try (var ignored = MetricsUtils.start("visitClass.endpoint", context)) {
+            visitClassInternal(element, context);
+        }
+    }
+
+    private void visitClassInternal(ClassElement element, VisitorContext context) {
         if (!isOpenApiEnabled(context) || !isSpecGenerationEnabled(context)) {
             return;
         }
@@ -400,6 +406,12 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
      * @param context The visitor context
      */
     public void visitMethod(MethodElement element, VisitorContext context) {
+        try (var ignored = MetricsUtils.start("visitMethod.endpoint", context)) {
+            visitMethodInternal(element, context);
+        }
+    }
+
+    private void visitMethodInternal(MethodElement element, VisitorContext context) {
         if (!isOpenApiEnabled(context) || !isSpecGenerationEnabled(context)) {
             return;
         }
@@ -415,6 +427,7 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
             return;
         }
         incrementVisitedElements(context);
+        MetricsUtils.count("endpoints", 1, context);
         OpenAPI openApi = Utils.resolveOpenApi(context);
         JavadocDescription javadocDescription;
         boolean permitsRequestBody = HttpMethod.permitsRequestBody(httpMethod);
@@ -468,7 +481,7 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
 
                 readCallbacks(element, context, swaggerOperation, jsonViewClass);
 
-                javadocDescription = getMethodDescription(element, swaggerOperation);
+                javadocDescription = getMethodDescription(element, swaggerOperation, context);
 
                 if (isDeprecated(element)) {
                     swaggerOperation.setDeprecated(true);
@@ -1346,7 +1359,8 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
     }
 
     private JavadocDescription getMethodDescription(MethodElement element,
-                                                    Operation swaggerOperation) {
+                                                    Operation swaggerOperation,
+                                                    VisitorContext context) {
         String descr = description(element);
         if (StringUtils.isNotEmpty(descr) && StringUtils.isEmpty(swaggerOperation.getDescription())) {
             swaggerOperation.setDescription(descr);
@@ -1356,9 +1370,7 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
             }
             swaggerOperation.setSummary(summary);
         }
-        JavadocDescription javadocDescription = element.getDocumentation()
-            .map(Utils.getJavadocParser()::parse)
-            .orElse(null);
+        JavadocDescription javadocDescription = Utils.parseJavadoc(element.getDocumentation().orElse(null), context);
 
         if (javadocDescription != null) {
             if (StringUtils.isEmpty(swaggerOperation.getDescription()) && StringUtils.hasText(javadocDescription.getMethodDescription())) {
@@ -1933,10 +1945,10 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
         PackageElement packageEl = classEl.getPackage();
         String packageName = packageEl.getName();
 
-        processGroups(groups, excludedGroups, methodEl.getAnnotationValuesByType(OpenAPIGroup.class), groupPropertiesMap);
-        processGroups(groups, excludedGroups, packageEl.getAnnotationValuesByType(OpenAPIGroup.class), groupPropertiesMap);
+        processGroups(groups, excludedGroups, methodEl.getAnnotationValuesByType(OpenAPIGroup.class), groupPropertiesMap, context);
+        processGroups(groups, excludedGroups, packageEl.getAnnotationValuesByType(OpenAPIGroup.class), groupPropertiesMap, context);
 
-        processGroupsFromIncludedEndpoints(groups, excludedGroups, classEl.getName());
+        processGroupsFromIncludedEndpoints(groups, excludedGroups, classEl.getName(), context);
 
         // properties from system properties or from environment more priority than annotations
         for (GroupProperties groupProperties : groupPropertiesMap.values()) {
@@ -1971,7 +1983,7 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
                 version = versionAnns.get(0).stringValue().orElse(null);
             }
             if (version != null) {
-                Utils.getAllKnownVersions().add(version);
+                Utils.getAllKnownVersions(context).add(version);
             }
             if (versioningProperties.isParameterEnabled()) {
                 addVersionParameters(swaggerOperation, versioningProperties.getParameterNames(), false);
@@ -1981,12 +1993,8 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
             }
         }
 
-        Map<String, List<EndpointInfo>> endpointInfosMap = Utils.getEndpointInfos();
-        if (endpointInfosMap == null) {
-            endpointInfosMap = new HashMap<>();
-            Utils.setEndpointInfos(endpointInfosMap);
-        }
-        List<EndpointInfo> endpointInfos = endpointInfosMap.computeIfAbsent(methodKey, (k) -> new ArrayList<>());
+        Map<String, List<EndpointInfo>> endpointInfosMap = Utils.getEndpointInfos(context);
+        List<EndpointInfo> endpointInfos = endpointInfosMap.computeIfAbsent(methodKey, (k) -> Collections.synchronizedList(new ArrayList<>()));
         endpointInfos.add(new EndpointInfo(
             url,
             httpMethod,
@@ -2001,7 +2009,8 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
     private void processGroups(Map<String, EndpointGroupInfo> groups,
                                List<String> excludedGroups,
                                List<AnnotationValue<OpenAPIGroup>> annotationValues,
-                               Map<String, GroupProperties> groupPropertiesMap) {
+                               Map<String, GroupProperties> groupPropertiesMap,
+                               VisitorContext context) {
         if (CollectionUtils.isEmpty(annotationValues)) {
             return;
         }
@@ -2025,18 +2034,20 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
                 groupInfo.getExtensions().putAll(extensions);
             }
         }
-        Set<String> allKnownGroups = Utils.getAllKnownGroups();
+        Set<String> allKnownGroups = Utils.getAllKnownGroups(context);
         allKnownGroups.addAll(groups.keySet());
         allKnownGroups.addAll(excludedGroups);
     }
 
-    private void processGroupsFromIncludedEndpoints(Map<String, EndpointGroupInfo> groups, List<String> excludedGroups, String className) {
-        if (CollectionUtils.isEmpty(Utils.getIncludedClassesGroups()) && CollectionUtils.isEmpty(Utils.getIncludedClassesGroupsExcluded())) {
+    private void processGroupsFromIncludedEndpoints(Map<String, EndpointGroupInfo> groups, List<String> excludedGroups, String className, VisitorContext context) {
+        Map<String, List<String>> includedClassesGroups = Utils.getIncludedClassesGroups(context);
+        Map<String, List<String>> includedClassesGroupsExcluded = Utils.getIncludedClassesGroupsExcluded(context);
+        if (includedClassesGroups.isEmpty() && includedClassesGroupsExcluded.isEmpty()) {
             return;
         }
 
-        List<String> classGroups = Utils.getIncludedClassesGroups() != null ? Utils.getIncludedClassesGroups().get(className) : Collections.emptyList();
-        List<String> classExcludedGroups = Utils.getIncludedClassesGroupsExcluded() != null ? Utils.getIncludedClassesGroupsExcluded().get(className) : Collections.emptyList();
+        List<String> classGroups = includedClassesGroups.getOrDefault(className, Collections.emptyList());
+        List<String> classExcludedGroups = includedClassesGroupsExcluded.getOrDefault(className, Collections.emptyList());
 
         for (var classGroup : classGroups) {
             if (groups.containsKey(classGroup)) {
@@ -2046,7 +2057,7 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
         }
         excludedGroups.addAll(classExcludedGroups);
 
-        Set<String> allKnownGroups = Utils.getAllKnownGroups();
+        Set<String> allKnownGroups = Utils.getAllKnownGroups(context);
         allKnownGroups.addAll(classGroups);
         allKnownGroups.addAll(classExcludedGroups);
     }
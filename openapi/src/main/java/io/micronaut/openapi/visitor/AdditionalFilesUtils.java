@@ -0,0 +1,213 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reading of the additional OpenAPI files (see {@link OpenApiConfigProperty#MICRONAUT_OPENAPI_ADDITIONAL_FILES}).
+ * <p>
+ * Files are parsed in parallel and returned sorted by file name, so they are merged in the same order
+ * on every file system. The files are read once per compilation, so parsed files are cached in the JVM,
+ * which makes the cache useful for the builds in the same Gradle daemon. The cache is keyed by path,
+ * last modified time and size. It is bounded: it keeps at most {@value #CACHE_MAX_SIZE} recently used
+ * files, parsed trees are softly referenced and entries of files, which are not in the directory
+ * anymore, are removed on every read. The cache keeps the parsed JSON tree, not the {@link OpenAPI}
+ * object, because merged objects are modified later: every read binds a new object.
+ *
+ * @since 6.14.0
+ */
+@Internal
+public final class AdditionalFilesUtils {
+
+    /**
+     * Maximum number of cached files.
+     */
+    static final int CACHE_MAX_SIZE = 256;
+
+    /**
+     * Parsed files by path in access order, guarded by itself.
+     */
+    private static final Map<Path, CachedFile> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, CachedFile> eldest) {
+            return size() > CACHE_MAX_SIZE;
+        }
+    };
+
+    private AdditionalFilesUtils() {
+    }
+
+    /**
+     * Find YAML and JSON files in the directory.
+     *
+     * @param directory directory with additional files
+     *
+     * @return files sorted by file name
+     *
+     * @throws IOException if the directory can't be read
+     */
+    public static List<Path> findFiles(Path directory) throws IOException {
+        var files = new ArrayList<Path>();
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, path -> {
+            var pathStr = path.toString().toLowerCase(Locale.US);
+            return FileUtils.isYaml(pathStr) || FileUtils.isJson(pathStr);
+        })) {
+            paths.forEach(files::add);
+        }
+        files.sort(Comparator.comparing(path -> path.getFileName().toString()));
+        return files;
+    }
+
+    /**
+     * Parse files in parallel. Results are returned in the order of the files. Errors are returned in the results
+     * and not logged, because the visitor context must not be used from worker threads.
+     *
+     * @param directory directory with additional files
+     * @param files files of the directory to parse
+     *
+     * @return parse results in the order of the files
+     */
+    public static List<ParsedFile> parse(Path directory, List<Path> files) {
+        // forget files, which were deleted or moved
+        var fileSet = new HashSet<>(files);
+        synchronized (CACHE) {
+            CACHE.keySet().removeIf(path -> directory.equals(path.getParent()) && !fileSet.contains(path));
+        }
+        // mappers depend on the OpenAPI version of the current compilation, so get them in the calling thread
+        var yamlMapper = Utils.getYamlMapper();
+        var jsonMapper = Utils.getJsonMapper();
+        var stream = files.size() > 1 ? files.parallelStream() : files.stream();
+        return stream
+            .map(path -> parse(path, FileUtils.isYaml(path.toString().toLowerCase(Locale.US)) ? yamlMapper : jsonMapper))
+            .toList();
+    }
+
+    private static ParsedFile parse(Path path, ObjectMapper mapper) {
+        try {
+            var attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            CachedFile cachedFile;
+            synchronized (CACHE) {
+                cachedFile = CACHE.get(path);
+            }
+            JsonNode tree = null;
+            if (cachedFile != null
+                && cachedFile.mapper == mapper
+                && cachedFile.lastModifiedTime.equals(attributes.lastModifiedTime())
+                && cachedFile.size == attributes.size()) {
+                tree = cachedFile.tree.get();
+            }
+            boolean cacheHit = tree != null;
+            if (!cacheHit) {
+                tree = mapper.readTree(path.toFile());
+                var newCachedFile = new CachedFile(mapper, attributes.lastModifiedTime(), attributes.size(), new SoftReference<>(tree));
+                synchronized (CACHE) {
+                    CACHE.put(path, newCachedFile);
+                }
+            }
+            return new ParsedFile(path, mapper.treeToValue(tree, OpenAPI.class), cacheHit, null);
+        } catch (IOException e) {
+            synchronized (CACHE) {
+                CACHE.remove(path);
+            }
+            return new ParsedFile(path, null, false, e);
+        }
+    }
+
+    /**
+     * Clear the cache of parsed files.
+     */
+    public static void clean() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    /**
+     * Checks, that the file is in the cache.
+     *
+     * @param path file path
+     *
+     * @return is the file cached
+     */
+    static boolean isCached(Path path) {
+        synchronized (CACHE) {
+            return CACHE.containsKey(path);
+        }
+    }
+
+    /**
+     * Returns the number of cached files.
+     *
+     * @return number of cached files
+     */
+    static int cacheSize() {
+        synchronized (CACHE) {
+            return CACHE.size();
+        }
+    }
+
+    /**
+     * Result of parsing of one file.
+     *
+     * @param path file path
+     * @param openApi parsed OpenAPI object, null if the file can't be parsed
+     * @param cacheHit is the parsed file taken from the cache
+     * @param error parsing error
+     */
+    public record ParsedFile(
+        Path path,
+        @Nullable OpenAPI openApi,
+        boolean cacheHit,
+        @Nullable IOException error
+    ) {
+    }
+
+    /**
+     * Parsed file with the file attributes at the time of parsing.
+     *
+     * @param mapper mapper used to parse the file
+     * @param lastModifiedTime last modified time of the file
+     * @param size file size
+     * @param tree softly referenced parsed file
+     */
+    private record CachedFile(
+        ObjectMapper mapper,
+        FileTime lastModifiedTime,
+        long size,
+        SoftReference<JsonNode> tree
+    ) {
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.micronaut.openapi.visitor;
 
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.inject.visitor.VisitorContext;
 import io.micronaut.openapi.adoc.OpenApiToAdocConverter;
@@ -58,13 +59,44 @@ public final class AdocModule {
      * @param context visitor context
      */
     public static void convert(OpenApiInfo openApiInfo, Map<String, String> props, VisitorContext context) {
+        write(openApiInfo, props, render(openApiInfo, props, context), context);
+    }
 
+    /**
+     * Convert openAPI object to adoc format without writing it to file. This method doesn't change
+     * the visitor state, so it can be called for different groups in parallel.
+     *
+     * @param openApiInfo openApiInfo object
+     * @param props openapi-adoc properties
+     * @param context visitor context
+     *
+     * @return adoc content or null, if conversion failed
+     */
+    @Nullable
+    public static String render(OpenApiInfo openApiInfo, Map<String, String> props, VisitorContext context) {
         try {
             var writer = new StringWriter();
             OpenApiToAdocConverter.convert(openApiInfo.getOpenApi(), props, writer);
+            return writer.toString();
+        } catch (Exception e) {
+            warn("Can't convert to ADoc format\n" + Utils.printStackTrace(e), context);
+            return null;
+        }
+    }
 
-            var adoc = writer.toString();
-
+    /**
+     * Save adoc content, rendered by {@link #render(OpenApiInfo, Map, VisitorContext)}, to file.
+     *
+     * @param openApiInfo openApiInfo object
+     * @param props openapi-adoc properties
+     * @param adoc adoc content
+     * @param context visitor context
+     */
+    public static void write(OpenApiInfo openApiInfo, Map<String, String> props, @Nullable String adoc, VisitorContext context) {
+        if (adoc == null) {
+            return;
+        }
+        try {
             var outputPath = getOutputPath(openApiInfo, props, context);
             info("Writing AsciiDoc OpenAPI file to destination: " + outputPath, context);
             var classesOutputPath = ContextUtils.getClassesOutputPath(context);
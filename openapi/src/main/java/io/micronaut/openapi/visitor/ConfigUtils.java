@@ -30,6 +30,7 @@ import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.inject.ast.ClassElement;
 import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.openapi.OpenApiUtils;
 import io.micronaut.openapi.visitor.group.GroupProperties;
 import io.micronaut.openapi.visitor.group.OpenApiInfo;
 import io.micronaut.openapi.visitor.group.RouterVersioningProperties;
@@ -88,7 +89,11 @@ import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENA
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_EXPAND_PREFIX;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_GENERATOR_EXTENSIONS_ENABLED;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_GROUPS;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_GZIP_ENABLED;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_CACHE_ENABLED;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_JSON_VIEW_DEFAULT_INCLUSION;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_METRICS_ENABLED;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_PARALLELISM;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_PROJECT_DIR;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_SCHEMA;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_SCHEMA_DECORATOR_POSTFIX;
@@ -103,8 +108,10 @@ import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENA
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_SCHEMA_PREFIX;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_SECURITY_DEFAULT_SCHEMA_NAME;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_SECURITY_ENABLED;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_SMILE_ENABLED;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_SWAGGER_FILE_GENERATION_ENABLED;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_VERSIONING_ENABLED;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_VIEWS_HASHED_RESOURCES_ENABLED;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_SERVER_CONTEXT_PATH;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.OPENAPI_CONFIG_FILE;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.SPRING_SERVER_CONTEXT_PATH;
@@ -360,6 +367,46 @@ public final class ConfigUtils {
         return getBooleanProperty(MICRONAUT_OPENAPI_ADOC_ENABLED, true, context);
     }
 
+    public static boolean isIncrementalCacheEnabled(VisitorContext context) {
+        return getBooleanProperty(MICRONAUT_OPENAPI_INCREMENTAL_CACHE_ENABLED, false, context);
+    }
+
+    public static boolean isMetricsEnabled(VisitorContext context) {
+        return getBooleanProperty(MICRONAUT_OPENAPI_METRICS_ENABLED, false, context);
+    }
+
+    public static boolean isGzipEnabled(VisitorContext context) {
+        return getBooleanProperty(MICRONAUT_OPENAPI_GZIP_ENABLED, false, context);
+    }
+
+    public static boolean isSmileEnabled(VisitorContext context) {
+        if (!getBooleanProperty(MICRONAUT_OPENAPI_SMILE_ENABLED, false, context)) {
+            return false;
+        }
+        if (!OpenApiUtils.isSmileAvailable()) {
+            warn("Property " + MICRONAUT_OPENAPI_SMILE_ENABLED + " is true, but com.fasterxml.jackson.dataformat:jackson-dataformat-smile isn't on the annotation processor classpath. Smile files are not written.", context);
+            return false;
+        }
+        return true;
+    }
+
+    public static boolean isViewsHashedResourcesEnabled(VisitorContext context) {
+        return getBooleanProperty(MICRONAUT_OPENAPI_VIEWS_HASHED_RESOURCES_ENABLED, false, context);
+    }
+
+    public static int getParallelism(VisitorContext context) {
+        var value = getConfigProperty(MICRONAUT_OPENAPI_PARALLELISM, context);
+        if (StringUtils.isEmpty(value)) {
+            return 1;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(value.strip()));
+        } catch (NumberFormatException e) {
+            warn("Incorrect value for property " + MICRONAUT_OPENAPI_PARALLELISM + ": " + value + ". Parallel processing is disabled.", context);
+            return 1;
+        }
+    }
+
     public static List<Pair<String, String>> getExpandableProperties(VisitorContext context) {
 
         Boolean propertiesLoaded = ContextUtils.get(MICRONAUT_INTERNAL_EXPANDABLE_PROPERTIES_LOADED, Boolean.class, context);
@@ -616,7 +663,7 @@ public final class ConfigUtils {
             }
         }
 
-        Utils.getAllKnownGroups().addAll(groupPropertiesMap.keySet());
+        Utils.getAllKnownGroups(context).addAll(groupPropertiesMap.keySet());
 
         ContextUtils.put(MICRONAUT_INTERNAL_GROUPS, groupPropertiesMap, context);
 
@@ -97,6 +97,18 @@ public interface ContextProperty {
      * Calculated class output directory path.
      */
     String MICRONAUT_INTERNAL_CLASSPATH_OUTPUT = "micronaut.internal.classpath.output";
+    /**
+     * Incremental cache state of the current compilation.
+     */
+    String MICRONAUT_INTERNAL_INCREMENTAL_CACHE = "micronaut.internal.incremental.cache";
+    /**
+     * Visitors state of the current compilation.
+     */
+    String MICRONAUT_INTERNAL_VISITOR_SESSION = "micronaut.internal.visitor.session";
+    /**
+     * Build-time metrics of the current compilation.
+     */
+    String MICRONAUT_INTERNAL_METRICS = "micronaut.internal.metrics";
 
     String MICRONAUT_INTERNAL_CHILD_PATH = "micronaut.internal.child.path";
     String MICRONAUT_INTERNAL_CHILD_OP_ID_PREFIX = "micronaut.internal.opId.prefix";
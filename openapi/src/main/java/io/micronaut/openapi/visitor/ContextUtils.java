@@ -37,7 +37,8 @@ import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_GE
 import static io.micronaut.openapi.visitor.StringUtil.WILDCARD;
 
 /**
- * Convert utilities methods.
+ * Convert utilities methods. Access to the visitor context is synchronized on the context object,
+ * so these methods can be called from parallel group processing.
  *
  * @since 4.5.0
  */
@@ -84,6 +85,12 @@ public final class ContextUtils {
         if (context == null) {
             return null;
         }
+        synchronized (context) {
+            return visitMetaInfFileInternal(path, context);
+        }
+    }
+
+    private static GeneratedFile visitMetaInfFileInternal(String path, VisitorContext context) {
         var cachedFile = get(MICRONAUT_INTERNAL_GENERATED_FILE + path, GeneratedFile.class, null, context);
         if (cachedFile != null) {
             return cachedFile;
@@ -125,7 +132,9 @@ public final class ContextUtils {
 
     public static void warn(String message, @Nullable VisitorContext context, @Nullable Element element) {
         if (context != null) {
-            context.warn(message, element);
+            synchronized (context) {
+                context.warn(message, element);
+            }
         } else {
             System.err.println(message);
         }
@@ -137,7 +146,9 @@ public final class ContextUtils {
 
     public static void info(String message, @Nullable VisitorContext context, @Nullable Element element) {
         if (context != null) {
-            context.info(message, element);
+            synchronized (context) {
+                context.info(message, element);
+            }
         } else {
             System.out.println(message);
         }
@@ -147,7 +158,9 @@ public final class ContextUtils {
         if (context == null) {
             return;
         }
-        context.addGeneratedResource(path);
+        synchronized (context) {
+            context.addGeneratedResource(path);
+        }
     }
 
     public static <T> T get(String paramName, Argument<T> arg, VisitorContext context) {
@@ -155,7 +168,12 @@ public final class ContextUtils {
     }
 
     public static <T> T get(String paramName, Argument<T> arg, T defaultValue, VisitorContext context) {
-        return context != null ? context.get(paramName, arg).orElse(defaultValue) : defaultValue;
+        if (context == null) {
+            return defaultValue;
+        }
+        synchronized (context) {
+            return context.get(paramName, arg).orElse(defaultValue);
+        }
     }
 
     public static <T> T get(String paramName, Class<T> arg, VisitorContext context) {
@@ -163,24 +181,35 @@ public final class ContextUtils {
     }
 
     public static <T> T get(String paramName, Class<T> arg, T defaultValue, VisitorContext context) {
-        return context != null ? context.get(paramName, arg).orElse(defaultValue) : defaultValue;
+        if (context == null) {
+            return defaultValue;
+        }
+        synchronized (context) {
+            return context.get(paramName, arg).orElse(defaultValue);
+        }
     }
 
     public static <T> void put(CharSequence paramName, T value, VisitorContext context) {
         if (context != null) {
-            context.put(paramName, value);
+            synchronized (context) {
+                context.put(paramName, value);
+            }
         }
     }
 
     public static void remove(String paramName, VisitorContext context) {
         if (context != null) {
-            context.remove(paramName);
+            synchronized (context) {
+                context.remove(paramName);
+            }
         }
     }
 
     public static boolean contains(String paramName, VisitorContext context) {
         if (context != null) {
-            return context.contains(paramName);
+            synchronized (context) {
+                return context.contains(paramName);
+            }
         }
         return false;
     }
@@ -134,7 +134,8 @@ public final class ConvertUtils {
     }
 
     /**
-     * Convert the given Map to a JSON node and then to the specified type.
+     * Convert the given Map to the specified type. Values are bound to the model object directly,
+     * if possible, otherwise they are converted to a JSON node and then to the specified type.
      *
      * @param <T> The output class type
      * @param values The values
@@ -144,7 +145,12 @@ public final class ConvertUtils {
      * @return The converted instance
      */
     public static <T> T toValue(Map<CharSequence, Object> values, VisitorContext context, Class<T> type) {
-        JsonNode node = toJson(values, context);
+        Map<CharSequence, Object> valueMap = toValueMap(values, context);
+        T value = ModelBindUtils.bind(valueMap, type, context);
+        if (value != null) {
+            return value;
+        }
+        JsonNode node = JSON_MAPPER.valueToTree(valueMap);
         try {
             return ConvertUtils.treeToValue(node, type, context);
         } catch (JsonProcessingException e) {
@@ -324,36 +330,59 @@ public final class ConvertUtils {
         String elType = jn.has(PROP_TYPE) ? jn.get(PROP_TYPE).textValue() : null;
         String elFormat = jn.has(PROP_ONE_FORMAT) ? jn.get(PROP_ONE_FORMAT).textValue() : null;
         JsonNode defaultValueNode = jn.get(PROP_DEFAULT_VALUE);
+        JsonNode allowableValuesNode = jn.get(PROP_ALLOWABLE_VALUES);
+        List<String> allowableValues = null;
+        if (allowableValuesNode != null && allowableValuesNode.isArray()) {
+            allowableValues = new ArrayList<>(allowableValuesNode.size());
+            for (JsonNode allowableValueNode : allowableValuesNode) {
+                if (allowableValueNode != null) {
+                    allowableValues.add(allowableValueNode.textValue());
+                }
+            }
+        }
+        setDefaultAndAllowableValues(value, elType, elFormat, defaultValueNode != null ? defaultValueNode.textValue() : null, allowableValues, context);
+
+        return value;
+    }
+
+    /**
+     * Set normalized default value and allowable values, read from annotation, to the model object.
+     *
+     * @param value model object
+     * @param elType type of the values
+     * @param elFormat format of the values
+     * @param defaultValue default value
+     * @param allowableValues allowable values
+     * @param context visitor context
+     * @param <T> model type
+     */
+    static <T> void setDefaultAndAllowableValues(T value, @Nullable String elType, @Nullable String elFormat,
+                                                 @Nullable String defaultValue, @Nullable List<String> allowableValues,
+                                                 VisitorContext context) {
         // fix for default value
-        Object defaultValue;
+        Object normalizedDefaultValue;
         try {
-            defaultValue = ConvertUtils.normalizeValue(defaultValueNode != null ? defaultValueNode.textValue() : null, elType, elFormat, context);
+            normalizedDefaultValue = ConvertUtils.normalizeValue(defaultValue, elType, elFormat, context);
         } catch (JsonProcessingException e) {
-            defaultValue = defaultValueNode != null ? defaultValueNode.textValue() : null;
+            normalizedDefaultValue = defaultValue;
         }
 
         BeanMap<T> beanMap = BeanMap.of(value);
-        if (defaultValue != null) {
-            beanMap.put(PROP_DEFAULT, defaultValue);
+        if (normalizedDefaultValue != null) {
+            beanMap.put(PROP_DEFAULT, normalizedDefaultValue);
         }
 
-        JsonNode allowableValuesNode = jn.get(PROP_ALLOWABLE_VALUES);
-        if (allowableValuesNode != null && allowableValuesNode.isArray()) {
-            var allowableValues = new ArrayList<>(allowableValuesNode.size());
-            for (JsonNode allowableValueNode : allowableValuesNode) {
-                if (allowableValueNode == null) {
-                    continue;
-                }
+        if (allowableValues != null) {
+            var normalizedAllowableValues = new ArrayList<>(allowableValues.size());
+            for (String allowableValue : allowableValues) {
                 try {
-                    allowableValues.add(ConvertUtils.normalizeValue(allowableValueNode.textValue(), elType, elFormat, context));
+                    normalizedAllowableValues.add(ConvertUtils.normalizeValue(allowableValue, elType, elFormat, context));
                 } catch (IOException e) {
-                    allowableValues.add(allowableValueNode.textValue());
+                    normalizedAllowableValues.add(allowableValue);
                 }
             }
-            beanMap.put(PROP_ALLOWABLE_VALUES, allowableValues);
+            beanMap.put(PROP_ALLOWABLE_VALUES, normalizedAllowableValues);
         }
-
-        return value;
     }
 
     private static <T> Map<String, T> deserMap(String name, JsonNode jn, Class<T> clazz) throws JsonProcessingException {
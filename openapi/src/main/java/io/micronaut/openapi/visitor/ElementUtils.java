@@ -318,14 +318,84 @@ public final class ElementUtils {
             ;
     }
 
+    /**
+     * Creator constructors are not cached by this method.
+     *
+     * @deprecated Use {@link #getAnnotationMetadata(Element, VisitorContext)} instead
+     */
+    @Deprecated(since = "6.14.0", forRemoval = true)
     public static AnnotationMetadata getAnnotationMetadata(Element el) {
+        return getAnnotationMetadata(el, null);
+    }
+
+    /**
+     * Creator constructors are not cached by this method.
+     *
+     * @deprecated Use {@link #findAnnotation(Element, String, VisitorContext)} instead
+     */
+    @Deprecated(since = "6.14.0", forRemoval = true)
+    public static Optional<AnnotationValue<Annotation>> findAnnotation(Element el, String annName) {
+        return findAnnotation(el, annName, null);
+    }
+
+    /**
+     * Creator constructors are not cached by this method.
+     *
+     * @deprecated Use {@link #isAnnotationPresent(Element, Class, VisitorContext)} instead
+     */
+    @Deprecated(since = "6.14.0", forRemoval = true)
+    public static <T> boolean isAnnotationPresent(Element el, Class<T> annClass) {
+        return isAnnotationPresent(el, annClass, null);
+    }
+
+    /**
+     * Creator constructors are not cached by this method.
+     *
+     * @deprecated Use {@link #isAnnotationPresent(Element, String, VisitorContext)} instead
+     */
+    @Deprecated(since = "6.14.0", forRemoval = true)
+    public static boolean isAnnotationPresent(Element el, String annName) {
+        return isAnnotationPresent(el, annName, null);
+    }
+
+    /**
+     * Creator constructors are not cached by this method.
+     *
+     * @deprecated Use {@link #stringValue(Element, Class, String, VisitorContext)} instead
+     */
+    @Deprecated(since = "6.14.0", forRemoval = true)
+    public static <T extends Annotation> Optional<String> stringValue(Element el, Class<T> annClass, String member) {
+        return stringValue(el, annClass, member, null);
+    }
+
+    /**
+     * Creator constructors are not cached by this method.
+     *
+     * @deprecated Use {@link #getAnnotation(Element, Class, VisitorContext)} instead
+     */
+    @Deprecated(since = "6.14.0", forRemoval = true)
+    public static <T extends Annotation> AnnotationValue<T> getAnnotation(Element el, Class<T> annClass) {
+        return getAnnotation(el, annClass, null);
+    }
+
+    /**
+     * Creator constructors are not cached by this method.
+     *
+     * @deprecated Use {@link #getAnnotation(Element, String, VisitorContext)} instead
+     */
+    @Deprecated(since = "6.14.0", forRemoval = true)
+    public static AnnotationValue getAnnotation(Element el, String annName) {
+        return getAnnotation(el, annName, null);
+    }
+
+    public static AnnotationMetadata getAnnotationMetadata(Element el, VisitorContext context) {
         if (el == null) {
             return AnnotationMetadata.EMPTY_METADATA;
         }
         if (el instanceof MemberElement memberEl) {
             var propMetadata = memberEl.getAnnotationMetadata();
             AnnotationMetadata constructorMetadata = null;
-            var constructor = getCreatorConstructor(memberEl.getOwningType());
+            var constructor = getCreatorConstructor(memberEl.getOwningType(), context);
             if (constructor != null) {
                 for (var constructorParam : constructor.getParameters()) {
                     if (constructorParam.getName().equals(memberEl.getName())) {
@@ -342,7 +412,7 @@ public final class ElementUtils {
         return el.getAnnotationMetadata();
     }
 
-    public static Optional<AnnotationValue<Annotation>> findAnnotation(Element el, String annName) {
+    public static Optional<AnnotationValue<Annotation>> findAnnotation(Element el, String annName, VisitorContext context) {
         if (el == null) {
             return Optional.empty();
         }
@@ -351,7 +421,7 @@ public final class ElementUtils {
             if (result.isPresent()) {
                 return result;
             }
-            var constructor = getCreatorConstructor(memberEl.getOwningType());
+            var constructor = getCreatorConstructor(memberEl.getOwningType(), context);
             if (constructor != null) {
                 for (var constructorParam : constructor.getParameters()) {
                     if (constructorParam.getName().equals(memberEl.getName())) {
@@ -364,11 +434,11 @@ public final class ElementUtils {
         return el.findAnnotation(annName);
     }
 
-    public static <T> boolean isAnnotationPresent(Element el, Class<T> annClass) {
-        return isAnnotationPresent(el, annClass.getName());
+    public static <T> boolean isAnnotationPresent(Element el, Class<T> annClass, VisitorContext context) {
+        return isAnnotationPresent(el, annClass.getName(), context);
     }
 
-    public static boolean isAnnotationPresent(Element el, String annName) {
+    public static boolean isAnnotationPresent(Element el, String annName, VisitorContext context) {
         if (el == null) {
             return false;
         }
@@ -377,7 +447,7 @@ public final class ElementUtils {
             if (result) {
                 return true;
             }
-            var constructor = getCreatorConstructor(memberEl.getOwningType());
+            var constructor = getCreatorConstructor(memberEl.getOwningType(), context);
             if (constructor != null) {
                 for (var constructorParam : constructor.getParameters()) {
                     if (constructorParam.getName().equals(memberEl.getName())) {
@@ -390,7 +460,7 @@ public final class ElementUtils {
         return el.isAnnotationPresent(annName);
     }
 
-    public static <T extends Annotation> Optional<String> stringValue(Element el, Class<T> annClass, String member) {
+    public static <T extends Annotation> Optional<String> stringValue(Element el, Class<T> annClass, String member, VisitorContext context) {
         if (el == null) {
             return Optional.empty();
         }
@@ -399,7 +469,7 @@ public final class ElementUtils {
             if (result.isPresent()) {
                 return result;
             }
-            var constructor = getCreatorConstructor(memberEl.getOwningType());
+            var constructor = getCreatorConstructor(memberEl.getOwningType(), context);
             if (constructor != null) {
                 for (var constructorParam : constructor.getParameters()) {
                     if (constructorParam.getName().equals(memberEl.getName())) {
@@ -412,11 +482,11 @@ public final class ElementUtils {
         return el.stringValue(annClass, member);
     }
 
-    public static <T extends Annotation> AnnotationValue<T> getAnnotation(Element el, Class<T> annClass) {
-        return getAnnotation(el, annClass.getName());
+    public static <T extends Annotation> AnnotationValue<T> getAnnotation(Element el, Class<T> annClass, VisitorContext context) {
+        return getAnnotation(el, annClass.getName(), context);
     }
 
-    public static AnnotationValue getAnnotation(Element el, String annName) {
+    public static AnnotationValue getAnnotation(Element el, String annName, VisitorContext context) {
         if (el == null) {
             return null;
         }
@@ -425,7 +495,7 @@ public final class ElementUtils {
             if (result != null) {
                 return result;
             }
-            var constructor = getCreatorConstructor(memberEl.getOwningType());
+            var constructor = getCreatorConstructor(memberEl.getOwningType(), context);
             if (constructor != null) {
                 for (var constructorParam : constructor.getParameters()) {
                     if (constructorParam.getName().equals(memberEl.getName())) {
@@ -438,13 +508,13 @@ public final class ElementUtils {
         return el.getAnnotation(annName);
     }
 
-    private static MethodElement getCreatorConstructor(ClassElement classEl) {
-
-        var cachedConstructor = Utils.getCreatorConstructorsCache().get(classEl.getName());
-        if (cachedConstructor != null) {
-            return cachedConstructor;
-        }
+    private static MethodElement getCreatorConstructor(ClassElement classEl, VisitorContext context) {
+        return VisitorSession.get(context).getCreatorConstructors()
+            .computeIfAbsent(classEl.getName(), className -> Optional.ofNullable(findCreatorConstructor(classEl)))
+            .orElse(null);
+    }
 
+    private static MethodElement findCreatorConstructor(ClassElement classEl) {
         var creatorConstructor = classEl.getPrimaryConstructor().orElse(null);
         var constructors = classEl.getAccessibleConstructors();
         if (constructors.size() > 1) {
@@ -455,7 +525,6 @@ public final class ElementUtils {
                 }
             }
         }
-        Utils.getCreatorConstructorsCache().put(classEl.getName(), creatorConstructor);
         return creatorConstructor;
     }
 
@@ -109,7 +109,7 @@ public final class GeneratorUtils {
         }
         if (deprecatedMessage == null) {
             var javadoc = el.getDocumentation().orElse(null);
-            var javadocDescription = Utils.getJavadocParser().parse(javadoc);
+            var javadocDescription = Utils.parseJavadoc(javadoc, context);
             if (javadocDescription != null) {
                 deprecatedMessage = javadocDescription.getDeprecatedDescription();
             }
@@ -194,8 +194,8 @@ public final class GeneratorUtils {
             boolean isHidden = schemaAnn != null && schemaAnn.booleanValue(PROP_HIDDEN).orElse(false);
 
             if (isHidden
-                || isAnnotationPresent(enumConstEl, Hidden.class)
-                || isAnnotationPresent(enumConstEl, JsonIgnore.class)) {
+                || isAnnotationPresent(enumConstEl, Hidden.class, context)
+                || isAnnotationPresent(enumConstEl, JsonIgnore.class, context)) {
                 continue;
             }
 
@@ -215,7 +215,7 @@ public final class GeneratorUtils {
             if (enumVarDoc == null) {
                 var enumConstJavadoc = enumConstEl.getDocumentation().orElse(null);
                 if (enumConstJavadoc != null) {
-                    var javadocDesc = Utils.getJavadocParser().parse(enumConstJavadoc);
+                    var javadocDesc = Utils.parseJavadoc(enumConstJavadoc, context);
                     if (javadocDesc != null && StringUtils.isNotEmpty(javadocDesc.getMethodDescription())) {
                         enumVarDoc = javadocDesc.getMethodDescription();
                     }
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static io.micronaut.openapi.visitor.ConfigUtils.getConfigProperty;
+import static io.micronaut.openapi.visitor.ConfigUtils.isIncrementalCacheEnabled;
+import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_INCREMENTAL_CACHE;
+import static io.micronaut.openapi.visitor.ContextUtils.info;
+import static io.micronaut.openapi.visitor.ContextUtils.warn;
+import static io.micronaut.openapi.visitor.FileUtils.resolve;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.ALL;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_APPLICATION_NAME;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_CACHE_DIR;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.SPRING_APPLICATION_NAME;
+
+/**
+ * Disk cache of post-processed OpenAPI objects, shared between compilations.
+ * <p>
+ * Every group (and version) OpenAPI object, assembled from the visited classes, is fingerprinted together
+ * with the extra schemas, the openapi configuration and the version of this library. When the fingerprint
+ * matches a cache entry written by a previous compilation, the expensive post-processing (normalization,
+ * removing unused and duplicated schemas, etc.) is skipped and the cached result is used instead.
+ * Property placeholders are always resolved after reading the cache entry, because their values come
+ * from the environment.
+ * <p>
+ * The cache works on the level of assembled groups, not of single classes: a change of any class,
+ * which contributes to a group, invalidates the cache entry of the whole group, and the fingerprint
+ * is calculated from the serialized group on every compilation. So the cache has a cost: a miss
+ * serializes the group twice (fingerprint and cache entry), a hit serializes and reads it. The metrics
+ * report compares this cost with the post-processing time saved by the hits.
+ *
+ * @since 6.14.0
+ */
+@Internal
+public final class IncrementalCacheUtils {
+
+    private static final String CACHE_DIR_NAME = "openapi-cache";
+    private static final String CACHE_FILE_PREFIX = "openapi-";
+    private static final String CACHE_FILE_EXT = ".json";
+    private static final Pattern CACHE_FILE_PATTERN = Pattern.compile(Pattern.quote(CACHE_FILE_PREFIX) + "[0-9a-f]{64}" + Pattern.quote(CACHE_FILE_EXT));
+    private static final String METRICS_HITS = "incrementalCache.hits";
+    private static final String METRICS_MISSES = "incrementalCache.misses";
+    /**
+     * Identifies the build of this library, so entries written by another version (or another build
+     * of a snapshot version) are never reused. Null, if the library can't be identified.
+     */
+    @Nullable
+    private static final String LIBRARY_VERSION = libraryVersion();
+
+    private IncrementalCacheUtils() {
+    }
+
+    /**
+     * Returns cache directory or null, if the incremental cache is disabled or there is no place to store it.
+     * Every classes output directory (main and test compilations, for example) gets its own cache directory,
+     * because unused entries are removed at the end of the compilation.
+     *
+     * @param context visitor context
+     *
+     * @return cache directory
+     */
+    @Nullable
+    public static Path getCacheDir(VisitorContext context) {
+        if (!isIncrementalCacheEnabled(context)) {
+            return null;
+        }
+        if (LIBRARY_VERSION == null) {
+            warn("OpenAPI incremental cache is disabled: can't identify micronaut-openapi version", context);
+            return null;
+        }
+        var classesOutputPath = ContextUtils.getClassesOutputPath(context);
+        var cacheDir = getConfigProperty(MICRONAUT_OPENAPI_INCREMENTAL_CACHE_DIR, context);
+        if (StringUtils.isNotEmpty(cacheDir)) {
+            var baseDir = resolve(context, Paths.get(cacheDir));
+            return classesOutputPath != null && classesOutputPath.getFileName() != null
+                ? baseDir.resolve(classesOutputPath.getFileName().toString())
+                : baseDir;
+        }
+        if (classesOutputPath == null || classesOutputPath.getParent() == null || classesOutputPath.getFileName() == null) {
+            return null;
+        }
+        return classesOutputPath.getParent().resolve(CACHE_DIR_NAME).resolve(classesOutputPath.getFileName().toString());
+    }
+
+    /**
+     * Calculate the fingerprint of not processed OpenAPI object and all settings, which affect its post-processing.
+     *
+     * @param openApi assembled OpenAPI object
+     * @param context visitor context
+     *
+     * @return fingerprint or null, if it can't be calculated
+     */
+    @Nullable
+    public static String fingerprint(OpenAPI openApi, VisitorContext context) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            try (var out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+                out.write(LIBRARY_VERSION.getBytes(StandardCharsets.UTF_8));
+                out.write(Boolean.toString(Utils.isOpenapi31()).getBytes(StandardCharsets.UTF_8));
+                var configKeys = new TreeSet<>(ALL);
+                configKeys.add(MICRONAUT_APPLICATION_NAME);
+                configKeys.add(SPRING_APPLICATION_NAME);
+                for (var key : configKeys) {
+                    out.write((key + '=' + getConfigProperty(key, context) + '\n').getBytes(StandardCharsets.UTF_8));
+                }
+                var mapper = Utils.getJsonMapper();
+                mapper.writeValue(new NonClosingOutputStream(out), OpenApiExtraSchemaVisitor.getExtraSchemas());
+                mapper.writeValue(new NonClosingOutputStream(out), OpenApiExtraSchemaVisitor.getExcludedExtraSchemas());
+                mapper.writeValue(new NonClosingOutputStream(out), openApi);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | IOException e) {
+            warn("Can't calculate OpenAPI cache fingerprint: " + e.getMessage(), context);
+            return null;
+        }
+    }
+
+    /**
+     * Read post-processed OpenAPI object from the cache.
+     *
+     * @param cacheDir cache directory
+     * @param fingerprint fingerprint of the not processed OpenAPI object
+     * @param context visitor context
+     *
+     * @return cached OpenAPI object or null, if there is no cache entry
+     */
+    @Nullable
+    public static OpenAPI read(Path cacheDir, String fingerprint, VisitorContext context) {
+        var session = getSession(context);
+        session.usedEntries.add(cacheFileName(fingerprint));
+        var cacheFile = cacheDir.resolve(cacheFileName(fingerprint));
+        if (!Files.isRegularFile(cacheFile)) {
+            session.misses.incrementAndGet();
+            MetricsUtils.count(METRICS_MISSES, 1, context);
+            return null;
+        }
+        try (var reader = Files.newBufferedReader(cacheFile)) {
+            var openApi = Utils.getJsonMapper().readValue(reader, OpenAPI.class);
+            session.hits.incrementAndGet();
+            MetricsUtils.count(METRICS_HITS, 1, context);
+            return openApi;
+        } catch (IOException e) {
+            warn("Can't read OpenAPI cache file " + cacheFile + ": " + e.getMessage(), context);
+            session.misses.incrementAndGet();
+            MetricsUtils.count(METRICS_MISSES, 1, context);
+            return null;
+        }
+    }
+
+    /**
+     * Write post-processed OpenAPI object to the cache.
+     *
+     * @param cacheDir cache directory
+     * @param fingerprint fingerprint of the not processed OpenAPI object
+     * @param openApi post-processed OpenAPI object
+     * @param context visitor context
+     */
+    public static void write(Path cacheDir, String fingerprint, OpenAPI openApi, VisitorContext context) {
+        var cacheFile = cacheDir.resolve(cacheFileName(fingerprint));
+        Path tmpFile = null;
+        try {
+            Files.createDirectories(cacheDir);
+            // write to a temporary file first, so other threads and processes never see a half-written entry
+            tmpFile = Files.createTempFile(cacheDir, CACHE_FILE_PREFIX, null);
+            SpecWriterUtils.write(openApi, Utils.getJsonMapper(), tmpFile);
+            Files.move(tmpFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            warn("Can't write OpenAPI cache file " + cacheFile + ": " + e.getMessage(), context);
+            deleteQuietly(tmpFile, context);
+        }
+    }
+
+    /**
+     * Remove cache entries, which were not used by the current compilation, and log cache statistics.
+     * Only files with names of the cache entries are removed, other files in the directory are kept.
+     *
+     * @param cacheDir cache directory
+     * @param context visitor context
+     */
+    public static void finish(Path cacheDir, VisitorContext context) {
+        var session = getSession(context);
+        info("OpenAPI incremental cache: " + session.hits.get() + " hits, " + session.misses.get() + " misses", context);
+        if (Files.isDirectory(cacheDir)) {
+            try (Stream<Path> files = Files.list(cacheDir)) {
+                files.filter(file -> {
+                        var fileName = file.getFileName().toString();
+                        return CACHE_FILE_PATTERN.matcher(fileName).matches() && !session.usedEntries.contains(fileName);
+                    })
+                    .forEach(file -> deleteQuietly(file, context));
+            } catch (IOException e) {
+                warn("Can't clean OpenAPI cache directory " + cacheDir + ": " + e.getMessage(), context);
+            }
+        }
+        ContextUtils.remove(MICRONAUT_INTERNAL_INCREMENTAL_CACHE, context);
+    }
+
+    private static String cacheFileName(String fingerprint) {
+        return CACHE_FILE_PREFIX + fingerprint + CACHE_FILE_EXT;
+    }
+
+    private static void deleteQuietly(@Nullable Path file, VisitorContext context) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            warn("Can't delete stale OpenAPI cache file " + file + ": " + e.getMessage(), context);
+        }
+    }
+
+    /**
+     * Returns the version of this library together with size and modification time of its jar file,
+     * so rebuilt snapshot versions are distinguished too.
+     *
+     * @return library version or null
+     */
+    @Nullable
+    private static String libraryVersion() {
+        try {
+            var version = IncrementalCacheUtils.class.getPackage().getImplementationVersion();
+            var codeSource = IncrementalCacheUtils.class.getProtectionDomain().getCodeSource();
+            if (codeSource == null || codeSource.getLocation() == null) {
+                return version;
+            }
+            var location = Paths.get(codeSource.getLocation().toURI());
+            long lastModified;
+            long size;
+            if (Files.isDirectory(location)) {
+                // classes directory: the library is built from sources
+                try (Stream<Path> files = Files.walk(location)) {
+                    var classFiles = files.filter(Files::isRegularFile).toList();
+                    lastModified = 0;
+                    size = 0;
+                    for (var file : classFiles) {
+                        lastModified = Math.max(lastModified, Files.getLastModifiedTime(file).toMillis());
+                        size += Files.size(file);
+                    }
+                }
+            } else {
+                lastModified = Files.getLastModifiedTime(location).toMillis();
+                size = Files.size(location);
+            }
+            return version + '/' + location.getFileName() + '/' + size + '/' + lastModified;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static CacheSession getSession(VisitorContext context) {
+        synchronized (IncrementalCacheUtils.class) {
+            var session = ContextUtils.get(MICRONAUT_INTERNAL_INCREMENTAL_CACHE, CacheSession.class, context);
+            if (session == null) {
+                session = new CacheSession();
+                ContextUtils.put(MICRONAUT_INTERNAL_INCREMENTAL_CACHE, session, context);
+            }
+            return session;
+        }
+    }
+
+    /**
+     * Cache usage of the current compilation.
+     */
+    private static final class CacheSession {
+
+        private final Set<String> usedEntries = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger hits = new AtomicInteger();
+        private final AtomicInteger misses = new AtomicInteger();
+    }
+
+    /**
+     * Jackson closes the target stream after writing a value, but the digest stream is shared
+     * by several values.
+     */
+    private static final class NonClosingOutputStream extends OutputStream {
+
+        private final OutputStream delegate;
+
+        private NonClosingOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void close() {
+            // do not close the delegate
+        }
+    }
+}
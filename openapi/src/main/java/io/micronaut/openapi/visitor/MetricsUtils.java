@@ -0,0 +1,295 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.inject.visitor.VisitorContext;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.micronaut.openapi.visitor.ConfigUtils.getConfigProperty;
+import static io.micronaut.openapi.visitor.ConfigUtils.isMetricsEnabled;
+import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_METRICS;
+import static io.micronaut.openapi.visitor.ContextUtils.info;
+import static io.micronaut.openapi.visitor.ContextUtils.warn;
+import static io.micronaut.openapi.visitor.FileUtils.resolve;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_METRICS_FILE;
+
+/**
+ * Build-time metrics of the OpenAPI generation.
+ * <p>
+ * Every phase records the number of calls, wall time and memory allocated by the calling thread.
+ * Nested phases are included in the time of the outer phase. Counters hold schema counts and
+ * cache statistics. The report is written as JSON at the end of the compilation. When metrics
+ * are disabled, phases are not measured at all.
+ *
+ * @since 6.14.0
+ */
+@Internal
+public final class MetricsUtils {
+
+    /**
+     * Default report file name. The file is created next to the classes output directory.
+     */
+    public static final String DEFAULT_REPORT_FILE_NAME = "openapi-metrics.json";
+
+    private static final Sample NOOP_SAMPLE = new Sample(null, null, 0, 0);
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private MetricsUtils() {
+    }
+
+    /**
+     * Start measuring phase. Use it with try-with-resources, the phase is recorded, when the sample is closed.
+     *
+     * @param phase phase name
+     * @param context visitor context
+     *
+     * @return sample of the phase
+     */
+    public static Sample start(String phase, VisitorContext context) {
+        var metrics = getMetrics(context);
+        if (metrics == null) {
+            return NOOP_SAMPLE;
+        }
+        return new Sample(metrics, phase, System.nanoTime(), allocatedBytes());
+    }
+
+    /**
+     * Run action and record it as a phase.
+     *
+     * @param phase phase name
+     * @param context visitor context
+     * @param action action
+     */
+    public static void measure(String phase, VisitorContext context, Runnable action) {
+        try (var ignored = start(phase, context)) {
+            action.run();
+        }
+    }
+
+    /**
+     * Add value to the counter.
+     *
+     * @param counter counter name
+     * @param value value to add
+     * @param context visitor context
+     */
+    public static void count(String counter, long value, VisitorContext context) {
+        var metrics = getMetrics(context);
+        if (metrics != null) {
+            metrics.counters.computeIfAbsent(counter, k -> new LongAdder()).add(value);
+        }
+    }
+
+    /**
+     * Write metrics report, if metrics are enabled. The report is rewritten on every call, so it
+     * contains metrics of all compilation rounds.
+     *
+     * @param context visitor context
+     */
+    public static void writeReport(VisitorContext context) {
+        var metrics = getMetrics(context);
+        if (metrics == null) {
+            return;
+        }
+        var reportFile = getReportFile(context);
+        if (reportFile == null) {
+            warn("Unable to write OpenAPI metrics report: report file location is not present", context);
+            return;
+        }
+
+        var session = VisitorSession.get(context);
+        var schemaCacheHits = session.getSchemaCacheHits().get();
+        var schemaCacheMisses = session.getSchemaCacheMisses().get();
+
+        var phases = new TreeMap<String, Object>();
+        metrics.phases.forEach((name, stats) -> {
+            var phase = new LinkedHashMap<String, Object>();
+            phase.put("count", stats.count.sum());
+            phase.put("wallTimeMs", TimeUnit.NANOSECONDS.toMillis(stats.wallTimeNanos.sum()));
+            phase.put("allocatedBytes", stats.allocatedBytes.sum());
+            phases.put(name, phase);
+        });
+        var counters = new TreeMap<String, Object>();
+        metrics.counters.forEach((name, value) -> counters.put(name, value.sum()));
+
+        var caches = new LinkedHashMap<String, Object>();
+        caches.put("schemaDefinitions", cacheStats(schemaCacheHits, schemaCacheMisses));
+        var incrementalCacheHits = counterValue(metrics, "incrementalCache.hits");
+        var incrementalCacheMisses = counterValue(metrics, "incrementalCache.misses");
+        var incrementalCache = cacheStats(incrementalCacheHits, incrementalCacheMisses);
+        if (incrementalCacheHits + incrementalCacheMisses > 0) {
+            putIncrementalCacheCost(incrementalCache, metrics, incrementalCacheHits);
+        }
+        caches.put("incremental", incrementalCache);
+        caches.put("additionalFiles", cacheStats(counterValue(metrics, "additionalFiles.cache.hits"), counterValue(metrics, "additionalFiles.cache.misses")));
+        caches.put("javadoc", Map.of("size", session.getJavadocDescriptions().size()));
+
+        var report = new LinkedHashMap<String, Object>();
+        report.put("allocationMeasured", THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean);
+        report.put("phases", phases);
+        report.put("counters", counters);
+        report.put("caches", caches);
+
+        try {
+            Files.createDirectories(reportFile.getParent());
+            SpecWriterUtils.write(report, Utils.getJsonMapper(), reportFile);
+            info("Writing OpenAPI metrics report to destination: " + reportFile, context);
+        } catch (IOException e) {
+            warn("Unable to write OpenAPI metrics report " + reportFile + ": " + e.getMessage(), context);
+        }
+    }
+
+    @Nullable
+    private static Path getReportFile(VisitorContext context) {
+        var reportFile = getConfigProperty(MICRONAUT_OPENAPI_METRICS_FILE, context);
+        if (StringUtils.isNotEmpty(reportFile)) {
+            return resolve(context, Paths.get(reportFile));
+        }
+        var classesOutputPath = ContextUtils.getClassesOutputPath(context);
+        if (classesOutputPath == null || classesOutputPath.getParent() == null) {
+            return null;
+        }
+        return classesOutputPath.getParent().resolve(DEFAULT_REPORT_FILE_NAME);
+    }
+
+    private static Map<String, Object> cacheStats(long hits, long misses) {
+        var stats = new LinkedHashMap<String, Object>();
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("hitRate", hits + misses > 0 ? (double) hits / (hits + misses) : 0);
+        return stats;
+    }
+
+    /**
+     * The incremental cache skips only the post-processing, but fingerprints every group and writes
+     * every missed group once more. Report this overhead together with the time saved by the hits,
+     * estimated from the average post-processing time of the misses in the same compilation.
+     */
+    private static void putIncrementalCacheCost(Map<String, Object> stats, Metrics metrics, long hits) {
+        long overheadNanos = phaseWallTimeNanos(metrics, "postProcessOpenApi.incrementalCache.fingerprint")
+            + phaseWallTimeNanos(metrics, "postProcessOpenApi.incrementalCache.read")
+            + phaseWallTimeNanos(metrics, "postProcessOpenApi.incrementalCache.write");
+        stats.put("overheadMs", TimeUnit.NANOSECONDS.toMillis(overheadNanos));
+        var process = metrics.phases.get("postProcessOpenApi.process");
+        if (process != null && process.count.sum() > 0) {
+            long savedNanos = hits * process.wallTimeNanos.sum() / process.count.sum();
+            stats.put("estimatedSavedMs", TimeUnit.NANOSECONDS.toMillis(savedNanos));
+            stats.put("estimatedNetWinMs", TimeUnit.NANOSECONDS.toMillis(savedNanos - overheadNanos));
+        }
+    }
+
+    private static long phaseWallTimeNanos(Metrics metrics, String phase) {
+        var stats = metrics.phases.get(phase);
+        return stats != null ? stats.wallTimeNanos.sum() : 0;
+    }
+
+    private static long counterValue(Metrics metrics, String counter) {
+        var value = metrics.counters.get(counter);
+        return value != null ? value.sum() : 0;
+    }
+
+    @Nullable
+    private static Metrics getMetrics(@Nullable VisitorContext context) {
+        if (context == null) {
+            return null;
+        }
+        synchronized (context) {
+            var metrics = ContextUtils.get(MICRONAUT_INTERNAL_METRICS, Metrics.class, context);
+            if (metrics == null) {
+                metrics = new Metrics(isMetricsEnabled(context));
+                ContextUtils.put(MICRONAUT_INTERNAL_METRICS, metrics, context);
+            }
+            return metrics.enabled ? metrics : null;
+        }
+    }
+
+    private static long allocatedBytes() {
+        if (THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean sunThreadMxBean
+            && sunThreadMxBean.isThreadAllocatedMemorySupported()
+            && sunThreadMxBean.isThreadAllocatedMemoryEnabled()) {
+            return sunThreadMxBean.getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+
+    /**
+     * Measurement of one phase call.
+     */
+    public static final class Sample implements AutoCloseable {
+
+        private final Metrics metrics;
+        private final String phase;
+        private final long startNanos;
+        private final long startAllocatedBytes;
+
+        private Sample(Metrics metrics, String phase, long startNanos, long startAllocatedBytes) {
+            this.metrics = metrics;
+            this.phase = phase;
+            this.startNanos = startNanos;
+            this.startAllocatedBytes = startAllocatedBytes;
+        }
+
+        @Override
+        public void close() {
+            if (metrics == null) {
+                return;
+            }
+            var stats = metrics.phases.computeIfAbsent(phase, k -> new PhaseStats());
+            stats.count.increment();
+            stats.wallTimeNanos.add(System.nanoTime() - startNanos);
+            stats.allocatedBytes.add(Math.max(0, allocatedBytes() - startAllocatedBytes));
+        }
+    }
+
+    /**
+     * Metrics of the current compilation.
+     */
+    private static final class Metrics {
+
+        private final boolean enabled;
+        private final Map<String, PhaseStats> phases = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+        private Metrics(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    /**
+     * Totals of all calls of one phase.
+     */
+    private static final class PhaseStats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder wallTimeNanos = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+    }
+}
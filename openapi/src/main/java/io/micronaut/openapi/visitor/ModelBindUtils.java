@@ -0,0 +1,555 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_ALLOWABLE_VALUES;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_CONST;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_DEFAULT_VALUE;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_EXAMPLE;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_ONE_FORMAT;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_ONE_TYPES;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_TYPE;
+
+/**
+ * Direct binding of annotation value maps to swagger model objects.
+ * <p>
+ * The value maps, created from the swagger annotations, are converted to the model objects without
+ * building a JSON tree and running Jackson deserialization. The binder follows the rules of the plain
+ * object mapper, which is used for the conversion: properties are set with setters in the map order,
+ * unknown keys are ignored, enums are read by their {@code toString()} value and single values are
+ * accepted as arrays. Default values and allowable values are normalized the same way as after the
+ * JSON conversion.
+ * <p>
+ * Values and classes, which can't be bound exactly as the object mapper would do (classes with Jackson
+ * annotations, type coercions, model objects inside the map, etc.), are not supported. The same is true
+ * for the schema properties, which are deserialized by Jackson in a special way: {@code example},
+ * {@code const} and, for OpenAPI 3.1, {@code type} and {@code types}. The values are checked before
+ * the binding, so nothing is created for them: the binder returns {@code null} and the caller must use
+ * the JSON conversion.
+ *
+ * @since 6.14.0
+ */
+@Internal
+public final class ModelBindUtils {
+
+    private static final String MODELS_PACKAGE_PREFIX = "io.swagger.v3.oas.models";
+    private static final String JACKSON_PACKAGE_PREFIX = "com.fasterxml.jackson";
+    private static final String SETTER_PREFIX = "set";
+    private static final String GETTER_PREFIX = "get";
+    private static final String BOOLEAN_GETTER_PREFIX = "is";
+    private static final String DIRECT_COUNTER = "modelBind.direct";
+    private static final String JSON_COUNTER = "modelBind.json";
+
+    private static final Set<String> SCHEMA_JSON_PROPERTIES = Set.of(PROP_EXAMPLE, PROP_CONST);
+    private static final Set<String> SCHEMA_31_JSON_PROPERTIES = Set.of(PROP_TYPE, PROP_ONE_TYPES);
+
+    private static final ClassValue<BindPlan> BIND_PLANS = new ClassValue<>() {
+        @Override
+        protected BindPlan computeValue(Class<?> type) {
+            return BindPlan.of(type);
+        }
+    };
+
+    private ModelBindUtils() {
+    }
+
+    /**
+     * Binds the value map to a new model object. The result is counted in the metrics
+     * as {@code modelBind.direct} or {@code modelBind.json}.
+     *
+     * @param values value map, created from annotation values
+     * @param type model class
+     * @param context visitor context
+     * @param <T> model type
+     *
+     * @return model object or {@code null} if the values can't be bound directly
+     */
+    @Nullable
+    public static <T> T bind(Map<CharSequence, Object> values, Class<T> type, VisitorContext context) {
+        // groovy annotation values need the special processing of the JSON conversion
+        T model = context.getLanguage() != VisitorContext.Language.GROOVY ? bindValues(values, type, context) : null;
+        MetricsUtils.count(model != null ? DIRECT_COUNTER : JSON_COUNTER, 1, context);
+        return model;
+    }
+
+    @Nullable
+    private static <T> T bindValues(Map<CharSequence, Object> values, Class<T> type, VisitorContext context) {
+        var allowableValuesValue = values.get(PROP_ALLOWABLE_VALUES);
+        List<String> allowableValues = null;
+        if (allowableValuesValue instanceof Object[] || allowableValuesValue instanceof Collection<?>) {
+            var items = allowableValuesValue instanceof Collection<?> collection ? collection : Arrays.asList((Object[]) allowableValuesValue);
+            allowableValues = new ArrayList<>(items.size());
+            for (var item : items) {
+                allowableValues.add(stringValue(item));
+            }
+        } else if (allowableValuesValue != null && allowableValuesValue.getClass().isArray()) {
+            return null;
+        }
+        T model;
+        try {
+            // check all values first, so the values, which can't be bound, don't cost a partial binding
+            bindModel(values, type, true);
+            model = type.cast(bindModel(values, type, false));
+        } catch (UnsupportedBindingException e) {
+            return null;
+        }
+        if (values.containsKey(PROP_DEFAULT_VALUE) || allowableValues != null) {
+            ConvertUtils.setDefaultAndAllowableValues(model, stringValue(values.get(PROP_TYPE)), stringValue(values.get(PROP_ONE_FORMAT)),
+                stringValue(values.get(PROP_DEFAULT_VALUE)), allowableValues, context);
+        }
+        return model;
+    }
+
+    /**
+     * Binds the values to the model object or, if {@code check} is {@code true}, only checks
+     * that the values can be bound without creating any objects.
+     */
+    @Nullable
+    private static Object bindModel(Map<?, ?> values, Class<?> type, boolean check) {
+        var plan = BIND_PLANS.get(type);
+        if (plan == BindPlan.UNSUPPORTED) {
+            throw UnsupportedBindingException.INSTANCE;
+        }
+        Object model = check ? null : plan.newInstance();
+        if (plan.mapValueType != null) {
+            for (var entry : values.entrySet()) {
+                var value = convert(entry.getValue(), plan.mapValueType, check);
+                if (!check) {
+                    @SuppressWarnings("unchecked")
+                    var map = (Map<Object, Object>) model;
+                    map.put(entry.getKey().toString(), value);
+                }
+            }
+            return model;
+        }
+        for (var entry : values.entrySet()) {
+            var name = entry.getKey().toString();
+            if (plan.jsonProperties.contains(name)
+                || (plan.schema && Utils.isOpenapi31() && SCHEMA_31_JSON_PROPERTIES.contains(name))) {
+                throw UnsupportedBindingException.INSTANCE;
+            }
+            var setter = plan.setters.get(name);
+            if (setter == null) {
+                // unknown property, ignored by the object mapper too
+                continue;
+            }
+            var value = convert(entry.getValue(), setter.type, check);
+            if (!check) {
+                plan.set(model, setter.method, value);
+            }
+        }
+        return model;
+    }
+
+    @Nullable
+    private static Object convert(@Nullable Object value, Type targetType, boolean check) {
+        if (targetType instanceof ParameterizedType parameterizedType) {
+            var rawType = (Class<?>) parameterizedType.getRawType();
+            var typeArgs = parameterizedType.getActualTypeArguments();
+            if (rawType == List.class || rawType == Collection.class) {
+                return convertCollection(value, typeArgs[0], check ? null : new ArrayList<>());
+            }
+            if (rawType == Set.class) {
+                return convertCollection(value, typeArgs[0], check ? null : new HashSet<>());
+            }
+            if (rawType == Map.class && typeArgs[0] == String.class) {
+                return convertMap(value, typeArgs[1], check);
+            }
+            if (isModelClass(rawType)) {
+                // generic models, like Schema<?>, are deserialized as raw classes
+                return convert(value, rawType, check);
+            }
+            throw UnsupportedBindingException.INSTANCE;
+        }
+        if (!(targetType instanceof Class<?> targetClass)) {
+            throw UnsupportedBindingException.INSTANCE;
+        }
+        if (value == null) {
+            if (targetClass.isPrimitive()) {
+                throw UnsupportedBindingException.INSTANCE;
+            }
+            return null;
+        }
+        if (targetClass == String.class) {
+            if (value instanceof String) {
+                return value;
+            }
+        } else if (targetClass == Boolean.class || targetClass == boolean.class) {
+            if (value instanceof Boolean) {
+                return value;
+            }
+        } else if (targetClass == Integer.class || targetClass == int.class) {
+            if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return ((Number) value).intValue();
+            }
+        } else if (targetClass == Long.class || targetClass == long.class) {
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return ((Number) value).longValue();
+            }
+        } else if (targetClass == BigDecimal.class) {
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return BigDecimal.valueOf(((Number) value).longValue());
+            }
+            if (value instanceof Double || value instanceof Float) {
+                return BigDecimal.valueOf(((Number) value).doubleValue());
+            }
+        } else if (targetClass.isEnum()) {
+            if (value instanceof String str) {
+                for (var constant : targetClass.getEnumConstants()) {
+                    if (constant.toString().equals(str)) {
+                        return constant;
+                    }
+                }
+            }
+        } else if (targetClass == Object.class) {
+            return convertUntyped(value, check);
+        } else if (isModelClass(targetClass)) {
+            if (value instanceof Map<?, ?> map) {
+                return bindModel(map, targetClass, check);
+            }
+        }
+        throw UnsupportedBindingException.INSTANCE;
+    }
+
+    /**
+     * Converts the items to the result collection or only checks them, if the result is {@code null}.
+     */
+    @Nullable
+    private static Object convertCollection(@Nullable Object value, Type itemType, @Nullable Collection<Object> result) {
+        if (value == null) {
+            return null;
+        }
+        var check = result == null;
+        if (value instanceof Collection<?> collection) {
+            for (var item : collection) {
+                addItem(result, convert(item, itemType, check));
+            }
+        } else if (value instanceof Object[] array) {
+            for (var item : array) {
+                addItem(result, convert(item, itemType, check));
+            }
+        } else {
+            // ACCEPT_SINGLE_VALUE_AS_ARRAY
+            addItem(result, convert(value, itemType, check));
+        }
+        return result;
+    }
+
+    private static void addItem(@Nullable Collection<Object> result, @Nullable Object item) {
+        if (result != null) {
+            result.add(item);
+        }
+    }
+
+    @Nullable
+    private static Object convertMap(@Nullable Object value, Type valueType, boolean check) {
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof Map<?, ?> map)) {
+            throw UnsupportedBindingException.INSTANCE;
+        }
+        var result = check ? null : new LinkedHashMap<String, Object>(map.size());
+        for (var entry : map.entrySet()) {
+            var item = convert(entry.getValue(), valueType, check);
+            if (result != null) {
+                result.put(entry.getKey().toString(), item);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Converts free-form value the same way as the untyped object deserializer.
+     */
+    @Nullable
+    private static Object convertUntyped(Object value, boolean check) {
+        if (value instanceof String || value instanceof Boolean || value instanceof Integer
+            || value instanceof Long || value instanceof Double) {
+            return value;
+        }
+        if (value instanceof Map<?, ?> map) {
+            var result = check ? null : new LinkedHashMap<String, Object>(map.size());
+            for (var entry : map.entrySet()) {
+                var item = entry.getValue() != null ? convertUntyped(entry.getValue(), check) : null;
+                if (result != null) {
+                    result.put(entry.getKey().toString(), item);
+                }
+            }
+            return result;
+        }
+        if (value instanceof Collection<?> || value instanceof Object[]) {
+            var items = value instanceof Collection<?> collection ? collection : Arrays.asList((Object[]) value);
+            var result = check ? null : new ArrayList<>(items.size());
+            for (var item : items) {
+                var convertedItem = item != null ? convertUntyped(item, check) : null;
+                if (result != null) {
+                    result.add(convertedItem);
+                }
+            }
+            return result;
+        }
+        throw UnsupportedBindingException.INSTANCE;
+    }
+
+    @Nullable
+    private static String stringValue(@Nullable Object value) {
+        return value instanceof String str ? str : null;
+    }
+
+    private static boolean isModelClass(Class<?> type) {
+        return type.getPackageName().startsWith(MODELS_PACKAGE_PREFIX) && !type.isEnum();
+    }
+
+    /**
+     * Property name of the accessor, the same as the legacy Jackson name mangling:
+     * all leading upper-case characters after the prefix are converted to lower case.
+     */
+    private static String propertyName(String methodName, int prefixLength) {
+        var result = new StringBuilder(methodName.length() - prefixLength);
+        int i = prefixLength;
+        for (; i < methodName.length(); i++) {
+            char c = methodName.charAt(i);
+            char lower = Character.toLowerCase(c);
+            if (c == lower) {
+                break;
+            }
+            result.append(lower);
+        }
+        result.append(methodName, i, methodName.length());
+        return result.toString();
+    }
+
+    @Nullable
+    private static String accessorPropertyName(Method method) {
+        var name = method.getName();
+        if (name.startsWith(SETTER_PREFIX) || name.startsWith(GETTER_PREFIX)) {
+            return propertyName(name, SETTER_PREFIX.length());
+        }
+        if (name.startsWith(BOOLEAN_GETTER_PREFIX)) {
+            return propertyName(name, BOOLEAN_GETTER_PREFIX.length());
+        }
+        return null;
+    }
+
+    private static boolean hasJacksonAnnotations(AnnotatedElement element) {
+        for (Annotation annotation : element.getDeclaredAnnotations()) {
+            if (annotation.annotationType().getName().startsWith(JACKSON_PACKAGE_PREFIX)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks, that {@link JsonIgnore} is the only Jackson annotation of the element.
+     */
+    private static boolean isOnlyJsonIgnored(AnnotatedElement element) {
+        for (Annotation annotation : element.getDeclaredAnnotations()) {
+            if (annotation.annotationType().getName().startsWith(JACKSON_PACKAGE_PREFIX)
+                && annotation.annotationType() != JsonIgnore.class) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Setter with its resolved parameter type.
+     *
+     * @param method setter method
+     * @param type generic parameter type
+     */
+    private record Setter(
+        Method method,
+        Type type
+    ) {
+    }
+
+    /**
+     * Cached instructions on how to bind values to one model class.
+     *
+     * @param constructor no-arg constructor
+     * @param setters setters by property name
+     * @param jsonProperties names of properties, which need the JSON conversion: properties set by the object
+     *     mapper without setters (public fields, collection getters), properties with ambiguous setters,
+     *     properties with {@code JsonIgnore} and the special schema properties
+     * @param mapValueType value type, if the model class is a map itself (Content, ApiResponses, etc.)
+     * @param schema whether the model class is a schema
+     */
+    private record BindPlan(
+        Constructor<?> constructor,
+        Map<String, Setter> setters,
+        Set<String> jsonProperties,
+        Type mapValueType,
+        boolean schema
+    ) {
+
+        static final BindPlan UNSUPPORTED = new BindPlan(null, Map.of(), Set.of(), null, false);
+
+        static BindPlan of(Class<?> type) {
+            if (!isModelClass(type)
+                || type.isInterface()
+                || Modifier.isAbstract(type.getModifiers())
+                || Collection.class.isAssignableFrom(type)) {
+                return UNSUPPORTED;
+            }
+            try {
+                var constructor = type.getConstructor();
+                var setters = new HashMap<String, Method>();
+                var ambiguousSetters = new HashSet<String>();
+                var setterlessProperties = new HashSet<String>();
+                var jsonProperties = new HashSet<String>();
+                for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                    if (hasJacksonAnnotations(current)) {
+                        return UNSUPPORTED;
+                    }
+                    for (var field : current.getDeclaredFields()) {
+                        if (hasJacksonAnnotations(field)) {
+                            if (!isOnlyJsonIgnored(field)) {
+                                return UNSUPPORTED;
+                            }
+                            jsonProperties.add(field.getName());
+                        }
+                        if (Modifier.isPublic(field.getModifiers()) && !Modifier.isStatic(field.getModifiers())) {
+                            setterlessProperties.add(field.getName());
+                        }
+                    }
+                    for (var method : current.getDeclaredMethods()) {
+                        if (hasJacksonAnnotations(method)) {
+                            var propertyName = accessorPropertyName(method);
+                            if (propertyName == null || !isOnlyJsonIgnored(method)) {
+                                return UNSUPPORTED;
+                            }
+                            jsonProperties.add(propertyName);
+                        }
+                        if (Modifier.isStatic(method.getModifiers()) || method.isSynthetic() || method.isBridge()) {
+                            continue;
+                        }
+                        var name = method.getName();
+                        if (name.startsWith(SETTER_PREFIX) && name.length() > SETTER_PREFIX.length() && method.getParameterCount() == 1) {
+                            var propertyName = propertyName(name, SETTER_PREFIX.length());
+                            // setters of subclasses are visited first and override setters of superclasses
+                            var existing = setters.putIfAbsent(propertyName, method);
+                            if (existing != null && !existing.getGenericParameterTypes()[0].equals(method.getGenericParameterTypes()[0])) {
+                                // overloaded setters, the object mapper chooses one of them by its own rules
+                                ambiguousSetters.add(propertyName);
+                            }
+                        } else if (name.startsWith(GETTER_PREFIX) && method.getParameterCount() == 0
+                            && (Collection.class.isAssignableFrom(method.getReturnType()) || Map.class.isAssignableFrom(method.getReturnType()))) {
+                            // getters of collections are used as setters, when there is no setter
+                            setterlessProperties.add(propertyName(name, GETTER_PREFIX.length()));
+                        }
+                    }
+                }
+                jsonProperties.addAll(ambiguousSetters);
+                for (var property : setterlessProperties) {
+                    if (!setters.containsKey(property)) {
+                        jsonProperties.add(property);
+                    }
+                }
+                var schema = Schema.class.isAssignableFrom(type);
+                if (schema) {
+                    jsonProperties.addAll(SCHEMA_JSON_PROPERTIES);
+                }
+                var resolvedSetters = new HashMap<String, Setter>();
+                for (var entry : setters.entrySet()) {
+                    if (jsonProperties.contains(entry.getKey())) {
+                        continue;
+                    }
+                    var method = entry.getValue();
+                    method.setAccessible(true);
+                    resolvedSetters.put(entry.getKey(), new Setter(method, method.getGenericParameterTypes()[0]));
+                }
+                Type mapValueType = null;
+                if (Map.class.isAssignableFrom(type)) {
+                    mapValueType = resolveMapValueType(type);
+                    if (mapValueType == null) {
+                        return UNSUPPORTED;
+                    }
+                }
+                return new BindPlan(constructor, resolvedSetters, jsonProperties, mapValueType, schema);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return UNSUPPORTED;
+            }
+        }
+
+        Object newInstance() {
+            try {
+                return constructor.newInstance();
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                throw UnsupportedBindingException.INSTANCE;
+            }
+        }
+
+        void set(Object model, Method setter, @Nullable Object value) {
+            try {
+                setter.invoke(model, value);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                throw UnsupportedBindingException.INSTANCE;
+            }
+        }
+
+        @Nullable
+        private static Type resolveMapValueType(Class<?> type) {
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                if (current.getGenericSuperclass() instanceof ParameterizedType parameterizedType
+                    && Map.class.isAssignableFrom((Class<?>) parameterizedType.getRawType())
+                    && parameterizedType.getActualTypeArguments().length == 2
+                    && parameterizedType.getActualTypeArguments()[0] == String.class) {
+                    return parameterizedType.getActualTypeArguments()[1];
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Thrown when the values can't be bound directly. Used only to stop the binding, so it doesn't have a stack trace.
+     */
+    private static final class UnsupportedBindingException extends RuntimeException {
+
+        static final UnsupportedBindingException INSTANCE = new UnsupportedBindingException();
+
+        private UnsupportedBindingException() {
+            super(null, null, false, false);
+        }
+    }
+}
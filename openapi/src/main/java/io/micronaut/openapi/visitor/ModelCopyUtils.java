@@ -0,0 +1,189 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Structural deep copy of swagger model objects.
+ * <p>
+ * Model objects (everything from {@code io.swagger.v3.oas.models} and any {@link Schema} subclass) are copied
+ * field by field, keeping their runtime class, so the copy is identical to the original as seen by the
+ * post-processing and serialization code. Plain collections and maps are copied as well. Immutable leaf values
+ * (strings, numbers, booleans, enums) and free-form values (for example {@code JsonNode} examples) are shared
+ * with the original, because the visitors only ever replace such values and never modify them in place.
+ *
+ * @since 6.14.0
+ */
+@Internal
+public final class ModelCopyUtils {
+
+    private static final String MODELS_PACKAGE_PREFIX = "io.swagger.v3.oas.models";
+
+    private static final ClassValue<CopyPlan> COPY_PLANS = new ClassValue<>() {
+        @Override
+        protected CopyPlan computeValue(Class<?> type) {
+            return CopyPlan.of(type);
+        }
+    };
+
+    private ModelCopyUtils() {
+    }
+
+    /**
+     * Creates a deep copy of a swagger model object.
+     *
+     * @param value model object
+     * @param <T> model type
+     *
+     * @return copy of the model object or {@code null} if value is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T deepCopy(@Nullable T value) {
+        return (T) copyValue(value);
+    }
+
+    /**
+     * Checks whether the given class is a swagger model class which must be copied field by field.
+     *
+     * @param type class
+     *
+     * @return true if it's a model class
+     */
+    static boolean isModelClass(Class<?> type) {
+        return Schema.class.isAssignableFrom(type)
+            || (type.getPackageName().startsWith(MODELS_PACKAGE_PREFIX) && !type.isEnum());
+    }
+
+    private static Object copyValue(@Nullable Object value) {
+        if (value == null || isImmutable(value)) {
+            return value;
+        }
+        Class<?> type = value.getClass();
+        if (isModelClass(type)) {
+            return COPY_PLANS.get(type).copy(value);
+        }
+        if (value instanceof List<?> list) {
+            var copy = new ArrayList<>(list.size());
+            for (var item : list) {
+                copy.add(copyValue(item));
+            }
+            return copy;
+        }
+        if (value instanceof Set<?> set) {
+            var copy = new LinkedHashSet<>();
+            for (var item : set) {
+                copy.add(copyValue(item));
+            }
+            return copy;
+        }
+        if (value instanceof Map<?, ?> map) {
+            var copy = new LinkedHashMap<>();
+            copyEntries(map, copy);
+            return copy;
+        }
+        // free-form value, shared with the original
+        return value;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void copyEntries(Map<?, ?> source, Map target) {
+        for (var entry : source.entrySet()) {
+            target.put(entry.getKey(), copyValue(entry.getValue()));
+        }
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value instanceof String
+            || value instanceof Number
+            || value instanceof Boolean
+            || value instanceof Character
+            || value instanceof Enum<?>
+            || value instanceof Class<?>;
+    }
+
+    /**
+     * Cached instructions on how to copy instances of one model class.
+     *
+     * @param constructor no-arg constructor
+     * @param fields instance fields declared by the model class and its model superclasses
+     * @param isMap whether the model class is a map itself (Content, ApiResponses, Callback, etc.)
+     * @param isList whether the model class is a list itself
+     */
+    private record CopyPlan(
+        Constructor<?> constructor,
+        Field[] fields,
+        boolean isMap,
+        boolean isList
+    ) {
+
+        static CopyPlan of(Class<?> type) {
+            try {
+                Constructor<?> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                var fields = new ArrayList<Field>();
+                for (Class<?> current = type; current != null && isModelClass(current); current = current.getSuperclass()) {
+                    for (var field : current.getDeclaredFields()) {
+                        if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                            continue;
+                        }
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+                return new CopyPlan(constructor, fields.toArray(new Field[0]), Map.class.isAssignableFrom(type), List.class.isAssignableFrom(type));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                throw new IllegalStateException("Can't copy model objects of type " + type.getName(), e);
+            }
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Object copy(Object source) {
+            try {
+                Object target = constructor.newInstance();
+                for (var field : fields) {
+                    field.set(target, copyValue(field.get(source)));
+                }
+                if (isMap) {
+                    var targetMap = (Map) target;
+                    targetMap.clear();
+                    copyEntries((Map<?, ?>) source, targetMap);
+                } else if (isList) {
+                    var targetList = (List) target;
+                    targetList.clear();
+                    for (var item : (List<?>) source) {
+                        targetList.add(copyValue(item));
+                    }
+                }
+                return target;
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Can't copy model object of type " + source.getClass().getName(), e);
+            }
+        }
+    }
+}
@@ -15,8 +15,8 @@
  */
 package io.micronaut.openapi.visitor;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -55,20 +55,20 @@ import io.swagger.v3.oas.models.tags.Tag;
 
 import java.io.IOException;
 import java.io.StringWriter;
-import java.io.Writer;
-import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
@@ -78,6 +78,7 @@ import static io.micronaut.openapi.visitor.ConfigUtils.getConfigProperty;
 import static io.micronaut.openapi.visitor.ConfigUtils.getEnv;
 import static io.micronaut.openapi.visitor.ConfigUtils.getExpandableProperties;
 import static io.micronaut.openapi.visitor.ConfigUtils.getGroupProperties;
+import static io.micronaut.openapi.visitor.ConfigUtils.getParallelism;
 import static io.micronaut.openapi.visitor.ConfigUtils.isOpenApiEnabled;
 import static io.micronaut.openapi.visitor.ConfigUtils.isSpecGenerationEnabled;
 import static io.micronaut.openapi.visitor.ConfigUtils.readOpenApiConfigFile;
@@ -113,9 +114,7 @@ import static io.micronaut.openapi.visitor.SchemaUtils.resolveSchemas;
 import static io.micronaut.openapi.visitor.SchemaUtils.setOperationOnPathItem;
 import static io.micronaut.openapi.visitor.StringUtil.PLACEHOLDER_POSTFIX;
 import static io.micronaut.openapi.visitor.StringUtil.PLACEHOLDER_PREFIX;
-import static io.micronaut.openapi.visitor.StringUtil.QUOTE;
 import static io.micronaut.openapi.visitor.Utils.resolveComponents;
-import static io.swagger.v3.oas.models.Components.COMPONENTS_SCHEMAS_REF;
 
 /**
  * Visits the application class.
@@ -128,7 +127,8 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
     public static final String DEFAULT_OPENAPI_TITLE = "Service";
     public static final String DEFAULT_OPENAPI_VERSION = "1.0.0";
 
-    private static final int MAX_ITERATIONS = 100;
+    private static final String PHASE_POST_PROCESS = "postProcessOpenApi";
+
     private ClassElement classElement;
     private int visitedElements = -1;
 
@@ -144,7 +144,7 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
 
     @Override
     public void visitClass(ClassElement element, VisitorContext context) {
-        try {
+        try (var ignored = MetricsUtils.start("visitClass.application", context)) {
             if (!isOpenApiEnabled(context) || !isSpecGenerationEnabled(context)) {
                 return;
             }
@@ -233,23 +233,26 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
             return;
         }
         info("Merging Swagger OpenAPI YAML and JSON files from location: " + directory, context);
-        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, path -> {
-            var pathStr = path.toString().toLowerCase();
-            return FileUtils.isYaml(pathStr) || FileUtils.isJson(pathStr);
-        })) {
-            for (var path : paths) {
-                boolean isYaml = FileUtils.isYaml(path.toString().toLowerCase());
-                info("Reading Swagger OpenAPI " + (isYaml ? "YAML" : "JSON") + " file " + path.getFileName(), context);
-                OpenAPI parsedOpenApi = null;
-                try {
-                    parsedOpenApi = (isYaml ? Utils.getYamlMapper() : Utils.getJsonMapper()).readValue(path.toFile(), OpenAPI.class);
-                } catch (IOException e) {
-                    warn("Unable to read file " + path.getFileName() + ": " + e.getMessage(), context, element);
-                }
-                copyOpenApi(openApi, parsedOpenApi);
-            }
+        List<Path> files;
+        try {
+            files = AdditionalFilesUtils.findFiles(directory);
         } catch (IOException e) {
             warn("Unable to read  file from " + directory + ": " + e.getMessage(), context, element);
+            return;
+        }
+        List<AdditionalFilesUtils.ParsedFile> parsedFiles;
+        try (var ignored = MetricsUtils.start("visitClass.additionalFiles.parse", context)) {
+            parsedFiles = AdditionalFilesUtils.parse(directory, files);
+        }
+        for (var parsedFile : parsedFiles) {
+            var fileName = parsedFile.path().getFileName();
+            info("Reading Swagger OpenAPI " + (FileUtils.isYaml(fileName.toString().toLowerCase()) ? "YAML" : "JSON") + " file " + fileName, context);
+            if (parsedFile.error() != null) {
+                warn("Unable to read file " + fileName + ": " + parsedFile.error().getMessage(), context, element);
+                continue;
+            }
+            MetricsUtils.count(parsedFile.cacheHit() ? "additionalFiles.cache.hits" : "additionalFiles.cache.misses", 1, context);
+            copyOpenApi(openApi, parsedFile.openApi());
         }
     }
 
@@ -444,6 +447,14 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
     }
 
     private static OpenAPI resolvePropertyPlaceHolders(OpenAPI openAPI, VisitorContext context) {
+        // only strings with placeholders can be expanded, so the tree conversion is skipped for most documents
+        try {
+            if (!SpecWriterUtils.containsText(openAPI, Utils.getYamlMapper(), PLACEHOLDER_PREFIX)) {
+                return openAPI;
+            }
+        } catch (IOException e) {
+            // resolve placeholders in the JSON tree, it reports the serialization error, if it's still there
+        }
         List<Pair<String, String>> expandableProperties = getExpandableProperties(context);
         if (CollectionUtils.isNotEmpty(expandableProperties)) {
             info("Expanding properties: " + expandableProperties, context);
@@ -454,6 +465,13 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
 
     @Override
     public void finish(VisitorContext context) {
+        try (var ignored = MetricsUtils.start("finish", context)) {
+            finishInternal(context);
+        }
+        MetricsUtils.writeReport(context);
+    }
+
+    private void finishInternal(VisitorContext context) {
         try {
             if (!isOpenApiEnabled(context)) {
                 return;
@@ -471,40 +489,60 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
                 if (openApi == null) {
                     return;
                 }
-                processEndpoints(context);
+                MetricsUtils.measure("finish.processEndpoints", context, () -> processEndpoints(context));
 
-                mergeMicronautEndpointInfos(openApi, context);
-                openApiInfos = divideOpenapiByGroupsAndVersions(openApi, context);
+                var assembledOpenApi = openApi;
+                MetricsUtils.measure("finish.mergeMicronautEndpointInfos", context, () -> mergeMicronautEndpointInfos(assembledOpenApi, context));
+                try (var ignored = MetricsUtils.start("finish.divideOpenapiByGroupsAndVersions", context)) {
+                    openApiInfos = divideOpenapiByGroupsAndVersions(openApi, context);
+                }
+                MetricsUtils.count("groups", openApiInfos.size(), context);
                 if (Utils.isTestMode()) {
                     Utils.setTestReferences(openApiInfos);
+                    Utils.setTestSession(VisitorSession.get(context));
                 }
 
                 String isJson = getConfigProperty(MICRONAUT_OPENAPI_JSON_FORMAT, context);
                 boolean isYaml = !(StringUtils.isNotEmpty(isJson) && isJson.equalsIgnoreCase(StringUtils.TRUE));
                 String ext = isYaml ? EXT_YML : EXT_JSON;
 
-                for (Map.Entry<Pair<String, String>, OpenApiInfo> entry : openApiInfos.entrySet()) {
+                int parallelism = getParallelism(context);
+                if (parallelism > 1 && openApiInfos.size() > 1) {
+                    documentTitle = processInParallel(openApiInfos, parallelism, ext, isYaml, context);
+                } else {
+                    for (Map.Entry<Pair<String, String>, OpenApiInfo> entry : openApiInfos.entrySet()) {
+
+                        OpenApiInfo openApiInfo = entry.getValue();
 
-                    OpenApiInfo openApiInfo = entry.getValue();
+                        openApi = openApiInfo.getOpenApi();
 
-                    openApi = openApiInfo.getOpenApi();
+                        openApi = postProcessOpenApi(openApi, context);
+                        openApiInfo.setOpenApi(openApi);
+                        // need to set test reference to openApi after post-processing
+                        if (Utils.isTestMode()) {
+                            Utils.setTestReference(openApi);
+                        }
 
-                    openApi = postProcessOpenApi(openApi, context);
-                    openApiInfo.setOpenApi(openApi);
-                    // need to set test reference to openApi after post-processing
-                    if (Utils.isTestMode()) {
-                        Utils.setTestReference(openApi);
+                        var titleAndFilename = calcFinalFilename(openApiInfo.getFilename(), openApiInfo, openApiInfos.size() == 1, ext, context);
+                        documentTitle = titleAndFilename.getFirst();
+                        openApiInfo.setFilename(titleAndFilename.getSecond());
                     }
 
-                    var titleAndFilename = calcFinalFilename(openApiInfo.getFilename(), openApiInfo, openApiInfos.size() == 1, ext, context);
-                    documentTitle = titleAndFilename.getFirst();
-                    openApiInfo.setFilename(titleAndFilename.getSecond());
+                    var processedOpenApiInfos = openApiInfos;
+                    var title = documentTitle;
+                    MetricsUtils.measure("writeYamlToFile", context, () -> writeYamlToFile(processedOpenApiInfos, title, context, isYaml));
                 }
 
-                writeYamlToFile(openApiInfos, documentTitle, context, isYaml);
+                Path cacheDir = IncrementalCacheUtils.getCacheDir(context);
+                if (cacheDir != null) {
+                    IncrementalCacheUtils.finish(cacheDir, context);
+                }
+                SchemaDefinitionUtils.logSchemaCacheStats(context);
             }
 
-            generateViews(documentTitle, openApiInfos, context);
+            var finalDocumentTitle = documentTitle;
+            var finalOpenApiInfos = openApiInfos;
+            MetricsUtils.measure("generateViews", context, () -> generateViews(finalDocumentTitle, finalOpenApiInfos, context));
 
             visitedElements = visitedElements(context);
         } catch (Exception e) {
@@ -514,9 +552,9 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
     }
 
     private Map<Pair<String, String>, OpenApiInfo> divideOpenapiByGroupsAndVersions(OpenAPI openApi, VisitorContext context) {
-        Map<String, List<EndpointInfo>> endpointInfosMap = Utils.getEndpointInfos();
-        Set<String> allVersions = Utils.getAllKnownVersions();
-        Set<String> allGroups = Utils.getAllKnownGroups();
+        Map<String, List<EndpointInfo>> endpointInfosMap = Utils.getEndpointInfos(context);
+        Set<String> allVersions = Utils.getAllKnownVersions(context);
+        Set<String> allGroups = Utils.getAllKnownGroups(context);
         if (CollectionUtils.isEmpty(endpointInfosMap)
             || (CollectionUtils.isEmpty(allVersions) && CollectionUtils.isEmpty(allGroups))) {
             return Collections.singletonMap(Pair.NULL_STRING_PAIR, new OpenApiInfo(openApi));
@@ -584,16 +622,11 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         PathItem pathItem = paths.computeIfAbsent(endpointInfo.getUrl(), (pathUrl) -> new PathItem());
         Operation operation = getOperationOnPathItem(pathItem, endpointInfo.getHttpMethod());
         if (operation == null) {
-            Operation opCopy = null;
-            try {
-                opCopy = OpenApiUtils.getJsonMapper().treeToValue(OpenApiUtils.getJsonMapper().valueToTree(endpointInfo.getOperation()), Operation.class);
-                if (endpointGroupInfo != null) {
-                    addExtensions(opCopy, endpointGroupInfo.getExtensions());
-                }
-            } catch (JsonProcessingException e) {
-                warn("Error\n" + Utils.printStackTrace(e), context);
+            Operation opCopy = SchemaUtils.copyOperation(endpointInfo.getOperation());
+            if (endpointGroupInfo != null) {
+                addExtensions(opCopy, endpointGroupInfo.getExtensions());
             }
-            setOperationOnPathItem(pathItem, endpointInfo.getHttpMethod(), opCopy != null ? opCopy : endpointInfo.getOperation());
+            setOperationOnPathItem(pathItem, endpointInfo.getHttpMethod(), opCopy);
             return;
         }
         var mergedOp = SchemaUtils.mergeOperations(operation, endpointInfo.getOperation());
@@ -623,7 +656,7 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         OpenAPI newOpenApi;
         if (openApiInfo == null) {
 
-            Map<String, OpenAPI> knownOpenApis = Utils.getOpenApis();
+            Map<String, OpenAPI> knownOpenApis = Utils.getOpenApis(context);
             if (CollectionUtils.isNotEmpty(knownOpenApis) && knownOpenApis.containsKey(groupName)) {
                 newOpenApi = knownOpenApis.get(groupName);
             } else {
@@ -642,13 +675,7 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
 
             openApiInfoMap.put(key, openApiInfo);
 
-            OpenAPI openApiCopy;
-            try {
-                openApiCopy = Utils.getJsonMapper().treeToValue(Utils.getJsonMapper().valueToTree(openApi), OpenAPI.class);
-            } catch (JsonProcessingException e) {
-                warn("Error\n" + Utils.printStackTrace(e), context);
-                return null;
-            }
+            OpenAPI openApiCopy = ModelCopyUtils.deepCopy(openApi);
 
             if (CollectionUtils.isEmpty(knownOpenApis) || !knownOpenApis.containsKey(groupName)) {
                 newOpenApi.setTags(openApiCopy.getTags());
@@ -685,7 +712,7 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
 
     private void mergeMicronautEndpointInfos(OpenAPI openApi, VisitorContext context) {
 
-        Map<String, List<EndpointInfo>> endpointInfosMap = Utils.getEndpointInfos();
+        Map<String, List<EndpointInfo>> endpointInfosMap = Utils.getEndpointInfos(context);
         if (CollectionUtils.isEmpty(endpointInfosMap)) {
             return;
         }
@@ -710,26 +737,58 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         return 100;
     }
 
-    private OpenAPI postProcessOpenApi(OpenAPI openApi, VisitorContext context) {
+    OpenAPI postProcessOpenApi(OpenAPI openApi, VisitorContext context) {
+        try (var ignored = MetricsUtils.start(PHASE_POST_PROCESS, context)) {
+
+            Path cacheDir = IncrementalCacheUtils.getCacheDir(context);
+            String fingerprint;
+            try (var ignored2 = MetricsUtils.start(PHASE_POST_PROCESS + ".incrementalCache.fingerprint", context)) {
+                fingerprint = cacheDir != null ? IncrementalCacheUtils.fingerprint(openApi, context) : null;
+            }
+            OpenAPI processedOpenApi;
+            try (var ignored2 = MetricsUtils.start(PHASE_POST_PROCESS + ".incrementalCache.read", context)) {
+                processedOpenApi = fingerprint != null ? IncrementalCacheUtils.read(cacheDir, fingerprint, context) : null;
+            }
+            if (processedOpenApi == null) {
+                try (var ignored2 = MetricsUtils.start(PHASE_POST_PROCESS + ".process", context)) {
+                    processedOpenApi = processOpenApi(openApi, context);
+                }
+                if (fingerprint != null) {
+                    var finalProcessedOpenApi = processedOpenApi;
+                    MetricsUtils.measure(PHASE_POST_PROCESS + ".incrementalCache.write", context, () -> IncrementalCacheUtils.write(cacheDir, fingerprint, finalProcessedOpenApi, context));
+                }
+            }
+            if (processedOpenApi.getComponents() != null && processedOpenApi.getComponents().getSchemas() != null) {
+                MetricsUtils.count("schemas", processedOpenApi.getComponents().getSchemas().size(), context);
+            }
+            if (processedOpenApi.getPaths() != null) {
+                MetricsUtils.count("paths", processedOpenApi.getPaths().size(), context);
+            }
 
-        fixInfoBlockIfNeeded(openApi, context);
-        applyPropertyNamingStrategy(openApi, context);
-        applyPropertyServerContextPath(openApi, context);
+            try (var ignored2 = MetricsUtils.start(PHASE_POST_PROCESS + ".resolvePropertyPlaceHolders", context)) {
+                return resolvePropertyPlaceHolders(processedOpenApi, context);
+            }
+        }
+    }
 
-        normalizeOpenApi(openApi, context);
-        normalizeOpenApi(openApi, context);
-        // Process after sorting so order is stable
-        new JacksonDiscriminatorPostProcessor().addMissingDiscriminatorType(openApi);
-        new OpenApiOperationsPostProcessor().processOperations(openApi);
+    private OpenAPI processOpenApi(OpenAPI openApi, VisitorContext context) {
 
-        removeUnusedSchemas(openApi);
+        MetricsUtils.measure(PHASE_POST_PROCESS + ".fixInfoBlock", context, () -> fixInfoBlockIfNeeded(openApi, context));
+        MetricsUtils.measure(PHASE_POST_PROCESS + ".applyPropertyNamingStrategy", context, () -> applyPropertyNamingStrategy(openApi, context));
+        MetricsUtils.measure(PHASE_POST_PROCESS + ".applyPropertyServerContextPath", context, () -> applyPropertyServerContextPath(openApi, context));
 
-        removeEmptyComponents(openApi);
-        findAndRemoveDuplicates(openApi);
+        MetricsUtils.measure(PHASE_POST_PROCESS + ".normalizeOpenApi", context,
+            () -> MetricsUtils.count("normalize.visitedNodes", normalizeOpenApi(openApi, context), context));
+        // Process after sorting so order is stable
+        MetricsUtils.measure(PHASE_POST_PROCESS + ".addMissingDiscriminatorType", context, () -> new JacksonDiscriminatorPostProcessor().addMissingDiscriminatorType(openApi));
+        MetricsUtils.measure(PHASE_POST_PROCESS + ".processOperations", context, () -> new OpenApiOperationsPostProcessor().processOperations(openApi));
 
-        addExtraSchemas(openApi, context);
+        MetricsUtils.measure(PHASE_POST_PROCESS + ".removeUnusedSchemas", context, () -> removeUnusedSchemas(openApi));
 
-        openApi = resolvePropertyPlaceHolders(openApi, context);
+        MetricsUtils.measure(PHASE_POST_PROCESS + ".removeEmptyComponents", context, () -> removeEmptyComponents(openApi));
+        MetricsUtils.measure(PHASE_POST_PROCESS + ".findAndRemoveDuplicates", context, () -> findAndRemoveDuplicates(openApi));
+
+        MetricsUtils.measure(PHASE_POST_PROCESS + ".addExtraSchemas", context, () -> addExtraSchemas(openApi, context));
 
         return openApi;
     }
@@ -752,14 +811,24 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         }
     }
 
+    /**
+     * Remove component schemas which are not reachable from paths, webhooks, other components
+     * or extra schemas.
+     *
+     * @param openApi The OpenAPI object
+     */
     public static void removeUnusedSchemas(OpenAPI openApi) {
-        int i = 0;
-        // remove unused schemas
-        while (removeUnusedSchemasIter(openApi) && i < MAX_ITERATIONS) {
-            i++;
-        }
+        removeUnusedSchemasIter(openApi);
     }
 
+    /**
+     * Remove unused component schemas. Reachability is calculated by the schema reference graph
+     * in one pass, so there is no need to call this method repeatedly.
+     *
+     * @param openApi The OpenAPI object
+     *
+     * @return true, if some schemas were removed
+     */
     public static boolean removeUnusedSchemasIter(OpenAPI openApi) {
         if (openApi.getComponents() == null) {
             return false;
@@ -770,26 +839,11 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         }
 
         var extraSchemas = OpenApiExtraSchemaVisitor.getExtraSchemas();
-        var removed = false;
-
-        try {
-            String openApiJson = Utils.getJsonMapper().writeValueAsString(openApi);
-            // Create a copy of the keySet so that we can modify the map while in a foreach
-            var keySet = new HashSet<>(schemas.keySet());
-            for (String schemaName : keySet) {
-                if (!openApiJson.contains(QUOTE + COMPONENTS_SCHEMAS_REF + schemaName + QUOTE)
-                    && !extraSchemas.containsKey(schemaName)
-                ) {
-                    schemas.remove(schemaName);
-                    removed = true;
-                }
-            }
-            // check excluded extra schemas also
-            for (String schemaName : OpenApiExtraSchemaVisitor.getExcludedExtraSchemas()) {
-                schemas.remove(schemaName);
-            }
-        } catch (JsonProcessingException e) {
-            // do nothing
+        var usedSchemas = SchemaRefUtils.findReachableSchemas(openApi, extraSchemas.keySet());
+        var removed = schemas.keySet().retainAll(usedSchemas);
+        // check excluded extra schemas also
+        for (String schemaName : OpenApiExtraSchemaVisitor.getExcludedExtraSchemas()) {
+            schemas.remove(schemaName);
         }
         return removed;
     }
@@ -804,7 +858,8 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
             if (schemas.containsKey(entry.getKey())) {
                 continue;
             }
-            schemas.put(entry.getKey(), entry.getValue());
+            // extra schemas are shared between groups, but post-processing changes them
+            schemas.put(entry.getKey(), ModelCopyUtils.deepCopy(entry.getValue()));
         }
     }
 
@@ -841,59 +896,252 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         }
     }
 
-    private void writeYamlToFile(Map<Pair<String, String>, OpenApiInfo> openApiInfos, String documentTitle, VisitorContext context, boolean isYaml) {
+    /**
+     * Post-process, write and convert to AsciiDoc the OpenAPI objects of all groups on a bounded thread pool.
+     * Spec files are streamed to disk by the worker threads. Logging, generated resources registration and
+     * AsciiDoc files are handled by the calling thread in the iteration order of openApiInfos, so the result
+     * is the same as with sequential processing.
+     *
+     * @param openApiInfos OpenAPI objects by group and version
+     * @param parallelism max number of threads
+     * @param ext spec file extension
+     * @param isYaml is YAML output format
+     * @param context visitor context
+     *
+     * @return document title
+     */
+    private String processInParallel(Map<Pair<String, String>, OpenApiInfo> openApiInfos, int parallelism, String ext, boolean isYaml, VisitorContext context) {
 
-        var isAdocModuleInClassPath = false;
-        var isGlobalAdocEnabled = ConfigUtils.isAdocEnabled(context);
+        // load lazy configuration before starting worker threads
+        getExpandableProperties(context);
+        readOpenApiConfigFile(context);
+        getEnv(context);
 
+        var isAdocEnabled = isAdocEnabled(context);
+        var objectMapper = isYaml ? Utils.getYamlMapper() : Utils.getJsonMapper();
+        var isSingleGroup = openApiInfos.size() == 1;
+
+        // Versions of a group with its own OpenAPI definition share one OpenAPI object,
+        // so they are processed on the same worker thread in the same order as in sequential mode
+        var chainIndexes = new IdentityHashMap<OpenAPI, Integer>();
+        var chains = new ArrayList<List<OpenApiInfo>>();
+        var positions = new ArrayList<Pair<Integer, Integer>>(openApiInfos.size());
+        for (OpenApiInfo openApiInfo : openApiInfos.values()) {
+            int chainIndex = chainIndexes.computeIfAbsent(openApiInfo.getOpenApi(), k -> {
+                chains.add(new ArrayList<>());
+                return chains.size() - 1;
+            });
+            var chain = chains.get(chainIndex);
+            positions.add(Pair.of(chainIndex, chain.size()));
+            chain.add(openApiInfo);
+        }
+
+        var executor = Executors.newFixedThreadPool(Math.min(parallelism, chains.size()));
         try {
-            Class.forName("io.micronaut.openapi.adoc.OpenApiToAdocConverter");
-            isAdocModuleInClassPath = true;
-        } catch (ClassNotFoundException e) {
-            // do nothing
+            var futures = new ArrayList<Future<List<GroupResult>>>(chains.size());
+            for (List<OpenApiInfo> chain : chains) {
+                futures.add(executor.submit(() -> {
+                    for (OpenApiInfo openApiInfo : chain) {
+                        openApiInfo.setOpenApi(postProcessOpenApi(openApiInfo.getOpenApi(), context));
+                    }
+                    var results = new ArrayList<GroupResult>(chain.size());
+                    for (OpenApiInfo openApiInfo : chain) {
+                        results.add(processGroup(openApiInfo, objectMapper, isSingleGroup, isAdocEnabled, ext, context));
+                    }
+                    return results;
+                }));
+            }
+
+            String documentTitle = null;
+            var i = 0;
+            for (OpenApiInfo openApiInfo : openApiInfos.values()) {
+                var position = positions.get(i++);
+                var result = futures.get(position.getFirst()).get().get(position.getSecond());
+                documentTitle = result.documentTitle;
+                // need to set test reference to openApi after post-processing
+                if (Utils.isTestMode()) {
+                    Utils.setTestReference(openApiInfo.getOpenApi());
+                }
+                if (registerSpec(openApiInfo, result.spec, isYaml, context) && result.adoc != null) {
+                    AdocModule.write(openApiInfo, result.adocProperties, result.adoc, context);
+                }
+            }
+            return documentTitle;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while processing OpenAPI groups", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("Unable to process OpenAPI groups: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private GroupResult processGroup(OpenApiInfo openApiInfo, ObjectMapper objectMapper, boolean isSingleGroup, boolean isAdocEnabled,
+                                     String ext, VisitorContext context) {
+        var titleAndFilename = calcFinalFilename(openApiInfo.getFilename(), openApiInfo, isSingleGroup, ext, context);
+        openApiInfo.setFilename(titleAndFilename.getSecond());
+        SerializedSpec spec;
+        try (var ignored = MetricsUtils.start("writeSpecFile", context)) {
+            spec = serializeSpec(openApiInfo, objectMapper, context);
         }
+        Map<String, String> adocProperties = null;
+        String adoc = null;
+        if (isAdocEnabled && openApiInfo.isAdocEnabled()) {
+            adocProperties = getAdocProperties(openApiInfo, isSingleGroup, context);
+            try (var ignored = MetricsUtils.start("adoc.render", context)) {
+                adoc = AdocModule.render(openApiInfo, adocProperties, context);
+            }
+        }
+        return new GroupResult(titleAndFilename.getFirst(), spec, adocProperties, adoc);
+    }
 
+    void writeYamlToFile(Map<Pair<String, String>, OpenApiInfo> openApiInfos, String documentTitle, VisitorContext context, boolean isYaml) {
+
+        var isAdocEnabled = isAdocEnabled(context);
         var objectMapper = isYaml ? Utils.getYamlMapper() : Utils.getJsonMapper();
 
         for (OpenApiInfo openApiInfo : openApiInfos.values()) {
-            Path specFile = openApiSpecFile(openApiInfo.getFilename(), context);
-            try (Writer writer = getFileWriter(specFile)) {
-                objectMapper.writeValue(writer, openApiInfo.getOpenApi());
-                if (Utils.isTestMode()) {
-                    Utils.setTestFileName(openApiInfo.getFilename());
-                    if (isYaml) {
-                        Utils.setTestYamlReference(writer.toString());
-                    } else {
-                        Utils.setTestJsonReference(writer.toString());
-                    }
+            if (writeSpecFile(openApiInfo, objectMapper, isYaml, context)
+                && isAdocEnabled && openApiInfo.isAdocEnabled()) {
+                var adocProperties = getAdocProperties(openApiInfo, openApiInfos.size() == 1, context);
+                MetricsUtils.measure("adoc.convert", context, () -> AdocModule.convert(openApiInfo, adocProperties, context));
+            }
+        }
+    }
+
+    /**
+     * Write the spec file of one group.
+     *
+     * @param openApiInfo OpenAPI object info
+     * @param objectMapper object mapper
+     * @param isYaml is YAML output format
+     * @param context visitor context
+     *
+     * @return true, if spec file was written successfully
+     */
+    private boolean writeSpecFile(OpenApiInfo openApiInfo, ObjectMapper objectMapper, boolean isYaml, VisitorContext context) {
+        try (var ignored = MetricsUtils.start("writeSpecFile", context)) {
+            return writeSpecFileInternal(openApiInfo, objectMapper, isYaml, context);
+        }
+    }
+
+    private boolean writeSpecFileInternal(OpenApiInfo openApiInfo, ObjectMapper objectMapper, boolean isYaml, VisitorContext context) {
+        return registerSpec(openApiInfo, serializeSpec(openApiInfo, objectMapper, context), isYaml, context);
+    }
+
+    /**
+     * Serialize the spec of one group to the spec file or, in test mode, to a string.
+     * Errors are returned in the result instead of being reported, so it can be called from the worker threads.
+     *
+     * @param openApiInfo OpenAPI object info
+     * @param objectMapper object mapper
+     * @param context visitor context
+     *
+     * @return serialization result
+     */
+    private static SerializedSpec serializeSpec(OpenApiInfo openApiInfo, ObjectMapper objectMapper, VisitorContext context) {
+        Path specFile = null;
+        try {
+            if (Utils.isTestMode()) {
+                var writer = new StringWriter();
+                SpecWriterUtils.write(openApiInfo.getOpenApi(), objectMapper, writer);
+                return new SerializedSpec(null, writer.toString(), null);
+            }
+            specFile = openApiSpecFile(openApiInfo.getFilename(), context);
+            if (specFile == null) {
+                throw new IOException("Swagger spec file location is not present");
+            }
+            SpecWriterUtils.write(openApiInfo.getOpenApi(), objectMapper, specFile);
+            return new SerializedSpec(specFile, null, null);
+        } catch (Exception e) {
+            return new SerializedSpec(specFile, null, e);
+        }
+    }
+
+    /**
+     * Log the written spec file, register it and its companion files as generated resources.
+     *
+     * @param openApiInfo OpenAPI object info
+     * @param spec serialization result
+     * @param isYaml is YAML output format
+     * @param context visitor context
+     *
+     * @return true, if spec file was written successfully
+     */
+    private boolean registerSpec(OpenApiInfo openApiInfo, SerializedSpec spec, boolean isYaml, VisitorContext context) {
+        Path specFile = spec.specFile();
+        try {
+            if (spec.error() != null) {
+                throw spec.error();
+            }
+            if (Utils.isTestMode()) {
+                Utils.setTestFileName(openApiInfo.getFilename());
+                if (isYaml) {
+                    Utils.setTestYamlReference(spec.content());
                 } else {
-                    info("Writing OpenAPI file to destination: " + specFile, context);
-                    var classesOutputPath = ContextUtils.getClassesOutputPath(context);
-                    if (classesOutputPath != null) {
-                        // add relative paths for the specFile, and its parent META-INF/swagger
-                        // so that micronaut-graal visitor knows about them
-                        addGeneratedResource(classesOutputPath.relativize(specFile).toString(), context);
-                        addGeneratedResource(classesOutputPath.relativize(specFile.getParent()).toString(), context);
+                    Utils.setTestJsonReference(spec.content());
+                }
+                if (ConfigUtils.isSmileEnabled(context)) {
+                    Utils.setTestSmileReference(Utils.getSmileMapper().writeValueAsBytes(openApiInfo.getOpenApi()));
+                }
+            } else {
+                info("Writing OpenAPI file to destination: " + specFile, context);
+                var classesOutputPath = ContextUtils.getClassesOutputPath(context);
+                if (classesOutputPath != null) {
+                    // add relative paths for the specFile, and its parent META-INF/swagger
+                    // so that micronaut-graal visitor knows about them
+                    addGeneratedResource(classesOutputPath.relativize(specFile).toString(), context);
+                    addGeneratedResource(classesOutputPath.relativize(specFile.getParent()).toString(), context);
+                }
+                if (ConfigUtils.isGzipEnabled(context)) {
+                    Path gzipFile = StaticResourceUtils.writeGzip(specFile);
+                    if (gzipFile != null && classesOutputPath != null) {
+                        addGeneratedResource(classesOutputPath.relativize(gzipFile).toString(), context);
                     }
-                    openApiInfo.setSpecFilePath(specFile.getFileName().toString());
                 }
-                if (isAdocModuleInClassPath && isGlobalAdocEnabled && openApiInfo.isAdocEnabled()) {
-                    var adocProperties = getAdocProperties(openApiInfo, openApiInfos.size() == 1, context);
-                    AdocModule.convert(openApiInfo, adocProperties, context);
+                if (ConfigUtils.isSmileEnabled(context)) {
+                    writeSmileFile(openApiInfo, specFile, context);
                 }
-            } catch (Exception e) {
-                warn("Unable to generate swagger" + (isYaml ? EXT_YML : EXT_JSON) + ": " + specFile + " - " + e.getMessage() + ".\n" + Utils.printStackTrace(e), context, classElement);
+                openApiInfo.setSpecFilePath(specFile.getFileName().toString());
             }
+            return true;
+        } catch (Exception e) {
+            warn("Unable to generate swagger" + (isYaml ? EXT_YML : EXT_JSON) + ": " + specFile + " - " + e.getMessage() + ".\n" + Utils.printStackTrace(e), context, classElement);
+            return false;
         }
     }
 
-    private Writer getFileWriter(Path specFile) throws IOException {
-        if (Utils.isTestMode()) {
-            return new StringWriter();
-        } else if (specFile != null) {
-            return Files.newBufferedWriter(specFile, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.CREATE);
-        } else {
-            throw new IOException("Swagger spec file location is not present");
+    /**
+     * Write the spec in the Smile format next to the spec file: {@code swagger.smile} for {@code swagger.yml}.
+     */
+    private void writeSmileFile(OpenApiInfo openApiInfo, Path specFile, VisitorContext context) throws IOException {
+        try (var ignored = MetricsUtils.start("writeSmileFile", context)) {
+            var specFileName = specFile.getFileName().toString();
+            var extIndex = specFileName.lastIndexOf('.');
+            var smileFileName = (extIndex > 0 ? specFileName.substring(0, extIndex) : specFileName) + OpenApiUtils.EXT_SMILE;
+            Path smileFile = specFile.resolveSibling(smileFileName);
+            SpecWriterUtils.write(openApiInfo.getOpenApi(), Utils.getSmileMapper(), smileFile);
+            info("Writing OpenAPI file to destination: " + smileFile, context);
+            var classesOutputPath = ContextUtils.getClassesOutputPath(context);
+            if (classesOutputPath != null) {
+                addGeneratedResource(classesOutputPath.relativize(smileFile).toString(), context);
+            }
+        }
+    }
+
+    private static boolean isAdocEnabled(VisitorContext context) {
+        if (!ConfigUtils.isAdocEnabled(context)) {
+            return false;
+        }
+        try {
+            Class.forName("io.micronaut.openapi.adoc.OpenApiToAdocConverter");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
         }
     }
 
@@ -919,4 +1167,34 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
             }
         }
     }
+
+    /**
+     * Result of the parallel processing of one group.
+     *
+     * @param documentTitle document title
+     * @param spec serialized spec
+     * @param adocProperties openapi-adoc properties
+     * @param adoc adoc content
+     */
+    private record GroupResult(
+        String documentTitle,
+        SerializedSpec spec,
+        @Nullable Map<String, String> adocProperties,
+        @Nullable String adoc
+    ) {
+    }
+
+    /**
+     * Result of the spec serialization.
+     *
+     * @param specFile written spec file, null in test mode
+     * @param content serialized spec in test mode
+     * @param error serialization error
+     */
+    private record SerializedSpec(
+        @Nullable Path specFile,
+        @Nullable String content,
+        @Nullable Exception error
+    ) {
+    }
 }
@@ -160,6 +160,64 @@ public interface OpenApiConfigProperty {
      * Is this property true, output file format will be JSON, otherwise YAML.
      */
     String MICRONAUT_OPENAPI_JSON_FORMAT = "micronaut.openapi.json.format";
+    /**
+     * Is this property true, every spec file is also written in the Smile binary format (a {@code .smile} file
+     * next to the YAML or JSON file). Smile files are much faster to read, use {@code OpenApiUtils.readSmile}
+     * from {@code micronaut-openapi-common} to read them. Requires the optional
+     * {@code com.fasterxml.jackson.dataformat:jackson-dataformat-smile} dependency on the annotation processor
+     * classpath for writing and on the runtime classpath for reading.
+     * <br>
+     * Default: false
+     */
+    String MICRONAUT_OPENAPI_SMILE_ENABLED = "micronaut.openapi.smile.enabled";
+    /**
+     * Number of threads used to post-process, serialize and convert to AsciiDoc the OpenAPI objects
+     * of different groups and versions. Values less than 2 disable parallel processing.
+     * <br>
+     * Default: 1
+     */
+    String MICRONAUT_OPENAPI_PARALLELISM = "micronaut.openapi.parallelism";
+    /**
+     * Is this property true, post-processed OpenAPI objects of groups and versions are cached on disk between
+     * compilations. The cache entry is reused when the assembled OpenAPI object of the group,
+     * extra schemas and openapi configuration are not changed. Only the post-processing is skipped:
+     * every group is still serialized to calculate its fingerprint, and a miss writes the group once more.
+     * <br>
+     * Default: false
+     */
+    String MICRONAUT_OPENAPI_INCREMENTAL_CACHE_ENABLED = "micronaut.openapi.incremental.cache.enabled";
+    /**
+     * Directory for incremental cache files. By default, it's {@code openapi-cache} directory next to the classes output directory.
+     * Every classes output directory gets its own subdirectory.
+     */
+    String MICRONAUT_OPENAPI_INCREMENTAL_CACHE_DIR = "micronaut.openapi.incremental.cache.dir";
+    /**
+     * Is this property true, the phases of the OpenAPI generation are measured (wall time, memory allocated
+     * by the calling thread, number of calls), and the result is written as JSON report together with schema
+     * counts and cache statistics.
+     * <br>
+     * Default: false
+     */
+    String MICRONAUT_OPENAPI_METRICS_ENABLED = "micronaut.openapi.metrics.enabled";
+    /**
+     * Metrics report file. By default, it's {@code openapi-metrics.json} file next to the classes output directory.
+     */
+    String MICRONAUT_OPENAPI_METRICS_FILE = "micronaut.openapi.metrics.file";
+    /**
+     * Is this property true, gzip files are written next to the spec files, the rendered views and the copied
+     * views resources ({@code swagger.yml.gz} for {@code swagger.yml}), so they can be served precompressed.
+     * <br>
+     * Default: false
+     */
+    String MICRONAUT_OPENAPI_GZIP_ENABLED = "micronaut.openapi.gzip.enabled";
+    /**
+     * Is this property true, views resources are copied with the content hash in the file name
+     * ({@code redoc.standalone.0a1b2c3d4e.js}) and the views reference them by hashed names,
+     * so the resources can be served with immutable long-lived caching.
+     * <br>
+     * Default: false
+     */
+    String MICRONAUT_OPENAPI_VIEWS_HASHED_RESOURCES_ENABLED = "micronaut.openapi.views.hashed-resources.enabled";
     /**
      * The name of the result swagger file.
      * <p>
@@ -372,6 +430,14 @@ public interface OpenApiConfigProperty {
         MICRONAUT_OPENAPI_VIEWS_SPEC,
         MICRONAUT_OPENAPI_FILENAME,
         MICRONAUT_OPENAPI_JSON_FORMAT,
+        MICRONAUT_OPENAPI_SMILE_ENABLED,
+        MICRONAUT_OPENAPI_PARALLELISM,
+        MICRONAUT_OPENAPI_INCREMENTAL_CACHE_ENABLED,
+        MICRONAUT_OPENAPI_INCREMENTAL_CACHE_DIR,
+        MICRONAUT_OPENAPI_METRICS_ENABLED,
+        MICRONAUT_OPENAPI_METRICS_FILE,
+        MICRONAUT_OPENAPI_GZIP_ENABLED,
+        MICRONAUT_OPENAPI_VIEWS_HASHED_RESOURCES_ENABLED,
         MICRONAUT_OPENAPI_ENVIRONMENTS,
         MICRONAUT_ENVIRONMENT_ENABLED,
         MICRONAUT_OPENAPI_FIELD_VISIBILITY_LEVEL,
@@ -89,7 +89,7 @@ public class OpenApiExtraSchemaVisitor implements TypeElementVisitor<OpenAPIExtr
             for (var entry : extraSchemaClassnamesToNames.entrySet()) {
                 addToExcludeExtraSchema(entry.getKey(), excludedExtraSchemaPackage, context);
             }
-            for (var entry : SchemaDefinitionUtils.getSchemaNameToClassNameMap().entrySet()) {
+            for (var entry : SchemaDefinitionUtils.getSchemaNameToClassNameMap(context).entrySet()) {
                 addToExcludeExtraSchema(entry.getValue(), excludedExtraSchemaPackage, context);
             }
         }
@@ -98,7 +98,7 @@ public class OpenApiExtraSchemaVisitor implements TypeElementVisitor<OpenAPIExtr
         for (var excludedExtraSchemaClassName : excludedExtraSchemaClassNames) {
             var schemaName = extraSchemaClassnamesToNames.get(excludedExtraSchemaClassName);
             if (schemaName == null) {
-                for (var entry : SchemaDefinitionUtils.getSchemaNameToClassNameMap().entrySet()) {
+                for (var entry : SchemaDefinitionUtils.getSchemaNameToClassNameMap(context).entrySet()) {
                     if (entry.getValue().equals(excludedExtraSchemaClassName)) {
                         schemaName = entry.getKey();
                         break;
@@ -179,7 +179,7 @@ public class OpenApiExtraSchemaVisitor implements TypeElementVisitor<OpenAPIExtr
         if (classEl == null) {
             return;
         }
-        String schemaName = computeDefaultSchemaName(stringValue(classEl, io.swagger.v3.oas.annotations.media.Schema.class, PROP_NAME).orElse(null),
+        String schemaName = computeDefaultSchemaName(stringValue(classEl, io.swagger.v3.oas.annotations.media.Schema.class, PROP_NAME, context).orElse(null),
             null, classEl, classEl.getTypeArguments(), context, null);
         var schema = getSchemaDefinition(resolveOpenApi(context), context, classEl, classEl.getTypeArguments(), null, Collections.emptyList(), null);
         if (schema == null) {
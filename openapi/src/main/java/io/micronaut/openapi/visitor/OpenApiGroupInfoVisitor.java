@@ -31,7 +31,6 @@ import io.swagger.v3.oas.models.security.SecurityRequirement;
 
 import javax.annotation.processing.SupportedOptions;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -79,21 +78,11 @@ public class OpenApiGroupInfoVisitor implements TypeElementVisitor<Object, Objec
         }
 
         if (CollectionUtils.isNotEmpty(groups)) {
-            Map<String, List<String>> includedClassesGroups = Utils.getIncludedClassesGroups();
-            if (includedClassesGroups == null) {
-                includedClassesGroups = new HashMap<>();
-                Utils.setIncludedClassesGroups(includedClassesGroups);
-            }
-            includedClassesGroups.put(classEl.getName(), groups);
+            Utils.getIncludedClassesGroups(context).put(classEl.getName(), groups);
         }
 
         if (CollectionUtils.isNotEmpty(groupsExcluded)) {
-            Map<String, List<String>> includedClassesGroupsExcluded = Utils.getIncludedClassesGroupsExcluded();
-            if (includedClassesGroupsExcluded == null) {
-                includedClassesGroupsExcluded = new HashMap<>();
-                Utils.setIncludedClassesGroupsExcluded(includedClassesGroupsExcluded);
-            }
-            includedClassesGroupsExcluded.put(classEl.getName(), groupsExcluded);
+            Utils.getIncludedClassesGroupsExcluded(context).put(classEl.getName(), groupsExcluded);
         }
 
         PackageElement packageEl = classEl.getPackage();
@@ -103,11 +92,7 @@ public class OpenApiGroupInfoVisitor implements TypeElementVisitor<Object, Objec
             return;
         }
 
-        Map<String, OpenAPI> openApis = Utils.getOpenApis();
-        if (openApis == null) {
-            openApis = new HashMap<>();
-            Utils.setOpenApis(openApis);
-        }
+        Map<String, OpenAPI> openApis = Utils.getOpenApis(context);
         addOpenApis(packageAnns, openApis, classEl, context);
         addOpenApis(classAnns, openApis, classEl, context);
     }
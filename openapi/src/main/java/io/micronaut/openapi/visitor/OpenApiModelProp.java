@@ -46,6 +46,7 @@ public interface OpenApiModelProp {
     String PROP_ALLOWABLE_VALUES = "allowableValues";
     String PROP_DEFAULT_VALUE = "defaultValue";
     String PROP_DEFAULT = "default";
+    String PROP_CONST = "const";
     String PROP_ENUM = "enum";
     String PROP_IN = "in";
     String PROP_IMPLEMENTATION = "implementation";
@@ -15,7 +15,6 @@
  */
 package io.micronaut.openapi.visitor;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
@@ -32,8 +31,12 @@ import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.media.StringSchema;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.servers.Server;
+import io.swagger.v3.oas.models.tags.Tag;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -60,7 +63,21 @@ public final class OpenApiNormalizeUtils {
     private OpenApiNormalizeUtils() {
     }
 
-    public static void normalizeOpenApi(OpenAPI openAPI, VisitorContext context) {
+    /**
+     * Normalize and sort OpenAPI object.
+     * <p>
+     * Paths and components are sorted once. Operations and component schemas are normalized one by one
+     * and only the subtrees, where allOf blocks were rewritten, are normalized once more, because the
+     * rewritten schemas can be normalized further.
+     *
+     * @param openAPI openAPI object
+     * @param context visitor context
+     *
+     * @return number of visited nodes
+     */
+    public static int normalizeOpenApi(OpenAPI openAPI, VisitorContext context) {
+
+        var state = new NormalizeState();
 
         if (CollectionUtils.isEmpty(openAPI.getExtensions())) {
             openAPI.setExtensions(null);
@@ -83,54 +100,64 @@ public final class OpenApiNormalizeUtils {
             }
             openAPI.setPaths(sortedPaths);
             for (PathItem pathItem : sortedPaths.values()) {
+                state.visitedNodes++;
                 if (CollectionUtils.isEmpty(pathItem.getExtensions())) {
                     pathItem.setExtensions(null);
                 }
-                normalizeOperation(pathItem.getGet(), context);
-                normalizeOperation(pathItem.getPut(), context);
-                normalizeOperation(pathItem.getPost(), context);
-                normalizeOperation(pathItem.getDelete(), context);
-                normalizeOperation(pathItem.getOptions(), context);
-                normalizeOperation(pathItem.getHead(), context);
-                normalizeOperation(pathItem.getPatch(), context);
-                normalizeOperation(pathItem.getTrace(), context);
+                for (Operation operation : pathItem.readOperations()) {
+                    normalizeSubtree(() -> normalizeOperation(operation, context, state), state);
+                }
             }
         }
 
         // Sort all reusable Components
         Components components = openAPI.getComponents();
-        if (components == null) {
-            return;
+        if (components != null) {
+            normalizeSchemas(components.getSchemas(), context, state);
+
+            sortComponent(components, Components::getSchemas, Components::setSchemas);
+            sortComponent(components, Components::getResponses, Components::setResponses);
+            sortComponent(components, Components::getParameters, Components::setParameters);
+            sortComponent(components, Components::getExamples, Components::setExamples);
+            sortComponent(components, Components::getRequestBodies, Components::setRequestBodies);
+            sortComponent(components, Components::getHeaders, Components::setHeaders);
+            sortComponent(components, Components::getSecuritySchemes, Components::setSecuritySchemes);
+            sortComponent(components, Components::getLinks, Components::setLinks);
+            sortComponent(components, Components::getCallbacks, Components::setCallbacks);
+            if (Utils.isOpenapi31()) {
+                sortComponent(components, Components::getPathItems, Components::setPathItems);
+                if (CollectionUtils.isNotEmpty(openAPI.getWebhooks())) {
+                    openAPI.setWebhooks(new TreeMap<>(openAPI.getWebhooks()));
+                }
+            }
         }
 
-        normalizeSchemas(components.getSchemas(), context);
+        MetricsUtils.count("normalize.renormalizedSubtrees", state.renormalizedSubtrees, context);
+        return state.visitedNodes;
+    }
 
-        sortComponent(components, Components::getSchemas, Components::setSchemas);
-        sortComponent(components, Components::getResponses, Components::setResponses);
-        sortComponent(components, Components::getParameters, Components::setParameters);
-        sortComponent(components, Components::getExamples, Components::setExamples);
-        sortComponent(components, Components::getRequestBodies, Components::setRequestBodies);
-        sortComponent(components, Components::getHeaders, Components::setHeaders);
-        sortComponent(components, Components::getSecuritySchemes, Components::setSecuritySchemes);
-        sortComponent(components, Components::getLinks, Components::setLinks);
-        sortComponent(components, Components::getCallbacks, Components::setCallbacks);
-        if (Utils.isOpenapi31()) {
-            sortComponent(components, Components::getPathItems, Components::setPathItems);
-            if (CollectionUtils.isNotEmpty(openAPI.getWebhooks())) {
-                openAPI.setWebhooks(new TreeMap<>(openAPI.getWebhooks()));
-            }
+    private static void normalizeSubtree(Runnable normalizer, NormalizeState state) {
+        state.changed = false;
+        normalizer.run();
+        if (state.changed) {
+            state.renormalizedSubtrees++;
+            state.changed = false;
+            normalizer.run();
         }
+        state.changed = false;
     }
 
-    public static void normalizeOperation(Operation operation, VisitorContext context) {
+    private static void normalizeOperation(Operation operation, VisitorContext context, NormalizeState state) {
         if (operation == null) {
             return;
         }
+        state.visitedNodes++;
         if (CollectionUtils.isNotEmpty(operation.getParameters())) {
             for (Parameter parameter : operation.getParameters()) {
                 if (parameter == null) {
                     continue;
                 }
+                state.visitedNodes++;
                 if (CollectionUtils.isEmpty(parameter.getExtensions())) {
                     parameter.setExtensions(null);
                 }
@@ -138,7 +165,7 @@ public final class OpenApiNormalizeUtils {
                 if (paramSchema == null) {
                     continue;
                 }
-                Schema<?> normalizedSchema = normalizeSchema(paramSchema, context);
+                Schema<?> normalizedSchema = normalizeSchema(paramSchema, context, state);
                 if (normalizedSchema != null) {
                     parameter.setSchema(normalizedSchema);
                 } else if (paramSchema.equals(EMPTY_SIMPLE_SCHEMA)) {
@@ -149,7 +176,7 @@ public final class OpenApiNormalizeUtils {
                     && parameter.getSchema() != null) {
                     parameter.setExample(ConvertUtils.parseByTypeAndFormat(exampleStr, parameter.getSchema().getType(), parameter.getSchema().getFormat(), context, false));
                 }
-                normalizeExamples(parameter.getExamples());
+                normalizeExamples(parameter.getExamples(), state);
             }
         }
         if (CollectionUtils.isEmpty(operation.getExtensions())) {
@@ -157,12 +184,13 @@ public final class OpenApiNormalizeUtils {
         }
 
         if (operation.getRequestBody() != null) {
-            normalizeContent(operation.getRequestBody().getContent(), context);
+            normalizeContent(operation.getRequestBody().getContent(), context, state);
         }
         if (CollectionUtils.isNotEmpty(operation.getResponses())) {
             for (ApiResponse apiResponse : operation.getResponses().values()) {
-                normalizeContent(apiResponse.getContent(), context);
-                normalizeHeaders(apiResponse.getHeaders(), context);
+                state.visitedNodes++;
+                normalizeContent(apiResponse.getContent(), context, state);
+                normalizeHeaders(apiResponse.getHeaders(), context, state);
                 if (CollectionUtils.isEmpty(apiResponse.getExtensions())) {
                     apiResponse.setExtensions(null);
                 }
@@ -170,12 +198,13 @@ public final class OpenApiNormalizeUtils {
         }
     }
 
-    public static void normalizeHeaders(Map<String, Header> headers, VisitorContext context) {
+    private static void normalizeHeaders(Map<String, Header> headers, VisitorContext context, NormalizeState state) {
         if (CollectionUtils.isEmpty(headers)) {
             return;
         }
 
         for (var header : headers.values()) {
+            state.visitedNodes++;
             if (CollectionUtils.isEmpty(header.getExtensions())) {
                 header.setExtensions(null);
             }
@@ -184,7 +213,7 @@ public final class OpenApiNormalizeUtils {
                 headerSchema = setSpecVersion(new StringSchema());
                 header.setSchema(headerSchema);
             }
-            Schema<?> normalizedSchema = normalizeSchema(headerSchema, context);
+            Schema<?> normalizedSchema = normalizeSchema(headerSchema, context, state);
             if (normalizedSchema != null) {
                 header.setSchema(normalizedSchema);
             } else if (headerSchema.equals(EMPTY_SIMPLE_SCHEMA)) {
@@ -194,16 +223,17 @@ public final class OpenApiNormalizeUtils {
                 && header.getExample() instanceof String exampleStr) {
                 header.setExample(ConvertUtils.parseByTypeAndFormat(exampleStr, header.getSchema().getType(), header.getSchema().getFormat(), context, false));
             }
-            normalizeExamples(header.getExamples());
-            normalizeContent(header.getContent(), context);
+            normalizeExamples(header.getExamples(), state);
+            normalizeContent(header.getContent(), context, state);
         }
     }
 
-    public static void normalizeContent(Content content, VisitorContext context) {
+    private static void normalizeContent(Content content, VisitorContext context, NormalizeState state) {
         if (CollectionUtils.isEmpty(content)) {
             return;
         }
         for (var mediaType : content.values()) {
+            state.visitedNodes++;
             if (CollectionUtils.isEmpty(mediaType.getExtensions())) {
                 mediaType.setExtensions(null);
             }
@@ -211,31 +241,18 @@ public final class OpenApiNormalizeUtils {
             if (mediaTypeSchema == null) {
                 continue;
             }
-            Schema<?> normalizedSchema = normalizeSchema(mediaTypeSchema, context);
+            Schema<?> normalizedSchema = normalizeSchema(mediaTypeSchema, context, state);
             if (normalizedSchema != null) {
                 mediaType.setSchema(normalizedSchema);
             } else if (mediaTypeSchema.equals(EMPTY_SIMPLE_SCHEMA)) {
                 mediaTypeSchema.setType(TYPE_OBJECT);
             }
-            normalizeExamples(mediaType.getExamples());
-            Map<String, Schema> paramSchemas = mediaTypeSchema.getProperties();
-            if (CollectionUtils.isNotEmpty(paramSchemas)) {
-                var paramNormalizedSchemas = new HashMap<String, Schema>();
-                for (var paramEntry : paramSchemas.entrySet()) {
-                    Schema<?> paramSchema = paramEntry.getValue();
-                    Schema<?> paramNormalizedSchema = normalizeSchema(paramSchema, context);
-                    if (paramNormalizedSchema != null) {
-                        paramNormalizedSchemas.put(paramEntry.getKey(), paramNormalizedSchema);
-                    }
-                }
-                if (CollectionUtils.isNotEmpty(paramNormalizedSchemas)) {
-                    paramSchemas.putAll(paramNormalizedSchemas);
-                }
-            }
+            normalizeExamples(mediaType.getExamples(), state);
+            normalizeProperties(mediaTypeSchema.getProperties(), false, context, state);
         }
     }
 
-    public static void normalizeExamples(Map<String, Example> examples) {
+    private static void normalizeExamples(Map<String, Example> examples, NormalizeState state) {
         if (CollectionUtils.isEmpty(examples)) {
             return;
         }
@@ -247,6 +264,7 @@ public final class OpenApiNormalizeUtils {
                 iter.remove();
                 continue;
             }
+            state.visitedNodes++;
             if (CollectionUtils.isEmpty(example.getExtensions())) {
                 example.setExtensions(null);
             }
@@ -260,10 +278,11 @@ public final class OpenApiNormalizeUtils {
         }
     }
 
-    public static Schema<?> normalizeSchema(Schema<?> schema, VisitorContext context) {
+    private static Schema<?> normalizeSchema(Schema<?> schema, VisitorContext context, NormalizeState state) {
         if (schema == null) {
             return null;
         }
+        state.visitedNodes++;
 
         if (CollectionUtils.isEmpty(schema.getExtensions())) {
             schema.setExtensions(null);
@@ -287,29 +306,17 @@ public final class OpenApiNormalizeUtils {
                 // if schema has only allOf block with one item or only defaultValue property or only type
                 Object defaultValue = schema.getDefault();
                 String type = schema.getType();
-                String serializedDefaultValue;
-                try {
-                    serializedDefaultValue = defaultValue != null ? Utils.getJsonMapper().writeValueAsString(defaultValue) : null;
-                } catch (JsonProcessingException e) {
-                    return null;
-                }
                 schema.setDefault(null);
                 schema.setType(null);
                 Schema<?> normalizedSchema = null;
 
-                Object allOfDefaultValue = allOfSchema.getDefault();
-                String serializedAllOfDefaultValue;
-                try {
-                    serializedAllOfDefaultValue = allOfDefaultValue != null ? Utils.getJsonMapper().writeValueAsString(allOfDefaultValue) : null;
-                } catch (JsonProcessingException e) {
-                    return null;
-                }
                 boolean isSameType = allOfSchema.getType() == null || allOfSchema.getType().equals(type);
 
                 if (isEmptySchema(schema)
-                    && (serializedDefaultValue == null || serializedDefaultValue.equals(serializedAllOfDefaultValue))
+                    && (defaultValue == null || isSameValue(defaultValue, allOfSchema.getDefault()))
                     && (type == null || isSameType)) {
                     normalizedSchema = allOfSchema;
+                    state.changed = true;
                 }
                 schema.setType(type);
                 schema.setAllOf(allOf);
@@ -319,10 +326,10 @@ public final class OpenApiNormalizeUtils {
                 }
                 normalizeSchemaProperties(schema, context);
                 normalizeSchemaProperties(normalizedSchema, context);
-                unwrapAllOff(normalizedSchema);
-                normalizeSchema(schema.getItems(), context);
+                unwrapAllOff(normalizedSchema, state);
+                normalizeSchema(schema.getItems(), context, state);
                 if (normalizedSchema != null) {
-                    normalizeSchema(normalizedSchema.getItems(), context);
+                    normalizeSchema(normalizedSchema.getItems(), context, state);
                 }
                 return normalizedSchema;
             }
@@ -330,24 +337,11 @@ public final class OpenApiNormalizeUtils {
             var finalList = new ArrayList<Schema>(allOf.size());
             var schemasWithoutRef = new ArrayList<Schema>(allOf.size() - 1);
             for (Schema<?> schemaAllOf : allOf) {
-                Schema<?> normalizedSchema = normalizeSchema(schemaAllOf, context);
+                Schema<?> normalizedSchema = normalizeSchema(schemaAllOf, context, state);
                 if (normalizedSchema != null) {
                     schemaAllOf = normalizedSchema;
                 }
-                Map<String, Schema> paramSchemas = schemaAllOf.getProperties();
-                if (CollectionUtils.isNotEmpty(paramSchemas)) {
-                    var paramNormalizedSchemas = new HashMap<String, Schema>();
-                    for (var paramEntry : paramSchemas.entrySet()) {
-                        Schema<?> paramSchema = paramEntry.getValue();
-                        Schema<?> paramNormalizedSchema = normalizeSchema(paramSchema, context);
-                        if (paramNormalizedSchema != null) {
-                            paramNormalizedSchemas.put(paramEntry.getKey(), paramNormalizedSchema);
-                        }
-                    }
-                    if (CollectionUtils.isNotEmpty(paramNormalizedSchemas)) {
-                        paramSchemas.putAll(paramNormalizedSchemas);
-                    }
-                }
+                normalizeProperties(schemaAllOf.getProperties(), false, context, state);
 
                 if (StringUtils.isEmpty(schemaAllOf.get$ref())) {
                     schemasWithoutRef.add(schemaAllOf);
@@ -369,11 +363,100 @@ public final class OpenApiNormalizeUtils {
             schema.setAllOf(finalList);
         }
         normalizeSchemaProperties(schema, context);
-        unwrapAllOff(schema);
-        normalizeSchema(schema.getItems(), context);
+        unwrapAllOff(schema, state);
+        normalizeSchema(schema.getItems(), context, state);
         return null;
     }
 
+    private static void normalizeProperties(Map<String, Schema> properties, boolean fixEmptySchemas, VisitorContext context, NormalizeState state) {
+        if (CollectionUtils.isEmpty(properties)) {
+            return;
+        }
+        // replacing values of existing keys doesn't change the map structure, so it's safe during iteration
+        for (var entry : properties.entrySet()) {
+            Schema<?> propertySchema = entry.getValue();
+            Schema<?> normalizedSchema = normalizeSchema(propertySchema, context, state);
+            if (normalizedSchema != null) {
+                entry.setValue(normalizedSchema);
+            } else if (fixEmptySchemas && propertySchema.equals(EMPTY_SIMPLE_SCHEMA)) {
+                propertySchema.setType(TYPE_OBJECT);
+            }
+        }
+    }
+
+    /**
+     * Compare default values structurally. Numbers are equal, when they have the same JSON representation,
+     * so {@code 1} and {@code 1L} are equal, but {@code 1} and {@code 1.0} are not.
+     *
+     * @param value1 first value
+     * @param value2 second value
+     *
+     * @return true, if values are serialized to the same JSON
+     */
+    static boolean isSameValue(Object value1, Object value2) {
+        if (value1 == value2) {
+            return true;
+        }
+        if (value1 == null || value2 == null) {
+            return false;
+        }
+        if (value1 instanceof Number number1 && value2 instanceof Number number2) {
+            try {
+                return new BigDecimal(number1.toString()).equals(new BigDecimal(number2.toString()));
+            } catch (NumberFormatException e) {
+                // NaN and infinity
+                return number1.toString().equals(number2.toString());
+            }
+        }
+        if (isStringValue(value1) && isStringValue(value2)) {
+            return value1.toString().equals(value2.toString());
+        }
+        if (value1 instanceof Map<?, ?> map1 && value2 instanceof Map<?, ?> map2) {
+            if (map1.size() != map2.size()) {
+                return false;
+            }
+            for (var entry : map1.entrySet()) {
+                if (!map2.containsKey(entry.getKey()) || !isSameValue(entry.getValue(), map2.get(entry.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (value1 instanceof Collection<?> collection1 && value2 instanceof Collection<?> collection2) {
+            if (collection1.size() != collection2.size()) {
+                return false;
+            }
+            var iter2 = collection2.iterator();
+            for (var element : collection1) {
+                if (!isSameValue(element, iter2.next())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (value1.equals(value2)) {
+            return true;
+        }
+        if (value1 instanceof Boolean || value2 instanceof Boolean
+            || value1 instanceof Map || value2 instanceof Map
+            || value1 instanceof Collection || value2 instanceof Collection
+            || value1 instanceof Number || value2 instanceof Number
+            || isStringValue(value1) || isStringValue(value2)) {
+            return false;
+        }
+        // other objects (dates, POJOs, arrays) are compared by their JSON trees
+        try {
+            var jsonMapper = Utils.getJsonMapper();
+            return jsonMapper.valueToTree(value1).equals(jsonMapper.valueToTree(value2));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static boolean isStringValue(Object value) {
+        return value instanceof CharSequence || value instanceof Enum<?> || value instanceof Character;
+    }
+
     private static void normalizeSchemaProperties(Schema<?> schema, VisitorContext context) {
 
         if (schema == null) {
@@ -392,44 +475,25 @@ public final class OpenApiNormalizeUtils {
      *
      * @param schemas all schema components
      * @param context Visitor context
+     * @param state normalization state
      */
-    public static void normalizeSchemas(Map<String, Schema> schemas, VisitorContext context) {
+    private static void normalizeSchemas(Map<String, Schema> schemas, VisitorContext context, NormalizeState state) {
 
         if (CollectionUtils.isEmpty(schemas)) {
             return;
         }
 
-        var normalizedSchemas = new HashMap<String, Schema>();
-
         for (Map.Entry<String, Schema> entry : schemas.entrySet()) {
-            Schema<?> schema = entry.getValue();
-            Schema<?> normalizedSchema = normalizeSchema(schema, context);
-            if (normalizedSchema != null) {
-                normalizedSchemas.put(entry.getKey(), normalizedSchema);
-            } else if (schema.equals(EMPTY_SIMPLE_SCHEMA)) {
-                schema.setType(TYPE_OBJECT);
-            }
-
-            Map<String, Schema> paramSchemas = schema.getProperties();
-            if (CollectionUtils.isNotEmpty(paramSchemas)) {
-                var paramNormalizedSchemas = new HashMap<String, Schema>();
-                for (Map.Entry<String, Schema> paramEntry : paramSchemas.entrySet()) {
-                    Schema<?> paramSchema = paramEntry.getValue();
-                    Schema<?> paramNormalizedSchema = normalizeSchema(paramSchema, context);
-                    if (paramNormalizedSchema != null) {
-                        paramNormalizedSchemas.put(paramEntry.getKey(), paramNormalizedSchema);
-                    } else if (paramSchema.equals(EMPTY_SIMPLE_SCHEMA)) {
-                        paramSchema.setType(TYPE_OBJECT);
-                    }
-                }
-                if (CollectionUtils.isNotEmpty(paramNormalizedSchemas)) {
-                    paramSchemas.putAll(paramNormalizedSchemas);
+            normalizeSubtree(() -> {
+                Schema<?> schema = entry.getValue();
+                Schema<?> normalizedSchema = normalizeSchema(schema, context, state);
+                if (normalizedSchema != null) {
+                    entry.setValue(normalizedSchema);
+                } else if (schema.equals(EMPTY_SIMPLE_SCHEMA)) {
+                    schema.setType(TYPE_OBJECT);
                 }
-            }
-        }
-
-        if (CollectionUtils.isNotEmpty(normalizedSchemas)) {
-            schemas.putAll(normalizedSchemas);
+                normalizeProperties(schema.getProperties(), true, context, state);
+            }, state);
         }
     }
 
@@ -499,14 +563,13 @@ public final class OpenApiNormalizeUtils {
      * @param openApi openAPI object
      */
     public static void findAndRemoveDuplicates(OpenAPI openApi) {
-        openApi.setTags(Utils.findAndRemoveDuplicates(openApi.getTags(), (el1, el2) -> el1.getName() != null && el1.getName().equals(el2.getName())));
-        openApi.setServers(Utils.findAndRemoveDuplicates(openApi.getServers(), (el1, el2) -> el1.getUrl() != null && el1.getUrl().equals(el2.getUrl())));
-        openApi.setSecurity(Utils.findAndRemoveDuplicates(openApi.getSecurity(), (el1, el2) -> el1 != null && el1.equals(el2)));
+        openApi.setTags(Utils.findAndRemoveDuplicates(openApi.getTags(), Tag::getName));
+        openApi.setServers(Utils.findAndRemoveDuplicates(openApi.getServers(), Server::getUrl));
+        openApi.setSecurity(Utils.findAndRemoveDuplicates(openApi.getSecurity(), Function.identity()));
         if (CollectionUtils.isNotEmpty(openApi.getPaths())) {
             for (var path : openApi.getPaths().values()) {
-                path.setServers(Utils.findAndRemoveDuplicates(path.getServers(), (el1, el2) -> el1.getUrl() != null && el1.getUrl().equals(el2.getUrl())));
-                path.setParameters(Utils.findAndRemoveDuplicates(path.getParameters(), (el1, el2) -> el1.getName() != null && el1.getName().equals(el2.getName())
-                    && el1.getIn() != null && el1.getIn().equals(el2.getIn())));
+                path.setServers(Utils.findAndRemoveDuplicates(path.getServers(), Server::getUrl));
+                path.setParameters(Utils.findAndRemoveDuplicates(path.getParameters(), OpenApiNormalizeUtils::parameterKey));
                 findAndRemoveDuplicates(path.getGet());
                 findAndRemoveDuplicates(path.getPut());
                 findAndRemoveDuplicates(path.getPost());
@@ -524,29 +587,21 @@ public final class OpenApiNormalizeUtils {
                 }
             }
         }
-        if (openApi.getComponents() != null) {
-            if (CollectionUtils.isNotEmpty(openApi.getComponents().getSchemas())) {
-                for (var schema : openApi.getComponents().getSchemas().values()) {
-                    findAndRemoveDuplicates(schema);
-                }
-            }
-        }
     }
 
     public static void findAndRemoveDuplicates(Operation operation) {
         if (operation == null) {
             return;
         }
-        operation.setTags(Utils.findAndRemoveDuplicates(operation.getTags(), (el1, el2) -> el1 != null && el1.equals(el2)));
-        operation.setServers(Utils.findAndRemoveDuplicates(operation.getServers(), (el1, el2) -> el1.getUrl() != null && el1.getUrl().equals(el2.getUrl())));
-        operation.setSecurity(Utils.findAndRemoveDuplicates(operation.getSecurity(), (el1, el2) -> el1 != null && el1.equals(el2)));
+        operation.setTags(Utils.findAndRemoveDuplicates(operation.getTags(), Function.identity()));
+        operation.setServers(Utils.findAndRemoveDuplicates(operation.getServers(), Server::getUrl));
+        operation.setSecurity(Utils.findAndRemoveDuplicates(operation.getSecurity(), Function.identity()));
         if (CollectionUtils.isNotEmpty(operation.getParameters())) {
             for (var param : operation.getParameters()) {
                 findAndRemoveDuplicates(param.getContent());
                 findAndRemoveDuplicates(param.getSchema());
             }
-            operation.setParameters(Utils.findAndRemoveDuplicates(operation.getParameters(), (el1, el2) -> el1.getName() != null && el1.getName().equals(el2.getName())
-                && el1.getIn() != null && el1.getIn().equals(el2.getIn())));
+            operation.setParameters(Utils.findAndRemoveDuplicates(operation.getParameters(), OpenApiNormalizeUtils::parameterKey));
         }
 
         if (operation.getRequestBody() != null) {
@@ -572,14 +627,24 @@ public final class OpenApiNormalizeUtils {
         if (schema == null) {
             return;
         }
-        schema.setRequired(Utils.findAndRemoveDuplicates(schema.getRequired(), (el1, el2) -> el1 != null && el1.equals(el2)));
-        schema.setPrefixItems(Utils.findAndRemoveDuplicates(schema.getPrefixItems(), (el1, el2) -> el1 != null && el1.equals(el2)));
-        schema.setAllOf(Utils.findAndRemoveDuplicates(schema.getAllOf(), (el1, el2) -> el1 != null && el1.equals(el2)));
-        schema.setAnyOf(Utils.findAndRemoveDuplicates(schema.getAnyOf(), (el1, el2) -> el1 != null && el1.equals(el2)));
-        schema.setOneOf(Utils.findAndRemoveDuplicates(schema.getOneOf(), (el1, el2) -> el1 != null && el1.equals(el2)));
+        schema.setRequired(Utils.findAndRemoveDuplicates(schema.getRequired(), Function.identity()));
+        schema.setPrefixItems(Utils.findAndRemoveDuplicates(schema.getPrefixItems(), Function.identity()));
+        schema.setAllOf(Utils.findAndRemoveDuplicates(schema.getAllOf(), Function.identity()));
+        schema.setAnyOf(Utils.findAndRemoveDuplicates(schema.getAnyOf(), Function.identity()));
+        schema.setOneOf(Utils.findAndRemoveDuplicates(schema.getOneOf(), Function.identity()));
     }
 
-    private static void unwrapAllOff(Schema<?> schema) {
+    /**
+     * Parameters are duplicates, when they have the same name and location.
+     */
+    private static Object parameterKey(Parameter parameter) {
+        if (parameter.getName() == null || parameter.getIn() == null) {
+            return null;
+        }
+        return List.of(parameter.getName(), parameter.getIn());
+    }
+
+    private static void unwrapAllOff(Schema<?> schema, NormalizeState state) {
 
         if (schema == null || CollectionUtils.isEmpty(schema.getAllOf())) {
             return;
@@ -613,6 +678,8 @@ public final class OpenApiNormalizeUtils {
         if (innerSchemas.isEmpty()) {
             return;
         }
+        // inner schemas are merged into the main schema, so the result can be normalized further
+        state.changed = true;
 
         for (var entry : innerSchemas.entrySet()) {
             var innerSchema = entry.getValue();
@@ -730,4 +797,23 @@ public final class OpenApiNormalizeUtils {
             }
         }
     }
+
+    /**
+     * State of the single normalization pass.
+     */
+    private static final class NormalizeState {
+
+        /**
+         * Number of visited paths, operations, parameters, responses, media types, headers, examples and schemas.
+         */
+        private int visitedNodes;
+        /**
+         * Number of operations and component schemas, which were normalized twice.
+         */
+        private int renormalizedSubtrees;
+        /**
+         * Whether the current subtree was rewritten and must be normalized once more.
+         */
+        private boolean changed;
+    }
 }
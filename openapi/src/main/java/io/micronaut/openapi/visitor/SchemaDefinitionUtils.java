@@ -116,6 +116,7 @@ import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
@@ -129,6 +130,7 @@ import static io.micronaut.openapi.visitor.ConfigUtils.getInnerClassSeparator;
 import static io.micronaut.openapi.visitor.ConfigUtils.getSchemaDecoration;
 import static io.micronaut.openapi.visitor.ConfigUtils.getSchemaDuplicateResolution;
 import static io.micronaut.openapi.visitor.ConfigUtils.isJsonViewDefaultInclusion;
+import static io.micronaut.openapi.visitor.ContextUtils.info;
 import static io.micronaut.openapi.visitor.ContextUtils.warn;
 import static io.micronaut.openapi.visitor.ConvertUtils.parseJsonString;
 import static io.micronaut.openapi.visitor.ConvertUtils.setDefaultValueObject;
@@ -230,21 +232,9 @@ import static io.micronaut.openapi.visitor.Utils.resolveOpenApi;
 public final class SchemaDefinitionUtils {
 
     /**
-     * Stores the current in progress type.
+     * {@link PropertyNamingStrategy} instances cache. Naming strategies are stateless, so they are shared between compilations.
      */
-    private static List<String> inProgressSchemas = new ArrayList<>(10);
-    /**
-     * Stores relations between schema names and class names.
-     */
-    private static Map<String, String> schemaNameToClassNameMap = new HashMap<>();
-    /**
-     * Stores class name counters for schema suffix, when found classes with same name in different packages.
-     */
-    private static Map<String, Integer> shemaNameSuffixCounterMap = new HashMap<>();
-    /**
-     * {@link PropertyNamingStrategy} instances cache.
-     */
-    private static Map<String, PropertyNamingStrategy> propertyNamingStrategyInstances = new HashMap<>();
+    private static final Map<String, PropertyNamingStrategy> PROPERTY_NAMING_STRATEGY_INSTANCES = new ConcurrentHashMap<>();
 
     private SchemaDefinitionUtils() {
     }
@@ -253,10 +243,19 @@ public final class SchemaDefinitionUtils {
      * Cleanup context.
      */
     public static void clean() {
-        inProgressSchemas = new ArrayList<>(10);
-        schemaNameToClassNameMap = new HashMap<>();
-        shemaNameSuffixCounterMap = new HashMap<>();
-        propertyNamingStrategyInstances = new HashMap<>();
+        PROPERTY_NAMING_STRATEGY_INSTANCES.clear();
+    }
+
+    /**
+     * Log statistics of the schema definitions cache.
+     *
+     * @param context visitor context
+     *
+     * @since 6.14.0
+     */
+    public static void logSchemaCacheStats(VisitorContext context) {
+        var session = VisitorSession.get(context);
+        info("Schema definitions cache: " + session.getSchemaCacheHits().get() + " hits, " + session.getSchemaCacheMisses().get() + " misses", context);
     }
 
     /**
@@ -303,7 +302,7 @@ public final class SchemaDefinitionUtils {
                 addEnumExtensions(enumEl, schema, context);
             }
         } else {
-            JavadocDescription javadoc = type != null ? Utils.getJavadocParser().parse(type.getDescription()) : null;
+            JavadocDescription javadoc = type != null ? Utils.parseJavadoc(type.getDescription(), context) : null;
             populateSchemaProperties(openAPI, context, type, typeArgs, schema, mediaTypes, javadoc, jsonViewClass);
             checkAllOf(schema);
         }
@@ -349,6 +348,8 @@ public final class SchemaDefinitionUtils {
 
         Schema schema;
         Map<String, Schema> schemas = SchemaUtils.resolveSchemas(openAPI);
+        var session = VisitorSession.get(context);
+        String cacheKey = null;
         if (schemaValue == null) {
             final boolean isBasicType = ElementUtils.isJavaBasicType(type.getName());
             final PrimitiveType primitiveType;
@@ -360,15 +361,28 @@ public final class SchemaDefinitionUtils {
                 primitiveType = null;
             }
             if (primitiveType == null) {
-                String schemaName = computeDefaultSchemaName(null, definingElement, type, typeArgs, context, jsonViewClass);
+                // Types without schema annotation are resolved only once, next time reference to already resolved schema is used.
+                // Class name with generics is computed once for the cache key and for the schema name
+                var jsonViewPostfix = jsonViewPostfix(jsonViewClass, context);
+                var fullClassName = computeFullClassNameWithGenerics(type, typeArgs, jsonViewPostfix, context);
+                cacheKey = schemaCacheKey(definingElement, fullClassName.getSecond(), mediaTypes, jsonViewClass);
+                String resolvedSchemaName = session.getResolvedSchemaNames().get(cacheKey);
+                Schema<?> resolvedSchema = resolvedSchemaName != null ? schemas.get(resolvedSchemaName) : null;
+                if (resolvedSchema != null) {
+                    session.getSchemaCacheHits().incrementAndGet();
+                    return toSchemaRef(resolvedSchema, definingElement);
+                }
+                session.getSchemaCacheMisses().incrementAndGet();
+
+                String schemaName = computeDefaultSchemaName(null, definingElement, fullClassName, jsonViewPostfix, context);
                 schema = schemas.get(schemaName);
-                JavadocDescription javadoc = Utils.getJavadocParser().parse(type.getDocumentation().orElse(null));
                 if (schema == null) {
+                    JavadocDescription javadoc = Utils.parseJavadoc(type.getDocumentation().orElse(null), context);
 
                     if (type instanceof EnumElement enumEl && isEnum(enumEl)) {
                         schema = setSpecVersion(new Schema<>());
                         schema.setName(schemaName);
-                        processJacksonDescription(enumEl, schema);
+                        processJacksonDescription(enumEl, schema, context);
                         if (schema.getDescription() == null && javadoc != null && StringUtils.hasText(javadoc.getMethodDescription())) {
                             schema.setDescription(javadoc.getMethodDescription());
                         }
@@ -386,7 +400,7 @@ public final class SchemaDefinitionUtils {
                         if (schemaWithSuperTypes != null) {
                             schema = schemaWithSuperTypes;
                         }
-                        processJacksonDescription(type, schema);
+                        processJacksonDescription(type, schema, context);
                         if (schema != null && schema.getDescription() == null && javadoc != null && StringUtils.hasText(javadoc.getMethodDescription())) {
                             schema.setDescription(javadoc.getMethodDescription());
                         }
@@ -409,11 +423,10 @@ public final class SchemaDefinitionUtils {
                 definingElement, type, typeArgs, context, jsonViewClass);
             schema = schemas.get(schemaName);
             if (schema == null) {
-                if (inProgressSchemas.contains(schemaName)) {
+                if (!session.getInProgressSchemas().add(schemaName)) {
                     // Break recursion
                     return setSpecVersion(new Schema<>().$ref(SchemaUtils.schemaRef(schemaName)));
                 }
-                inProgressSchemas.add(schemaName);
                 try {
                     schema = readSchema(schemaValue, openAPI, context, type, typeArgs, schemaAnnOnField ? definingElement : type, mediaTypes, jsonViewClass);
                     var typeSchema = type.getDeclaredAnnotation(io.swagger.v3.oas.annotations.media.Schema.class);
@@ -438,7 +451,7 @@ public final class SchemaDefinitionUtils {
                         processSuperTypes(schema, schemaName, type, definingElement, openAPI, mediaTypes, schemas, context, jsonViewClass);
                     }
                 } finally {
-                    inProgressSchemas.remove(schemaName);
+                    session.getInProgressSchemas().remove(schemaName);
                 }
             }
         }
@@ -451,31 +464,51 @@ public final class SchemaDefinitionUtils {
             if (externalDocs != null) {
                 schema.setExternalDocs(externalDocs);
             }
-            setSchemaDescription(type, schema);
-            var schemaRef = setSpecVersion(new Schema<>());
-            schemaRef.set$ref(SchemaUtils.schemaRef(schema.getName()));
-            if (definingElement instanceof ClassElement classEl && classEl.isIterable()) {
-                schemaRef.setDescription(schema.getDescription());
+            setSchemaDescription(type, schema, context);
+            if (cacheKey != null && schema.getName() != null) {
+                session.getResolvedSchemaNames().put(cacheKey, schema.getName());
             }
-            return schemaRef;
+            return toSchemaRef(schema, definingElement);
         }
         return null;
     }
 
+    private static Schema<?> toSchemaRef(Schema<?> schema, @Nullable Element definingElement) {
+        var schemaRef = setSpecVersion(new Schema<>());
+        schemaRef.set$ref(SchemaUtils.schemaRef(schema.getName()));
+        if (definingElement instanceof ClassElement classEl && classEl.isIterable()) {
+            schemaRef.setDescription(schema.getDescription());
+        }
+        return schemaRef;
+    }
+
+    private static String schemaCacheKey(@Nullable Element definingElement, String fullClassNameWithGenerics,
+                                         List<MediaType> mediaTypes, @Nullable ClassElement jsonViewClass) {
+        String metaAnnName = null;
+        if (definingElement != null) {
+            metaAnnName = definingElement.getAnnotationNameByStereotype(io.swagger.v3.oas.annotations.media.Schema.class).orElse(null);
+        }
+        return fullClassNameWithGenerics
+            + '|' + (jsonViewClass != null ? jsonViewClass.getName() : EMPTY_STRING)
+            + '|' + (metaAnnName != null ? metaAnnName : EMPTY_STRING)
+            + '|' + mediaTypes;
+    }
+
     public static String computeDefaultSchemaName(String defaultSchemaName, Element definingElement, Element type, Map<String, ClassElement> typeArgs, VisitorContext context,
                                                   @Nullable ClassElement jsonViewClass) {
 
+        var jsonViewPostfix = jsonViewPostfix(jsonViewClass, context);
+        return computeDefaultSchemaName(defaultSchemaName, definingElement, computeFullClassNameWithGenerics(type, typeArgs, jsonViewPostfix, context), jsonViewPostfix, context);
+    }
+
+    /**
+     * @param pair pair of schema name and full className with generics, computed by computeFullClassNameWithGenerics
+     */
+    private static String computeDefaultSchemaName(String defaultSchemaName, Element definingElement, Pair<String, String> pair, String jsonViewPostfix, VisitorContext context) {
+
         var genericSeparator = getGenericSeparator(context);
         var innerClassSeparator = getInnerClassSeparator(context);
 
-        String jsonViewPostfix = EMPTY_STRING;
-        if (jsonViewClass != null) {
-            String jsonViewClassName = jsonViewClass.getName();
-            jsonViewClassName = jsonViewClassName.replace(DOLLAR, DOT);
-            jsonViewPostfix = genericSeparator + (jsonViewClassName.contains(DOT) ? jsonViewClassName.substring(jsonViewClassName.lastIndexOf(DOT) + 1) : jsonViewClassName);
-        }
-
-        var pair = computeFullClassNameWithGenerics(type, typeArgs, jsonViewPostfix, context);
         var fullClassNameWithGenerics = pair.getSecond();
 
         String resultSchemaName;
@@ -497,6 +530,8 @@ public final class SchemaDefinitionUtils {
             }
         }
 
+        var session = VisitorSession.get(context);
+        Map<String, String> schemaNameToClassNameMap = session.getSchemaNameToClassNameMap();
         String storedClassName = schemaNameToClassNameMap.get(resultSchemaName);
         // Check if the class exists in other packages. If so, you need to add a suffix,
         // because there are two classes in different packages, but with the same class name.
@@ -504,9 +539,7 @@ public final class SchemaDefinitionUtils {
             if (getSchemaDuplicateResolution(context) == ConfigUtils.DuplicateResolution.ERROR) {
                 throw new ConfigurationException("Found 2 schemas with same name \"" + resultSchemaName + "\" for classes " + storedClassName + " and " + fullClassNameWithGenerics);
             }
-            int index = shemaNameSuffixCounterMap.getOrDefault(resultSchemaName, 0);
-            index++;
-            shemaNameSuffixCounterMap.put(resultSchemaName, index);
+            int index = session.getSchemaNameSuffixCounterMap().merge(resultSchemaName, 1, Integer::sum);
             resultSchemaName += genericSeparator + index;
         }
         schemaNameToClassNameMap.put(resultSchemaName, fullClassNameWithGenerics);
@@ -514,6 +547,15 @@ public final class SchemaDefinitionUtils {
         return resultSchemaName;
     }
 
+    private static String jsonViewPostfix(@Nullable ClassElement jsonViewClass, VisitorContext context) {
+        if (jsonViewClass == null) {
+            return EMPTY_STRING;
+        }
+        String jsonViewClassName = jsonViewClass.getName();
+        jsonViewClassName = jsonViewClassName.replace(DOLLAR, DOT);
+        return getGenericSeparator(context) + (jsonViewClassName.contains(DOT) ? jsonViewClassName.substring(jsonViewClassName.lastIndexOf(DOT) + 1) : jsonViewClassName);
+    }
+
     /**
      * @return pair of package name and full className with generics
      */
@@ -571,15 +613,15 @@ public final class SchemaDefinitionUtils {
                 continue;
             }
 
-            var schemaAnn = getAnnotation(element, io.swagger.v3.oas.annotations.media.Schema.class);
+            var schemaAnn = getAnnotation(element, io.swagger.v3.oas.annotations.media.Schema.class, context);
             boolean isHidden = schemaAnn != null && schemaAnn.booleanValue(PROP_HIDDEN).orElse(false);
 
             if (isHidden
-                || isAnnotationPresent(element, Hidden.class)
-                || isAnnotationPresent(element, JsonIgnore.class)) {
+                || isAnnotationPresent(element, Hidden.class, context)
+                || isAnnotationPresent(element, JsonIgnore.class, context)) {
                 continue;
             }
-            var jsonPropertyAnn = getAnnotation(element, JsonProperty.class);
+            var jsonPropertyAnn = getAnnotation(element, JsonProperty.class, context);
             String jacksonValue = jsonPropertyAnn != null ? jsonPropertyAnn.stringValue(PROP_VALUE).orElse(null) : null;
             if (StringUtils.hasText(jacksonValue)) {
                 try {
@@ -630,10 +672,10 @@ public final class SchemaDefinitionUtils {
 
         AnnotationValue<io.swagger.v3.oas.annotations.media.Schema> schemaAnnotationValue = null;
         if (definingElement != null) {
-            schemaAnnotationValue = getAnnotation(definingElement, io.swagger.v3.oas.annotations.media.Schema.class);
+            schemaAnnotationValue = getAnnotation(definingElement, io.swagger.v3.oas.annotations.media.Schema.class, context);
         }
         if (type != null && schemaAnnotationValue == null) {
-            schemaAnnotationValue = getAnnotation(type, io.swagger.v3.oas.annotations.media.Schema.class);
+            schemaAnnotationValue = getAnnotation(type, io.swagger.v3.oas.annotations.media.Schema.class, context);
         }
         boolean isSubstitutedType = false;
         if (schemaAnnotationValue != null) {
@@ -857,7 +899,7 @@ public final class SchemaDefinitionUtils {
                     processSchemaAnn(schema, context, definingElement, type, schemaAnnotationValue);
                 }
 
-                processJacksonDescription(definingElement, schema);
+                processJacksonDescription(definingElement, schema, context);
 
                 if (definingElement != null && StringUtils.isEmpty(schema.getDescription())) {
                     if (fieldJavadoc != null) {
@@ -905,7 +947,7 @@ public final class SchemaDefinitionUtils {
      */
     public static Schema<?> bindSchemaForElement(VisitorContext context, TypedElement element, ClassElement elementType, Schema<?> schemaToBind,
                                                  @Nullable ClassElement jsonViewClass, boolean withProcessDeprecated) {
-        var schemaAnn = getAnnotation(element, io.swagger.v3.oas.annotations.media.Schema.class);
+        var schemaAnn = getAnnotation(element, io.swagger.v3.oas.annotations.media.Schema.class, context);
         Schema<?> originalSchema = schemaToBind != null ? schemaToBind : new Schema<>();
 
         if (originalSchema.get$ref() != null) {
@@ -931,7 +973,7 @@ public final class SchemaDefinitionUtils {
                 }
             }
         }
-        var arraySchemaAnn = getAnnotation(element, io.swagger.v3.oas.annotations.media.ArraySchema.class);
+        var arraySchemaAnn = getAnnotation(element, io.swagger.v3.oas.annotations.media.ArraySchema.class, context);
         if (arraySchemaAnn != null) {
             schemaToBind = bindArraySchemaAnnotationValue(context, element, schemaToBind, arraySchemaAnn, jsonViewClass);
             arraySchemaAnn.stringValue(PROP_NAME).ifPresent(schemaToBind::setName);
@@ -950,19 +992,19 @@ public final class SchemaDefinitionUtils {
         }
 
         boolean notOnlyRef = false;
-        setSchemaDescription(element, topLevelSchema);
+        setSchemaDescription(element, topLevelSchema, context);
         if (StringUtils.isNotEmpty(topLevelSchema.getDescription())) {
             notOnlyRef = true;
         }
         if (withProcessDeprecated
-            && (isDeprecated(element) || isAnnotationPresent(element, Deprecated.class) || isAnnotationPresent(element, "kotlin.Deprecated"))
+            && (isDeprecated(element) || isAnnotationPresent(element, Deprecated.class, context) || isAnnotationPresent(element, "kotlin.Deprecated", context))
             && !(element instanceof PropertyElement propertyEl && isProtobufGenerated(propertyEl.getOwningType()) && elementType.getName().equals(Map.class.getName())
         )) {
             addSchemaDeprecatedExtension(element, topLevelSchema, context);
             topLevelSchema.setDeprecated(true);
             notOnlyRef = true;
         }
-        final String defaultValue = stringValue(element, Bindable.class, PROP_DEFAULT_VALUE).orElse(null);
+        final String defaultValue = stringValue(element, Bindable.class, PROP_DEFAULT_VALUE, context).orElse(null);
         if (defaultValue != null && schemaToBind != null && schemaToBind.getDefault() == null) {
             setDefaultValueObject(schemaToBind, defaultValue, elementType, schemaToBind.getType(), schemaToBind.getFormat(), true, context);
             notOnlyRef = true;
@@ -1450,7 +1492,8 @@ public final class SchemaDefinitionUtils {
     }
 
     /**
-     * Convert the given Map to a JSON node and then to the specified type.
+     * Convert the given Map to the specified type. Values are bound to the model object directly,
+     * if possible, otherwise they are converted to a JSON node and then to the specified type.
      *
      * @param <T> The output class type
      * @param values The values
@@ -1460,7 +1503,12 @@ public final class SchemaDefinitionUtils {
      * @return The converted instance
      */
     public static <T> T toValue(Map<CharSequence, Object> values, VisitorContext context, Class<T> type, @Nullable ClassElement jsonViewClass) {
-        JsonNode node = toJson(values, context, jsonViewClass);
+        Map<CharSequence, Object> valueMap = toValueMap(values, context, jsonViewClass);
+        T value = ModelBindUtils.bind(valueMap, type, context);
+        if (value != null) {
+            return value;
+        }
+        JsonNode node = Utils.getJsonMapper().valueToTree(valueMap);
         try {
             return ConvertUtils.treeToValue(node, type, context);
         } catch (JsonProcessingException e) {
@@ -1497,12 +1545,12 @@ public final class SchemaDefinitionUtils {
         if (propertySchema == null) {
             return;
         }
-        var jsonUnwrappedAnn = getAnnotation(element, JsonUnwrapped.class);
+        var jsonUnwrappedAnn = getAnnotation(element, JsonUnwrapped.class, context);
         if (jsonUnwrappedAnn != null && jsonUnwrappedAnn.booleanValue("enabled").orElse(Boolean.TRUE)) {
             handleUnwrapped(context, element, elementType, parentSchema, jsonUnwrappedAnn);
         } else {
             // check schema required flag
-            var schemaAnn = getAnnotation(element, io.swagger.v3.oas.annotations.media.Schema.class);
+            var schemaAnn = getAnnotation(element, io.swagger.v3.oas.annotations.media.Schema.class, context);
             Boolean elementSchemaRequired = null;
             boolean isAutoRequiredMode = true;
             boolean isRequiredDefaultValueSet = false;
@@ -1531,7 +1579,7 @@ public final class SchemaDefinitionUtils {
             }
 
             propertySchema = bindSchemaForElement(context, element, elementType, propertySchema, null, true);
-            String propertyName = resolvePropertyName(element, classElement, propertySchema);
+            String propertyName = resolvePropertyName(element, classElement, propertySchema, context);
             propertyName = normalizePropertyName(propertyName, classElement, elementType);
             propertySchema.setRequired(null);
             Schema<?> propertySchemaFinal = propertySchema;
@@ -1582,7 +1630,7 @@ public final class SchemaDefinitionUtils {
                     .filter(p ->
                         !"groovy.lang.MetaClass".equals(p.getType().getName())
                             && !"java.lang.Class".equals(p.getType().getName())
-                            && !getAnnotationMetadata(p).booleanValue(io.swagger.v3.oas.annotations.media.Schema.class, PROP_HIDDEN).orElse(false)
+                            && !getAnnotationMetadata(p, context).booleanValue(io.swagger.v3.oas.annotations.media.Schema.class, PROP_HIDDEN).orElse(false)
                     )
                     .toList();
             } catch (Exception e) {
@@ -1768,24 +1816,25 @@ public final class SchemaDefinitionUtils {
         composedSchema.addAllOfItem(propSchema);
     }
 
-    private static void processJacksonDescription(@Nullable Element element, @Nullable Schema<?> schemaToBind) {
+    private static void processJacksonDescription(@Nullable Element element, @Nullable Schema<?> schemaToBind, VisitorContext context) {
         if (element == null || schemaToBind == null || StringUtils.isNotEmpty(schemaToBind.getDescription())) {
             return;
         }
         findAnnotation(element, element instanceof ClassElement
             ? "com.fasterxml.jackson.annotation.JsonClassDescription"
-            : "com.fasterxml.jackson.annotation.JsonPropertyDescription"
+            : "com.fasterxml.jackson.annotation.JsonPropertyDescription",
+            context
         )
             .flatMap(ann -> ann.stringValue(PROP_VALUE))
             .ifPresent(schemaToBind::setDescription);
     }
 
-    private static void setSchemaDescription(Element element, Schema<?> schemaToBind) {
+    private static void setSchemaDescription(Element element, Schema<?> schemaToBind, VisitorContext context) {
         if (StringUtils.isNotEmpty(schemaToBind.getDescription())) {
             return;
         }
 
-        processJacksonDescription(element, schemaToBind);
+        processJacksonDescription(element, schemaToBind, context);
         if (StringUtils.isNotEmpty(schemaToBind.getDescription())) {
             return;
         }
@@ -1807,7 +1856,7 @@ public final class SchemaDefinitionUtils {
             }
         }
         if (doc != null) {
-            JavadocDescription desc = Utils.getJavadocParser().parse(doc);
+            JavadocDescription desc = Utils.parseJavadoc(doc, context);
             if (StringUtils.hasText(desc.getMethodDescription())) {
                 schemaToBind.setDescription(desc.getMethodDescription());
             }
@@ -2202,7 +2251,7 @@ public final class SchemaDefinitionUtils {
         var swaggerDefaultValue = schemaAnn != null ? schemaAnn.stringValue(PROP_DEFAULT_VALUE).orElse(null) : null;
 
         var reference = new AtomicReference<>(false);
-        findAnnotation(element, "com.fasterxml.jackson.annotation.JsonProperty")
+        findAnnotation(element, "com.fasterxml.jackson.annotation.JsonProperty", context)
             .ifPresent(ann -> {
                 if (swaggerAccessMode == null) {
                     ann.get(PROP_ACCESS, JsonProperty.Access.class).ifPresent(access -> {
@@ -2257,8 +2306,8 @@ public final class SchemaDefinitionUtils {
         addValidationAnnMessage(element, "jakarta.validation.constraints.NotNull$List", NOT_NULL_MESSAGE, messages, context);
 
         if (isIterableOrMap) {
-            if (isAnnotationPresent(element, "javax.validation.constraints.NotEmpty$List")
-                || isAnnotationPresent(element, "jakarta.validation.constraints.NotEmpty$List")) {
+            if (isAnnotationPresent(element, "javax.validation.constraints.NotEmpty$List", context)
+                || isAnnotationPresent(element, "jakarta.validation.constraints.NotEmpty$List", context)) {
                 schemaToBind.setMinItems(1);
 
                 addValidationAnnMessage(element, "javax.validation.constraints.NotEmpty$List", SIZE_MESSAGE, messages, context);
@@ -2268,30 +2317,30 @@ public final class SchemaDefinitionUtils {
             addValidationAnnMessage(element, "javax.validation.constraints.Size$List", SIZE_MESSAGE, messages, context);
             addValidationAnnMessage(element, "jakarta.validation.constraints.Size$List", SIZE_MESSAGE, messages, context);
 
-            findAnnotation(element, "javax.validation.constraints.Size$List")
+            findAnnotation(element, "javax.validation.constraints.Size$List", context)
                 .ifPresent(listAnn -> listAnn.getValue(AnnotationValue.class)
                     .ifPresent(ann -> ann.intValue("min")
                         .ifPresent(schemaToBind::setMinItems)));
-            findAnnotation(element, "jakarta.validation.constraints.Size$List")
+            findAnnotation(element, "jakarta.validation.constraints.Size$List", context)
                 .ifPresent(listAnn -> listAnn.getValue(AnnotationValue.class)
                     .ifPresent(ann -> ann.intValue("min")
                         .ifPresent(schemaToBind::setMinItems)));
 
-            findAnnotation(element, "javax.validation.constraints.Size$List")
+            findAnnotation(element, "javax.validation.constraints.Size$List", context)
                 .ifPresent(listAnn -> listAnn.getValue(AnnotationValue.class)
                     .ifPresent(ann -> ann.intValue("max")
                         .ifPresent(schemaToBind::setMaxItems)));
-            findAnnotation(element, "jakarta.validation.constraints.Size$List")
+            findAnnotation(element, "jakarta.validation.constraints.Size$List", context)
                 .ifPresent(listAnn -> listAnn.getValue(AnnotationValue.class)
                     .ifPresent(ann -> ann.intValue("max")
                         .ifPresent(schemaToBind::setMaxItems)));
 
         } else {
             if (PrimitiveType.STRING.getCommonName().equals(schemaToBind.getType())) {
-                if (isAnnotationPresent(element, "javax.validation.constraints.NotEmpty$List")
-                    || isAnnotationPresent(element, "jakarta.validation.constraints.NotEmpty$List")
-                    || isAnnotationPresent(element, "javax.validation.constraints.NotBlank$List")
-                    || isAnnotationPresent(element, "jakarta.validation.constraints.NotBlank$List")) {
+                if (isAnnotationPresent(element, "javax.validation.constraints.NotEmpty$List", context)
+                    || isAnnotationPresent(element, "jakarta.validation.constraints.NotEmpty$List", context)
+                    || isAnnotationPresent(element, "javax.validation.constraints.NotBlank$List", context)
+                    || isAnnotationPresent(element, "jakarta.validation.constraints.NotBlank$List", context)) {
                     schemaToBind.setMinLength(1);
 
                     addValidationAnnMessage(element, "javax.validation.constraints.NotEmpty$List", SIZE_MESSAGE, messages, context);
@@ -2301,14 +2350,14 @@ public final class SchemaDefinitionUtils {
                     addValidationAnnMessage(element, "jakarta.validation.constraints.NotBlank$List", SIZE_MESSAGE, messages, context);
                 }
 
-                findAnnotation(element, "javax.validation.constraints.Size$List")
+                findAnnotation(element, "javax.validation.constraints.Size$List", context)
                     .ifPresent(listAnn -> {
                         for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                             ann.intValue("min").ifPresent(schemaToBind::setMinLength);
                             ann.intValue("max").ifPresent(schemaToBind::setMaxLength);
                         }
                     });
-                findAnnotation(element, "jakarta.validation.constraints.Size$List")
+                findAnnotation(element, "jakarta.validation.constraints.Size$List", context)
                     .ifPresent(listAnn -> {
                         for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                             ann.intValue("min").ifPresent(schemaToBind::setMinLength);
@@ -2320,44 +2369,44 @@ public final class SchemaDefinitionUtils {
                 addValidationAnnMessage(element, "jakarta.validation.constraints.Size$List", SIZE_MESSAGE, messages, context);
             }
 
-            if (isAnnotationPresent(element, "javax.validation.constraints.Negative$List")
-                || isAnnotationPresent(element, "jakarta.validation.constraints.Negative$List")) {
+            if (isAnnotationPresent(element, "javax.validation.constraints.Negative$List", context)
+                || isAnnotationPresent(element, "jakarta.validation.constraints.Negative$List", context)) {
                 schemaToBind.setMaximum(BigDecimal.ZERO);
                 schemaToBind.exclusiveMaximum(true);
 
                 addValidationAnnMessage(element, "javax.validation.constraints.Negative$List", MAX_MESSAGE, messages, context);
                 addValidationAnnMessage(element, "jakarta.validation.constraints.Negative$List", MAX_MESSAGE, messages, context);
             }
-            if (isAnnotationPresent(element, "javax.validation.constraints.NegativeOrZero$List")
-                || isAnnotationPresent(element, "jakarta.validation.constraints.NegativeOrZero$List")) {
+            if (isAnnotationPresent(element, "javax.validation.constraints.NegativeOrZero$List", context)
+                || isAnnotationPresent(element, "jakarta.validation.constraints.NegativeOrZero$List", context)) {
                 schemaToBind.setMaximum(BigDecimal.ZERO);
 
                 addValidationAnnMessage(element, "javax.validation.constraints.NegativeOrZero$List", MAX_MESSAGE, messages, context);
                 addValidationAnnMessage(element, "jakarta.validation.constraints.NegativeOrZero$List", MAX_MESSAGE, messages, context);
             }
-            if (isAnnotationPresent(element, "javax.validation.constraints.Positive$List")
-                || isAnnotationPresent(element, "jakarta.validation.constraints.Positive$List")) {
+            if (isAnnotationPresent(element, "javax.validation.constraints.Positive$List", context)
+                || isAnnotationPresent(element, "jakarta.validation.constraints.Positive$List", context)) {
                 schemaToBind.setMinimum(BigDecimal.ZERO);
                 schemaToBind.exclusiveMinimum(true);
 
                 addValidationAnnMessage(element, "javax.validation.constraints.Positive$List", MIN_MESSAGE, messages, context);
                 addValidationAnnMessage(element, "jakarta.validation.constraints.Positive$List", MIN_MESSAGE, messages, context);
             }
-            if (isAnnotationPresent(element, "javax.validation.constraints.PositiveOrZero$List")
-                || isAnnotationPresent(element, "jakarta.validation.constraints.PositiveOrZero$List")) {
+            if (isAnnotationPresent(element, "javax.validation.constraints.PositiveOrZero$List", context)
+                || isAnnotationPresent(element, "jakarta.validation.constraints.PositiveOrZero$List", context)) {
                 schemaToBind.setMinimum(BigDecimal.ZERO);
 
                 addValidationAnnMessage(element, "javax.validation.constraints.PositiveOrZero$List", MIN_MESSAGE, messages, context);
                 addValidationAnnMessage(element, "jakarta.validation.constraints.PositiveOrZero$List", MIN_MESSAGE, messages, context);
             }
 
-            findAnnotation(element, "javax.validation.constraints.Min$List")
+            findAnnotation(element, "javax.validation.constraints.Min$List", context)
                 .ifPresent(listAnn -> {
                     for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                         ann.getValue(BigDecimal.class).ifPresent(schemaToBind::setMinimum);
                     }
                 });
-            findAnnotation(element, "jakarta.validation.constraints.Min$List")
+            findAnnotation(element, "jakarta.validation.constraints.Min$List", context)
                 .ifPresent(listAnn -> {
                     for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                         ann.getValue(BigDecimal.class).ifPresent(schemaToBind::setMinimum);
@@ -2366,13 +2415,13 @@ public final class SchemaDefinitionUtils {
             addValidationAnnMessage(element, "javax.validation.constraints.Min$List", MIN_MESSAGE, messages, context);
             addValidationAnnMessage(element, "jakarta.validation.constraints.Min$List", MIN_MESSAGE, messages, context);
 
-            findAnnotation(element, "javax.validation.constraints.Max$List")
+            findAnnotation(element, "javax.validation.constraints.Max$List", context)
                 .ifPresent(listAnn -> {
                     for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                         ann.getValue(BigDecimal.class).ifPresent(schemaToBind::setMaximum);
                     }
                 });
-            findAnnotation(element, "jakarta.validation.constraints.Max$List")
+            findAnnotation(element, "jakarta.validation.constraints.Max$List", context)
                 .ifPresent(listAnn -> {
                     for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                         ann.getValue(BigDecimal.class).ifPresent(schemaToBind::setMaximum);
@@ -2381,13 +2430,13 @@ public final class SchemaDefinitionUtils {
             addValidationAnnMessage(element, "javax.validation.constraints.Max$List", MAX_MESSAGE, messages, context);
             addValidationAnnMessage(element, "jakarta.validation.constraints.Max$List", MAX_MESSAGE, messages, context);
 
-            findAnnotation(element, "javax.validation.constraints.DecimalMin$List")
+            findAnnotation(element, "javax.validation.constraints.DecimalMin$List", context)
                 .ifPresent(listAnn -> {
                     for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                         ann.getValue(BigDecimal.class).ifPresent(schemaToBind::setMinimum);
                     }
                 });
-            findAnnotation(element, "jakarta.validation.constraints.DecimalMin$List")
+            findAnnotation(element, "jakarta.validation.constraints.DecimalMin$List", context)
                 .ifPresent(listAnn -> {
                     for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                         ann.getValue(BigDecimal.class).ifPresent(schemaToBind::setMinimum);
@@ -2396,13 +2445,13 @@ public final class SchemaDefinitionUtils {
             addValidationAnnMessage(element, "javax.validation.constraints.DecimalMin$List", MIN_MESSAGE, messages, context);
             addValidationAnnMessage(element, "jakarta.validation.constraints.DecimalMin$List", MIN_MESSAGE, messages, context);
 
-            findAnnotation(element, "javax.validation.constraints.DecimalMax$List")
+            findAnnotation(element, "javax.validation.constraints.DecimalMax$List", context)
                 .ifPresent(listAnn -> {
                     for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                         ann.getValue(BigDecimal.class).ifPresent(schemaToBind::setMaximum);
                     }
                 });
-            findAnnotation(element, "jakarta.validation.constraints.DecimalMax$List")
+            findAnnotation(element, "jakarta.validation.constraints.DecimalMax$List", context)
                 .ifPresent(listAnn -> {
                     for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                         ann.getValue(BigDecimal.class).ifPresent(schemaToBind::setMaximum);
@@ -2411,14 +2460,14 @@ public final class SchemaDefinitionUtils {
             addValidationAnnMessage(element, "javax.validation.constraints.DecimalMax$List", MAX_MESSAGE, messages, context);
             addValidationAnnMessage(element, "jakarta.validation.constraints.DecimalMax$List", MAX_MESSAGE, messages, context);
 
-            findAnnotation(element, "javax.validation.constraints.Email$List")
+            findAnnotation(element, "javax.validation.constraints.Email$List", context)
                 .ifPresent(listAnn -> {
                     schemaToBind.setFormat(PrimitiveType.EMAIL.getCommonName());
                     for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                         ann.stringValue("regexp").ifPresent(schemaToBind::setPattern);
                     }
                 });
-            findAnnotation(element, "jakarta.validation.constraints.Email$List")
+            findAnnotation(element, "jakarta.validation.constraints.Email$List", context)
                 .ifPresent(listAnn -> {
                     schemaToBind.setFormat(PrimitiveType.EMAIL.getCommonName());
                     for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
@@ -2426,13 +2475,13 @@ public final class SchemaDefinitionUtils {
                     }
                 });
 
-            findAnnotation(element, "javax.validation.constraints.Pattern$List")
+            findAnnotation(element, "javax.validation.constraints.Pattern$List", context)
                 .ifPresent(listAnn -> {
                     for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                         ann.stringValue("regexp").ifPresent(schemaToBind::setPattern);
                     }
                 });
-            findAnnotation(element, "jakarta.validation.constraints.Pattern$List")
+            findAnnotation(element, "jakarta.validation.constraints.Pattern$List", context)
                 .ifPresent(listAnn -> {
                     for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                         ann.stringValue("regexp").ifPresent(schemaToBind::setPattern);
@@ -2456,7 +2505,7 @@ public final class SchemaDefinitionUtils {
             return;
         }
 
-        findAnnotation(element, annName)
+        findAnnotation(element, annName, context)
             .ifPresent(listAnn -> listAnn.getValue(AnnotationValue.class)
                 .ifPresent(ann -> ann.stringValue("message")
                     .ifPresent(message -> {
@@ -2522,7 +2571,7 @@ public final class SchemaDefinitionUtils {
         }
 
         for (TypedElement publicField : publicFields) {
-            if (isHiddenElement(publicField)) {
+            if (isHiddenElement(publicField, context)) {
                 continue;
             }
 
@@ -2531,7 +2580,7 @@ public final class SchemaDefinitionUtils {
             if (classElement != null) {
                 for (FieldElement field : classElement.getFields()) {
                     if (field.getName().equals(publicField.getName())) {
-                        fieldJavadoc = Utils.getJavadocParser().parse(publicField.getDocumentation().orElse(field.getDocumentation().orElse(null)));
+                        fieldJavadoc = Utils.parseJavadoc(publicField.getDocumentation().orElse(field.getDocumentation().orElse(null)), context);
                         break;
                     }
                 }
@@ -2572,20 +2621,20 @@ public final class SchemaDefinitionUtils {
         }
     }
 
-    private static boolean isHiddenElement(TypedElement elementType) {
-        boolean isHidden = getAnnotationMetadata(elementType)
+    private static boolean isHiddenElement(TypedElement elementType, VisitorContext context) {
+        boolean isHidden = getAnnotationMetadata(elementType, context)
             .booleanValue(io.swagger.v3.oas.annotations.media.Schema.class, PROP_HIDDEN).orElse(false);
-        var jsonAnySetterAnn = getAnnotation(elementType, JsonAnySetter.class);
+        var jsonAnySetterAnn = getAnnotation(elementType, JsonAnySetter.class, context);
         return elementType.getType().isAssignable(Class.class)
-            || isAnnotationPresent(elementType, JsonIgnore.class)
-            || isAnnotationPresent(elementType, JsonBackReference.class)
-            || isAnnotationPresent(elementType, Hidden.class)
+            || isAnnotationPresent(elementType, JsonIgnore.class, context)
+            || isAnnotationPresent(elementType, JsonBackReference.class, context)
+            || isAnnotationPresent(elementType, Hidden.class, context)
             || (jsonAnySetterAnn != null && jsonAnySetterAnn.booleanValue("enabled").orElse(true))
             || isHidden;
     }
 
     private static boolean allowedByJsonView(TypedElement publicField, String[] classLvlJsonViewClasses, ClassElement jsonViewClassEl, VisitorContext context) {
-        String[] fieldJsonViewClasses = getAnnotationMetadata(publicField).stringValues(JsonView.class);
+        String[] fieldJsonViewClasses = getAnnotationMetadata(publicField, context).stringValues(JsonView.class);
         if (ArrayUtils.isEmpty(fieldJsonViewClasses)) {
             fieldJsonViewClasses = classLvlJsonViewClasses;
         }
@@ -2866,17 +2915,17 @@ public final class SchemaDefinitionUtils {
         return resultTypeName;
     }
 
-    private static String resolvePropertyName(Element element, Element classElement, Schema<?> propertySchema) {
+    private static String resolvePropertyName(Element element, Element classElement, Schema<?> propertySchema, VisitorContext context) {
         String name = propertySchema.getName() != null ? propertySchema.getName() : element.getName();
 
-        if (isAnnotationPresent(element, io.swagger.v3.oas.annotations.media.Schema.class)) {
-            var nameFromSchema = stringValue(element, io.swagger.v3.oas.annotations.media.Schema.class, PROP_NAME).orElse(null);
+        if (isAnnotationPresent(element, io.swagger.v3.oas.annotations.media.Schema.class, context)) {
+            var nameFromSchema = stringValue(element, io.swagger.v3.oas.annotations.media.Schema.class, PROP_NAME, context).orElse(null);
             if (nameFromSchema != null) {
                 return nameFromSchema;
             }
         }
-        if (isAnnotationPresent(element, JsonProperty.class)) {
-            return stringValue(element, JsonProperty.class, PROP_VALUE).orElse(name);
+        if (isAnnotationPresent(element, JsonProperty.class, context)) {
+            return stringValue(element, JsonProperty.class, PROP_VALUE, context).orElse(name);
         }
         if (classElement != null && classElement.hasAnnotation(JsonNaming.class)) {
             // INVESTIGATE: "classValue" doesn't work in this case
@@ -2884,7 +2933,7 @@ public final class SchemaDefinitionUtils {
             if (propertyNamingStrategyClass.isEmpty()) {
                 return name;
             }
-            PropertyNamingStrategy strategy = propertyNamingStrategyInstances.computeIfAbsent(propertyNamingStrategyClass.get(), clazz -> {
+            PropertyNamingStrategy strategy = PROPERTY_NAMING_STRATEGY_INSTANCES.computeIfAbsent(propertyNamingStrategyClass.get(), clazz -> {
                 try {
                     return (PropertyNamingStrategy) Class.forName(propertyNamingStrategyClass.get()).getConstructor().newInstance();
                 } catch (Exception e) {
@@ -2912,7 +2961,7 @@ public final class SchemaDefinitionUtils {
             }
         }
 
-        String schemaName = computeDefaultSchemaName(stringValue(element, io.swagger.v3.oas.annotations.media.Schema.class, PROP_NAME).orElse(null),
+        String schemaName = computeDefaultSchemaName(stringValue(element, io.swagger.v3.oas.annotations.media.Schema.class, PROP_NAME, context).orElse(null),
             null, elType, elementType.getTypeArguments(), context, null);
         Schema<?> wrappedPropertySchema = schemas.get(schemaName);
         if (wrappedPropertySchema == null) {
@@ -3004,7 +3053,7 @@ public final class SchemaDefinitionUtils {
         return valueMap;
     }
 
-    public static Map<String, String> getSchemaNameToClassNameMap() {
-        return schemaNameToClassNameMap;
+    public static Map<String, String> getSchemaNameToClassNameMap(VisitorContext context) {
+        return VisitorSession.get(context).getSchemaNameToClassNameMap();
     }
 }
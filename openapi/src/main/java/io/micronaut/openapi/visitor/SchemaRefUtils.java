@@ -0,0 +1,484 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.CollectionUtils;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.examples.Example;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.links.Link;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Encoding;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static io.swagger.v3.oas.models.Components.COMPONENTS_SCHEMAS_REF;
+
+/**
+ * Utilities to build the graph of {@code #/components/schemas/} references of an OpenAPI object.
+ * All methods walk the model objects directly, so the specification is never serialized.
+ *
+ * @since 6.14.0
+ */
+@Internal
+public final class SchemaRefUtils {
+
+    private SchemaRefUtils() {
+    }
+
+    /**
+     * Extract the schema name from a reference like {@code #/components/schemas/MySchema}.
+     *
+     * @param ref reference
+     *
+     * @return schema name or null, if reference is not a components schema reference
+     */
+    @Nullable
+    public static String schemaNameFromRef(@Nullable String ref) {
+        if (ref == null || !ref.startsWith(COMPONENTS_SCHEMAS_REF) || ref.length() == COMPONENTS_SCHEMAS_REF.length()) {
+            return null;
+        }
+        return ref.substring(COMPONENTS_SCHEMAS_REF.length());
+    }
+
+    /**
+     * Collect names of all component schemas referenced by the schema and its inline sub-schemas.
+     * Referenced schemas are not resolved, so the result contains only direct references.
+     *
+     * @param schema schema
+     *
+     * @return names of referenced component schemas
+     */
+    public static Set<String> collectSchemaRefs(@Nullable Schema<?> schema) {
+        var collector = new RefCollector();
+        collector.schema(schema);
+        return collector.refs;
+    }
+
+    /**
+     * Build the reference graph of component schemas: for every schema from {@code components/schemas}
+     * the result contains the names of the component schemas it references directly.
+     *
+     * @param openApi OpenAPI object
+     *
+     * @return adjacency map in the order of the component schemas
+     */
+    public static Map<String, Set<String>> buildSchemaRefGraph(OpenAPI openApi) {
+        Map<String, Schema> schemas = openApi.getComponents() != null ? openApi.getComponents().getSchemas() : null;
+        if (CollectionUtils.isEmpty(schemas)) {
+            return Collections.emptyMap();
+        }
+        var graph = new LinkedHashMap<String, Set<String>>(schemas.size());
+        for (var entry : schemas.entrySet()) {
+            graph.put(entry.getKey(), collectSchemaRefs(entry.getValue()));
+        }
+        return graph;
+    }
+
+    /**
+     * Collect names of component schemas referenced from everything except {@code components/schemas}:
+     * paths, webhooks, other components and extensions.
+     *
+     * @param openApi OpenAPI object
+     *
+     * @return names of referenced component schemas
+     */
+    public static Set<String> collectRootSchemaRefs(OpenAPI openApi) {
+        var collector = new RefCollector();
+        if (openApi.getPaths() != null) {
+            for (var pathItem : openApi.getPaths().values()) {
+                collector.pathItem(pathItem);
+            }
+            collector.object(openApi.getPaths().getExtensions());
+        }
+        if (openApi.getWebhooks() != null) {
+            for (var pathItem : openApi.getWebhooks().values()) {
+                collector.pathItem(pathItem);
+            }
+        }
+        collector.components(openApi.getComponents());
+        collector.object(openApi.getExtensions());
+        return collector.refs;
+    }
+
+    /**
+     * Find all component schemas reachable from paths, webhooks, other components and additional root schemas.
+     * Every schema and every edge of the reference graph is visited only once.
+     *
+     * @param openApi OpenAPI object
+     * @param additionalRoots names of schemas which must be treated as used
+     *
+     * @return names of the reachable component schemas
+     */
+    public static Set<String> findReachableSchemas(OpenAPI openApi, @Nullable Collection<String> additionalRoots) {
+        Map<String, Set<String>> graph = buildSchemaRefGraph(openApi);
+        var reachable = new LinkedHashSet<String>();
+        if (graph.isEmpty()) {
+            return reachable;
+        }
+        var queue = new ArrayDeque<String>(collectRootSchemaRefs(openApi));
+        if (additionalRoots != null) {
+            queue.addAll(additionalRoots);
+        }
+        while (!queue.isEmpty()) {
+            var schemaName = queue.poll();
+            if (!graph.containsKey(schemaName) || !reachable.add(schemaName)) {
+                continue;
+            }
+            for (var ref : graph.get(schemaName)) {
+                if (!reachable.contains(ref)) {
+                    queue.add(ref);
+                }
+            }
+        }
+        return reachable;
+    }
+
+    /**
+     * Walks OpenAPI model objects and collects component schema references.
+     */
+    private static final class RefCollector {
+
+        private final Set<String> refs = new LinkedHashSet<>();
+        private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private boolean firstVisit(Object obj) {
+            return obj != null && visited.add(obj);
+        }
+
+        private void ref(String ref) {
+            var schemaName = schemaNameFromRef(ref);
+            if (schemaName != null) {
+                refs.add(schemaName);
+            }
+        }
+
+        private void components(@Nullable Components components) {
+            if (components == null) {
+                return;
+            }
+            if (components.getResponses() != null) {
+                for (var response : components.getResponses().values()) {
+                    apiResponse(response);
+                }
+            }
+            if (components.getParameters() != null) {
+                for (var parameter : components.getParameters().values()) {
+                    parameter(parameter);
+                }
+            }
+            if (components.getRequestBodies() != null) {
+                for (var requestBody : components.getRequestBodies().values()) {
+                    requestBody(requestBody);
+                }
+            }
+            if (components.getHeaders() != null) {
+                for (var header : components.getHeaders().values()) {
+                    header(header);
+                }
+            }
+            if (components.getCallbacks() != null) {
+                for (var callback : components.getCallbacks().values()) {
+                    callback(callback);
+                }
+            }
+            if (components.getPathItems() != null) {
+                for (var pathItem : components.getPathItems().values()) {
+                    pathItem(pathItem);
+                }
+            }
+            if (components.getLinks() != null) {
+                for (var link : components.getLinks().values()) {
+                    link(link);
+                }
+            }
+            if (components.getExamples() != null) {
+                for (var example : components.getExamples().values()) {
+                    example(example);
+                }
+            }
+            object(components.getExtensions());
+        }
+
+        private void pathItem(@Nullable PathItem pathItem) {
+            if (!firstVisit(pathItem)) {
+                return;
+            }
+            if (pathItem.getParameters() != null) {
+                for (var parameter : pathItem.getParameters()) {
+                    parameter(parameter);
+                }
+            }
+            for (var operation : pathItem.readOperations()) {
+                operation(operation);
+            }
+            object(pathItem.getExtensions());
+        }
+
+        private void operation(@Nullable Operation operation) {
+            if (!firstVisit(operation)) {
+                return;
+            }
+            if (operation.getParameters() != null) {
+                for (var parameter : operation.getParameters()) {
+                    parameter(parameter);
+                }
+            }
+            requestBody(operation.getRequestBody());
+            if (operation.getResponses() != null) {
+                for (var response : operation.getResponses().values()) {
+                    apiResponse(response);
+                }
+                object(operation.getResponses().getExtensions());
+            }
+            if (operation.getCallbacks() != null) {
+                for (var callback : operation.getCallbacks().values()) {
+                    callback(callback);
+                }
+            }
+            object(operation.getExtensions());
+        }
+
+        private void callback(@Nullable Callback callback) {
+            if (!firstVisit(callback)) {
+                return;
+            }
+            for (var pathItem : callback.values()) {
+                pathItem(pathItem);
+            }
+            object(callback.getExtensions());
+        }
+
+        private void parameter(@Nullable Parameter parameter) {
+            if (!firstVisit(parameter)) {
+                return;
+            }
+            schema(parameter.getSchema());
+            content(parameter.getContent());
+            examples(parameter.getExamples());
+            object(parameter.getExample());
+            object(parameter.getExtensions());
+        }
+
+        private void requestBody(@Nullable RequestBody requestBody) {
+            if (!firstVisit(requestBody)) {
+                return;
+            }
+            content(requestBody.getContent());
+            object(requestBody.getExtensions());
+        }
+
+        private void apiResponse(@Nullable ApiResponse apiResponse) {
+            if (!firstVisit(apiResponse)) {
+                return;
+            }
+            content(apiResponse.getContent());
+            if (apiResponse.getHeaders() != null) {
+                for (var header : apiResponse.getHeaders().values()) {
+                    header(header);
+                }
+            }
+            if (apiResponse.getLinks() != null) {
+                for (var link : apiResponse.getLinks().values()) {
+                    link(link);
+                }
+            }
+            object(apiResponse.getExtensions());
+        }
+
+        private void header(@Nullable Header header) {
+            if (!firstVisit(header)) {
+                return;
+            }
+            schema(header.getSchema());
+            content(header.getContent());
+            examples(header.getExamples());
+            object(header.getExample());
+            object(header.getExtensions());
+        }
+
+        private void link(@Nullable Link link) {
+            if (!firstVisit(link)) {
+                return;
+            }
+            if (link.getHeaders() != null) {
+                for (var header : link.getHeaders().values()) {
+                    header(header);
+                }
+            }
+            object(link.getRequestBody());
+            object(link.getExtensions());
+        }
+
+        private void content(@Nullable Content content) {
+            if (!firstVisit(content)) {
+                return;
+            }
+            for (var mediaType : content.values()) {
+                mediaType(mediaType);
+            }
+        }
+
+        private void mediaType(@Nullable MediaType mediaType) {
+            if (!firstVisit(mediaType)) {
+                return;
+            }
+            schema(mediaType.getSchema());
+            examples(mediaType.getExamples());
+            object(mediaType.getExample());
+            if (mediaType.getEncoding() != null) {
+                for (var encoding : mediaType.getEncoding().values()) {
+                    encoding(encoding);
+                }
+            }
+            object(mediaType.getExtensions());
+        }
+
+        private void encoding(@Nullable Encoding encoding) {
+            if (!firstVisit(encoding)) {
+                return;
+            }
+            if (encoding.getHeaders() != null) {
+                for (var header : encoding.getHeaders().values()) {
+                    header(header);
+                }
+            }
+            object(encoding.getExtensions());
+        }
+
+        private void examples(@Nullable Map<String, Example> examples) {
+            if (examples == null) {
+                return;
+            }
+            for (var example : examples.values()) {
+                example(example);
+            }
+        }
+
+        private void example(@Nullable Example example) {
+            if (!firstVisit(example)) {
+                return;
+            }
+            object(example.getValue());
+            object(example.getExtensions());
+        }
+
+        private void schema(@Nullable Schema<?> schema) {
+            if (!firstVisit(schema)) {
+                return;
+            }
+            ref(schema.get$ref());
+            schemas(schema.getProperties());
+            schema(schema.getItems());
+            if (schema.getAdditionalProperties() instanceof Schema<?> additionalProperties) {
+                schema(additionalProperties);
+            }
+            schema(schema.getNot());
+            schemas(schema.getAllOf());
+            schemas(schema.getOneOf());
+            schemas(schema.getAnyOf());
+            schemas(schema.getPrefixItems());
+            schema(schema.getContains());
+            schema(schema.getIf());
+            schema(schema.getThen());
+            schema(schema.getElse());
+            schemas(schema.getDependentSchemas());
+            schemas(schema.getPatternProperties());
+            schema(schema.getPropertyNames());
+            schema(schema.getUnevaluatedItems());
+            schema(schema.getUnevaluatedProperties());
+            schema(schema.getAdditionalItems());
+            schema(schema.getContentSchema());
+            if (schema.getDiscriminator() != null && schema.getDiscriminator().getMapping() != null) {
+                for (var mappingRef : schema.getDiscriminator().getMapping().values()) {
+                    ref(mappingRef);
+                }
+            }
+            object(schema.getExample());
+            object(schema.getExtensions());
+        }
+
+        private void schemas(@Nullable Collection<Schema> schemas) {
+            if (schemas == null) {
+                return;
+            }
+            for (var schema : schemas) {
+                schema(schema);
+            }
+        }
+
+        private void schemas(@Nullable Map<String, Schema> schemas) {
+            if (schemas == null) {
+                return;
+            }
+            for (var schema : schemas.values()) {
+                schema(schema);
+            }
+        }
+
+        /**
+         * Free-form values (extensions, examples) can contain references as plain strings.
+         *
+         * @param value value
+         */
+        private void object(@Nullable Object value) {
+            if (value instanceof CharSequence str) {
+                ref(str.toString());
+            } else if (value instanceof JsonNode node) {
+                if (node.isTextual()) {
+                    ref(node.textValue());
+                } else if (node.isContainerNode() && firstVisit(node)) {
+                    for (var child : node) {
+                        object(child);
+                    }
+                }
+            } else if (value instanceof Map<?, ?> map) {
+                if (firstVisit(map)) {
+                    for (var child : map.values()) {
+                        object(child);
+                    }
+                }
+            } else if (value instanceof Collection<?> collection) {
+                if (firstVisit(collection)) {
+                    for (var child : collection) {
+                        object(child);
+                    }
+                }
+            } else if (value instanceof Schema<?> schema) {
+                schema(schema);
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@ package io.micronaut.openapi.visitor;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
@@ -369,6 +370,72 @@ public final class SchemaUtils {
         return op1;
     }
 
+    /**
+     * Creates a deep copy of the operation. See {@link ModelCopyUtils} for details.
+     *
+     * @param operation operation
+     *
+     * @return operation copy
+     *
+     * @since 6.14.0
+     */
+    public static Operation copyOperation(@Nullable Operation operation) {
+        return ModelCopyUtils.deepCopy(operation);
+    }
+
+    /**
+     * Creates a deep copy of the parameter. See {@link ModelCopyUtils} for details.
+     *
+     * @param parameter parameter
+     *
+     * @return parameter copy
+     *
+     * @since 6.14.0
+     */
+    public static Parameter copyParameter(@Nullable Parameter parameter) {
+        return ModelCopyUtils.deepCopy(parameter);
+    }
+
+    /**
+     * Creates a deep copy of the api response. See {@link ModelCopyUtils} for details.
+     *
+     * @param apiResponse api response
+     *
+     * @return api response copy
+     *
+     * @since 6.14.0
+     */
+    public static ApiResponse copyApiResponse(@Nullable ApiResponse apiResponse) {
+        return ModelCopyUtils.deepCopy(apiResponse);
+    }
+
+    /**
+     * Creates a deep copy of the schema. See {@link ModelCopyUtils} for details.
+     *
+     * @param schema schema
+     * @param <T> schema type
+     *
+     * @return schema copy
+     *
+     * @since 6.14.0
+     */
+    public static <T extends Schema<?>> T copySchema(@Nullable T schema) {
+        return ModelCopyUtils.deepCopy(schema);
+    }
+
+    /**
+     * Creates a deep copy of the content. See {@link ModelCopyUtils} for details.
+     *
+     * @param content content
+     *
+     * @return content copy
+     *
+     * @since 6.14.0
+     */
+    public static Content copyContent(@Nullable Content content) {
+        return ModelCopyUtils.deepCopy(content);
+    }
+
     public static ApiResponse mergeApiResponse(ApiResponse ar1, ApiResponse ar2) {
 
         if (ar1 == null) {
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micronaut.core.annotation.Internal;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streaming serialization of OpenAPI objects.
+ * <p>
+ * Objects are written token by token straight to the target file channel, so the serialized document
+ * is never kept in memory as a string or a JSON tree. One {@link ObjectWriter} is created for every
+ * object mapper and reused for all documents.
+ *
+ * @since 6.14.0
+ */
+@Internal
+public final class SpecWriterUtils {
+
+    /**
+     * Output buffer size. Big enough to write large specs with a small number of system calls.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Map<ObjectMapper, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+    /**
+     * Factory of generators, which discard the output.
+     */
+    private static final JsonFactory NULL_FACTORY = new JsonFactory();
+
+    private SpecWriterUtils() {
+    }
+
+    /**
+     * Serialize object to file. Existing file is overwritten.
+     *
+     * @param value object to serialize
+     * @param objectMapper object mapper with the output format settings (JSON or YAML)
+     * @param file target file
+     *
+     * @throws IOException if the file can't be written
+     */
+    public static void write(Object value, ObjectMapper objectMapper, Path file) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             var out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)) {
+            getWriter(objectMapper).writeValue(out, value);
+        }
+    }
+
+    /**
+     * Serialize object to writer. The writer is closed after serialization.
+     *
+     * @param value object to serialize
+     * @param objectMapper object mapper with the output format settings (JSON or YAML)
+     * @param writer target writer
+     *
+     * @throws IOException if the value can't be written
+     */
+    public static void write(Object value, ObjectMapper objectMapper, Writer writer) throws IOException {
+        getWriter(objectMapper).writeValue(writer, value);
+    }
+
+    /**
+     * Check that any string value or field name of the serialized object contains the text.
+     * The object is serialized token by token without keeping the output.
+     *
+     * @param value object to check
+     * @param objectMapper object mapper, which serializers are used
+     * @param text text to find
+     *
+     * @return true, if the text is found
+     *
+     * @throws IOException if the value can't be serialized
+     */
+    public static boolean containsText(Object value, ObjectMapper objectMapper, String text) throws IOException {
+        try (var generator = new TextSearchGenerator(NULL_FACTORY.createGenerator(OutputStream.nullOutputStream()), text)) {
+            getWriter(objectMapper).writeValue(generator, value);
+            return generator.found;
+        }
+    }
+
+    private static ObjectWriter getWriter(ObjectMapper objectMapper) {
+        return WRITERS.computeIfAbsent(objectMapper, ObjectMapper::writer);
+    }
+
+    /**
+     * Generator, which looks for the text in the written strings and field names.
+     */
+    private static final class TextSearchGenerator extends JsonGeneratorDelegate {
+
+        private final String text;
+        private boolean found;
+
+        private TextSearchGenerator(JsonGenerator delegate, String text) {
+            super(delegate, false);
+            this.text = text;
+        }
+
+        @Override
+        public void writeFieldName(String name) throws IOException {
+            check(name);
+            super.writeFieldName(name);
+        }
+
+        @Override
+        public void writeFieldName(SerializableString name) throws IOException {
+            check(name.getValue());
+            super.writeFieldName(name);
+        }
+
+        @Override
+        public void writeString(String value) throws IOException {
+            check(value);
+            super.writeString(value);
+        }
+
+        @Override
+        public void writeString(char[] value, int offset, int len) throws IOException {
+            if (!found && value != null) {
+                check(new String(value, offset, len));
+            }
+            super.writeString(value, offset, len);
+        }
+
+        @Override
+        public void writeString(SerializableString value) throws IOException {
+            check(value.getValue());
+            super.writeString(value);
+        }
+
+        private void check(String value) {
+            if (!found && value != null && value.contains(text)) {
+                found = true;
+            }
+        }
+    }
+}
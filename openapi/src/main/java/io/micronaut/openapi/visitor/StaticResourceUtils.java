@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Helpers for static files served to browsers: views resources and spec files.
+ * <p>
+ * Hashed file names change together with the file content, so such files can be served with
+ * long-lived immutable caching. Gzip files are written next to the original files, so a server can
+ * send them as is with {@code Content-Encoding: gzip}, without compressing on every request.
+ *
+ * @since 6.14.0
+ */
+@Internal
+public final class StaticResourceUtils {
+
+    /**
+     * Extension of the gzip files.
+     */
+    public static final String EXT_GZ = ".gz";
+
+    /**
+     * Number of hex digits of the content hash in the file name.
+     */
+    private static final int HASH_LENGTH = 10;
+
+    private StaticResourceUtils() {
+    }
+
+    /**
+     * Insert content hash before the file extension: {@code redoc.standalone.js} becomes
+     * {@code redoc.standalone.0a1b2c3d4e.js}. File names without extension get the hash at the end.
+     *
+     * @param fileName file name, can contain parent directories
+     * @param content file content
+     *
+     * @return file name with the content hash
+     */
+    public static String hashedFileName(String fileName, byte[] content) {
+        var hash = contentHash(content);
+        int nameStart = fileName.lastIndexOf('/') + 1;
+        int extStart = fileName.lastIndexOf('.');
+        if (extStart <= nameStart) {
+            return fileName + '.' + hash;
+        }
+        return fileName.substring(0, extStart) + '.' + hash + fileName.substring(extStart);
+    }
+
+    /**
+     * Write the gzip file next to the file, for example {@code swagger-ui.css.gz} for {@code swagger-ui.css}.
+     * The gzip file is not written (and the old one is deleted), if compression doesn't make the file smaller,
+     * as it happens with already compressed images.
+     *
+     * @param file file to compress
+     *
+     * @return gzip file or null, if it was not written
+     *
+     * @throws IOException if the file can't be read or the gzip file can't be written
+     */
+    public static Path writeGzip(Path file) throws IOException {
+        var content = Files.readAllBytes(file);
+        var gzipFile = file.resolveSibling(file.getFileName() + EXT_GZ);
+        var compressed = gzip(content);
+        if (compressed.length >= content.length) {
+            Files.deleteIfExists(gzipFile);
+            return null;
+        }
+        Files.write(gzipFile, compressed);
+        return gzipFile;
+    }
+
+    /**
+     * Compress content with the best compression level. Static files are compressed once at build time,
+     * so the slower compression is paid only once.
+     *
+     * @param content content
+     *
+     * @return gzip data
+     */
+    static byte[] gzip(byte[] content) {
+        var out = new ByteArrayOutputStream(content.length / 4 + 64);
+        try (var gzipOut = new BestCompressionGzipOutputStream(out)) {
+            gzipOut.write(content);
+        } catch (IOException e) {
+            // ByteArrayOutputStream doesn't throw IOException
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String contentHash(byte[] content) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest).substring(0, HASH_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required for every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Gzip stream with the best compression level.
+     */
+    private static final class BestCompressionGzipOutputStream extends GZIPOutputStream {
+
+        private BestCompressionGzipOutputStream(OutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
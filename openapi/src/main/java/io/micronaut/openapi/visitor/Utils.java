@@ -17,11 +17,12 @@ package io.micronaut.openapi.visitor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.http.MediaType;
-import io.micronaut.inject.ast.MethodElement;
 import io.micronaut.inject.visitor.VisitorContext;
 import io.micronaut.openapi.OpenApiUtils;
+import io.micronaut.openapi.javadoc.JavadocDescription;
 import io.micronaut.openapi.javadoc.JavadocParser;
 import io.micronaut.openapi.visitor.group.EndpointInfo;
 import io.micronaut.openapi.visitor.group.OpenApiInfo;
@@ -40,6 +41,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_31_ENABLED;
 import static io.swagger.v3.oas.models.media.Schema.BIND_TYPE_AND_TYPES;
@@ -58,25 +60,8 @@ public final class Utils {
 
     public static final List<MediaType> DEFAULT_MEDIA_TYPES = Collections.singletonList(MediaType.APPLICATION_JSON_TYPE);
 
-    private static Map<String, MethodElement> creatorConstructorsCache = new HashMap<>();
-
     private static boolean openapi31;
     private static boolean initialized;
-    private static Set<String> allKnownVersions;
-    private static Set<String> allKnownGroups;
-    private static Map<String, List<EndpointInfo>> endpointInfos;
-    /**
-     * Groups openAPI objects, described by OpenAPIDefinition annotations.
-     */
-    private static Map<String, OpenAPI> openApis;
-    /**
-     * Group names by included controller or endpoint class names with OpenAPIInclude annotation.
-     */
-    private static Map<String, List<String>> includedClassesGroups;
-    /**
-     * Excluded group names by included controller or endpoint class names with OpenAPIInclude annotation.
-     */
-    private static Map<String, List<String>> includedClassesGroupsExcluded;
 
     private static OpenAPI testReference;
     /**
@@ -86,6 +71,8 @@ public final class Utils {
     private static String testFileName;
     private static String testYamlReference;
     private static String testJsonReference;
+    private static byte[] testSmileReference;
+    private static VisitorSession testSession;
 
     private static JavadocParser javadocParser = new JavadocParser();
 
@@ -169,6 +156,40 @@ public final class Utils {
         return elements;
     }
 
+    /**
+     * Find and remove duplicates in lists in linear time. The first element with every key is kept,
+     * the order of elements is preserved. Elements with null keys are never treated as duplicates.
+     *
+     * @param elements list of elements
+     * @param keyExtractor function, which returns the key for calculating duplicate element
+     * @param <T> elements class
+     *
+     * @return list of elements without duplicates, or the same list if there are no duplicates
+     *
+     * @since 6.14.0
+     */
+    public static <T> List<T> findAndRemoveDuplicates(List<T> elements, Function<T, ?> keyExtractor) {
+        if (elements == null || elements.size() < 2) {
+            return elements;
+        }
+        var keys = new HashSet<>();
+        List<T> result = null;
+        var index = 0;
+        for (var element : elements) {
+            var key = keyExtractor.apply(element);
+            if (key == null || keys.add(key)) {
+                if (result != null) {
+                    result.add(element);
+                }
+            } else if (result == null) {
+                // first duplicate: copy all previous elements
+                result = new ArrayList<>(elements.subList(0, index));
+            }
+            index++;
+        }
+        return result != null ? result : elements;
+    }
+
     /**
      * Resolve the components.
      *
@@ -249,6 +270,14 @@ public final class Utils {
         Utils.testReference = testReference;
     }
 
+    public static VisitorSession getTestSession() {
+        return testSession;
+    }
+
+    public static void setTestSession(VisitorSession testSession) {
+        Utils.testSession = testSession;
+    }
+
     public static Map<Pair<String, String>, OpenApiInfo> getTestReferences() {
         return testReferences;
     }
@@ -281,70 +310,64 @@ public final class Utils {
         Utils.testJsonReference = testJsonReference;
     }
 
-    public static JavadocParser getJavadocParser() {
-        return javadocParser;
+    public static byte[] getTestSmileReference() {
+        return testSmileReference;
     }
 
-    public static void setJavadocParser(JavadocParser javadocParser) {
-        Utils.javadocParser = javadocParser;
+    public static void setTestSmileReference(byte[] testSmileReference) {
+        Utils.testSmileReference = testSmileReference;
     }
 
-    public static Set<String> getAllKnownVersions() {
-        if (allKnownVersions == null) {
-            allKnownVersions = new HashSet<>();
-        }
-        return allKnownVersions;
+    public static JavadocParser getJavadocParser() {
+        return javadocParser;
     }
 
-    public static void setAllKnownVersions(Set<String> allKnownVersions) {
-        Utils.allKnownVersions = allKnownVersions;
+    public static void setJavadocParser(JavadocParser javadocParser) {
+        Utils.javadocParser = javadocParser;
     }
 
-    public static Set<String> getAllKnownGroups() {
-        if (allKnownGroups == null) {
-            allKnownGroups = new HashSet<>();
+    /**
+     * Parse the javadoc text. The result is cached for the current compilation, so the same text
+     * (for example, javadoc of the inherited or reused elements) is parsed only once.
+     * Returned object is shared and must not be modified.
+     *
+     * @param text javadoc text
+     * @param context visitor context
+     *
+     * @return parsed javadoc or null, if the text is null
+     *
+     * @since 6.14.0
+     */
+    @Nullable
+    public static JavadocDescription parseJavadoc(@Nullable String text, VisitorContext context) {
+        if (text == null) {
+            return null;
         }
-        return allKnownGroups;
-    }
-
-    public static void setAllKnownGroups(Set<String> allKnownGroups) {
-        Utils.allKnownGroups = allKnownGroups;
-    }
-
-    public static Map<String, List<EndpointInfo>> getEndpointInfos() {
-        return endpointInfos;
-    }
-
-    public static void setEndpointInfos(Map<String, List<EndpointInfo>> endpointInfos) {
-        Utils.endpointInfos = endpointInfos;
+        return VisitorSession.get(context).getJavadocDescriptions().computeIfAbsent(text, javadocParser::parse);
     }
 
-    public static Map<String, OpenAPI> getOpenApis() {
-        return openApis;
+    public static Set<String> getAllKnownVersions(VisitorContext context) {
+        return VisitorSession.get(context).getAllKnownVersions();
     }
 
-    public static void setOpenApis(Map<String, OpenAPI> openApis) {
-        Utils.openApis = openApis;
+    public static Set<String> getAllKnownGroups(VisitorContext context) {
+        return VisitorSession.get(context).getAllKnownGroups();
     }
 
-    public static Map<String, List<String>> getIncludedClassesGroups() {
-        return includedClassesGroups;
+    public static Map<String, List<EndpointInfo>> getEndpointInfos(VisitorContext context) {
+        return VisitorSession.get(context).getEndpointInfos();
     }
 
-    public static void setIncludedClassesGroups(Map<String, List<String>> includedClassesGroups) {
-        Utils.includedClassesGroups = includedClassesGroups;
+    public static Map<String, OpenAPI> getOpenApis(VisitorContext context) {
+        return VisitorSession.get(context).getOpenApis();
     }
 
-    public static Map<String, List<String>> getIncludedClassesGroupsExcluded() {
-        return includedClassesGroupsExcluded;
+    public static Map<String, List<String>> getIncludedClassesGroups(VisitorContext context) {
+        return VisitorSession.get(context).getIncludedClassesGroups();
     }
 
-    public static void setIncludedClassesGroupsExcluded(Map<String, List<String>> includedClassesGroupsExcluded) {
-        Utils.includedClassesGroupsExcluded = includedClassesGroupsExcluded;
-    }
-
-    public static Map<String, MethodElement> getCreatorConstructorsCache() {
-        return creatorConstructorsCache;
+    public static Map<String, List<String>> getIncludedClassesGroupsExcluded(VisitorContext context) {
+        return VisitorSession.get(context).getIncludedClassesGroupsExcluded();
     }
 
     public static ObjectMapper getJsonMapper() {
@@ -355,6 +378,10 @@ public final class Utils {
         return openapi31 ? OpenApiUtils.getYamlMapper31() : OpenApiUtils.getYamlMapper();
     }
 
+    public static ObjectMapper getSmileMapper() {
+        return openapi31 ? OpenApiUtils.getSmileMapper31() : OpenApiUtils.getSmileMapper();
+    }
+
     public static boolean isOpenapi31() {
         return openapi31;
     }
@@ -367,22 +394,16 @@ public final class Utils {
     public static void clean() {
         openapi31 = false;
         initialized = false;
-        openApis = null;
-        endpointInfos = null;
-        includedClassesGroups = null;
-        includedClassesGroupsExcluded = null;
-
-        allKnownGroups = null;
-        allKnownVersions = null;
-
         testReference = null;
         testReferences = null;
         testFileName = null;
         testYamlReference = null;
         testJsonReference = null;
-        creatorConstructorsCache = new HashMap<>();
+        testSmileReference = null;
+        testSession = null;
         System.clearProperty(BIND_TYPE_AND_TYPES);
         SchemaDefinitionUtils.clean();
+        AdditionalFilesUtils.clean();
         OpenApiExtraSchemaVisitor.clean();
     }
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.openapi.javadoc.JavadocDescription;
+import io.micronaut.openapi.visitor.group.EndpointInfo;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_VISITOR_SESSION;
+
+/**
+ * State of the visitors, collected during one compilation.
+ * <p>
+ * The session is stored in the visitor context, so it is created for every compilation and never leaks
+ * between builds running in the same JVM (for example, in the Gradle daemon). All collections are thread-safe.
+ * Maps, which are iterated to build the result OpenAPI objects, keep {@link HashMap} iteration order,
+ * so the output doesn't depend on the session implementation.
+ *
+ * @since 6.14.0
+ */
+@Internal
+public final class VisitorSession {
+
+    /**
+     * Creator constructors by class name. Empty value means that class doesn't have creator constructor.
+     */
+    private final Map<String, Optional<MethodElement>> creatorConstructors = new ConcurrentHashMap<>();
+    private final Set<String> allKnownVersions = ConcurrentHashMap.newKeySet();
+    private final Set<String> allKnownGroups = ConcurrentHashMap.newKeySet();
+    /**
+     * Endpoints by method key: http method, url, consumes and produces media types.
+     */
+    private final Map<String, List<EndpointInfo>> endpointInfos = Collections.synchronizedMap(new HashMap<>());
+    /**
+     * Groups openAPI objects, described by OpenAPIDefinition annotations.
+     */
+    private final Map<String, OpenAPI> openApis = Collections.synchronizedMap(new HashMap<>());
+    /**
+     * Group names by included controller or endpoint class names with OpenAPIInclude annotation.
+     */
+    private final Map<String, List<String>> includedClassesGroups = new ConcurrentHashMap<>();
+    /**
+     * Excluded group names by included controller or endpoint class names with OpenAPIInclude annotation.
+     */
+    private final Map<String, List<String>> includedClassesGroupsExcluded = new ConcurrentHashMap<>();
+    /**
+     * Schema names, which are resolving now. Used to break recursion.
+     */
+    private final Set<String> inProgressSchemas = ConcurrentHashMap.newKeySet();
+    /**
+     * Relations between schema names and class names.
+     */
+    private final Map<String, String> schemaNameToClassNameMap = new ConcurrentHashMap<>();
+    /**
+     * Class name counters for schema suffix, when found classes with same name in different packages.
+     */
+    private final Map<String, Integer> schemaNameSuffixCounterMap = new ConcurrentHashMap<>();
+    /**
+     * Schema names of already resolved types by generic signature, JsonView class and media types.
+     */
+    private final Map<String, String> resolvedSchemaNames = new ConcurrentHashMap<>();
+    /**
+     * Parsed javadoc by javadoc text.
+     */
+    private final Map<String, JavadocDescription> javadocDescriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger schemaCacheHits = new AtomicInteger();
+    private final AtomicInteger schemaCacheMisses = new AtomicInteger();
+
+    /**
+     * Returns session of the current compilation. The session is created on the first call.
+     *
+     * @param context visitor context
+     *
+     * @return visitor session
+     */
+    public static VisitorSession get(@Nullable VisitorContext context) {
+        if (context == null) {
+            return new VisitorSession();
+        }
+        synchronized (context) {
+            var session = ContextUtils.get(MICRONAUT_INTERNAL_VISITOR_SESSION, VisitorSession.class, context);
+            if (session == null) {
+                session = new VisitorSession();
+                ContextUtils.put(MICRONAUT_INTERNAL_VISITOR_SESSION, session, context);
+            }
+            return session;
+        }
+    }
+
+    public Map<String, Optional<MethodElement>> getCreatorConstructors() {
+        return creatorConstructors;
+    }
+
+    public Set<String> getAllKnownVersions() {
+        return allKnownVersions;
+    }
+
+    public Set<String> getAllKnownGroups() {
+        return allKnownGroups;
+    }
+
+    public Map<String, List<EndpointInfo>> getEndpointInfos() {
+        return endpointInfos;
+    }
+
+    public Map<String, OpenAPI> getOpenApis() {
+        return openApis;
+    }
+
+    public Map<String, List<String>> getIncludedClassesGroups() {
+        return includedClassesGroups;
+    }
+
+    public Map<String, List<String>> getIncludedClassesGroupsExcluded() {
+        return includedClassesGroupsExcluded;
+    }
+
+    public Set<String> getInProgressSchemas() {
+        return inProgressSchemas;
+    }
+
+    public Map<String, String> getSchemaNameToClassNameMap() {
+        return schemaNameToClassNameMap;
+    }
+
+    public Map<String, Integer> getSchemaNameSuffixCounterMap() {
+        return schemaNameSuffixCounterMap;
+    }
+
+    public Map<String, String> getResolvedSchemaNames() {
+        return resolvedSchemaNames;
+    }
+
+    public Map<String, JavadocDescription> getJavadocDescriptions() {
+        return javadocDescriptions;
+    }
+
+    public AtomicInteger getSchemaCacheHits() {
+        return schemaCacheHits;
+    }
+
+    public AtomicInteger getSchemaCacheMisses() {
+        return schemaCacheMisses;
+    }
+}
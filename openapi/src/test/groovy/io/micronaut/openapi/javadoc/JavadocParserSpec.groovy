@@ -196,4 +196,21 @@ Note that ambiguity may arise when the values contain commas themselves after be
 
 Note that ambiguity may arise when the values contain commas themselves after being converted to String.'''
     }
+
+    void 'test plain text is not converted'() {
+
+        given:
+        JavadocParser parser = new JavadocParser()
+
+        expect:
+        JavadocParser.isPlainText(text) == plain
+        parser.parse(text).methodDescription == expected
+
+        where:
+        text                                   | plain | expected
+        'Returns the user name.'               | true  | 'Returns the user name.'
+        "The user's name, e.g. (first/last)."  | true  | "The user's name, e.g. (first/last)."
+        'The name with <b>bold</b> text.'      | false | 'The name with **bold** text.'
+        'The name with\nnew line.'             | false | 'The name with new line.'
+    }
 }
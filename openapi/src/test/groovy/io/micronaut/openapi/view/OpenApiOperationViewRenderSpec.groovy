@@ -2,6 +2,7 @@ package io.micronaut.openapi.view
 
 import io.micronaut.openapi.visitor.OpenApiConfigProperty
 import io.micronaut.openapi.visitor.Pair
+import io.micronaut.openapi.visitor.StaticResourceUtils
 import io.micronaut.openapi.visitor.group.OpenApiInfo
 import io.swagger.v3.oas.models.OpenAPI
 import org.apache.groovy.util.Maps
@@ -11,6 +12,7 @@ import java.nio.charset.StandardCharsets
 import java.nio.file.Files
 import java.nio.file.Path
 import java.nio.file.Paths
+import java.util.zip.GZIPInputStream
 import spock.util.environment.RestoreSystemProperties
 
 class OpenApiOperationViewRenderSpec extends Specification {
@@ -487,4 +489,57 @@ class OpenApiOperationViewRenderSpec extends Specification {
         indexText.contains(cfg.getSpecURL(cfg.swaggerUIConfig, null))
         indexText.contains("urls: [{url: contextPath + '/swagger/swagger.yml', name: '1'}],")
     }
+
+    @RestoreSystemProperties
+    void "test render OpenApiView with hashed and gzipped resources"() {
+        given:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_VIEWS_HASHED_RESOURCES_ENABLED, "true")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_GZIP_ENABLED, "true")
+        String spec = "redoc.enabled=true,swagger-ui.enabled=true,rapipdf.enabled=true,swagger-ui.theme=flattop"
+        OpenApiViewConfig cfg = OpenApiViewConfig.fromSpecification(spec, null, new Properties(), null)
+        Path outputDir = Paths.get("output")
+        cfg.title = "OpenAPI documentation"
+        cfg.specFile = "swagger.yml"
+        cfg.render(outputDir, null)
+
+        when:
+        def redocRes = outputDir.resolve("redoc").resolve("res").toFile().list().toList()
+        def swaggerUiRes = outputDir.resolve("swagger-ui").resolve("res").toFile().list().toList()
+        def redocJs = redocRes.find { it ==~ /redoc\.standalone\.[0-9a-f]{10}\.js/ }
+        def swaggerUiBundleJs = swaggerUiRes.find { it ==~ /swagger-ui-bundle\.[0-9a-f]{10}\.js/ }
+        def themeCss = swaggerUiRes.find { it ==~ /flattop\.[0-9a-f]{10}\.css/ }
+        def redocIndex = outputDir.resolve("redoc").resolve("index.html").toFile().getText(StandardCharsets.UTF_8.name())
+        def swaggerUiIndex = outputDir.resolve("swagger-ui").resolve("index.html").toFile().getText(StandardCharsets.UTF_8.name())
+
+        then:
+        redocJs
+        swaggerUiBundleJs
+        themeCss
+        !redocRes.contains("redoc.standalone.js")
+        !swaggerUiRes.contains("swagger-ui-bundle.js")
+
+        redocIndex.contains("/redoc/res/" + redocJs + '"')
+        redocIndex.contains("/redoc/res/rapipdf-min.")
+        !redocIndex.contains("/redoc/res/redoc.standalone.js")
+        swaggerUiIndex.contains("/swagger-ui/res/" + swaggerUiBundleJs + '"')
+        swaggerUiIndex.contains("/swagger-ui/res/" + themeCss + '"')
+        !swaggerUiIndex.contains("/swagger-ui/res/swagger-ui-bundle.js")
+        !swaggerUiIndex.contains("/swagger-ui/res/flattop.css")
+
+        redocRes.contains(redocJs + ".gz")
+        swaggerUiRes.contains(swaggerUiBundleJs + ".gz")
+        Files.exists(outputDir.resolve("redoc").resolve("index.html.gz"))
+        new GZIPInputStream(Files.newInputStream(outputDir.resolve("redoc").resolve("index.html.gz"))).getText(StandardCharsets.UTF_8.name()) == redocIndex
+    }
+
+    void "test hashed file name"() {
+        expect:
+        StaticResourceUtils.hashedFileName(fileName, "content".getBytes(StandardCharsets.UTF_8)) ==~ expected
+
+        where:
+        fileName              | expected
+        "redoc.standalone.js" | /redoc\.standalone\.[0-9a-f]{10}\.js/
+        "res/swagger-ui.css"  | /res\/swagger-ui\.[0-9a-f]{10}\.css/
+        "res.d/LICENSE"       | /res\.d\/LICENSE\.[0-9a-f]{10}/
+    }
 }
@@ -0,0 +1,96 @@
+package io.micronaut.openapi.visitor
+
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class AdditionalFilesUtilsSpec extends Specification {
+
+    @TempDir
+    Path directory
+
+    def setup() {
+        AdditionalFilesUtils.clean()
+    }
+
+    def cleanup() {
+        AdditionalFilesUtils.clean()
+    }
+
+    void "test additional files are parsed in file name order and cached"() {
+        given:
+        Files.writeString(directory.resolve("b.yml"), '''\
+openapi: 3.0.1
+paths:
+  /b:
+    get:
+      operationId: getB
+''')
+        Files.writeString(directory.resolve("a.json"), '{"openapi":"3.0.1","paths":{"/a":{"get":{"operationId":"getA"}}}}')
+        Files.writeString(directory.resolve("broken.yaml"), 'openapi: [')
+        Files.writeString(directory.resolve("readme.txt"), 'not a spec')
+
+        when:
+        def files = AdditionalFilesUtils.findFiles(directory)
+        def parsed = AdditionalFilesUtils.parse(directory, files)
+
+        then:
+        files*.fileName*.toString() == ["a.json", "b.yml", "broken.yaml"]
+        parsed*.cacheHit() == [false, false, false]
+        parsed[0].openApi().paths."/a".get.operationId == "getA"
+        parsed[1].openApi().paths."/b".get.operationId == "getB"
+        parsed[2].openApi() == null
+        parsed[2].error() != null
+
+        when:
+        def parsedAgain = AdditionalFilesUtils.parse(directory, files)
+
+        then: "cached files are reused by the next compilation and bound to new objects"
+        parsedAgain*.cacheHit() == [true, true, false]
+        parsedAgain[0].openApi() == parsed[0].openApi()
+        !parsedAgain[0].openApi().is(parsed[0].openApi())
+
+        when:
+        Files.writeString(directory.resolve("b.yml"), '''\
+openapi: 3.0.1
+paths:
+  /b2:
+    get:
+      operationId: getB2
+''')
+        def parsedChanged = AdditionalFilesUtils.parse(directory, files)
+
+        then: "changed file is parsed again"
+        parsedChanged*.cacheHit() == [true, false, false]
+        parsedChanged[1].openApi().paths."/b2".get.operationId == "getB2"
+
+        when:
+        Files.delete(directory.resolve("a.json"))
+        files = AdditionalFilesUtils.findFiles(directory)
+        AdditionalFilesUtils.parse(directory, files)
+
+        then: "deleted file is removed from the cache"
+        !AdditionalFilesUtils.isCached(directory.resolve("a.json"))
+        AdditionalFilesUtils.isCached(directory.resolve("b.yml"))
+        !AdditionalFilesUtils.isCached(directory.resolve("broken.yaml"))
+    }
+
+    void "test cache of additional files is bounded"() {
+        given:
+        int fileCount = AdditionalFilesUtils.CACHE_MAX_SIZE + 10
+        for (int i = 0; i < fileCount; i++) {
+            Files.writeString(directory.resolve("file" + i + ".json"), '{"openapi":"3.0.1","paths":{"/p' + i + '":{"get":{}}}}')
+        }
+
+        when:
+        def files = AdditionalFilesUtils.findFiles(directory)
+        def parsed = AdditionalFilesUtils.parse(directory, files)
+
+        then:
+        parsed.size() == fileCount
+        parsed.every { it.openApi() != null }
+        AdditionalFilesUtils.cacheSize() == AdditionalFilesUtils.CACHE_MAX_SIZE
+    }
+}
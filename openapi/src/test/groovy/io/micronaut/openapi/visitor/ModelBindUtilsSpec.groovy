@@ -0,0 +1,121 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.inject.visitor.VisitorContext
+import io.micronaut.openapi.OpenApiUtils
+import io.swagger.v3.oas.models.Operation
+import io.swagger.v3.oas.models.media.Schema
+import io.swagger.v3.oas.models.parameters.Parameter
+import io.swagger.v3.oas.models.responses.ApiResponses
+import io.swagger.v3.oas.models.security.SecurityRequirement
+import io.swagger.v3.oas.models.tags.Tag
+import spock.lang.Specification
+
+class ModelBindUtilsSpec extends Specification {
+
+    VisitorContext context = Stub(VisitorContext) {
+        getLanguage() >> VisitorContext.Language.JAVA
+    }
+
+    void "test values are bound the same way as with JSON conversion"() {
+
+        given:
+        Map<CharSequence, Object> values = [
+                operationId : 'getPet',
+                summary     : 'Get pet',
+                deprecated  : true,
+                method      : 'get',
+                hidden      : false,
+                tags        : ['pets', 'animals'] as String[],
+                externalDocs: [url: 'https://example.com', description: 'docs'],
+                parameters  : [[name: 'id', in: 'path', required: true, style: 'simple', example: 5]],
+                responses   : ['200': [description: 'OK'], '404': ['$ref': '#/components/responses/NotFound']],
+                security    : [new SecurityRequirement().addList('api_key', ['read', 'write'])],
+                extensions  : ['x-custom': [flag: true, values: ['a', 'b']]],
+        ]
+
+        when:
+        var bound = ModelBindUtils.bind(values, Operation, context)
+        var converted = ConvertUtils.treeToValue(OpenApiUtils.jsonMapper.valueToTree(values), Operation, context)
+
+        then:
+        bound != null
+        bound.parameters[0] instanceof Parameter
+        bound.parameters[0].style == Parameter.StyleEnum.SIMPLE
+        bound.responses instanceof ApiResponses
+        bound.security[0] instanceof SecurityRequirement
+        OpenApiUtils.jsonMapper.writeValueAsString(bound) == OpenApiUtils.jsonMapper.writeValueAsString(converted)
+    }
+
+    void "test extensions are bound"() {
+
+        when:
+        var tag = ModelBindUtils.bind([name: 'pets', extensions: ['x-order': 1]], Tag, context)
+
+        then:
+        tag.name == 'pets'
+        tag.extensions == ['x-order': 1]
+    }
+
+    void "test operation with response schema is bound directly"() {
+
+        given:
+        Map<CharSequence, Object> values = [
+                operationId: 'getPet',
+                responses  : ['200': [
+                        responseCode: '200',
+                        description : 'OK',
+                        content     : ['application/json': [
+                                mediaType: 'application/json',
+                                schema   : [type: 'string', format: 'uuid', description: 'Pet id', nullable: true, maxLength: 36,
+                                            minimum: 1.5d, exampleSetFlag: false, implementation: String],
+                        ]],
+                ]],
+        ]
+
+        when:
+        var bound = ModelBindUtils.bind(values, Operation, context)
+        var converted = ConvertUtils.treeToValue(OpenApiUtils.jsonMapper.valueToTree(values), Operation, context)
+
+        then:
+        bound != null
+        bound.responses['200'].content['application/json'].schema instanceof Schema
+        bound.responses['200'].content['application/json'].schema.type == 'string'
+        OpenApiUtils.jsonMapper.writeValueAsString(bound) == OpenApiUtils.jsonMapper.writeValueAsString(converted)
+    }
+
+    void "test default and allowable values are normalized"() {
+
+        given:
+        Map<CharSequence, Object> values = [
+                type           : 'integer',
+                format         : 'int32',
+                defaultValue   : '5',
+                allowableValues: ['1', '5'] as String[],
+        ]
+
+        when:
+        var bound = ModelBindUtils.bind(values, Schema, context)
+        var converted = ConvertUtils.treeToValue(OpenApiUtils.jsonMapper.valueToTree(values), Schema, context)
+
+        then:
+        bound != null
+        bound.default == converted.default
+        OpenApiUtils.jsonMapper.writeValueAsString(bound) == OpenApiUtils.jsonMapper.writeValueAsString(converted)
+    }
+
+    void "test unsupported values are not bound"() {
+
+        expect:
+        ModelBindUtils.bind(values, type, context) == null
+
+        where:
+        type      | values
+        Operation | [parameters: [[name: 'id', schema: [type: 'string', example: 'abc']]]]
+        Operation | [parameters: [[name: 'id', schema: [type: 'string', minimum: '1']]]]
+        Operation | [parameters: [[name: 'id', schema: new Schema().type('string')]]]
+        Operation | [operationId: 5]
+        Parameter | [name: 'id', style: 'unknown']
+        Schema    | [type: 'string', const: 'abc']
+        Tag       | [name: String]
+    }
+}
@@ -0,0 +1,70 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.openapi.OpenApiUtils
+import io.swagger.v3.oas.models.Operation
+import io.swagger.v3.oas.models.media.ComposedSchema
+import io.swagger.v3.oas.models.media.Content
+import io.swagger.v3.oas.models.media.MediaType
+import io.swagger.v3.oas.models.media.Schema
+import io.swagger.v3.oas.models.media.StringSchema
+import io.swagger.v3.oas.models.parameters.QueryParameter
+import io.swagger.v3.oas.models.responses.ApiResponse
+import io.swagger.v3.oas.models.responses.ApiResponses
+import spock.lang.Specification
+
+class ModelCopyUtilsSpec extends Specification {
+
+    void "test deep copy of operation"() {
+
+        given:
+        var petSchema = new ComposedSchema()
+                .addAllOfItem(new Schema<>().$ref('#/components/schemas/Animal'))
+                .addProperty('name', new StringSchema().example('Tom'))
+        petSchema.addExtension('x-internal', [flag: true])
+        var operation = new Operation()
+                .operationId('getPet')
+                .addTagsItem('pets')
+                .addParametersItem(new QueryParameter().name('name').schema(new StringSchema()))
+                .responses(new ApiResponses()
+                        .addApiResponse('200', new ApiResponse()
+                                .description('pet')
+                                .content(new Content().addMediaType('application/json', new MediaType().schema(petSchema)))))
+        operation.addExtension('x-group', 'v1')
+
+        when:
+        var copy = SchemaUtils.copyOperation(operation)
+        var copySchema = copy.responses.'200'.content.'application/json'.schema
+
+        then:
+        copy == operation
+        !copy.is(operation)
+        OpenApiUtils.jsonMapper.writeValueAsString(copy) == OpenApiUtils.jsonMapper.writeValueAsString(operation)
+
+        copy.parameters[0] instanceof QueryParameter
+        copy.responses instanceof ApiResponses
+        copy.responses.'200'.content instanceof Content
+        copySchema instanceof ComposedSchema
+        !copySchema.is(petSchema)
+        !copySchema.properties.name.is(petSchema.properties.name)
+        !copySchema.extensions.'x-internal'.is(petSchema.extensions.'x-internal')
+        copy.operationId.is(operation.operationId)
+
+        when:
+        copySchema.properties.name.example = 'Jerry'
+        copySchema.allOf.clear()
+        copy.tags.add('animals')
+
+        then:
+        petSchema.properties.name.example == 'Tom'
+        petSchema.allOf.size() == 1
+        operation.tags == ['pets']
+    }
+
+    void "test copy of null"() {
+
+        expect:
+        SchemaUtils.copyOperation(null) == null
+        SchemaUtils.copySchema(null) == null
+        SchemaUtils.copyContent(null) == null
+    }
+}
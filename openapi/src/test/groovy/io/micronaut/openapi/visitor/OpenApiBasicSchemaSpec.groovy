@@ -1752,4 +1752,127 @@ public class MyBean {}
         responseSchema.oneOf
         responseSchema.oneOf.size() == 2
     }
+
+    void "test reused dto schema is resolved once"() {
+        when:
+        buildBeanDefinition("test.MyBean", '''
+package test;
+
+import java.util.List;
+
+import io.micronaut.http.annotation.Body;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Post;
+
+@Controller
+class TestController {
+
+    @Post("/dto")
+    MyDto save(@Body MyDto dto) {
+        return null;
+    }
+
+    @Get("/dto")
+    MyDto get() {
+        return null;
+    }
+
+    @Get("/wrapper")
+    Wrapper wrapper() {
+        return null;
+    }
+}
+
+/**
+ * Reused dto.
+ */
+class MyDto {
+
+    public String name;
+}
+
+class Wrapper {
+
+    public MyDto dto;
+    public List<MyDto> dtos;
+}
+
+@jakarta.inject.Singleton
+public class MyBean {}
+''')
+
+        OpenAPI openAPI = Utils.testReference
+        Schema myDto = openAPI.components.schemas.MyDto
+        Schema wrapper = openAPI.components.schemas.Wrapper
+
+        then:
+        openAPI.components.schemas.size() == 2
+        myDto.description == 'Reused dto.'
+        myDto.properties.name.type == 'string'
+        openAPI.paths."/dto".post.requestBody.content."application/json".schema.$ref == '#/components/schemas/MyDto'
+        openAPI.paths."/dto".post.responses."200".content."application/json".schema.$ref == '#/components/schemas/MyDto'
+        openAPI.paths."/dto".get.responses."200".content."application/json".schema.$ref == '#/components/schemas/MyDto'
+        wrapper.properties.dto.$ref == '#/components/schemas/MyDto'
+        wrapper.properties.dtos.items.$ref == '#/components/schemas/MyDto'
+        Utils.testSession.schemaCacheHits.get() > 0
+    }
+
+    void "test visitor state is not shared between compilations"() {
+
+        when:
+        buildBeanDefinition('test.MyBean', '''
+package test;
+
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+
+@Controller
+class MyController {
+
+    @Get("/dto")
+    MyDto get() {
+        return null;
+    }
+}
+
+class MyDto {
+
+    public String name;
+}
+
+@jakarta.inject.Singleton
+public class MyBean {}
+''')
+        buildBeanDefinition('test2.MyBean', '''
+package test2;
+
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+
+@Controller
+class MyController {
+
+    @Get("/dto")
+    MyDto get() {
+        return null;
+    }
+}
+
+class MyDto {
+
+    public Integer count;
+}
+
+@jakarta.inject.Singleton
+public class MyBean {}
+''')
+
+        OpenAPI openAPI = Utils.testReference
+
+        then: "schema name is not suffixed, because the class from the previous compilation is unknown"
+        openAPI.components.schemas.size() == 1
+        openAPI.components.schemas.MyDto.properties.count
+        openAPI.paths."/dto".get.responses."200".content."application/json".schema.$ref == '#/components/schemas/MyDto'
+    }
 }
@@ -517,4 +517,188 @@ components:
         openApi.components.schemas.size() == 1
         openApi.components.schemas.VisibleResponse
     }
+
+    void "test groups processed in parallel"() {
+
+        setup:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_PARALLELISM, "4")
+
+        when:
+        buildBeanDefinition("test.MyBean", '''
+package test;
+
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.openapi.annotation.OpenAPIGroup;
+import io.micronaut.serde.annotation.Serdeable;
+import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.annotations.info.Info;
+
+@Controller("/demo")
+class MyController {
+
+    @OpenAPIGroup(names = "v1", exclude = {"v2", "v3"})
+    @Get
+    HelloResponseV1 indexV1(String id) {
+        return null;
+    }
+
+    @OpenAPIGroup(names = "v2", exclude = {"v1", "v3"})
+    @Get
+    HelloResponseV2 indexV2(String name) {
+        return null;
+    }
+
+    @OpenAPIGroup(names = "v3", exclude = {"v1", "v2"})
+    @Get
+    HelloResponseV1 indexV3(String name) {
+        return null;
+    }
+
+    @Get("/common")
+    String common() {
+        return null;
+    }
+}
+
+@Serdeable.Serializable
+class HelloResponseV1 {
+
+    public String message;
+}
+
+@Serdeable.Serializable
+class HelloResponseV2 {
+
+    public String message;
+}
+
+@OpenAPIDefinition(
+    info = @Info(
+        title = "Title My API",
+        version = "0.0",
+        description = "My API"
+    )
+)
+class Application {
+}
+
+@jakarta.inject.Singleton
+public class MyBean {}
+''')
+
+        then:
+        def openApis = Utils.testReferences
+        openApis
+        openApis.size() == 3
+
+        def apiV1 = openApis.get(Pair.of("v1", null))
+        def apiV2 = openApis.get(Pair.of("v2", null))
+        def apiV3 = openApis.get(Pair.of("v3", null))
+
+        apiV1.filename == 'title-my-api-0.0-v1.yml'
+        apiV2.filename == 'title-my-api-0.0-v2.yml'
+        apiV3.filename == 'title-my-api-0.0-v3.yml'
+
+        apiV1.openApi.paths.'/demo'.get.responses.'200'.content.'application/json'.schema.$ref == '#/components/schemas/HelloResponseV1'
+        apiV2.openApi.paths.'/demo'.get.responses.'200'.content.'application/json'.schema.$ref == '#/components/schemas/HelloResponseV2'
+        apiV3.openApi.paths.'/demo'.get.responses.'200'.content.'application/json'.schema.$ref == '#/components/schemas/HelloResponseV1'
+        apiV1.openApi.paths.'/demo/common'
+        apiV2.openApi.paths.'/demo/common'
+        apiV3.openApi.paths.'/demo/common'
+        apiV1.openApi.components.schemas.size() == 1
+        apiV2.openApi.components.schemas.size() == 1
+        apiV3.openApi.components.schemas.size() == 1
+
+        cleanup:
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_PARALLELISM)
+    }
+
+    @RestoreSystemProperties
+    void "test versions of group with own definition and extra schemas are processed in parallel as sequentially"() {
+
+        given:
+        System.setProperty("micronaut.router.versioning.enabled", "true")
+        System.setProperty("micronaut.router.versioning.header.enabled", "true")
+
+        when:
+        var sequential = buildGroupVersions("1")
+        Utils.clean()
+        var parallel = buildGroupVersions("4")
+
+        then:
+        sequential.size() == 2
+        sequential.values().every { it.contains('ExtraModel') }
+        parallel == sequential
+    }
+
+    private Map<Pair<String, String>, String> buildGroupVersions(String parallelism) {
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_PARALLELISM, parallelism)
+        buildBeanDefinition("test.MyBean", '''
+package test;
+
+import io.micronaut.core.version.annotation.Version;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.openapi.annotation.OpenAPIExtraSchema;
+import io.micronaut.openapi.annotation.OpenAPIGroup;
+import io.micronaut.openapi.annotation.OpenAPIGroupInfo;
+import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.annotations.info.Info;
+
+@OpenAPIGroup("public")
+@Controller("/versioned")
+class VersionedController {
+
+    @Version("1")
+    @Get("/hello")
+    HelloResponse helloV1() {
+        return null;
+    }
+
+    @Version("2")
+    @Get("/hello")
+    HelloResponse helloV2() {
+        return null;
+    }
+}
+
+class HelloResponse {
+
+    public String message;
+}
+
+@OpenAPIExtraSchema
+class ExtraModel {
+
+    public String field1;
+    public InternalModel field2;
+}
+
+class InternalModel {
+
+    public String prop1;
+}
+
+@OpenAPIGroupInfo(
+  names = "public",
+  info = @OpenAPIDefinition(
+    info = @Info(
+      title = "Public api",
+      version = "1.0"
+    )
+  )
+)
+class Application {
+}
+
+@jakarta.inject.Singleton
+public class MyBean {}
+''')
+        var result = new HashMap<Pair<String, String>, String>()
+        Utils.testReferences.each { key, openApiInfo ->
+            result.put(key, OpenApiUtils.yamlMapper.writeValueAsString(openApiInfo.openApi))
+        }
+        return result
+    }
 }
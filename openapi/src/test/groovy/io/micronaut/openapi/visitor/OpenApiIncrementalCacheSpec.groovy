@@ -0,0 +1,138 @@
+package io.micronaut.openapi.visitor
+
+import groovy.json.JsonSlurper
+import io.micronaut.openapi.AbstractOpenApiTypeElementSpec
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class OpenApiIncrementalCacheSpec extends AbstractOpenApiTypeElementSpec {
+
+    private static final String SOURCE = '''
+package test;
+
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.serde.annotation.Serdeable;
+
+@Controller("/demo")
+class MyController {
+
+    @Get
+    HelloResponse index(String name) {
+        return null;
+    }
+    ENDPOINT
+}
+
+@Serdeable.Serializable
+class HelloResponse {
+
+    public String message;
+}
+
+@jakarta.inject.Singleton
+public class MyBean {}
+'''
+
+    void "test post-processed OpenAPI is cached between compilations"() {
+
+        setup:
+        Path cacheDir = Files.createTempDirectory("openapi-cache")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_CACHE_ENABLED, "true")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_CACHE_DIR, cacheDir.toString())
+
+        when:
+        buildBeanDefinition("test.MyBean", SOURCE.replace('ENDPOINT', ''))
+        def firstYaml = Utils.testYamlReference
+        def firstCacheFiles = cacheFiles(cacheDir)
+
+        then:
+        firstCacheFiles.size() == 1
+        firstCacheFiles[0].startsWith('openapi-')
+        firstYaml.contains('HelloResponse')
+
+        when: "nothing is changed and other files are in the cache directory"
+        Path foreignFile = cacheEntry(cacheDir).parent.resolve('foreign.json')
+        Files.writeString(foreignFile, '{}')
+        buildBeanDefinition("test.MyBean", SOURCE.replace('ENDPOINT', ''))
+
+        then: "result is read from the same cache entry and other files are kept"
+        Utils.testYamlReference == firstYaml
+        Utils.testReference.components.schemas.HelloResponse
+        cacheFiles(cacheDir) == firstCacheFiles
+        Files.exists(foreignFile)
+
+        when: "controller is changed"
+        buildBeanDefinition("test.MyBean", SOURCE.replace('ENDPOINT', '''
+    @Get("/other")
+    String other() {
+        return null;
+    }
+'''))
+
+        then: "new entry is created and the stale one is removed"
+        Utils.testReference.paths.'/demo/other'
+        def lastCacheFiles = cacheFiles(cacheDir)
+        lastCacheFiles.size() == 1
+        lastCacheFiles != firstCacheFiles
+
+        cleanup:
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_CACHE_ENABLED)
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_CACHE_DIR)
+        cacheDir.toFile().deleteDir()
+    }
+
+    void "test cost of the incremental cache is reported in metrics"() {
+
+        setup:
+        Path cacheDir = Files.createTempDirectory("openapi-cache")
+        Path reportFile = cacheDir.resolve("metrics.json")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_CACHE_ENABLED, "true")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_CACHE_DIR, cacheDir.toString())
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_METRICS_ENABLED, "true")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_METRICS_FILE, reportFile.toString())
+
+        when: "the first compilation misses the cache"
+        buildBeanDefinition("test.MyBean", SOURCE.replace('ENDPOINT', ''))
+        def report = new JsonSlurper().parse(reportFile.toFile())
+
+        then: "overhead of the miss is reported and nothing is saved"
+        report.phases.'postProcessOpenApi.process'.count == 1
+        report.phases.'postProcessOpenApi.incrementalCache.write'.count == 1
+        report.caches.incremental.misses == 1
+        report.caches.incremental.overheadMs >= 0
+        report.caches.incremental.estimatedSavedMs == 0
+        report.caches.incremental.estimatedNetWinMs <= 0
+
+        when: "the next compilation hits the cache"
+        buildBeanDefinition("test.MyBean", SOURCE.replace('ENDPOINT', ''))
+        report = new JsonSlurper().parse(reportFile.toFile())
+
+        then: "post-processing is skipped"
+        !report.phases.containsKey('postProcessOpenApi.process')
+        report.caches.incremental.hits == 1
+        report.caches.incremental.overheadMs >= 0
+
+        cleanup:
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_CACHE_ENABLED)
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_CACHE_DIR)
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_METRICS_ENABLED)
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_METRICS_FILE)
+        cacheDir.toFile().deleteDir()
+    }
+
+    private static List<String> cacheFiles(Path cacheDir) {
+        cacheEntries(cacheDir)*.fileName*.toString().sort()
+    }
+
+    private static Path cacheEntry(Path cacheDir) {
+        cacheEntries(cacheDir)[0]
+    }
+
+    private static List<Path> cacheEntries(Path cacheDir) {
+        Files.walk(cacheDir).withCloseable { files ->
+            files.filter { Files.isRegularFile(it) && it.fileName.toString().startsWith('openapi-') }.toList()
+        }
+    }
+}
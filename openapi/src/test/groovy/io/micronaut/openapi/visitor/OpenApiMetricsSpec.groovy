@@ -0,0 +1,125 @@
+package io.micronaut.openapi.visitor
+
+import groovy.json.JsonSlurper
+import io.micronaut.openapi.AbstractOpenApiTypeElementSpec
+import io.swagger.v3.oas.models.OpenAPI
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class OpenApiMetricsSpec extends AbstractOpenApiTypeElementSpec {
+
+    void "test metrics report is written"() {
+
+        setup:
+        Path reportDir = Files.createTempDirectory("openapi-metrics")
+        Path reportFile = reportDir.resolve("metrics.json")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_METRICS_ENABLED, "true")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_METRICS_FILE, reportFile.toString())
+
+        when:
+        buildBeanDefinition("test.MyBean", '''
+package test;
+
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.serde.annotation.Serdeable;
+
+@Controller("/demo")
+class MyController {
+
+    @Get
+    HelloResponse index(String name) {
+        return null;
+    }
+
+    @Get("/other")
+    String other() {
+        return null;
+    }
+}
+
+@Serdeable.Serializable
+class HelloResponse {
+
+    public String message;
+}
+
+@jakarta.inject.Singleton
+public class MyBean {}
+''')
+        def report = new JsonSlurper().parse(reportFile.toFile())
+
+        then:
+        report.phases.finish.count >= 1
+        report.phases.'visitMethod.endpoint'.count >= 2
+        report.phases.postProcessOpenApi.count == 1
+        report.phases.'postProcessOpenApi.normalizeOpenApi'.wallTimeMs >= 0
+        report.phases.writeYamlToFile.allocatedBytes >= 0
+        report.counters.endpoints == 2
+        report.counters.schemas == 1
+        report.counters.groups == 1
+        report.caches.schemaDefinitions.hits + report.caches.schemaDefinitions.misses > 0
+
+        cleanup:
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_METRICS_ENABLED)
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_METRICS_FILE)
+        reportDir.toFile().deleteDir()
+    }
+
+    void "test operation with response schema is bound directly"() {
+
+        setup:
+        Path reportDir = Files.createTempDirectory("openapi-metrics")
+        Path reportFile = reportDir.resolve("metrics.json")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_METRICS_ENABLED, "true")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_METRICS_FILE, reportFile.toString())
+
+        when:
+        buildBeanDefinition("test.MyBean", '''
+package test;
+
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+
+@Controller("/demo")
+class MyController {
+
+    @Operation(
+        summary = "Get greeting",
+        responses = @ApiResponse(
+            responseCode = "200",
+            description = "Greeting",
+            content = @Content(mediaType = "text/plain", schema = @Schema(type = "string", description = "Greeting text", maxLength = 100))
+        )
+    )
+    @Get
+    String index() {
+        return null;
+    }
+}
+
+@jakarta.inject.Singleton
+public class MyBean {}
+''')
+        def report = new JsonSlurper().parse(reportFile.toFile())
+        OpenAPI openAPI = Utils.testReference
+        def schema = openAPI.paths.'/demo'.get.responses.'200'.content.'text/plain'.schema
+
+        then:
+        report.counters.'modelBind.direct' >= 1
+        !report.counters.containsKey('modelBind.json')
+        schema.type == 'string'
+        schema.description == 'Greeting text'
+        schema.maxLength == 100
+
+        cleanup:
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_METRICS_ENABLED)
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_METRICS_FILE)
+        reportDir.toFile().deleteDir()
+    }
+}
@@ -0,0 +1,81 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.openapi.OpenApiUtils
+import io.swagger.v3.oas.models.Components
+import io.swagger.v3.oas.models.OpenAPI
+import io.swagger.v3.oas.models.media.Schema
+import io.swagger.v3.oas.models.media.StringSchema
+import io.swagger.v3.oas.models.tags.Tag
+import spock.lang.Specification
+
+import java.util.function.Function
+
+class OpenApiNormalizeUtilsSpec extends Specification {
+
+    static final Function<Tag, Object> TAG_NAME = Tag::getName
+
+    void "test rewritten schemas are normalized again in the same pass"() {
+
+        given:
+        var openApi = new OpenAPI().components(new Components()
+                .addSchemas('A', new Schema()
+                        .addAllOfItem(new Schema().$ref('B'))
+                        .addAllOfItem(new Schema().type('object')))
+                .addSchemas('B', new StringSchema()))
+
+        when:
+        OpenApiNormalizeUtils.normalizeOpenApi(openApi, null)
+        var normalized = OpenApiUtils.jsonMapper.writeValueAsString(openApi)
+
+        then: 'allOf with the reference only is replaced by the reference'
+        openApi.components.schemas.A.$ref == '#/components/schemas/B'
+        openApi.components.schemas.A.allOf == null
+        openApi.components.schemas.B.type == 'string'
+
+        when:
+        OpenApiNormalizeUtils.normalizeOpenApi(openApi, null)
+
+        then: 'nothing is left to normalize'
+        OpenApiUtils.jsonMapper.writeValueAsString(openApi) == normalized
+    }
+
+    void "test default values are compared structurally"() {
+
+        expect:
+        OpenApiNormalizeUtils.isSameValue(value1, value2) == result
+
+        where:
+        value1              | value2                    | result
+        null                | null                      | true
+        'a'                 | null                      | false
+        1                   | 1L                        | true
+        1                   | 1.0d                      | false
+        new BigDecimal('2') | 2                         | true
+        'ONE'               | TestValue.ONE             | true
+        'true'              | true                      | false
+        [a: 1, b: [1, 2]]   | [b: [1L, 2L], a: 1L]      | true
+        [a: 1]              | [a: 1, b: 2]              | false
+        [1, 2]              | [2, 1]                    | false
+    }
+
+    void "test duplicates are removed by key"() {
+
+        given:
+        var tags = [new Tag(name: 'b'), new Tag(name: 'a'), new Tag(), new Tag(name: 'b', description: 'other'), new Tag(), new Tag(name: 'c')]
+        var uniqueTags = [new Tag(name: 'a'), new Tag(name: 'b')]
+
+        when:
+        var result = Utils.findAndRemoveDuplicates(tags, TAG_NAME)
+
+        then: "first element with every key is kept, elements without key are never removed"
+        result*.name == ['b', 'a', null, null, 'c']
+        result[0].description == null
+
+        and: "list without duplicates is returned as is"
+        Utils.findAndRemoveDuplicates(uniqueTags, TAG_NAME).is(uniqueTags)
+    }
+
+    enum TestValue {
+        ONE
+    }
+}
@@ -0,0 +1,82 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.openapi.AbstractOpenApiTypeElementSpec
+import io.micronaut.openapi.OpenApiUtils
+import io.swagger.v3.oas.models.OpenAPI
+import spock.util.environment.RestoreSystemProperties
+
+class OpenApiOutputSmileSpec extends AbstractOpenApiTypeElementSpec {
+
+    @RestoreSystemProperties
+    void "test spec is also written in Smile format"() {
+
+        setup:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_SMILE_ENABLED, "true")
+
+        when:
+        buildBeanDefinition('test.MyBean', '''
+package test;
+
+import io.micronaut.http.annotation.*;
+import io.swagger.v3.oas.annotations.*;
+import io.swagger.v3.oas.annotations.info.*;
+
+@OpenAPIDefinition(
+        info = @Info(
+                title = "the title",
+                version = "0.0",
+                description = "My API"
+        )
+)
+class Application {
+}
+
+@Controller("/pets")
+class PetController {
+
+    @Get("/{name}")
+    public Pet get(String name) {
+        return null;
+    }
+}
+
+class Pet {
+
+    private String name;
+    private int age;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public void setAge(int age) {
+        this.age = age;
+    }
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+''')
+        then:
+        Utils.testSmileReference != null
+        Utils.testYamlReference != null
+
+        when:
+        OpenAPI fromSmile = OpenApiUtils.readSmile(Utils.testSmileReference)
+        OpenAPI fromYaml = OpenApiUtils.getYamlMapper().readValue(Utils.testYamlReference, OpenAPI)
+
+        then:
+        fromSmile == fromYaml
+        fromSmile.info.title == "the title"
+        fromSmile.paths."/pets/{name}".get.operationId == "get"
+        fromSmile.components.schemas.Pet.properties.keySet() == ["name", "age"] as Set
+    }
+}
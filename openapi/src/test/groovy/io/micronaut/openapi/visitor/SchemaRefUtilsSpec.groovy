@@ -0,0 +1,111 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.openapi.OpenApiUtils
+import io.swagger.v3.oas.models.OpenAPI
+import spock.lang.Specification
+
+class SchemaRefUtilsSpec extends Specification {
+
+    void "test schema reference graph"() {
+
+        when:
+        var openApiSpec = """
+openapi: 3.0.1
+paths:
+  /pets:
+    get:
+      operationId: pets
+      responses:
+        "200":
+          description: pets
+          content:
+            application/json:
+              schema:
+                type: array
+                items:
+                  \$ref: "#/components/schemas/Pet"
+      callbacks:
+        onEvent:
+          "{\$request.body#/url}":
+            post:
+              requestBody:
+                content:
+                  application/json:
+                    schema:
+                      \$ref: "#/components/schemas/Event"
+              responses:
+                "200":
+                  description: ok
+components:
+  schemas:
+    Pet:
+      type: object
+      discriminator:
+        propertyName: type
+        mapping:
+          cat: "#/components/schemas/Cat"
+      properties:
+        owner:
+          \$ref: "#/components/schemas/Owner"
+        tags:
+          type: object
+          additionalProperties:
+            \$ref: "#/components/schemas/Tag"
+    Cat:
+      allOf:
+      - \$ref: "#/components/schemas/Pet"
+    Owner:
+      type: object
+      properties:
+        pets:
+          type: array
+          items:
+            \$ref: "#/components/schemas/Pet"
+    Tag:
+      type: string
+    Event:
+      type: object
+    UnusedA:
+      type: object
+      properties:
+        b:
+          \$ref: "#/components/schemas/UnusedB"
+    UnusedB:
+      type: object
+      properties:
+        a:
+          \$ref: "#/components/schemas/UnusedA"
+    Extra:
+      type: object
+      properties:
+        tag:
+          \$ref: "#/components/schemas/ExtraTag"
+    ExtraTag:
+      type: string
+"""
+        var openApi = OpenApiUtils.getYamlMapper().readValue(openApiSpec, OpenAPI.class)
+        var graph = SchemaRefUtils.buildSchemaRefGraph(openApi)
+        var roots = SchemaRefUtils.collectRootSchemaRefs(openApi)
+        var reachable = SchemaRefUtils.findReachableSchemas(openApi, ["Extra"])
+
+        then:
+        graph.Pet == ['Owner', 'Tag', 'Cat'] as Set
+        graph.Cat == ['Pet'] as Set
+        graph.Tag.isEmpty()
+        roots == ['Pet', 'Event'] as Set
+        reachable == ['Pet', 'Owner', 'Tag', 'Cat', 'Event', 'Extra', 'ExtraTag'] as Set
+    }
+
+    void "test schema name from ref"() {
+
+        expect:
+        SchemaRefUtils.schemaNameFromRef(ref) == schemaName
+
+        where:
+        ref                             | schemaName
+        null                            | null
+        '#/components/schemas/'         | null
+        '#/components/responses/MyResp' | null
+        '#/components/schemas/MyDto'    | 'MyDto'
+    }
+}
@@ -0,0 +1,52 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.openapi.OpenApiUtils
+import io.swagger.v3.oas.models.Components
+import io.swagger.v3.oas.models.OpenAPI
+import io.swagger.v3.oas.models.info.Info
+import io.swagger.v3.oas.models.media.StringSchema
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+class SpecWriterUtilsSpec extends Specification {
+
+    void "test spec is streamed to file"() {
+
+        given:
+        var openApi = new OpenAPI()
+                .info(new Info().title('Demo').version('1.0'))
+                .components(new Components().addSchemas('Name', new StringSchema().description('Имя')))
+        var file = Files.createTempFile('swagger', '.yml')
+        Files.writeString(file, 'previous content, which is longer than the new one' * 100)
+
+        when:
+        SpecWriterUtils.write(openApi, mapper, file)
+
+        then:
+        Files.readString(file) == mapper.writeValueAsString(openApi)
+
+        cleanup:
+        Files.deleteIfExists(file)
+
+        where:
+        mapper << [OpenApiUtils.yamlMapper, OpenApiUtils.jsonMapper]
+    }
+
+    void "test text is searched in field names and string values"() {
+
+        given:
+        var openApi = new OpenAPI()
+                .info(new Info().title(title).version('1.0'))
+                .components(new Components().addSchemas(schemaName, new StringSchema()))
+
+        expect:
+        SpecWriterUtils.containsText(openApi, OpenApiUtils.yamlMapper, '${') == found
+
+        where:
+        title               | schemaName         | found
+        'Demo'              | 'Name'             | false
+        'Demo ${api.title}' | 'Name'             | true
+        'Demo'              | 'Name${suffix}'    | true
+    }
+}
@@ -78,6 +78,7 @@ public class GeneratorMain {
         String modelPrefix = args[15];
         String modelSuffix = args[16];
         var auth = Boolean.parseBoolean(args[17]);
+        var jsonStreaming = Boolean.parseBoolean(args[18]);
 
         var builder = MicronautCodeGeneratorEntryPoint.builder()
             .withDefinitionFile(definitionFile)
@@ -112,6 +113,7 @@ public class GeneratorMain {
                         .withGenerateImplementationFiles(false)
                         .withAuthentication(auth)
                         .withKsp(ksp)
+                        .withJsonStreaming(jsonStreaming)
                         .withGeneratedAnnotation(generatedAnnotation)
                 );
             } else {
@@ -122,6 +124,7 @@ public class GeneratorMain {
                         // because we generate both abstract classes _and_ dummy implementations
                         .withGenerateImplementationFiles(false)
                         .withAuthentication(auth)
+                        .withJsonStreaming(jsonStreaming)
                         .withGeneratedAnnotation(generatedAnnotation)
                 );
             }
@@ -132,6 +135,7 @@ public class GeneratorMain {
                         .withGeneratedAnnotation(generatedAnnotation)
                         .withKsp(ksp)
                         .withAuthorization(auth)
+                        .withJsonStreaming(jsonStreaming)
                         .withClientPath(clientPath)
                         .withClientId(clientId)
                 );
@@ -141,6 +145,7 @@ public class GeneratorMain {
                         .withGeneratedAnnotation(generatedAnnotation)
                         .withClientPath(clientPath)
                         .withAuthorization(auth)
+                        .withJsonStreaming(jsonStreaming)
                         .withClientId(clientId)
                 );
             }
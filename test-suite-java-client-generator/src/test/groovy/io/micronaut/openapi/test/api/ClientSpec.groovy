@@ -13,4 +13,11 @@ class ClientSpec extends Specification {
         assertFileContains(outputPath + "/src/main/java/io/micronaut/openapi/test/api/PetApi.java",
                 '@Client(id = "myClient", path = "${myClient.base-path}")');
     }
+
+    void "test json stream"() {
+        expect:
+        assertFileContains(outputPath + "/src/main/java/io/micronaut/openapi/test/api/PetApi.java",
+                '@Consumes("application/x-ndjson")',
+                'Flux<Pet> streamPets(');
+    }
 }
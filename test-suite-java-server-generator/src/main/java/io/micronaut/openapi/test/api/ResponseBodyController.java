@@ -22,6 +22,7 @@ import io.micronaut.openapi.test.model.ModelWithValidatedListProperty;
 import io.micronaut.openapi.test.model.SimpleModel;
 import io.micronaut.openapi.test.model.StateEnum;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Controller
@@ -72,6 +73,11 @@ public class ResponseBodyController implements ResponseBodyApi {
         return Mono.just(DATE_MODEL_INSTANCE);
     }
 
+    @Override
+    public Flux<SimpleModel> getSimpleModelStream() {
+        return Flux.fromIterable(SIMPLE_MODELS);
+    }
+
     @Override
     public Mono<Page<SimpleModel>> getPaginatedSimpleModel(Pageable pageable) {
         return Mono.just(Page.of(SIMPLE_MODELS, pageable, (long) SIMPLE_MODELS.size()));
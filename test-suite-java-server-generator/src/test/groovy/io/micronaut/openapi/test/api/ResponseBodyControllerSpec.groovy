@@ -4,8 +4,10 @@ import io.micronaut.core.type.Argument
 import io.micronaut.http.HttpRequest
 import io.micronaut.http.HttpResponse
 import io.micronaut.http.HttpStatus
+import io.micronaut.http.MediaType
 import io.micronaut.http.client.BlockingHttpClient
 import io.micronaut.http.client.HttpClient
+import io.micronaut.http.client.StreamingHttpClient
 import io.micronaut.http.client.annotation.Client
 import io.micronaut.http.client.exceptions.HttpClientResponseException
 import io.micronaut.openapi.test.model.DateModel
@@ -13,6 +15,7 @@ import io.micronaut.openapi.test.model.SimpleModel
 import io.micronaut.runtime.server.EmbeddedServer
 import io.micronaut.test.extensions.spock.annotation.MicronautTest
 import jakarta.inject.Inject
+import reactor.core.publisher.Flux
 import spock.lang.Ignore
 import spock.lang.PendingFeature
 import spock.lang.Specification
@@ -29,6 +32,10 @@ class ResponseBodyControllerSpec extends Specification {
     @Client("/api")
     HttpClient reactiveClient
 
+    @Inject
+    @Client("/api")
+    StreamingHttpClient streamingClient
+
     BlockingHttpClient client
 
     void setup() {
@@ -74,6 +81,41 @@ class ResponseBodyControllerSpec extends Specification {
         '{"commitDate":"2023-06-27","commitDateTime":"2022-12-04T06:35:00.784-05:00[America/Toronto]"}' == strResponse
     }
 
+    void "test get simple model stream"() {
+        expect:
+        Flux == ResponseBodyApi.getMethod("getSimpleModelStream").returnType
+
+        when:
+        HttpResponse<List<SimpleModel>> response = client.exchange("/getSimpleModelStream", Argument.listOf(SimpleModel))
+
+        then:
+        HttpStatus.OK == response.status
+        ResponseBodyController.SIMPLE_MODELS == response.body()
+    }
+
+    void "test get simple model ndjson stream"() {
+        given:
+        var ndjson = MediaType.of("application/x-ndjson")
+
+        when:
+        HttpResponse<String> response = client.exchange(HttpRequest.GET("/getSimpleModelStream").accept(ndjson), String)
+
+        then: 'every element is written as a separate JSON document, not as an array'
+        HttpStatus.OK == response.status
+        ndjson == response.contentType.get()
+        var lines = response.body().readLines().findAll { !it.isBlank() }
+        ResponseBodyController.SIMPLE_MODELS.size() == lines.size()
+        lines.every { it.startsWith('{') }
+
+        when:
+        List<SimpleModel> models = Flux.from(streamingClient.jsonStream(HttpRequest.GET("/getSimpleModelStream").accept(ndjson), SimpleModel))
+                .collectList()
+                .block()
+
+        then: 'elements are emitted one by one'
+        ResponseBodyController.SIMPLE_MODELS == models
+    }
+
     void "test get paginated simple model"() {
         given:
         var page = "12"